@@ -69,6 +69,8 @@ public class BufferedNetworkStoreClient extends ForwardingNetworkStoreClient {
     private final NetworkCollectionIndex<CollectionBuffer<ConfiguredBusAttributes>> busResourcesToFlush
             = new NetworkCollectionIndex<>(uuid -> new CollectionBuffer<>(delegate::createConfiguredBuses, delegate::updateConfiguredBuses, null));
 
+    private final Map<UUID, List<StateVariables>> stateVariablesToFlush = new HashMap<>();
+
     public BufferedNetworkStoreClient(NetworkStoreClient delegate) {
         super(delegate);
     }
@@ -113,6 +115,7 @@ public class BufferedNetworkStoreClient extends ForwardingNetworkStoreClient {
         threeWindingsTransformerResourcesToFlush.removeCollection(networkUuid);
         lineResourcesToFlush.removeCollection(networkUuid);
         busResourcesToFlush.removeCollection(networkUuid);
+        stateVariablesToFlush.remove(networkUuid);
     }
 
     @Override
@@ -272,6 +275,22 @@ public class BufferedNetworkStoreClient extends ForwardingNetworkStoreClient {
         busResourcesToFlush.getCollection(networkUuid).update(busesResource);
     }
 
+    @Override
+    public void updateStateVariables(UUID networkUuid, List<StateVariables> stateVariables) {
+        stateVariablesToFlush.computeIfAbsent(networkUuid, k -> new ArrayList<>()).addAll(stateVariables);
+    }
+
+    private <T extends IdentifiableAttributes> void collectStateVariables(NetworkCollectionIndex<CollectionBuffer<T>> buffers,
+                                                                         List<Resource<?>> stateVariablesResources) {
+        buffers.applyToCollection((networkUuid, buffer) -> {
+            List<Resource<T>> resources = buffer.removeUpdates(StateVariables::isStateVariablesUpdate);
+            if (!resources.isEmpty()) {
+                updateStateVariables(networkUuid, Collections.singletonList(StateVariables.of(resources)));
+                stateVariablesResources.addAll(resources);
+            }
+        });
+    }
+
     @Override
     public void flush() {
         if (!networkResourcesToFlush.isEmpty()) {
@@ -285,6 +304,22 @@ public class BufferedNetworkStoreClient extends ForwardingNetworkStoreClient {
         networkResourcesToFlush.clear();
         updateNetworkResourcesToFlush.clear();
 
+        // resources for which only state variables have been updated (typically by a load flow) are not sent as
+        // full resources but in one compact request per network
+        List<Resource<?>> stateVariablesResources = new ArrayList<>();
+        collectStateVariables(voltageLevelResourcesToFlush, stateVariablesResources);
+        collectStateVariables(generatorResourcesToFlush, stateVariablesResources);
+        collectStateVariables(loadResourcesToFlush, stateVariablesResources);
+        collectStateVariables(shuntCompensatorResourcesToFlush, stateVariablesResources);
+        collectStateVariables(svcResourcesToFlush, stateVariablesResources);
+        collectStateVariables(vscConverterStationResourcesToFlush, stateVariablesResources);
+        collectStateVariables(lccConverterStationResourcesToFlush, stateVariablesResources);
+        collectStateVariables(danglingLineResourcesToFlush, stateVariablesResources);
+        collectStateVariables(twoWindingsTransformerResourcesToFlush, stateVariablesResources);
+        collectStateVariables(threeWindingsTransformerResourcesToFlush, stateVariablesResources);
+        collectStateVariables(lineResourcesToFlush, stateVariablesResources);
+        collectStateVariables(busResourcesToFlush, stateVariablesResources);
+
         substationResourcesToFlush.applyToCollection((networkUuid, buffer) -> buffer.flush(networkUuid));
         voltageLevelResourcesToFlush.applyToCollection((networkUuid, buffer) -> buffer.flush(networkUuid));
         generatorResourcesToFlush.applyToCollection((networkUuid, buffer) -> buffer.flush(networkUuid));
@@ -301,5 +336,10 @@ public class BufferedNetworkStoreClient extends ForwardingNetworkStoreClient {
         threeWindingsTransformerResourcesToFlush.applyToCollection((networkUuid, buffer) -> buffer.flush(networkUuid));
         lineResourcesToFlush.applyToCollection((networkUuid, buffer) -> buffer.flush(networkUuid));
         busResourcesToFlush.applyToCollection((networkUuid, buffer) -> buffer.flush(networkUuid));
+
+        stateVariablesToFlush.forEach(delegate::updateStateVariables);
+        stateVariablesToFlush.clear();
+        // like after a full update, only attributes updated from now will have to be saved
+        stateVariablesResources.forEach(Resource::trackUpdatedAttributes);
     }
 }
@@ -10,6 +10,7 @@ import com.powsybl.network.store.iidm.impl.NetworkStoreClient;
 import com.powsybl.network.store.model.*;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Nicolas Noir <nicolas.noir at rte-france.com>
@@ -23,82 +24,98 @@ public class CachedNetworkStoreClient extends ForwardingNetworkStoreClient imple
     private final NetworkCollectionIndex<CollectionCache<SubstationAttributes>> substationsCache = new NetworkCollectionIndex<>(networkUuid -> new CollectionCache<>(
         id -> delegate.getSubstation(networkUuid, id),
         null,
-        () -> delegate.getSubstations(networkUuid)));
+        () -> delegate.getSubstations(networkUuid),
+        () -> delegate.getSubstationCount(networkUuid)));
 
     private final NetworkCollectionIndex<CollectionCache<VoltageLevelAttributes>> voltageLevelsCache = new NetworkCollectionIndex<>(networkUuid -> new CollectionCache<>(
         id ->  delegate.getVoltageLevel(networkUuid, id),
         substationId -> delegate.getVoltageLevelsInSubstation(networkUuid, substationId),
-        () -> delegate.getVoltageLevels(networkUuid)));
+        () -> delegate.getVoltageLevels(networkUuid),
+        () -> delegate.getVoltageLevelCount(networkUuid)));
 
     private final NetworkCollectionIndex<CollectionCache<SwitchAttributes>> switchesCache = new NetworkCollectionIndex<>(networkUuid -> new CollectionCache<>(
         id ->  delegate.getSwitch(networkUuid, id),
-        voltageLevelId -> delegate.getVoltageLevelSwitches(networkUuid, voltageLevelId),
-        () -> delegate.getSwitches(networkUuid)));
+        voltageLevelId -> loadVoltageLevelResources(networkUuid, voltageLevelId, ResourceType.SWITCH),
+        () -> delegate.getSwitches(networkUuid),
+        () -> delegate.getSwitchCount(networkUuid)));
 
     private final NetworkCollectionIndex<CollectionCache<BusbarSectionAttributes>> busbarSectionsCache = new NetworkCollectionIndex<>(networkUuid -> new CollectionCache<>(
         id ->  delegate.getBusbarSection(networkUuid, id),
-        voltageLevelId -> delegate.getVoltageLevelBusbarSections(networkUuid, voltageLevelId),
-        () -> delegate.getBusbarSections(networkUuid)));
+        voltageLevelId -> loadVoltageLevelResources(networkUuid, voltageLevelId, ResourceType.BUSBAR_SECTION),
+        () -> delegate.getBusbarSections(networkUuid),
+        () -> delegate.getBusbarSectionCount(networkUuid)));
 
     private final NetworkCollectionIndex<CollectionCache<LoadAttributes>> loadsCache = new NetworkCollectionIndex<>(networkUuid -> new CollectionCache<>(
         id ->  delegate.getLoad(networkUuid, id),
-        voltageLevelId -> delegate.getVoltageLevelLoads(networkUuid, voltageLevelId),
-        () -> delegate.getLoads(networkUuid)));
+        voltageLevelId -> loadVoltageLevelResources(networkUuid, voltageLevelId, ResourceType.LOAD),
+        () -> delegate.getLoads(networkUuid),
+        () -> delegate.getLoadCount(networkUuid)));
 
     private final NetworkCollectionIndex<CollectionCache<GeneratorAttributes>> generatorsCache = new NetworkCollectionIndex<>(networkUuid -> new CollectionCache<>(
         id ->  delegate.getGenerator(networkUuid, id),
-        voltageLevelId -> delegate.getVoltageLevelGenerators(networkUuid, voltageLevelId),
-        () -> delegate.getGenerators(networkUuid)));
+        voltageLevelId -> loadVoltageLevelResources(networkUuid, voltageLevelId, ResourceType.GENERATOR),
+        () -> delegate.getGenerators(networkUuid),
+        () -> delegate.getGeneratorCount(networkUuid)));
 
     private final NetworkCollectionIndex<CollectionCache<TwoWindingsTransformerAttributes>> twoWindingsTransformerCache = new NetworkCollectionIndex<>(networkUuid -> new CollectionCache<>(
         id ->  delegate.getTwoWindingsTransformer(networkUuid, id),
-        voltageLevelId -> delegate.getVoltageLevelTwoWindingsTransformers(networkUuid, voltageLevelId),
-        () -> delegate.getTwoWindingsTransformers(networkUuid)));
+        voltageLevelId -> loadVoltageLevelResources(networkUuid, voltageLevelId, ResourceType.TWO_WINDINGS_TRANSFORMER),
+        () -> delegate.getTwoWindingsTransformers(networkUuid),
+        () -> delegate.getTwoWindingsTransformerCount(networkUuid)));
 
     private final NetworkCollectionIndex<CollectionCache<ThreeWindingsTransformerAttributes>> threeWindingsTranqformerCache = new NetworkCollectionIndex<>(networkUuid -> new CollectionCache<>(
         id ->  delegate.getThreeWindingsTransformer(networkUuid, id),
-        voltageLevelId -> delegate.getVoltageLevelThreeWindingsTransformers(networkUuid, voltageLevelId),
-        () -> delegate.getThreeWindingsTransformers(networkUuid)));
+        voltageLevelId -> loadVoltageLevelResources(networkUuid, voltageLevelId, ResourceType.THREE_WINDINGS_TRANSFORMER),
+        () -> delegate.getThreeWindingsTransformers(networkUuid),
+        () -> delegate.getThreeWindingsTransformerCount(networkUuid)));
 
     private final NetworkCollectionIndex<CollectionCache<LineAttributes>> linesCache = new NetworkCollectionIndex<>(networkUuid -> new CollectionCache<>(
         id ->  delegate.getLine(networkUuid, id),
-        voltageLevelId -> delegate.getVoltageLevelLines(networkUuid, voltageLevelId),
-        () -> delegate.getLines(networkUuid)));
+        voltageLevelId -> loadVoltageLevelResources(networkUuid, voltageLevelId, ResourceType.LINE),
+        () -> delegate.getLines(networkUuid),
+        () -> delegate.getLineCount(networkUuid)));
 
     private final NetworkCollectionIndex<CollectionCache<ShuntCompensatorAttributes>> shuntCompensatorsCache = new NetworkCollectionIndex<>(networkUuid -> new CollectionCache<>(
         id ->  delegate.getShuntCompensator(networkUuid, id),
-        voltageLevelId -> delegate.getVoltageLevelShuntCompensators(networkUuid, voltageLevelId),
-        () -> delegate.getShuntCompensators(networkUuid)));
+        voltageLevelId -> loadVoltageLevelResources(networkUuid, voltageLevelId, ResourceType.SHUNT_COMPENSATOR),
+        () -> delegate.getShuntCompensators(networkUuid),
+        () -> delegate.getShuntCompensatorCount(networkUuid)));
 
     private final NetworkCollectionIndex<CollectionCache<VscConverterStationAttributes>> vscConverterStationCache = new NetworkCollectionIndex<>(networkUuid -> new CollectionCache<>(
         id ->  delegate.getVscConverterStation(networkUuid, id),
-        voltageLevelId -> delegate.getVoltageLevelVscConverterStations(networkUuid, voltageLevelId),
-        () -> delegate.getVscConverterStations(networkUuid)));
+        voltageLevelId -> loadVoltageLevelResources(networkUuid, voltageLevelId, ResourceType.VSC_CONVERTER_STATION),
+        () -> delegate.getVscConverterStations(networkUuid),
+        () -> delegate.getVscConverterStationCount(networkUuid)));
 
     private final NetworkCollectionIndex<CollectionCache<LccConverterStationAttributes>> lccConverterStationCache = new NetworkCollectionIndex<>(networkUuid -> new CollectionCache<>(
         id ->  delegate.getLccConverterStation(networkUuid, id),
-        voltageLevelId -> delegate.getVoltageLevelLccConverterStations(networkUuid, voltageLevelId),
-        () -> delegate.getLccConverterStations(networkUuid)));
+        voltageLevelId -> loadVoltageLevelResources(networkUuid, voltageLevelId, ResourceType.LCC_CONVERTER_STATION),
+        () -> delegate.getLccConverterStations(networkUuid),
+        () -> delegate.getLccConverterStationCount(networkUuid)));
 
     private final NetworkCollectionIndex<CollectionCache<StaticVarCompensatorAttributes>> staticVarCompensatorCache = new NetworkCollectionIndex<>(networkUuid -> new CollectionCache<>(
         id ->  delegate.getStaticVarCompensator(networkUuid, id),
-        voltageLevelId -> delegate.getVoltageLevelStaticVarCompensators(networkUuid, voltageLevelId),
-        () -> delegate.getStaticVarCompensators(networkUuid)));
+        voltageLevelId -> loadVoltageLevelResources(networkUuid, voltageLevelId, ResourceType.STATIC_VAR_COMPENSATOR),
+        () -> delegate.getStaticVarCompensators(networkUuid),
+        () -> delegate.getStaticVarCompensatorCount(networkUuid)));
 
     private final NetworkCollectionIndex<CollectionCache<HvdcLineAttributes>> hvdcLinesCache = new NetworkCollectionIndex<>(networkUuid -> new CollectionCache<>(
         id ->  delegate.getHvdcLine(networkUuid, id),
         null,
-        () -> delegate.getHvdcLines(networkUuid)));
+        () -> delegate.getHvdcLines(networkUuid),
+        () -> delegate.getHvdcLineCount(networkUuid)));
 
     private final NetworkCollectionIndex<CollectionCache<DanglingLineAttributes>> danglingLinesCache = new NetworkCollectionIndex<>(networkUuid -> new CollectionCache<>(
         id ->  delegate.getDanglingLine(networkUuid, id),
-        voltageLevelId -> delegate.getVoltageLevelDanglingLines(networkUuid, voltageLevelId),
-        () -> delegate.getDanglingLines(networkUuid)));
+        voltageLevelId -> loadVoltageLevelResources(networkUuid, voltageLevelId, ResourceType.DANGLING_LINE),
+        () -> delegate.getDanglingLines(networkUuid),
+        () -> delegate.getDanglingLineCount(networkUuid)));
 
     private final NetworkCollectionIndex<CollectionCache<ConfiguredBusAttributes>> configuredBusesCache = new NetworkCollectionIndex<>(networkUuid -> new CollectionCache<>(
         id ->  delegate.getConfiguredBus(networkUuid, id),
-        voltageLevelId -> delegate.getVoltageLevelConfiguredBuses(networkUuid, voltageLevelId),
-        () -> delegate.getConfiguredBuses(networkUuid)));
+        voltageLevelId -> loadVoltageLevelResources(networkUuid, voltageLevelId, ResourceType.CONFIGURED_BUS),
+        () -> delegate.getConfiguredBuses(networkUuid),
+        () -> delegate.getConfiguredBusCount(networkUuid)));
 
     private final List<NetworkCollectionIndex<? extends CollectionCache<? extends IdentifiableAttributes>>> networkContainersCache = Arrays.asList(
             substationsCache,
@@ -136,10 +153,148 @@ public class CachedNetworkStoreClient extends ForwardingNetworkStoreClient imple
             configuredBusesCache
     );
 
+    /**
+     * Calculated bus topologies indexed by network and voltage level ID, loaded with the equipments of a voltage level
+     * or all at once. A voltage level with no stored topology is cached with an empty one.
+     */
+    private final Map<UUID, Map<String, CalculatedBusTopologyAttributes>> calculatedBusTopologiesCache = new ConcurrentHashMap<>();
+
+    private final Set<UUID> calculatedBusTopologiesFullyLoaded = ConcurrentHashMap.newKeySet();
+
+    private static final Set<ResourceType> IDENTIFIABLE_RESOURCE_TYPES = EnumSet.complementOf(EnumSet.of(ResourceType.NETWORK));
+
     public CachedNetworkStoreClient(NetworkStoreClient delegate) {
         super(delegate);
     }
 
+    private NetworkCollectionIndex<? extends CollectionCache<? extends IdentifiableAttributes>> getCache(ResourceType resourceType) {
+        switch (resourceType) {
+            case SUBSTATION: return substationsCache;
+            case VOLTAGE_LEVEL: return voltageLevelsCache;
+            case LOAD: return loadsCache;
+            case GENERATOR: return generatorsCache;
+            case SHUNT_COMPENSATOR: return shuntCompensatorsCache;
+            case VSC_CONVERTER_STATION: return vscConverterStationCache;
+            case LCC_CONVERTER_STATION: return lccConverterStationCache;
+            case STATIC_VAR_COMPENSATOR: return staticVarCompensatorCache;
+            case BUSBAR_SECTION: return busbarSectionsCache;
+            case SWITCH: return switchesCache;
+            case TWO_WINDINGS_TRANSFORMER: return twoWindingsTransformerCache;
+            case THREE_WINDINGS_TRANSFORMER: return threeWindingsTranqformerCache;
+            case LINE: return linesCache;
+            case HVDC_LINE: return hvdcLinesCache;
+            case DANGLING_LINE: return danglingLinesCache;
+            case CONFIGURED_BUS: return configuredBusesCache;
+            default: throw new IllegalArgumentException("Resource type not supported: " + resourceType);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private CollectionCache<IdentifiableAttributes> getCollection(ResourceType resourceType, UUID networkUuid) {
+        return (CollectionCache<IdentifiableAttributes>) getCache(resourceType).getCollection(networkUuid);
+    }
+
+    /**
+     * Fully load collections of a network with resources that have already been retrieved from the server.
+     */
+    void loadResources(UUID networkUuid, Set<ResourceType> resourceTypes, List<Resource<IdentifiableAttributes>> resources) {
+        Map<ResourceType, List<Resource<IdentifiableAttributes>>> resourcesByType = new EnumMap<>(ResourceType.class);
+        for (Resource<IdentifiableAttributes> resource : resources) {
+            resourcesByType.computeIfAbsent(resource.getType(), k -> new ArrayList<>()).add(resource);
+        }
+        for (ResourceType resourceType : resourceTypes) {
+            getCollection(resourceType, networkUuid).loadResources(resourcesByType.getOrDefault(resourceType, Collections.emptyList()));
+        }
+    }
+
+    @Override
+    public List<Resource<IdentifiableAttributes>> getResources(UUID networkUuid, Set<ResourceType> resourceTypes) {
+        // collections not yet fully loaded are all retrieved from the server with only one request
+        Set<ResourceType> resourceTypesToLoad = EnumSet.noneOf(ResourceType.class);
+        for (ResourceType resourceType : resourceTypes) {
+            if (!getCollection(resourceType, networkUuid).isFullyLoaded()) {
+                resourceTypesToLoad.add(resourceType);
+            }
+        }
+        if (!resourceTypesToLoad.isEmpty()) {
+            loadResources(networkUuid, resourceTypesToLoad, delegate.getResources(networkUuid, resourceTypesToLoad));
+        }
+
+        List<Resource<IdentifiableAttributes>> resources = new ArrayList<>();
+        for (ResourceType resourceType : resourceTypes) {
+            resources.addAll(getCollection(resourceType, networkUuid).getResources());
+        }
+        return resources;
+    }
+
+    private Map<String, CalculatedBusTopologyAttributes> getCalculatedBusTopologyCache(UUID networkUuid) {
+        return calculatedBusTopologiesCache.computeIfAbsent(networkUuid, k -> new ConcurrentHashMap<>());
+    }
+
+    private boolean isCalculatedBusTopologyCached(UUID networkUuid, String voltageLevelId) {
+        return calculatedBusTopologiesFullyLoaded.contains(networkUuid) || getCalculatedBusTopologyCache(networkUuid).containsKey(voltageLevelId);
+    }
+
+    /**
+     * Load a voltage level container of a collection. All the resources of the voltage level are retrieved from the
+     * server with only one request, and are also used to load the voltage level container of the other collections
+     * and the calculated bus topology of the voltage level, so that building the topology of a voltage level only
+     * needs one request.
+     */
+    @SuppressWarnings("unchecked")
+    private <T extends IdentifiableAttributes> List<Resource<T>> loadVoltageLevelResources(UUID networkUuid, String voltageLevelId, ResourceType resourceType) {
+        Set<ResourceType> resourceTypes = EnumSet.copyOf(ResourceType.VOLTAGE_LEVEL_RESOURCE_TYPES);
+        if (!isCalculatedBusTopologyCached(networkUuid, voltageLevelId)) {
+            resourceTypes.add(ResourceType.VOLTAGE_LEVEL);
+        }
+        Map<ResourceType, List<Resource<IdentifiableAttributes>>> resourcesByType = new EnumMap<>(ResourceType.class);
+        for (Resource<IdentifiableAttributes> resource : delegate.getVoltageLevelResources(networkUuid, voltageLevelId, resourceTypes)) {
+            if (resource.getType() == ResourceType.VOLTAGE_LEVEL) {
+                // voltage level itself is only read for its calculated bus topology
+                getCalculatedBusTopologyCache(networkUuid).putIfAbsent(voltageLevelId, ((VoltageLevelAttributes) resource.getAttributes()).getCalculatedBusTopology());
+            } else {
+                resourcesByType.computeIfAbsent(resource.getType(), k -> new ArrayList<>()).add(resource);
+            }
+        }
+        for (ResourceType otherResourceType : ResourceType.VOLTAGE_LEVEL_RESOURCE_TYPES) {
+            if (otherResourceType != resourceType) {
+                getCollection(otherResourceType, networkUuid).loadContainerResources(voltageLevelId, resourcesByType.getOrDefault(otherResourceType, Collections.emptyList()));
+            }
+        }
+        return (List<Resource<T>>) (List<?>) resourcesByType.getOrDefault(resourceType, Collections.emptyList());
+    }
+
+    @Override
+    public List<Resource<IdentifiableAttributes>> getVoltageLevelResources(UUID networkUuid, String voltageLevelId, Set<ResourceType> resourceTypes) {
+        // first container not yet loaded triggers loading of all the containers of the voltage level
+        List<Resource<IdentifiableAttributes>> resources = new ArrayList<>();
+        for (ResourceType resourceType : resourceTypes) {
+            resources.addAll(getCollection(resourceType, networkUuid).getContainerResources(voltageLevelId));
+        }
+        return resources;
+    }
+
+    @Override
+    public Optional<Resource<IdentifiableAttributes>> getIdentifiable(UUID networkUuid, String id) {
+        // first look for the identifiable in the caches, no need to go further if all collections are fully loaded
+        boolean allFullyLoaded = true;
+        for (ResourceType resourceType : IDENTIFIABLE_RESOURCE_TYPES) {
+            CollectionCache<IdentifiableAttributes> collection = getCollection(resourceType, networkUuid);
+            Optional<Resource<IdentifiableAttributes>> resource = collection.getCachedResource(id);
+            if (resource.isPresent()) {
+                return resource;
+            }
+            allFullyLoaded &= collection.isFullyLoaded();
+        }
+        if (allFullyLoaded) {
+            return Optional.empty();
+        }
+
+        // then retrieve it from the server with only one request whatever its type and add it to the right cache
+        return delegate.getIdentifiable(networkUuid, id)
+                .flatMap(resource -> getCollection(resource.getType(), networkUuid).loadResource(resource));
+    }
+
     @Override
     public void createNetworks(List<Resource<NetworkAttributes>> networkResources) {
         delegate.createNetworks(networkResources);
@@ -178,6 +333,8 @@ public class CachedNetworkStoreClient extends ForwardingNetworkStoreClient imple
         delegate.deleteNetwork(networkUuid);
         networkResources.remove(networkUuid);
         networkContainersCache.forEach(cache -> cache.removeCollection(networkUuid));
+        calculatedBusTopologiesCache.remove(networkUuid);
+        calculatedBusTopologiesFullyLoaded.remove(networkUuid);
     }
 
     @Override
@@ -239,6 +396,36 @@ public class CachedNetworkStoreClient extends ForwardingNetworkStoreClient imple
     public void updateVoltageLevel(UUID networkUuid, Resource<VoltageLevelAttributes> voltageLevelResource) {
         delegate.updateVoltageLevel(networkUuid, voltageLevelResource);
         voltageLevelsCache.getCollection(networkUuid).updateResource(voltageLevelResource);
+        if (voltageLevelResource.getAttributes().isCalculatedBusTopologyLoaded()) {
+            getCalculatedBusTopologyCache(networkUuid).put(voltageLevelResource.getId(), voltageLevelResource.getAttributes().getCalculatedBusTopology());
+        }
+    }
+
+    @Override
+    public Optional<CalculatedBusTopologyAttributes> getVoltageLevelCalculatedBusTopology(UUID networkUuid, String voltageLevelId) {
+        if (!isCalculatedBusTopologyCached(networkUuid, voltageLevelId)) {
+            // topology is loaded with the equipments of the voltage level, which are needed to compute calculated buses
+            loadVoltageLevelResources(networkUuid, voltageLevelId, null);
+        }
+        return Optional.ofNullable(getCalculatedBusTopologyCache(networkUuid).get(voltageLevelId));
+    }
+
+    /**
+     * Fully load calculated bus topologies of a network with topologies that have already been retrieved from the
+     * server. Topologies already cached, which may have been updated, are kept.
+     */
+    void loadCalculatedBusTopologies(UUID networkUuid, Map<String, CalculatedBusTopologyAttributes> calculatedBusTopologies) {
+        Map<String, CalculatedBusTopologyAttributes> calculatedBusTopologyCache = getCalculatedBusTopologyCache(networkUuid);
+        calculatedBusTopologies.forEach(calculatedBusTopologyCache::putIfAbsent);
+        calculatedBusTopologiesFullyLoaded.add(networkUuid);
+    }
+
+    @Override
+    public Map<String, CalculatedBusTopologyAttributes> getCalculatedBusTopologies(UUID networkUuid) {
+        if (!calculatedBusTopologiesFullyLoaded.contains(networkUuid)) {
+            loadCalculatedBusTopologies(networkUuid, delegate.getCalculatedBusTopologies(networkUuid));
+        }
+        return Collections.unmodifiableMap(getCalculatedBusTopologyCache(networkUuid));
     }
 
     @Override
@@ -354,6 +541,11 @@ public class CachedNetworkStoreClient extends ForwardingNetworkStoreClient imple
         return busbarSectionsCache.getCollection(networkUuid).getContainerResources(voltageLevelId);
     }
 
+    @Override
+    public int getBusbarSectionCount(UUID networkUuid) {
+        return busbarSectionsCache.getCollection(networkUuid).getResourceCount();
+    }
+
     @Override
     public void createLoads(UUID networkUuid, List<Resource<LoadAttributes>> loadResources) {
         delegate.createLoads(networkUuid, loadResources);
@@ -680,6 +872,11 @@ public class CachedNetworkStoreClient extends ForwardingNetworkStoreClient imple
         return configuredBusesCache.getCollection(networkUuid).getResource(busId);
     }
 
+    @Override
+    public int getConfiguredBusCount(UUID networkUuid) {
+        return configuredBusesCache.getCollection(networkUuid).getResourceCount();
+    }
+
     @Override
     public void updateConfiguredBus(UUID networkUuid, Resource<ConfiguredBusAttributes> busesResource) {
         delegate.updateConfiguredBus(networkUuid, busesResource);
@@ -11,6 +11,7 @@ import com.powsybl.network.store.model.Resource;
 
 import java.util.*;
 import java.util.function.BiConsumer;
+import java.util.function.Predicate;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
@@ -74,6 +75,18 @@ public class CollectionBuffer<T extends IdentifiableAttributes> {
         }
     }
 
+    List<Resource<T>> removeUpdates(Predicate<Resource<T>> filter) {
+        List<Resource<T>> removedResources = new ArrayList<>();
+        for (Iterator<Resource<T>> it = updateResources.values().iterator(); it.hasNext();) {
+            Resource<T> resource = it.next();
+            if (filter.test(resource)) {
+                removedResources.add(resource);
+                it.remove();
+            }
+        }
+        return removedResources;
+    }
+
     void flush(UUID networkUuid) {
         if (removeFct != null && !removeResources.isEmpty()) {
             removeFct.accept(networkUuid, new ArrayList<>(removeResources));
@@ -12,12 +12,18 @@ import com.powsybl.network.store.model.Contained;
 import com.powsybl.network.store.model.Resource;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 /**
  * Identifiable collection cache management.
+ * <p>
+ * The cache can be shared by several threads. Reads do not lock, and the full collection and each container are loaded
+ * from the server at most once, even if several threads request them at the same time. Modifications (creation,
+ * update and removal of resources) are serialized.
  *
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
@@ -26,27 +32,28 @@ public class CollectionCache<T extends IdentifiableAttributes> {
     /**
      * Resources indexed by id.
      */
-    private final Map<String, Resource<T>> resources = new HashMap<>();
+    private final Map<String, Resource<T>> resources = new ConcurrentHashMap<>();
 
     /**
      * true if collection has been fully load, so if the cache is synchronized with the server, false otherwise.
      */
-    private boolean fullyLoaded = false;
+    private volatile boolean fullyLoaded = false;
 
     /**
      * Resources indexed by container id. A container is either a substation or a voltage level.
      */
-    private final Map<String, Map<String, Resource<T>>> resourcesByContainerId = new HashMap<>();
+    private final Map<String, Map<String, Resource<T>>> resourcesByContainerId = new ConcurrentHashMap<>();
 
     /**
-     * Set of container ids fully loaded, so synchonized with the server.
+     * Loading of containers, indexed by container id. A container is fully loaded, so synchronized with the server,
+     * when its loading is done.
      */
-    private final Set<String> containerFullyLoaded = new HashSet<>();
+    private final Map<String, CompletableFuture<Void>> containerLoadings = new ConcurrentHashMap<>();
 
     /**
      * Set of removed resource id.
      */
-    private final Set<String> removedResources = new HashSet<>();
+    private final Set<String> removedResources = ConcurrentHashMap.newKeySet();
 
     /**
      * A function to load one resource from the server. An optional is returned because resource could not exist on
@@ -64,28 +71,58 @@ public class CollectionCache<T extends IdentifiableAttributes> {
      */
     private final Supplier<List<Resource<T>>> allLoaderFunction;
 
+    /**
+     * A function to load the resource count of the collection (optional).
+     */
+    private final Supplier<Integer> countLoaderFunction;
+
+    /**
+     * Resource count of the collection when known without having fully loaded the collection, null otherwise.
+     */
+    private Integer resourceCount;
+
+    /**
+     * true if resources have been created or removed on client side, so if server resource count is not reliable anymore.
+     */
+    private boolean modified = false;
+
     public CollectionCache(Function<String, Optional<Resource<T>>> oneLoaderFunction,
                            Function<String, List<Resource<T>>> containerLoaderFunction,
                            Supplier<List<Resource<T>>> allLoaderFunction) {
+        this(oneLoaderFunction, containerLoaderFunction, allLoaderFunction, null);
+    }
+
+    public CollectionCache(Function<String, Optional<Resource<T>>> oneLoaderFunction,
+                           Function<String, List<Resource<T>>> containerLoaderFunction,
+                           Supplier<List<Resource<T>>> allLoaderFunction,
+                           Supplier<Integer> countLoaderFunction) {
         this.oneLoaderFunction = Objects.requireNonNull(oneLoaderFunction);
         this.containerLoaderFunction = containerLoaderFunction;
         this.allLoaderFunction = Objects.requireNonNull(allLoaderFunction);
+        this.countLoaderFunction = countLoaderFunction;
     }
 
     /**
      * Declare the collection as fully initialized. It means that the collection exists on client side but not yet on server
      * side and that even if empty the collection is fully loaded.
      */
-    public void init() {
+    public synchronized void init() {
         fullyLoaded = true;
     }
 
     /**
+     * Declare a container as fully initialized. It means that the container exists on client side but not yet on
+     * server side and that even if empty the container is fully loaded.
      */
     public void initContainer(String containerId) {
         Objects.requireNonNull(containerId);
 
-        containerFullyLoaded.add(containerId);
+        setContainerFullyLoaded(containerId);
+    }
+
+    private void setContainerFullyLoaded(String containerId) {
+        // a loading in progress belongs to another thread which is in charge of completing it
+        containerLoadings.putIfAbsent(containerId, CompletableFuture.completedFuture(null));
     }
 
     /**
@@ -107,9 +144,10 @@ public class CollectionCache<T extends IdentifiableAttributes> {
             // of if the resource has not been removed we try to get it from the server
             if (!fullyLoaded && !removedResources.contains(id)) {
                 resource = oneLoaderFunction.apply(id).orElse(null);
-                // if resource has been found on server side we add it to the cache
+                // if resource has been found on server side we add it to the cache, unless another thread has
+                // already done it
                 if (resource != null) {
-                    addResource(resource);
+                    resource = addLoadedResource(resource);
                 }
             }
         }
@@ -117,15 +155,63 @@ public class CollectionCache<T extends IdentifiableAttributes> {
         return Optional.ofNullable(resource);
     }
 
+    /**
+     * Check if the collection has been fully loaded.
+     *
+     * @return true if the collection has been fully loaded, false otherwise
+     */
+    public boolean isFullyLoaded() {
+        return fullyLoaded;
+    }
+
+    /**
+     * Get a resource only if it is already in the cache, never request the server.
+     */
+    public Optional<Resource<T>> getCachedResource(String id) {
+        return Optional.ofNullable(resources.get(Objects.requireNonNull(id)));
+    }
+
+    /**
+     * Add to the cache a resource that has already been retrieved from the server, unless it has been removed. If
+     * the resource is already in the cache, the cached one is kept and returned.
+     */
+    public Optional<Resource<T>> loadResource(Resource<T> resource) {
+        Objects.requireNonNull(resource);
+        return Optional.ofNullable(addLoadedResource(resource));
+    }
+
+    private synchronized Resource<T> addLoadedResource(Resource<T> resource) {
+        Resource<T> cachedResource = resources.get(resource.getId());
+        if (cachedResource != null || removedResources.contains(resource.getId())) {
+            return cachedResource;
+        }
+        addResource(resource);
+        return resource;
+    }
+
     private void loadAll() {
         if (!fullyLoaded) {
-            // if collection has not yet been fully loaded we load it from the server
-            List<Resource<T>> resourcesToAdd = allLoaderFunction.get();
+            synchronized (this) {
+                // if collection has not yet been fully loaded we load it from the server
+                if (!fullyLoaded) {
+                    loadResources(allLoaderFunction.get());
+                }
+            }
+        }
+    }
 
+    /**
+     * Fully load the collection with resources that have already been retrieved from the server, for instance by a
+     * request getting several collections at once. Nothing is done if the collection is already fully loaded.
+     *
+     * @param resourcesToAdd all the resources of the collection
+     */
+    public synchronized void loadResources(List<Resource<T>> resourcesToAdd) {
+        Objects.requireNonNull(resourcesToAdd);
+        if (!fullyLoaded) {
             // we update the full cache and set it as fully loaded
             // notice: it might overwrite already loaded resource (single or container)
             resourcesToAdd.forEach(resource -> resources.put(resource.getId(), resource));
-            fullyLoaded = true;
 
             // we update by container cache
             for (Resource<T> resource : resourcesToAdd) {
@@ -135,13 +221,16 @@ public class CollectionCache<T extends IdentifiableAttributes> {
                     containerIds.forEach(containerId -> {
                         // we add container resources and update container fully loaded status
                         getResourcesByContainerId(containerId).put(resource.getId(), resource);
-                        containerFullyLoaded.add(containerId);
+                        setContainerFullyLoaded(containerId);
                     });
                 }
 
                 // discard remove status of the resources
                 removedResources.remove(resource.getId());
             }
+
+            // set at the end so that a thread seeing the collection fully loaded also sees all its resources
+            fullyLoaded = true;
         }
     }
 
@@ -156,7 +245,76 @@ public class CollectionCache<T extends IdentifiableAttributes> {
     }
 
     private Map<String, Resource<T>> getResourcesByContainerId(String containerId) {
-        return resourcesByContainerId.computeIfAbsent(containerId, k -> new LinkedHashMap<>());
+        // insertion order is kept so that container resources are always listed in the same order
+        return resourcesByContainerId.computeIfAbsent(containerId, k -> Collections.synchronizedMap(new LinkedHashMap<>()));
+    }
+
+    private List<Resource<T>> getContainerResourceList(String containerId) {
+        Map<String, Resource<T>> containerResources = getResourcesByContainerId(containerId);
+        synchronized (containerResources) {
+            return new ArrayList<>(containerResources.values());
+        }
+    }
+
+    private void loadContainer(String containerId) {
+        CompletableFuture<Void> loading = new CompletableFuture<>();
+        CompletableFuture<Void> otherLoading = containerLoadings.putIfAbsent(containerId, loading);
+        if (otherLoading != null) {
+            // container is already loaded or is being loaded by another thread, we wait for it
+            try {
+                otherLoading.join();
+                return;
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new PowsyblException(e.getCause());
+            }
+        }
+
+        try {
+            addContainerResources(containerId, containerLoaderFunction.apply(containerId));
+
+            loading.complete(null);
+        } catch (RuntimeException e) {
+            // next call will retry to load the container
+            containerLoadings.remove(containerId, loading);
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private synchronized void addContainerResources(String containerId, List<Resource<T>> resourcesToAdd) {
+        // by container cache update
+        Map<String, Resource<T>> containerResources = getResourcesByContainerId(containerId);
+        resourcesToAdd.forEach(resource -> containerResources.put(resource.getId(), resource));
+
+        // full cache update
+        resourcesToAdd.forEach(resource -> {
+            resources.put(resource.getId(), resource);
+            removedResources.remove(resource.getId());
+        });
+    }
+
+    /**
+     * Load a container with resources that have already been retrieved from the server, for instance by a request
+     * getting all the resources of a voltage level at once. Nothing is done if the collection is fully loaded or if the
+     * container is already loaded or being loaded by another thread.
+     *
+     * @param containerId the container id
+     * @param resourcesToAdd all the resources of the collection that belongs to the container
+     */
+    public void loadContainerResources(String containerId, List<Resource<T>> resourcesToAdd) {
+        Objects.requireNonNull(containerId);
+        Objects.requireNonNull(resourcesToAdd);
+        if (fullyLoaded) {
+            return;
+        }
+        CompletableFuture<Void> loading = new CompletableFuture<>();
+        if (containerLoadings.putIfAbsent(containerId, loading) == null) {
+            addContainerResources(containerId, resourcesToAdd);
+            loading.complete(null);
+        }
     }
 
     /**
@@ -171,20 +329,10 @@ public class CollectionCache<T extends IdentifiableAttributes> {
             throw new PowsyblException("it is not possible to load resources by container, if container resources loader has not been specified");
         }
 
-        if (!fullyLoaded && !containerFullyLoaded.contains(containerId)) {
-            List<Resource<T>> resourcesToAdd = containerLoaderFunction.apply(containerId);
-
-            // by container cache update
-            getResourcesByContainerId(containerId).putAll(resourcesToAdd.stream().collect(Collectors.toMap(Resource::getId, resource -> resource)));
-            containerFullyLoaded.add(containerId);
-
-            // full cache update
-            resourcesToAdd.forEach(resource -> {
-                resources.put(resource.getId(), resource);
-                removedResources.remove(resource.getId());
-            });
+        if (!fullyLoaded) {
+            loadContainer(containerId);
         }
-        return new ArrayList<>(getResourcesByContainerId(containerId).values());
+        return getContainerResourceList(containerId);
     }
 
     private void addResource(Resource<T> resource) {
@@ -207,10 +355,14 @@ public class CollectionCache<T extends IdentifiableAttributes> {
      *
      * @param resources newly created resources
      */
-    public void createResources(List<Resource<T>> resources) {
+    public synchronized void createResources(List<Resource<T>> resources) {
         for (Resource<T> resource : resources) {
             addResource(resource);
         }
+        modified = true;
+        if (resourceCount != null) {
+            resourceCount += resources.size();
+        }
     }
 
     /**
@@ -218,7 +370,7 @@ public class CollectionCache<T extends IdentifiableAttributes> {
      *
      * @param resource the resource to update
      */
-    public void updateResource(Resource<T> resource) {
+    public synchronized void updateResource(Resource<T> resource) {
         addResource(resource);
     }
 
@@ -227,12 +379,21 @@ public class CollectionCache<T extends IdentifiableAttributes> {
      *
      * @param id the id of the resource to remove
      */
-    public void removeResource(String id) {
+    public synchronized void removeResource(String id) {
         Objects.requireNonNull(id);
 
         // try to remove the resource from full cache
         Resource<T> resource = resources.remove(id);
-        removedResources.add(id);
+        boolean newlyRemoved = removedResources.add(id);
+        modified = true;
+        if (resourceCount != null && newlyRemoved) {
+            if (resource != null) {
+                resourceCount--;
+            } else {
+                // not in the cache, so we cannot know if the resource existed: count is not reliable anymore
+                resourceCount = null;
+            }
+        }
 
         // if resource has been found also remove it from container cache
         if (resource != null) {
@@ -249,8 +410,18 @@ public class CollectionCache<T extends IdentifiableAttributes> {
      *
      * @return the resource count
      */
-    public int getResourceCount() {
-        // the only reliable way to get count is to fully load the collection
+    public synchronized int getResourceCount() {
+        if (fullyLoaded) {
+            return resources.size();
+        }
+        // server count can only be trusted if no resource has been created or removed on client side, otherwise the
+        // only reliable way to get count is to fully load the collection
+        if (resourceCount == null && countLoaderFunction != null && !modified) {
+            resourceCount = countLoaderFunction.get();
+        }
+        if (resourceCount != null) {
+            return resourceCount;
+        }
         loadAll();
         return resources.size();
     }
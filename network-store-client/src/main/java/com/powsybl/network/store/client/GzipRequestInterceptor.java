@@ -0,0 +1,45 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compress with gzip request bodies large enough to benefit from it. Compression of responses is negotiated by the
+ * HTTP client itself.
+ *
+ * @author agent <agent at local>
+ */
+public class GzipRequestInterceptor implements ClientHttpRequestInterceptor {
+
+    static final int MIN_COMPRESSED_SIZE = 2048;
+
+    private static byte[] compress(byte[] body) throws IOException {
+        ByteArrayOutputStream os = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzipOs = new GZIPOutputStream(os)) {
+            gzipOs.write(body);
+        }
+        return os.toByteArray();
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        if (body.length < MIN_COMPRESSED_SIZE || request.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)) {
+            return execution.execute(request, body);
+        }
+        request.getHeaders().set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        return execution.execute(request, compress(body));
+    }
+}
@@ -7,6 +7,7 @@
 package com.powsybl.network.store.client;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 
@@ -15,7 +16,7 @@ import java.util.function.Function;
  */
 public class NetworkCollectionIndex<C> {
 
-    private final Map<UUID, C> collections = new HashMap<>();
+    private final Map<UUID, C> collections = new ConcurrentHashMap<>();
 
     private final Function<UUID, C> factory;
 
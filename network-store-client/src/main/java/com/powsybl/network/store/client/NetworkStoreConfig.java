@@ -8,9 +8,13 @@ package com.powsybl.network.store.client;
 
 import com.powsybl.commons.config.ModuleConfig;
 import com.powsybl.commons.config.PlatformConfig;
+import com.powsybl.network.store.model.ResourceType;
 
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
@@ -21,10 +25,42 @@ public final class NetworkStoreConfig {
 
     private static final PreloadingStrategy DEFAULT_PRELOADING_STRATEGY = PreloadingStrategy.NONE;
 
+    public static final Set<ResourceType> DEFAULT_PRELOADING_RESOURCE_TYPES = Collections.unmodifiableSet(EnumSet.complementOf(EnumSet.of(ResourceType.NETWORK)));
+
+    public static final int DEFAULT_PRELOADING_THREAD_COUNT = 4;
+
+    private static final WireFormat DEFAULT_WIRE_FORMAT = WireFormat.JSON;
+
+    public static final int DEFAULT_MAX_CONNECTIONS = 20;
+
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 20;
+
+    public static final int DEFAULT_CONNECT_TIMEOUT = 10000;
+
+    public static final int DEFAULT_READ_TIMEOUT = 0;
+
+    public static final boolean DEFAULT_COMPRESSION = true;
+
     private String baseUrl;
 
     private PreloadingStrategy preloadingStrategy = DEFAULT_PRELOADING_STRATEGY;
 
+    private Set<ResourceType> preloadingResourceTypes = DEFAULT_PRELOADING_RESOURCE_TYPES;
+
+    private int preloadingThreadCount = DEFAULT_PRELOADING_THREAD_COUNT;
+
+    private WireFormat wireFormat = DEFAULT_WIRE_FORMAT;
+
+    private int maxConnections = DEFAULT_MAX_CONNECTIONS;
+
+    private int maxConnectionsPerRoute = DEFAULT_MAX_CONNECTIONS_PER_ROUTE;
+
+    private int connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+
+    private int readTimeout = DEFAULT_READ_TIMEOUT;
+
+    private boolean compression = DEFAULT_COMPRESSION;
+
     public NetworkStoreConfig(String baseUrl) {
         this.baseUrl = Objects.requireNonNull(baseUrl);
     }
@@ -40,8 +76,32 @@ public final class NetworkStoreConfig {
                 .orElse(DEFAULT_BASE_URL);
         PreloadingStrategy preloadingStrategy = moduleConfig.flatMap(mc -> mc.getOptionalEnumProperty("preloading-strategy", PreloadingStrategy.class))
                 .orElse(DEFAULT_PRELOADING_STRATEGY);
+        Set<ResourceType> preloadingResourceTypes = moduleConfig.flatMap(mc -> mc.getOptionalEnumSetProperty("preloading-resource-types", ResourceType.class))
+                .orElse(DEFAULT_PRELOADING_RESOURCE_TYPES);
+        int preloadingThreadCount = moduleConfig.map(mc -> mc.getIntProperty("preloading-thread-count", DEFAULT_PRELOADING_THREAD_COUNT))
+                .orElse(DEFAULT_PRELOADING_THREAD_COUNT);
+        WireFormat wireFormat = moduleConfig.flatMap(mc -> mc.getOptionalEnumProperty("wire-format", WireFormat.class))
+                .orElse(DEFAULT_WIRE_FORMAT);
+        int maxConnections = moduleConfig.map(mc -> mc.getIntProperty("max-connections", DEFAULT_MAX_CONNECTIONS))
+                .orElse(DEFAULT_MAX_CONNECTIONS);
+        int maxConnectionsPerRoute = moduleConfig.map(mc -> mc.getIntProperty("max-connections-per-route", DEFAULT_MAX_CONNECTIONS_PER_ROUTE))
+                .orElse(DEFAULT_MAX_CONNECTIONS_PER_ROUTE);
+        int connectTimeout = moduleConfig.map(mc -> mc.getIntProperty("connect-timeout", DEFAULT_CONNECT_TIMEOUT))
+                .orElse(DEFAULT_CONNECT_TIMEOUT);
+        int readTimeout = moduleConfig.map(mc -> mc.getIntProperty("read-timeout", DEFAULT_READ_TIMEOUT))
+                .orElse(DEFAULT_READ_TIMEOUT);
+        boolean compression = moduleConfig.map(mc -> mc.getBooleanProperty("compression", DEFAULT_COMPRESSION))
+                .orElse(DEFAULT_COMPRESSION);
         return new NetworkStoreConfig(baseUrl)
-                .setPreloadingStrategy(preloadingStrategy);
+                .setPreloadingStrategy(preloadingStrategy)
+                .setPreloadingResourceTypes(preloadingResourceTypes)
+                .setPreloadingThreadCount(preloadingThreadCount)
+                .setWireFormat(wireFormat)
+                .setMaxConnections(maxConnections)
+                .setMaxConnectionsPerRoute(maxConnectionsPerRoute)
+                .setConnectTimeout(connectTimeout)
+                .setReadTimeout(readTimeout)
+                .setCompression(compression);
     }
 
     public String getBaseUrl() {
@@ -61,4 +121,97 @@ public final class NetworkStoreConfig {
         this.preloadingStrategy = Objects.requireNonNull(preloadingStrategy);
         return this;
     }
+
+    public Set<ResourceType> getPreloadingResourceTypes() {
+        return preloadingResourceTypes;
+    }
+
+    public NetworkStoreConfig setPreloadingResourceTypes(Set<ResourceType> preloadingResourceTypes) {
+        this.preloadingResourceTypes = Objects.requireNonNull(preloadingResourceTypes);
+        return this;
+    }
+
+    public int getPreloadingThreadCount() {
+        return preloadingThreadCount;
+    }
+
+    public NetworkStoreConfig setPreloadingThreadCount(int preloadingThreadCount) {
+        if (preloadingThreadCount < 1) {
+            throw new IllegalArgumentException("Invalid preloading thread count: " + preloadingThreadCount);
+        }
+        this.preloadingThreadCount = preloadingThreadCount;
+        return this;
+    }
+
+    public WireFormat getWireFormat() {
+        return wireFormat;
+    }
+
+    public NetworkStoreConfig setWireFormat(WireFormat wireFormat) {
+        this.wireFormat = Objects.requireNonNull(wireFormat);
+        return this;
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public NetworkStoreConfig setMaxConnections(int maxConnections) {
+        if (maxConnections < 1) {
+            throw new IllegalArgumentException("Invalid max connections: " + maxConnections);
+        }
+        this.maxConnections = maxConnections;
+        return this;
+    }
+
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    public NetworkStoreConfig setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        if (maxConnectionsPerRoute < 1) {
+            throw new IllegalArgumentException("Invalid max connections per route: " + maxConnectionsPerRoute);
+        }
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        return this;
+    }
+
+    /**
+     * Connection timeout in ms, 0 means no timeout.
+     */
+    public int getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public NetworkStoreConfig setConnectTimeout(int connectTimeout) {
+        if (connectTimeout < 0) {
+            throw new IllegalArgumentException("Invalid connect timeout: " + connectTimeout);
+        }
+        this.connectTimeout = connectTimeout;
+        return this;
+    }
+
+    /**
+     * Read timeout in ms, 0 means no timeout.
+     */
+    public int getReadTimeout() {
+        return readTimeout;
+    }
+
+    public NetworkStoreConfig setReadTimeout(int readTimeout) {
+        if (readTimeout < 0) {
+            throw new IllegalArgumentException("Invalid read timeout: " + readTimeout);
+        }
+        this.readTimeout = readTimeout;
+        return this;
+    }
+
+    public boolean isCompression() {
+        return compression;
+    }
+
+    public NetworkStoreConfig setCompression(boolean compression) {
+        this.compression = compression;
+        return this;
+    }
 }
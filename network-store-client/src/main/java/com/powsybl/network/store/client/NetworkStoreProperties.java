@@ -0,0 +1,138 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import com.powsybl.network.store.model.ResourceType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Spring properties (network-store-server.*) of the network store client, see {@link NetworkStoreConfig} for the
+ * same configuration outside of Spring.
+ *
+ * @author agent <agent at local>
+ */
+@ConfigurationProperties(prefix = "network-store-server")
+public class NetworkStoreProperties {
+
+    private String baseUri = "http://network-store-server/";
+
+    private PreloadingStrategy preloadingStrategy = PreloadingStrategy.NONE;
+
+    // empty means default resource types
+    private Set<ResourceType> preloadingResourceTypes = Collections.emptySet();
+
+    private int preloadingThreadCount = NetworkStoreConfig.DEFAULT_PRELOADING_THREAD_COUNT;
+
+    private WireFormat wireFormat = WireFormat.JSON;
+
+    private int maxConnections = NetworkStoreConfig.DEFAULT_MAX_CONNECTIONS;
+
+    private int maxConnectionsPerRoute = NetworkStoreConfig.DEFAULT_MAX_CONNECTIONS_PER_ROUTE;
+
+    private int connectTimeout = NetworkStoreConfig.DEFAULT_CONNECT_TIMEOUT;
+
+    private int readTimeout = NetworkStoreConfig.DEFAULT_READ_TIMEOUT;
+
+    private boolean compression = NetworkStoreConfig.DEFAULT_COMPRESSION;
+
+    public String getBaseUri() {
+        return baseUri;
+    }
+
+    public void setBaseUri(String baseUri) {
+        this.baseUri = baseUri;
+    }
+
+    public PreloadingStrategy getPreloadingStrategy() {
+        return preloadingStrategy;
+    }
+
+    public void setPreloadingStrategy(PreloadingStrategy preloadingStrategy) {
+        this.preloadingStrategy = preloadingStrategy;
+    }
+
+    public Set<ResourceType> getPreloadingResourceTypes() {
+        return preloadingResourceTypes;
+    }
+
+    public void setPreloadingResourceTypes(Set<ResourceType> preloadingResourceTypes) {
+        this.preloadingResourceTypes = preloadingResourceTypes;
+    }
+
+    public int getPreloadingThreadCount() {
+        return preloadingThreadCount;
+    }
+
+    public void setPreloadingThreadCount(int preloadingThreadCount) {
+        this.preloadingThreadCount = preloadingThreadCount;
+    }
+
+    public WireFormat getWireFormat() {
+        return wireFormat;
+    }
+
+    public void setWireFormat(WireFormat wireFormat) {
+        this.wireFormat = wireFormat;
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+    }
+
+    public int getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public void setConnectTimeout(int connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    public int getReadTimeout() {
+        return readTimeout;
+    }
+
+    public void setReadTimeout(int readTimeout) {
+        this.readTimeout = readTimeout;
+    }
+
+    public boolean isCompression() {
+        return compression;
+    }
+
+    public void setCompression(boolean compression) {
+        this.compression = compression;
+    }
+
+    public NetworkStoreConfig toConfig() {
+        return new NetworkStoreConfig(baseUri)
+                .setPreloadingStrategy(preloadingStrategy)
+                .setPreloadingResourceTypes(preloadingResourceTypes == null || preloadingResourceTypes.isEmpty()
+                        ? NetworkStoreConfig.DEFAULT_PRELOADING_RESOURCE_TYPES : preloadingResourceTypes)
+                .setPreloadingThreadCount(preloadingThreadCount)
+                .setWireFormat(wireFormat)
+                .setMaxConnections(maxConnections)
+                .setMaxConnectionsPerRoute(maxConnectionsPerRoute)
+                .setConnectTimeout(connectTimeout)
+                .setReadTimeout(readTimeout)
+                .setCompression(compression);
+    }
+}
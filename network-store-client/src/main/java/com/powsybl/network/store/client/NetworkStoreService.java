@@ -6,6 +6,7 @@
  */
 package com.powsybl.network.store.client;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.datasource.DataSource;
 import com.powsybl.commons.datasource.ReadOnlyDataSource;
@@ -18,25 +19,42 @@ import com.powsybl.iidm.network.NetworkFactory;
 import com.powsybl.network.store.iidm.impl.NetworkFactoryImpl;
 import com.powsybl.network.store.iidm.impl.NetworkImpl;
 import com.powsybl.network.store.iidm.impl.NetworkStoreClient;
+import com.powsybl.network.store.model.NetworkDeletionStatus;
 import com.powsybl.network.store.model.NetworkStoreApi;
 import com.powsybl.network.store.model.Resource;
+import com.powsybl.network.store.model.ResourceType;
 import com.powsybl.tools.Version;
+import org.apache.http.client.HttpClient;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Properties;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
@@ -44,58 +62,150 @@ import java.util.stream.Collectors;
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
 @Service
+@EnableConfigurationProperties(NetworkStoreProperties.class)
 public class NetworkStoreService implements AutoCloseable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(NetworkStoreService.class);
 
     private final RestNetworkStoreClient restStoreClient;
 
+    // null if the rest client has been provided, closed with this service otherwise
+    private final CloseableHttpClient httpClient;
+
     private final PreloadingStrategy defaultPreloadingStrategy;
 
     private final BiFunction<RestNetworkStoreClient, PreloadingStrategy, NetworkStoreClient> decorator;
 
+    private final Set<ResourceType> preloadingResourceTypes;
+
+    private final int preloadingThreadCount;
+
+    // only used by parallel preloading, created on first use
+    private ExecutorService preloadingExecutorService;
+
     public NetworkStoreService(String baseUri) {
         this(baseUri, PreloadingStrategy.NONE);
     }
 
+    public NetworkStoreService(String baseUri, PreloadingStrategy defaultPreloadingStrategy) {
+        this(new NetworkStoreConfig(baseUri).setPreloadingStrategy(defaultPreloadingStrategy));
+    }
+
     @Autowired
-    public NetworkStoreService(@Value("${network-store-server.base-uri:http://network-store-server/}") String baseUri,
-                               @Value("${network-store-server.preloading-strategy:NONE}") PreloadingStrategy defaultPreloadingStrategy) {
-        this(new RestNetworkStoreClient(createRestTemplateBuilder(baseUri)), defaultPreloadingStrategy);
+    public NetworkStoreService(NetworkStoreProperties properties) {
+        this(properties.toConfig());
+    }
+
+    private NetworkStoreService(NetworkStoreConfig config) {
+        this(config, null);
+    }
+
+    private NetworkStoreService(NetworkStoreConfig config, BiFunction<RestNetworkStoreClient, PreloadingStrategy, NetworkStoreClient> decorator) {
+        this(createHttpClient(config), config, decorator);
+    }
+
+    private NetworkStoreService(CloseableHttpClient httpClient, NetworkStoreConfig config,
+                                BiFunction<RestNetworkStoreClient, PreloadingStrategy, NetworkStoreClient> decorator) {
+        this(new RestNetworkStoreClient(createRestTemplateBuilder(config, httpClient), config.getWireFormat()), httpClient,
+                config.getPreloadingStrategy(), decorator, config.getPreloadingResourceTypes(), config.getPreloadingThreadCount());
     }
 
     NetworkStoreService(RestNetworkStoreClient restStoreClient, PreloadingStrategy defaultPreloadingStrategy) {
-        this(restStoreClient, defaultPreloadingStrategy, NetworkStoreService::createStoreClient);
+        this(restStoreClient, null, defaultPreloadingStrategy, null, NetworkStoreConfig.DEFAULT_PRELOADING_RESOURCE_TYPES,
+                NetworkStoreConfig.DEFAULT_PRELOADING_THREAD_COUNT);
     }
 
     NetworkStoreService(RestNetworkStoreClient restStoreClient, PreloadingStrategy defaultPreloadingStrategy,
                         BiFunction<RestNetworkStoreClient, PreloadingStrategy, NetworkStoreClient> decorator) {
+        this(restStoreClient, null, defaultPreloadingStrategy, Objects.requireNonNull(decorator), NetworkStoreConfig.DEFAULT_PRELOADING_RESOURCE_TYPES,
+                NetworkStoreConfig.DEFAULT_PRELOADING_THREAD_COUNT);
+    }
+
+    private NetworkStoreService(RestNetworkStoreClient restStoreClient, CloseableHttpClient httpClient, PreloadingStrategy defaultPreloadingStrategy,
+                                BiFunction<RestNetworkStoreClient, PreloadingStrategy, NetworkStoreClient> decorator,
+                                Set<ResourceType> preloadingResourceTypes, int preloadingThreadCount) {
         this.restStoreClient = Objects.requireNonNull(restStoreClient);
+        this.httpClient = httpClient;
         this.defaultPreloadingStrategy = Objects.requireNonNull(defaultPreloadingStrategy);
-        this.decorator = Objects.requireNonNull(decorator);
+        this.decorator = decorator != null ? decorator : this::createStoreClient;
+        this.preloadingResourceTypes = Objects.requireNonNull(preloadingResourceTypes);
+        if (preloadingThreadCount < 1) {
+            throw new IllegalArgumentException("Invalid preloading thread count: " + preloadingThreadCount);
+        }
+        this.preloadingThreadCount = preloadingThreadCount;
     }
 
     public NetworkStoreService(String baseUri, PreloadingStrategy defaultPreloadingStrategy,
                                BiFunction<RestNetworkStoreClient, PreloadingStrategy, NetworkStoreClient> decorator) {
-        this(new RestNetworkStoreClient(createRestTemplateBuilder(baseUri)), defaultPreloadingStrategy, decorator);
+        this(new NetworkStoreConfig(baseUri).setPreloadingStrategy(defaultPreloadingStrategy), Objects.requireNonNull(decorator));
     }
 
     public static NetworkStoreService create(NetworkStoreConfig config) {
         Objects.requireNonNull(config);
-        return new NetworkStoreService(config.getBaseUrl(), config.getPreloadingStrategy());
+        return new NetworkStoreService(config);
     }
 
     public static RestTemplateBuilder createRestTemplateBuilder(String baseUri) {
-        return new RestTemplateBuilder()
-                .uriTemplateHandler(new DefaultUriBuilderFactory(UriComponentsBuilder.fromUriString(baseUri)
-                        .path(NetworkStoreApi.VERSION)));
+        return createRestTemplateBuilder(new NetworkStoreConfig(baseUri));
+    }
+
+    /**
+     * Create a rest template builder relying on its own pool of connections, which is never closed: prefer
+     * {@link #createRestTemplateBuilder(NetworkStoreConfig, HttpClient)} when the client lifecycle can be managed.
+     */
+    public static RestTemplateBuilder createRestTemplateBuilder(NetworkStoreConfig config) {
+        return createRestTemplateBuilder(config, createHttpClient(config));
+    }
+
+    /**
+     * Create an HTTP client relying on a pool of connections, so that connections are kept alive and shared between
+     * concurrent requests (for instance when collections are preloaded in parallel). It has to be closed by the caller.
+     */
+    public static CloseableHttpClient createHttpClient(NetworkStoreConfig config) {
+        Objects.requireNonNull(config);
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(config.getMaxConnections());
+        connectionManager.setDefaultMaxPerRoute(config.getMaxConnectionsPerRoute());
+        HttpClientBuilder httpClientBuilder = HttpClients.custom()
+                .setConnectionManager(connectionManager);
+        if (!config.isCompression()) {
+            // by default, gzip compressed responses are requested and transparently decompressed
+            httpClientBuilder.disableContentCompression();
+        }
+        return httpClientBuilder.build();
+    }
+
+    public static RestTemplateBuilder createRestTemplateBuilder(NetworkStoreConfig config, HttpClient httpClient) {
+        Objects.requireNonNull(config);
+        Objects.requireNonNull(httpClient);
+        RestTemplateBuilder restTemplateBuilder = new RestTemplateBuilder()
+                .uriTemplateHandler(new DefaultUriBuilderFactory(UriComponentsBuilder.fromUriString(config.getBaseUrl())
+                        .path(NetworkStoreApi.VERSION)))
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .setConnectTimeout(Duration.ofMillis(config.getConnectTimeout()))
+                .setReadTimeout(Duration.ofMillis(config.getReadTimeout()));
+        if (config.isCompression()) {
+            restTemplateBuilder = restTemplateBuilder.additionalInterceptors(new GzipRequestInterceptor());
+        }
+        return restTemplateBuilder;
     }
 
     private PreloadingStrategy getNonNullPreloadingStrategy(PreloadingStrategy preloadingStrategy) {
         return preloadingStrategy != null ? preloadingStrategy : defaultPreloadingStrategy;
     }
 
-    private static NetworkStoreClient createStoreClient(RestNetworkStoreClient restStoreClient, PreloadingStrategy preloadingStrategy) {
+    // threads are only alive while collections are being preloaded, and do not prevent the JVM from exiting
+    private synchronized ExecutorService getPreloadingExecutorService() {
+        if (preloadingExecutorService == null) {
+            ThreadPoolExecutor executorService = new ThreadPoolExecutor(preloadingThreadCount, preloadingThreadCount, 1, TimeUnit.MINUTES, new LinkedBlockingQueue<>(),
+                    new ThreadFactoryBuilder().setNameFormat("network-store-preloading-%d").setDaemon(true).build());
+            executorService.allowCoreThreadTimeOut(true);
+            preloadingExecutorService = executorService;
+        }
+        return preloadingExecutorService;
+    }
+
+    private NetworkStoreClient createStoreClient(RestNetworkStoreClient restStoreClient, PreloadingStrategy preloadingStrategy) {
         Objects.requireNonNull(preloadingStrategy);
         LOGGER.info("Preloading strategy: {}", preloadingStrategy);
         switch (preloadingStrategy) {
@@ -103,6 +213,9 @@ public class NetworkStoreService implements AutoCloseable {
                 return new CachedNetworkStoreClient(new BufferedNetworkStoreClient(restStoreClient));
             case COLLECTION:
                 return new PreloadingNetworkStoreClient(new BufferedNetworkStoreClient(restStoreClient));
+            case ALL_COLLECTIONS_PARALLEL:
+                return new ParallelPreloadingNetworkStoreClient(new BufferedNetworkStoreClient(restStoreClient), preloadingResourceTypes,
+                                                                getPreloadingExecutorService());
             default:
                 throw new IllegalStateException("Unknown preloading strategy: " + preloadingStrategy);
         }
@@ -173,12 +286,23 @@ public class NetworkStoreService implements AutoCloseable {
                 .orElseThrow(() -> new PowsyblException("Network '" + uuid + "' not found")));
     }
 
+    /**
+     * Start the deletion of a network. The network is not visible anymore once this method returns, but its resources
+     * are deleted in background by the server: progress can be followed using {@link #getNetworkDeletionStatus(UUID)}.
+     */
     public void deleteNetwork(UUID uuid) {
         restStoreClient.deleteNetwork(uuid);
     }
 
+    public Optional<NetworkDeletionStatus> getNetworkDeletionStatus(UUID uuid) {
+        return restStoreClient.getNetworkDeletionStatus(uuid);
+    }
+
+    /**
+     * Start the deletion of all the networks, which are then deleted in background by the server.
+     */
     public void deleteAllNetworks() {
-        getNetworkIds().forEach((key, value) -> restStoreClient.deleteNetwork(key));
+        getNetworkIds().forEach((key, value) -> deleteNetwork(key));
     }
 
     private NetworkImpl getNetworkImpl(Network network) {
@@ -204,6 +328,16 @@ public class NetworkStoreService implements AutoCloseable {
 
     @Override
     @PreDestroy
-    public void close() {
+    public synchronized void close() {
+        if (preloadingExecutorService != null) {
+            preloadingExecutorService.shutdown();
+        }
+        if (httpClient != null) {
+            try {
+                httpClient.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
     }
 }
@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import com.google.common.base.Stopwatch;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.network.store.iidm.impl.NetworkStoreClient;
+import com.powsybl.network.store.model.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A cached client that, the first time a network is retrieved, concurrently loads a set of collections of the network
+ * (one request per resource type) and fills the collection caches with them.
+ *
+ * @author agent <agent at local>
+ */
+public class ParallelPreloadingNetworkStoreClient extends ForwardingNetworkStoreClient implements NetworkStoreClient {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelPreloadingNetworkStoreClient.class);
+
+    private final CachedNetworkStoreClient cachedClient;
+
+    private final NetworkStoreClient loaderClient;
+
+    private final Set<ResourceType> resourceTypes;
+
+    private final ExecutorService executorService;
+
+    private final Set<UUID> preloadedNetworks = new HashSet<>();
+
+    public ParallelPreloadingNetworkStoreClient(NetworkStoreClient delegate, Set<ResourceType> resourceTypes,
+                                                ExecutorService executorService) {
+        this(new CachedNetworkStoreClient(delegate), delegate, resourceTypes, executorService);
+    }
+
+    private ParallelPreloadingNetworkStoreClient(CachedNetworkStoreClient cachedClient, NetworkStoreClient loaderClient,
+                                                 Set<ResourceType> resourceTypes, ExecutorService executorService) {
+        super(cachedClient);
+        this.cachedClient = cachedClient;
+        this.loaderClient = loaderClient;
+        this.resourceTypes = EnumSet.copyOf(Objects.requireNonNull(resourceTypes));
+        if (this.resourceTypes.contains(ResourceType.NETWORK)) {
+            throw new IllegalArgumentException("Network resource type cannot be preloaded");
+        }
+        this.executorService = Objects.requireNonNull(executorService);
+    }
+
+    private static <T> T getResult(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PowsyblException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new PowsyblException(e.getCause());
+        }
+    }
+
+    @Override
+    public Optional<Resource<NetworkAttributes>> getNetwork(UUID networkUuid) {
+        if (resourceTypes.isEmpty() || !preloadedNetworks.add(networkUuid)) {
+            return delegate.getNetwork(networkUuid);
+        }
+
+        Stopwatch stopwatch = Stopwatch.createStarted();
+
+        // collections are loaded in background while network itself is retrieved
+        Map<ResourceType, Future<List<Resource<IdentifiableAttributes>>>> futures = new EnumMap<>(ResourceType.class);
+        for (ResourceType resourceType : resourceTypes) {
+            futures.put(resourceType, executorService.submit(() -> loaderClient.getResources(networkUuid, EnumSet.of(resourceType))));
+        }
+        // calculated bus topologies are preloaded with voltage levels
+        Future<Map<String, CalculatedBusTopologyAttributes>> calculatedBusTopologiesFuture = resourceTypes.contains(ResourceType.VOLTAGE_LEVEL)
+                ? executorService.submit(() -> loaderClient.getCalculatedBusTopologies(networkUuid))
+                : null;
+        Optional<Resource<NetworkAttributes>> network;
+        try {
+            network = delegate.getNetwork(networkUuid);
+        } catch (RuntimeException e) {
+            futures.values().forEach(future -> future.cancel(true));
+            if (calculatedBusTopologiesFuture != null) {
+                calculatedBusTopologiesFuture.cancel(true);
+            }
+            throw e;
+        }
+
+        // caches are filled only from this thread
+        List<Resource<IdentifiableAttributes>> resources = new ArrayList<>();
+        for (Future<List<Resource<IdentifiableAttributes>>> future : futures.values()) {
+            resources.addAll(getResult(future));
+        }
+        Map<String, CalculatedBusTopologyAttributes> calculatedBusTopologies = calculatedBusTopologiesFuture != null
+                ? getResult(calculatedBusTopologiesFuture)
+                : null;
+        if (network.isPresent()) {
+            cachedClient.loadResources(networkUuid, resourceTypes, resources);
+            if (calculatedBusTopologies != null) {
+                cachedClient.loadCalculatedBusTopologies(networkUuid, calculatedBusTopologies);
+            }
+        } else {
+            preloadedNetworks.remove(networkUuid);
+        }
+
+        stopwatch.stop();
+        LOGGER.info("{} collections of network {} preloaded in {} ms", resourceTypes.size(), networkUuid, stopwatch.elapsed(TimeUnit.MILLISECONDS));
+
+        return network;
+    }
+
+    @Override
+    public void deleteNetwork(UUID networkUuid) {
+        delegate.deleteNetwork(networkUuid);
+        preloadedNetworks.remove(networkUuid);
+    }
+}
@@ -16,68 +16,14 @@ import java.util.*;
  */
 public class PreloadingNetworkStoreClient extends ForwardingNetworkStoreClient implements NetworkStoreClient {
 
+    private static final Set<ResourceType> COLLECTION_RESOURCE_TYPES = EnumSet.complementOf(EnumSet.of(ResourceType.NETWORK));
+
     private final Map<UUID, Set<ResourceType>> cachedResourceTypes = new HashMap<>();
 
     public PreloadingNetworkStoreClient(NetworkStoreClient delegate) {
         super(new CachedNetworkStoreClient(delegate));
     }
 
-    private void loadToCache(ResourceType resourceType, UUID networkUuid) {
-        switch (resourceType) {
-            case NETWORK:
-                delegate.getNetworks();
-                break;
-            case SUBSTATION:
-                delegate.getSubstations(networkUuid);
-                break;
-            case VOLTAGE_LEVEL:
-                delegate.getVoltageLevels(networkUuid);
-                break;
-            case LOAD:
-                delegate.getLoads(networkUuid);
-                break;
-            case GENERATOR:
-                delegate.getGenerators(networkUuid);
-                break;
-            case SHUNT_COMPENSATOR:
-                delegate.getShuntCompensators(networkUuid);
-                break;
-            case VSC_CONVERTER_STATION:
-                delegate.getVscConverterStations(networkUuid);
-                break;
-            case LCC_CONVERTER_STATION:
-                delegate.getLccConverterStations(networkUuid);
-                break;
-            case STATIC_VAR_COMPENSATOR:
-                delegate.getStaticVarCompensators(networkUuid);
-                break;
-            case BUSBAR_SECTION:
-                delegate.getBusbarSections(networkUuid);
-                break;
-            case SWITCH:
-                delegate.getSwitches(networkUuid);
-                break;
-            case TWO_WINDINGS_TRANSFORMER:
-                delegate.getTwoWindingsTransformers(networkUuid);
-                break;
-            case THREE_WINDINGS_TRANSFORMER:
-                delegate.getThreeWindingsTransformers(networkUuid);
-                break;
-            case LINE:
-                delegate.getLines(networkUuid);
-                break;
-            case HVDC_LINE:
-                delegate.getHvdcLines(networkUuid);
-                break;
-            case DANGLING_LINE:
-                delegate.getDanglingLines(networkUuid);
-                break;
-            case CONFIGURED_BUS:
-                delegate.getConfiguredBuses(networkUuid);
-                break;
-        }
-    }
-
     private void ensureCached(ResourceType resourceType, UUID networkUuid) {
         Objects.requireNonNull(resourceType);
         if (resourceType != ResourceType.NETWORK) {
@@ -85,8 +31,14 @@ public class PreloadingNetworkStoreClient extends ForwardingNetworkStoreClient i
         }
         Set<ResourceType> resourceTypes = cachedResourceTypes.computeIfAbsent(networkUuid, k -> EnumSet.noneOf(ResourceType.class));
         if (!resourceTypes.contains(resourceType)) {
-            loadToCache(resourceType, networkUuid);
-            resourceTypes.add(resourceType);
+            if (resourceType == ResourceType.NETWORK) {
+                delegate.getNetworks();
+                resourceTypes.add(resourceType);
+            } else {
+                // all collections of the network are loaded to the cache with only one request
+                delegate.getResources(networkUuid, COLLECTION_RESOURCE_TYPES);
+                resourceTypes.addAll(COLLECTION_RESOURCE_TYPES);
+            }
         }
     }
 
@@ -114,6 +66,19 @@ public class PreloadingNetworkStoreClient extends ForwardingNetworkStoreClient i
         cachedResourceTypes.remove(networkUuid);
     }
 
+    @Override
+    public Optional<Resource<IdentifiableAttributes>> getIdentifiable(UUID networkUuid, String id) {
+        // any collection resource type can be used as all collections are loaded together
+        ensureCached(ResourceType.SUBSTATION, networkUuid);
+        return delegate.getIdentifiable(networkUuid, id);
+    }
+
+    @Override
+    public List<Resource<IdentifiableAttributes>> getVoltageLevelResources(UUID networkUuid, String voltageLevelId, Set<ResourceType> resourceTypes) {
+        ensureCached(ResourceType.SUBSTATION, networkUuid);
+        return delegate.getVoltageLevelResources(networkUuid, voltageLevelId, resourceTypes);
+    }
+
     @Override
     public void createSubstations(UUID networkUuid, List<Resource<SubstationAttributes>> substationResources) {
         ensureCached(ResourceType.SUBSTATION, networkUuid);
@@ -168,6 +133,19 @@ public class PreloadingNetworkStoreClient extends ForwardingNetworkStoreClient i
         return delegate.getVoltageLevelCount(networkUuid);
     }
 
+    @Override
+    public Optional<CalculatedBusTopologyAttributes> getVoltageLevelCalculatedBusTopology(UUID networkUuid, String voltageLevelId) {
+        // calculated bus topologies of all the voltage levels are loaded with only one request on first use
+        ensureCached(ResourceType.VOLTAGE_LEVEL, networkUuid);
+        return Optional.ofNullable(delegate.getCalculatedBusTopologies(networkUuid).get(voltageLevelId));
+    }
+
+    @Override
+    public Map<String, CalculatedBusTopologyAttributes> getCalculatedBusTopologies(UUID networkUuid) {
+        ensureCached(ResourceType.VOLTAGE_LEVEL, networkUuid);
+        return delegate.getCalculatedBusTopologies(networkUuid);
+    }
+
     @Override
     public List<Resource<BusbarSectionAttributes>> getVoltageLevelBusbarSections(UUID networkUuid, String voltageLevelId) {
         ensureCached(ResourceType.BUSBAR_SECTION, networkUuid);
@@ -656,6 +634,12 @@ public class PreloadingNetworkStoreClient extends ForwardingNetworkStoreClient i
         return delegate.getConfiguredBus(networkUuid, busId);
     }
 
+    @Override
+    public int getConfiguredBusCount(UUID networkUuid) {
+        ensureCached(ResourceType.CONFIGURED_BUS, networkUuid);
+        return delegate.getConfiguredBusCount(networkUuid);
+    }
+
     @Override
     public void updateConfiguredBus(UUID networkUuid, Resource<ConfiguredBusAttributes> busesResource) {
         ensureCached(ResourceType.CONFIGURED_BUS, networkUuid);
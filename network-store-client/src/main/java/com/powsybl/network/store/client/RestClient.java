@@ -7,8 +7,11 @@
 package com.powsybl.network.store.client;
 
 import com.powsybl.commons.PowsyblException;
+import com.powsybl.network.store.model.CalculatedBusTopologyAttributes;
 import com.powsybl.network.store.model.IdentifiableAttributes;
+import com.powsybl.network.store.model.NetworkDeletionStatus;
 import com.powsybl.network.store.model.Resource;
+import com.powsybl.network.store.model.StateVariables;
 import com.powsybl.network.store.model.TopLevelDocument;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
@@ -23,14 +26,31 @@ public class RestClient {
 
     private final RestTemplate restTemplate;
 
+    private final WireFormat wireFormat;
+
     public RestClient(RestTemplate restTemplate) {
+        this(restTemplate, WireFormat.JSON);
+    }
+
+    public RestClient(RestTemplate restTemplate, WireFormat wireFormat) {
         this.restTemplate = Objects.requireNonNull(restTemplate);
+        this.wireFormat = Objects.requireNonNull(wireFormat);
+    }
+
+    // request and response bodies are encoded using the configured wire format
+    private <B> HttpEntity<B> createEntity(B body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(Collections.singletonList(wireFormat.getMediaType()));
+        if (body != null) {
+            headers.setContentType(wireFormat.getMediaType());
+        }
+        return new HttpEntity<>(body, headers);
     }
 
     private <T extends IdentifiableAttributes> ResponseEntity<TopLevelDocument<T>> getDocument(String url, Object... uriVariables) {
         return restTemplate.exchange(url,
                 HttpMethod.GET,
-                new HttpEntity<>(new HttpHeaders()),
+                createEntity(null),
                 new ParameterizedTypeReference<>() {
                 },
                 uriVariables);
@@ -44,7 +64,7 @@ public class RestClient {
     }
 
     public <T extends IdentifiableAttributes> void create(String url, List<Resource<T>> resources, Object... uriVariables) {
-        restTemplate.postForObject(url, resources, Void.class, uriVariables);
+        restTemplate.postForObject(url, createEntity(resources), Void.class, uriVariables);
     }
 
     public void delete(String url, Object... uriVariables) {
@@ -70,19 +90,57 @@ public class RestClient {
         return getBody(response).getData();
     }
 
-    public <T extends IdentifiableAttributes> int getTotalCount(String target, String url, Object... uriVariables) {
-        ResponseEntity<TopLevelDocument<T>> response = getDocument(url, uriVariables);
-        if (response.getStatusCode() != HttpStatus.OK) {
-            throw new PowsyblException("Fail to get " + target + " empty list, status: " + response.getStatusCode());
+    // for bodies which are not resources
+    private <T> Optional<T> getObject(String target, Class<T> type, String url, Object... uriVariables) {
+        ResponseEntity<T> response = restTemplate.exchange(url,
+                HttpMethod.GET,
+                createEntity(null),
+                type,
+                uriVariables);
+        if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
+            return Optional.of(response.getBody());
+        } else if (response.getStatusCode() == HttpStatus.NOT_FOUND) {
+            return Optional.empty();
+        } else {
+            throw new PowsyblException("Fail to get " + target + ", status: " + response.getStatusCode());
+        }
+    }
+
+    public int getResourceCount(String url, Object... uriVariables) {
+        return getObject("resource count", Integer.class, url, uriVariables)
+                .orElseThrow(() -> new PowsyblException("Resource count not found"));
+    }
+
+    public Optional<NetworkDeletionStatus> getNetworkDeletionStatus(String url, Object... uriVariables) {
+        return getObject("network deletion status", NetworkDeletionStatus.class, url, uriVariables);
+    }
+
+    public Optional<CalculatedBusTopologyAttributes> getCalculatedBusTopology(String url, Object... uriVariables) {
+        return getObject("calculated bus topology", CalculatedBusTopologyAttributes.class, url, uriVariables);
+    }
+
+    public Map<String, CalculatedBusTopologyAttributes> getCalculatedBusTopologies(String url, Object... uriVariables) {
+        ResponseEntity<Map<String, CalculatedBusTopologyAttributes>> response = restTemplate.exchange(url,
+                HttpMethod.GET,
+                createEntity(null),
+                new ParameterizedTypeReference<>() {
+                },
+                uriVariables);
+        if (response.getStatusCode() != HttpStatus.OK || response.getBody() == null) {
+            throw new PowsyblException("Fail to get calculated bus topologies, status: " + response.getStatusCode());
         }
-        return Integer.parseInt(getBody(response).getMeta().get("totalCount"));
+        return response.getBody();
     }
 
     public <T extends IdentifiableAttributes> void update(String url, Resource<T> resource, Object... uriVariables) {
-        restTemplate.put(url, resource, uriVariables);
+        restTemplate.put(url, createEntity(resource), uriVariables);
     }
 
     public <T extends IdentifiableAttributes> void updateAll(String url, List<Resource<T>> resources, Object... uriVariables) {
-        restTemplate.put(url, resources, uriVariables);
+        restTemplate.put(url, createEntity(resources), uriVariables);
+    }
+
+    public void updateStateVariables(String url, List<StateVariables> stateVariables, Object... uriVariables) {
+        restTemplate.put(url, createEntity(stateVariables), uriVariables);
     }
 }
@@ -20,10 +20,14 @@ import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
@@ -39,7 +43,11 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
     private ResourceUpdater resourceUpdater;
 
     public RestNetworkStoreClient(RestTemplateBuilder restTemplateBuilder) {
-        restClient = new RestClient(restTemplateBuilder.errorHandler(new RestTemplateResponseErrorHandler()).build());
+        this(restTemplateBuilder, WireFormat.JSON);
+    }
+
+    public RestNetworkStoreClient(RestTemplateBuilder restTemplateBuilder, WireFormat wireFormat) {
+        restClient = new RestClient(restTemplateBuilder.errorHandler(new RestTemplateResponseErrorHandler()).build(), wireFormat);
         resourceUpdater = new ResourceUpdaterImpl(this);
     }
 
@@ -66,6 +74,16 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
             }
             stopwatch.stop();
             LOGGER.info("{} {} resources created in {} ms", resourcePartition.size(), target, stopwatch.elapsed(TimeUnit.MILLISECONDS));
+            trackUpdatedAttributes(resourcePartition);
+        }
+    }
+
+    // once resources are synchronized with the server, only the attributes updated afterwards will have to be saved
+    private static <T extends IdentifiableAttributes> void trackUpdatedAttributes(List<Resource<T>> resources) {
+        for (Resource<T> resource : resources) {
+            if (resource.getAttributes() instanceof AbstractAttributes) {
+                resource.trackUpdatedAttributes();
+            }
         }
     }
 
@@ -76,6 +94,7 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
             T spiedAttributes = AttributesSpyer.spy(resource.getAttributes(), resource.getType());
             resource.setAttributes(spiedAttributes);
             spiedAttributes.setResource(resource);
+            resource.trackUpdatedAttributes();
         } else {
             resource.getAttributes().setResource(resource);
         }
@@ -125,12 +144,10 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         return resource;
     }
 
-    private int getTotalCount(String target, String url, Object... uriVariables) {
-        if (LOGGER.isInfoEnabled()) {
-            LOGGER.info("Loading {} resource count {}", target, UriComponentsBuilder.fromUriString(url).buildAndExpand(uriVariables));
-        }
+    private int getResourceCount(String target, ResourceType resourceType, UUID networkUuid) {
+        LOGGER.info("Loading {} resource count of network {}", target, networkUuid);
         Stopwatch stopwatch = Stopwatch.createStarted();
-        int count = restClient.getTotalCount(target, url, uriVariables);
+        int count = restClient.getResourceCount("/networks/{networkUuid}/counts/{resourceType}", networkUuid, resourceType);
         stopwatch.stop();
         LOGGER.info("{} resource count loaded in {} ms", target, stopwatch.elapsed(TimeUnit.MILLISECONDS));
         return count;
@@ -152,6 +169,7 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
             }
             stopwatch.stop();
             LOGGER.info("{} {} resources updated in {} ms", resourcePartition.size(), target, stopwatch.elapsed(TimeUnit.MILLISECONDS));
+            trackUpdatedAttributes(resourcePartition);
         }
     }
 
@@ -179,11 +197,38 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         restClient.delete("/networks/{networkUuid}", networkUuid);
     }
 
+    public Optional<NetworkDeletionStatus> getNetworkDeletionStatus(UUID networkUuid) {
+        return restClient.getNetworkDeletionStatus("/networks/{networkUuid}/deletion", networkUuid);
+    }
+
     @Override
     public void updateNetwork(UUID networkUuid, Resource<NetworkAttributes> networkResource) {
         updateAll("network", "/networks/{networkUuid}", Collections.singletonList(networkResource), networkUuid);
     }
 
+    @Override
+    public List<Resource<IdentifiableAttributes>> getResources(UUID networkUuid, Set<ResourceType> resourceTypes) {
+        if (resourceTypes.containsAll(EnumSet.complementOf(EnumSet.of(ResourceType.NETWORK)))) {
+            return getAll("resources", "/networks/{networkUuid}/all", networkUuid);
+        }
+        String types = resourceTypes.stream().map(ResourceType::name).collect(Collectors.joining(","));
+        return getAll("resources", "/networks/{networkUuid}/all?types={types}", networkUuid, types);
+    }
+
+    @Override
+    public List<Resource<IdentifiableAttributes>> getVoltageLevelResources(UUID networkUuid, String voltageLevelId, Set<ResourceType> resourceTypes) {
+        if (resourceTypes.equals(ResourceType.VOLTAGE_LEVEL_RESOURCE_TYPES)) {
+            return getAll("resources", "/networks/{networkUuid}/voltage-levels/{voltageLevelId}/equipments", networkUuid, voltageLevelId);
+        }
+        String types = resourceTypes.stream().map(ResourceType::name).collect(Collectors.joining(","));
+        return getAll("resources", "/networks/{networkUuid}/voltage-levels/{voltageLevelId}/equipments?types={types}", networkUuid, voltageLevelId, types);
+    }
+
+    @Override
+    public Optional<Resource<IdentifiableAttributes>> getIdentifiable(UUID networkUuid, String id) {
+        return get("identifiable", "/networks/{networkUuid}/identifiables/{id}", networkUuid, id);
+    }
+
     // substation
 
     @Override
@@ -203,7 +248,7 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
 
     @Override
     public int getSubstationCount(UUID networkUuid) {
-        return getTotalCount("substation", "/networks/{networkUuid}/substations?limit=0", networkUuid);
+        return getResourceCount("substation", ResourceType.SUBSTATION, networkUuid);
     }
 
     // voltage level
@@ -230,7 +275,7 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
 
     @Override
     public int getVoltageLevelCount(UUID networkUuid) {
-        return getTotalCount("voltage level", "/networks/{networkUuid}/voltage-levels?limit=0", networkUuid);
+        return getResourceCount("voltage level", ResourceType.VOLTAGE_LEVEL, networkUuid);
     }
 
     @Override
@@ -243,6 +288,16 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         updateVoltageLevels(networkUuid, Collections.singletonList(voltageLevelResource));
     }
 
+    @Override
+    public Optional<CalculatedBusTopologyAttributes> getVoltageLevelCalculatedBusTopology(UUID networkUuid, String voltageLevelId) {
+        return restClient.getCalculatedBusTopology("/networks/{networkUuid}/voltage-levels/{voltageLevelId}/calculated-bus-topology", networkUuid, voltageLevelId);
+    }
+
+    @Override
+    public Map<String, CalculatedBusTopologyAttributes> getCalculatedBusTopologies(UUID networkUuid) {
+        return restClient.getCalculatedBusTopologies("/networks/{networkUuid}/calculated-bus-topologies", networkUuid);
+    }
+
     @Override
     public List<Resource<BusbarSectionAttributes>> getVoltageLevelBusbarSections(UUID networkUuid, String voltageLevelId) {
         return getAll("busbar section", "/networks/{networkUuid}/voltage-levels/{voltageLevelId}/busbar-sections", networkUuid, voltageLevelId);
@@ -322,7 +377,7 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
 
     @Override
     public int getSwitchCount(UUID networkUuid) {
-        return getTotalCount("switch", "/networks/{networkUuid}/switches?limit=0", networkUuid);
+        return getResourceCount("switch", ResourceType.SWITCH, networkUuid);
     }
 
     @Override
@@ -354,7 +409,7 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
 
     @Override
     public int getBusbarSectionCount(UUID networkUuid) {
-        return getTotalCount("busbar section", "/networks/{networkUuid}/busbar-sections?limit=0", networkUuid);
+        return getResourceCount("busbar section", ResourceType.BUSBAR_SECTION, networkUuid);
     }
 
     // load
@@ -376,7 +431,7 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
 
     @Override
     public int getLoadCount(UUID networkUuid) {
-        return getTotalCount("load", "/networks/{networkUuid}/loads?limit=0", networkUuid);
+        return getResourceCount("load", ResourceType.LOAD, networkUuid);
     }
 
     @Override
@@ -408,7 +463,7 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
 
     @Override
     public int getGeneratorCount(UUID networkUuid) {
-        return getTotalCount("generator", "/networks/{networkUuid}/generators?limit=0", networkUuid);
+        return getResourceCount("generator", ResourceType.GENERATOR, networkUuid);
     }
 
     @Override
@@ -450,7 +505,7 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
 
     @Override
     public int getTwoWindingsTransformerCount(UUID networkUuid) {
-        return getTotalCount("2 windings transformer", "/networks/{networkUuid}/2-windings-transformers?limit=0", networkUuid);
+        return getResourceCount("2 windings transformer", ResourceType.TWO_WINDINGS_TRANSFORMER, networkUuid);
     }
 
     // 3 windings transformer
@@ -472,7 +527,7 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
 
     @Override
     public int getThreeWindingsTransformerCount(UUID networkUuid) {
-        return getTotalCount("3 windings transformer", "/networks/{networkUuid}/3-windings-transformers?limit=0", networkUuid);
+        return getResourceCount("3 windings transformer", ResourceType.THREE_WINDINGS_TRANSFORMER, networkUuid);
     }
 
     @Override
@@ -514,7 +569,7 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
 
     @Override
     public int getLineCount(UUID networkUuid) {
-        return getTotalCount("line", "/networks/{networkUuid}/lines?limit=0", networkUuid);
+        return getResourceCount("line", ResourceType.LINE, networkUuid);
     }
 
     // shunt compensator
@@ -536,7 +591,7 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
 
     @Override
     public int getShuntCompensatorCount(UUID networkUuid) {
-        return getTotalCount("shunt compensator", "/networks/{networkUuid}/shunt-compensators?limit=0", networkUuid);
+        return getResourceCount("shunt compensator", ResourceType.SHUNT_COMPENSATOR, networkUuid);
     }
 
     @Override
@@ -568,7 +623,7 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
 
     @Override
     public int getVscConverterStationCount(UUID networkUuid) {
-        return getTotalCount("VSC converter station", "/networks/{networkUuid}/vsc-converter-stations?limit=0", networkUuid);
+        return getResourceCount("VSC converter station", ResourceType.VSC_CONVERTER_STATION, networkUuid);
     }
 
     @Override
@@ -600,7 +655,7 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
 
     @Override
     public int getLccConverterStationCount(UUID networkUuid) {
-        return getTotalCount("LCC converter station", "/networks/{networkUuid}/lcc-converter-stations?limit=0", networkUuid);
+        return getResourceCount("LCC converter station", ResourceType.LCC_CONVERTER_STATION, networkUuid);
     }
 
     @Override
@@ -632,7 +687,7 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
 
     @Override
     public int getStaticVarCompensatorCount(UUID networkUuid) {
-        return getTotalCount("static var compensator", "/networks/{networkUuid}/static-var-compensators?limit=0", networkUuid);
+        return getResourceCount("static var compensator", ResourceType.STATIC_VAR_COMPENSATOR, networkUuid);
     }
 
     @Override
@@ -664,7 +719,7 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
 
     @Override
     public int getHvdcLineCount(UUID networkUuid) {
-        return getTotalCount("hvdc line", "/networks/{networkUuid}/hvdc-lines?limit=0", networkUuid);
+        return getResourceCount("hvdc line", ResourceType.HVDC_LINE, networkUuid);
     }
 
     @Override
@@ -696,7 +751,7 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
 
     @Override
     public int getDanglingLineCount(UUID networkUuid) {
-        return getTotalCount("dangling line", "/networks/{networkUuid}/dangling-lines?limit=0", networkUuid);
+        return getResourceCount("dangling line", ResourceType.DANGLING_LINE, networkUuid);
     }
 
     @Override
@@ -741,6 +796,11 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         return get("bus", "/networks/{networkUuid}/configured-buses/{busId}", networkUuid, busId);
     }
 
+    @Override
+    public int getConfiguredBusCount(UUID networkUuid) {
+        return getResourceCount("bus", ResourceType.CONFIGURED_BUS, networkUuid);
+    }
+
     @Override
     public void updateConfiguredBuses(UUID networkUuid, List<Resource<ConfiguredBusAttributes>> busesResources) {
         updateAll("bus", "/networks/{networkUuid}/configured-buses", busesResources, networkUuid);
@@ -751,6 +811,18 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         updateConfiguredBuses(networkUuid, Collections.singletonList(resource));
     }
 
+    // state variables
+
+    @Override
+    public void updateStateVariables(UUID networkUuid, List<StateVariables> stateVariables) {
+        int count = stateVariables.stream().mapToInt(sv -> sv.getIds().size()).sum();
+        LOGGER.info("Updating state variables of {} resources (/networks/{}/state-variables)...", count, networkUuid);
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        restClient.updateStateVariables("/networks/{networkUuid}/state-variables", stateVariables, networkUuid);
+        stopwatch.stop();
+        LOGGER.info("State variables of {} resources updated in {} ms", count, stopwatch.elapsed(TimeUnit.MILLISECONDS));
+    }
+
     @Override
     public void flush() {
         // nothing to do
@@ -0,0 +1,33 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import com.powsybl.network.store.model.NetworkStoreApi;
+import org.springframework.http.MediaType;
+
+/**
+ * Encoding of resources exchanged with the network store server.
+ *
+ * @author agent <agent at local>
+ */
+public enum WireFormat {
+    JSON(MediaType.APPLICATION_JSON),
+    /**
+     * Binary JSON, more compact and faster to parse than JSON text.
+     */
+    SMILE(MediaType.valueOf(NetworkStoreApi.APPLICATION_SMILE_VALUE));
+
+    private final MediaType mediaType;
+
+    WireFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+}
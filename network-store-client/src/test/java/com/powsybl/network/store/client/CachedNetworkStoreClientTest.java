@@ -8,7 +8,10 @@ package com.powsybl.network.store.client;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.powsybl.iidm.network.SwitchKind;
+import com.powsybl.iidm.network.TopologyKind;
 import com.powsybl.network.store.iidm.impl.ResourceUpdaterImpl;
 import com.powsybl.network.store.model.*;
 import org.junit.Before;
@@ -23,13 +26,19 @@ import org.springframework.test.web.client.ExpectedCount;
 import org.springframework.test.web.client.MockRestServiceServer;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
+import static org.hamcrest.Matchers.contains;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.springframework.http.HttpMethod.GET;
 import static org.springframework.http.HttpMethod.PUT;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.jsonPath;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
@@ -54,6 +63,11 @@ public class CachedNetworkStoreClientTest {
 
     private ResourceUpdater resourceUpdater;
 
+    // the voltage level itself is read with its equipments for its calculated bus topology
+    private static final String VOLTAGE_LEVEL_WITH_EQUIPMENTS_TYPES = "VOLTAGE_LEVEL,LOAD,GENERATOR,SHUNT_COMPENSATOR,VSC_CONVERTER_STATION,"
+            + "LCC_CONVERTER_STATION,STATIC_VAR_COMPENSATOR,BUSBAR_SECTION,SWITCH,TWO_WINDINGS_TRANSFORMER,THREE_WINDINGS_TRANSFORMER,"
+            + "LINE,DANGLING_LINE,CONFIGURED_BUS";
+
     @Before
     public void setUp() throws IOException {
         resourceUpdater = new ResourceUpdaterImpl(restStoreClient);
@@ -183,11 +197,11 @@ public class CachedNetworkStoreClientTest {
                 .build();
 
         String linesV1Json = objectMapper.writeValueAsString(TopLevelDocument.of(ImmutableList.of(l1, l2)));
-        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/voltage-levels/VL_1/lines"))
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/voltage-levels/VL_1/equipments?types=" + VOLTAGE_LEVEL_WITH_EQUIPMENTS_TYPES))
                 .andExpect(method(GET))
                 .andRespond(withSuccess(linesV1Json, MediaType.APPLICATION_JSON));
 
-        // First time lines retrieval by voltage level
+        // First time lines retrieval by voltage level, all the resources of the voltage level are retrieved
         List<Resource<LineAttributes>> lineAttributesResources = cachedClient.getVoltageLevelLines(networkUuid, "VL_1");
         assertEquals(2, lineAttributesResources.size());
 
@@ -195,6 +209,10 @@ public class CachedNetworkStoreClientTest {
         lineAttributesResources = cachedClient.getVoltageLevelLines(networkUuid, "VL_1");
         assertEquals(2, lineAttributesResources.size());
 
+        // Other resources of the voltage level have been loaded by the same request
+        assertTrue(cachedClient.getVoltageLevelGenerators(networkUuid, "VL_1").isEmpty());
+        assertTrue(cachedClient.getVoltageLevelSwitches(networkUuid, "VL_1").isEmpty());
+
         server.verify();
 
         server.reset();
@@ -232,6 +250,60 @@ public class CachedNetworkStoreClientTest {
         server.verify();
     }
 
+    @Test
+    public void testCalculatedBusTopologyCache() throws IOException {
+        CachedNetworkStoreClient cachedClient = new CachedNetworkStoreClient(new BufferedNetworkStoreClient(restStoreClient));
+        UUID networkUuid = UUID.fromString("7928181c-7977-4592-ba19-88027e4254e4");
+
+        Resource<VoltageLevelAttributes> vl1 = Resource.voltageLevelBuilder()
+                .id("VL_1")
+                .attributes(VoltageLevelAttributes.builder()
+                        .substationId("S_1")
+                        .topologyKind(TopologyKind.NODE_BREAKER)
+                        .calculatedBuses(Collections.emptyList())
+                        .calculatedBusesValid(true)
+                        .build())
+                .build();
+        Resource<LineAttributes> l1 = Resource.lineBuilder()
+                .id("LINE_1")
+                .attributes(LineAttributes.builder()
+                        .voltageLevelId1("VL_1")
+                        .voltageLevelId2("VL_2")
+                        .build())
+                .build();
+
+        // calculated bus topology of a voltage level is retrieved with the equipments of the voltage level
+        String vl1Json = objectMapper.writeValueAsString(ImmutableMap.of("data", ImmutableList.of(vl1, l1)));
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/voltage-levels/VL_1/equipments?types=" + VOLTAGE_LEVEL_WITH_EQUIPMENTS_TYPES))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(vl1Json, MediaType.APPLICATION_JSON));
+
+        CalculatedBusTopologyAttributes calculatedBusTopology = cachedClient.getVoltageLevelCalculatedBusTopology(networkUuid, "VL_1").orElse(null);
+        assertNotNull(calculatedBusTopology);
+        assertTrue(calculatedBusTopology.isCalculatedBusesValid());
+        assertEquals(1, cachedClient.getVoltageLevelLines(networkUuid, "VL_1").size());
+        assertTrue(cachedClient.getVoltageLevelCalculatedBusTopology(networkUuid, "VL_1").isPresent());
+
+        server.verify();
+
+        server.reset();
+
+        // calculated bus topologies of all the voltage levels with only one request
+        String topologiesJson = objectMapper.writeValueAsString(ImmutableMap.of("VL_2", CalculatedBusTopologyAttributes.builder()
+                .calculatedBuses(Collections.emptyList())
+                .calculatedBusesValid(true)
+                .build()));
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/calculated-bus-topologies"))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(topologiesJson, MediaType.APPLICATION_JSON));
+
+        assertEquals(ImmutableSet.of("VL_1", "VL_2"), cachedClient.getCalculatedBusTopologies(networkUuid).keySet());
+        assertTrue(cachedClient.getVoltageLevelCalculatedBusTopology(networkUuid, "VL_2").isPresent());
+        assertFalse(cachedClient.getVoltageLevelCalculatedBusTopology(networkUuid, "VL_3").isPresent());
+
+        server.verify();
+    }
+
     @Test
     public void testAllLinesCache() throws IOException {
         CachedNetworkStoreClient cachedClient = new CachedNetworkStoreClient(new BufferedNetworkStoreClient(restStoreClient));
@@ -356,10 +428,93 @@ public class CachedNetworkStoreClientTest {
         server.verify();
         server.reset();
 
+        // only the switch state has to be updated
         server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/switches"))
                 .andExpect(method(PUT))
+                .andExpect(jsonPath("$[0].updatedAttributes", contains("open")))
                 .andRespond(withSuccess());
 
         cachedClient.flush();
     }
+
+    @Test
+    public void testIdentifiableCache() throws IOException {
+        CachedNetworkStoreClient cachedClient = new CachedNetworkStoreClient(new BufferedNetworkStoreClient(restStoreClient));
+        UUID networkUuid = UUID.fromString("7928181c-7977-4592-ba19-88027e4254e4");
+
+        Resource<SwitchAttributes> breaker = Resource.switchBuilder(networkUuid, resourceUpdater)
+                .id("b1")
+                .attributes(SwitchAttributes.builder()
+                        .voltageLevelId("vl1")
+                        .kind(SwitchKind.BREAKER)
+                        .node1(1)
+                        .node2(2)
+                        .open(false)
+                        .retained(false)
+                        .fictitious(false)
+                        .build())
+                .build();
+
+        String breakersJson = objectMapper.writeValueAsString(TopLevelDocument.of(ImmutableList.of(breaker)));
+
+        // identifiable of unknown type is retrieved with only one request and then added to the switch cache
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/identifiables/b1"))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(breakersJson, MediaType.APPLICATION_JSON));
+        server.expect(ExpectedCount.never(), requestTo("/networks/" + networkUuid + "/switches/b1"));
+
+        Resource<IdentifiableAttributes> identifiableResource = cachedClient.getIdentifiable(networkUuid, "b1").orElse(null);
+        assertNotNull(identifiableResource);
+        assertEquals(ResourceType.SWITCH, identifiableResource.getType());
+
+        Resource<SwitchAttributes> switchAttributesResource = cachedClient.getSwitch(networkUuid, "b1").orElse(null);
+        assertNotNull(switchAttributesResource);
+        assertSame(identifiableResource, switchAttributesResource);
+
+        identifiableResource = cachedClient.getIdentifiable(networkUuid, "b1").orElse(null);
+        assertSame(switchAttributesResource, identifiableResource);
+
+        server.verify();
+    }
+
+    @Test
+    public void testStateVariablesUpdate() throws IOException {
+        CachedNetworkStoreClient cachedClient = new CachedNetworkStoreClient(new BufferedNetworkStoreClient(restStoreClient));
+        UUID networkUuid = UUID.fromString("7928181c-7977-4592-ba19-88027e4254e4");
+
+        Resource<GeneratorAttributes> generator = Resource.generatorBuilder(networkUuid, resourceUpdater)
+                .id("g1")
+                .attributes(GeneratorAttributes.builder()
+                        .voltageLevelId("vl1")
+                        .name("g1")
+                        .p(200)
+                        .build())
+                .build();
+
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/generators/g1"))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(objectMapper.writeValueAsString(TopLevelDocument.of(ImmutableList.of(generator))), MediaType.APPLICATION_JSON));
+
+        Resource<GeneratorAttributes> generatorResource = cachedClient.getGenerator(networkUuid, "g1").orElseThrow(AssertionError::new);
+        generatorResource.getAttributes().setP(210);
+        generatorResource.getAttributes().setQ(30);
+
+        server.verify();
+        server.reset();
+
+        // only state variables have been updated, so they are sent in the compact columnar format
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/state-variables"))
+                .andExpect(method(PUT))
+                .andExpect(jsonPath("$[0].type").value("GENERATOR"))
+                .andExpect(jsonPath("$[0].ids", contains("g1")))
+                .andExpect(jsonPath("$[0].voltageLevelIds", contains("vl1")))
+                .andExpect(jsonPath("$[0].values.p", contains(210.)))
+                .andExpect(jsonPath("$[0].values.q", contains(30.)))
+                .andRespond(withSuccess());
+
+        cachedClient.flush();
+
+        server.verify();
+        assertTrue(generatorResource.getUpdatedAttributes().isEmpty());
+    }
 }
@@ -12,10 +12,18 @@ import com.powsybl.network.store.model.Resource;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -181,6 +189,35 @@ public class CollectionCacheTest {
         assertTrue(allLoaderCalled);
     }
 
+    @Test
+    public void getResourceCountWithCountLoaderTest() {
+        CollectionCache<LoadAttributes> otherCollectionCache = new CollectionCache<>(oneLoader, containerLoader, allLoader, () -> 3);
+        assertEquals(3, otherCollectionCache.getResourceCount());
+        assertFalse(allLoaderCalled);
+        otherCollectionCache.createResources(Collections.singletonList(l4));
+        assertEquals(4, otherCollectionCache.getResourceCount());
+        otherCollectionCache.removeResource("l4");
+        assertEquals(3, otherCollectionCache.getResourceCount());
+        // removing again a resource does not change the count
+        otherCollectionCache.removeResource("l4");
+        assertEquals(3, otherCollectionCache.getResourceCount());
+        assertFalse(oneLoaderCalled);
+        assertFalse(containerLoaderCalled);
+        assertFalse(allLoaderCalled);
+
+        // removing a resource which is not in the cache makes the count unknown, so the collection is fully loaded
+        otherCollectionCache.removeResource("l5");
+        assertEquals(3, otherCollectionCache.getResourceCount());
+        assertTrue(allLoaderCalled);
+        allLoaderCalled = false;
+
+        // server count cannot be used after a local modification
+        CollectionCache<LoadAttributes> otherCollectionCache2 = new CollectionCache<>(oneLoader, containerLoader, allLoader, () -> 3);
+        otherCollectionCache2.createResources(Collections.singletonList(l4));
+        assertEquals(4, otherCollectionCache2.getResourceCount());
+        assertTrue(allLoaderCalled);
+    }
+
     @Test
     public void createResourceTest() {
         assertFalse(oneLoaderCalled);
@@ -307,4 +344,99 @@ public class CollectionCacheTest {
         assertTrue(containerLoaderCalled);
         assertFalse(allLoaderCalled);
     }
+
+    @Test
+    public void loadContainerResourcesTest() {
+        collectionCache.loadContainerResources("vl2", Collections.singletonList(l3));
+        assertEquals(Collections.singletonList(l3), collectionCache.getContainerResources("vl2"));
+        assertEquals(l3, collectionCache.getResource("l3").orElse(null));
+        assertFalse(oneLoaderCalled);
+        assertFalse(containerLoaderCalled);
+        assertFalse(allLoaderCalled);
+
+        // an already loaded container is not modified
+        collectionCache.loadContainerResources("vl2", Arrays.asList(l3, l4));
+        assertEquals(Collections.singletonList(l3), collectionCache.getContainerResources("vl2"));
+        assertFalse(collectionCache.getCachedResource("l4").isPresent());
+    }
+
+    @Test
+    public void concurrentLoadingTest() throws Exception {
+        AtomicInteger containerLoadCount = new AtomicInteger();
+        AtomicInteger allLoadCount = new AtomicInteger();
+        CollectionCache<LoadAttributes> concurrentCollectionCache = new CollectionCache<>(
+            oneLoader,
+            containerId -> {
+                containerLoadCount.incrementAndGet();
+                return containerLoader.apply(containerId);
+            },
+            () -> {
+                allLoadCount.incrementAndGet();
+                return allLoader.get();
+            });
+
+        int threadCount = 8;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        try {
+            CountDownLatch startLatch = new CountDownLatch(1);
+            List<Future<List<Resource<LoadAttributes>>>> futures = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                futures.add(executorService.submit(() -> {
+                    startLatch.await();
+                    return concurrentCollectionCache.getContainerResources("vl1");
+                }));
+            }
+            startLatch.countDown();
+            for (Future<List<Resource<LoadAttributes>>> future : futures) {
+                assertEquals(Arrays.asList(l1, l2), future.get());
+            }
+            assertEquals(1, containerLoadCount.get());
+
+            futures.clear();
+            for (int i = 0; i < threadCount; i++) {
+                futures.add(executorService.submit(concurrentCollectionCache::getResources));
+            }
+            for (Future<List<Resource<LoadAttributes>>> future : futures) {
+                assertEquals(3, future.get().size());
+            }
+            assertEquals(1, allLoadCount.get());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void initContainerDuringLoadingTest() throws Exception {
+        CountDownLatch loadingStarted = new CountDownLatch(1);
+        CountDownLatch loadingReleased = new CountDownLatch(1);
+        CollectionCache<LoadAttributes> concurrentCollectionCache = new CollectionCache<>(
+            oneLoader,
+            containerId -> {
+                loadingStarted.countDown();
+                try {
+                    loadingReleased.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return containerLoader.apply(containerId);
+            },
+            allLoader);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<List<Resource<LoadAttributes>>> loader = executorService.submit(() -> concurrentCollectionCache.getContainerResources("vl1"));
+            loadingStarted.await();
+
+            // the loading in progress must not be completed by another thread
+            concurrentCollectionCache.initContainer("vl1");
+            Future<List<Resource<LoadAttributes>>> waiter = executorService.submit(() -> concurrentCollectionCache.getContainerResources("vl1"));
+            assertThrows(TimeoutException.class, () -> waiter.get(200, TimeUnit.MILLISECONDS));
+
+            loadingReleased.countDown();
+            assertEquals(Arrays.asList(l1, l2), loader.get());
+            assertEquals(Arrays.asList(l1, l2), waiter.get());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
 }
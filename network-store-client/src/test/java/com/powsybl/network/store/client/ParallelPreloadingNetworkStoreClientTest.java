@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.powsybl.iidm.network.Country;
+import com.powsybl.network.store.model.*;
+import org.joda.time.DateTime;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.client.RestClientTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.springframework.http.HttpMethod.GET;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * @author agent <agent at local>
+ */
+@RunWith(SpringRunner.class)
+@RestClientTest(ParallelPreloadingNetworkStoreClientTest.class)
+@ContextConfiguration(classes = RestNetworkStoreClient.class)
+public class ParallelPreloadingNetworkStoreClientTest {
+
+    @Autowired
+    private RestNetworkStoreClient restStoreClient;
+
+    @Autowired
+    private MockRestServiceServer server;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private ParallelPreloadingNetworkStoreClient cachedClient;
+    private UUID networkUuid;
+
+    @Before
+    public void setUp() {
+        // a direct executor is used so that requests are sent in a predictable order
+        cachedClient = new ParallelPreloadingNetworkStoreClient(new BufferedNetworkStoreClient(restStoreClient),
+                                                                EnumSet.of(ResourceType.SUBSTATION, ResourceType.GENERATOR),
+                                                                MoreExecutors.newDirectExecutorService());
+        networkUuid = UUID.fromString("7928181c-7977-4592-ba19-88027e4254e4");
+    }
+
+    @Test
+    public void testPreloading() throws IOException {
+        Resource<NetworkAttributes> network = Resource.networkBuilder()
+                .id("n1")
+                .attributes(NetworkAttributes.builder()
+                        .uuid(networkUuid)
+                        .caseDate(DateTime.parse("2015-01-01T00:00:00.000Z"))
+                        .build())
+                .build();
+        Resource<SubstationAttributes> substation = Resource.substationBuilder()
+                .id("s1")
+                .attributes(SubstationAttributes.builder()
+                        .country(Country.FR)
+                        .tso("RTE")
+                        .build())
+                .build();
+        Resource<GeneratorAttributes> generator = Resource.generatorBuilder()
+                .id("g1")
+                .attributes(GeneratorAttributes.builder()
+                        .voltageLevelId("vl1")
+                        .name("g1")
+                        .p(200)
+                        .build())
+                .build();
+
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/all?types=SUBSTATION"))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(objectMapper.writeValueAsString(TopLevelDocument.of(ImmutableList.of(substation))), MediaType.APPLICATION_JSON));
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/all?types=GENERATOR"))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(objectMapper.writeValueAsString(TopLevelDocument.of(ImmutableList.of(generator))), MediaType.APPLICATION_JSON));
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid))
+                .andExpect(method(GET))
+                .andRespond(withSuccess(objectMapper.writeValueAsString(TopLevelDocument.of(network)), MediaType.APPLICATION_JSON));
+
+        assertTrue(cachedClient.getNetwork(networkUuid).isPresent());
+
+        // all following retrievals use the cache
+        assertTrue(cachedClient.getNetwork(networkUuid).isPresent());
+        assertTrue(cachedClient.getSubstation(networkUuid, "s1").isPresent());
+        assertEquals(1, cachedClient.getSubstationCount(networkUuid));
+        assertEquals(1, cachedClient.getGenerators(networkUuid).size());
+        assertEquals(200., cachedClient.getGenerator(networkUuid, "g1").orElseThrow(AssertionError::new).getAttributes().getP(), 0.001);
+
+        server.verify();
+    }
+}
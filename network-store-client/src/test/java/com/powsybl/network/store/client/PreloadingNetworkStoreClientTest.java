@@ -79,7 +79,7 @@ public class PreloadingNetworkStoreClientTest {
 
         String breakersJson = objectMapper.writeValueAsString(TopLevelDocument.of(ImmutableList.of(breaker)));
 
-        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/switches"))
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/all"))
                 .andExpect(method(GET))
                 .andRespond(withSuccess(breakersJson, MediaType.APPLICATION_JSON));
 
@@ -112,7 +112,7 @@ public class PreloadingNetworkStoreClientTest {
 
         String generatorsJson = objectMapper.writeValueAsString(TopLevelDocument.of(ImmutableList.of(generator)));
 
-        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/generators"))
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/all"))
                 .andExpect(method(GET))
                 .andRespond(withSuccess(generatorsJson, MediaType.APPLICATION_JSON));
 
@@ -146,7 +146,7 @@ public class PreloadingNetworkStoreClientTest {
 
         String loadsJson = objectMapper.writeValueAsString(TopLevelDocument.of(ImmutableList.of(load)));
 
-        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/loads"))
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/all"))
                 .andExpect(method(GET))
                 .andRespond(withSuccess(loadsJson, MediaType.APPLICATION_JSON));
 
@@ -182,7 +182,7 @@ public class PreloadingNetworkStoreClientTest {
 
         String shuntCompenstorJson = objectMapper.writeValueAsString(TopLevelDocument.of(ImmutableList.of(shuntCompensator)));
 
-        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/shunt-compensators"))
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/all"))
                 .andExpect(method(GET))
                 .andRespond(withSuccess(shuntCompenstorJson, MediaType.APPLICATION_JSON));
 
@@ -216,7 +216,7 @@ public class PreloadingNetworkStoreClientTest {
 
         String staticVarCompenstorJson = objectMapper.writeValueAsString(TopLevelDocument.of(ImmutableList.of(staticVarCompensator)));
 
-        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/static-var-compensators"))
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/all"))
                 .andExpect(method(GET))
                 .andRespond(withSuccess(staticVarCompenstorJson, MediaType.APPLICATION_JSON));
 
@@ -252,7 +252,7 @@ public class PreloadingNetworkStoreClientTest {
 
         String vscConverterStationJson = objectMapper.writeValueAsString(TopLevelDocument.of(ImmutableList.of(vscConverterStation)));
 
-        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/vsc-converter-stations"))
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/all"))
                 .andExpect(method(GET))
                 .andRespond(withSuccess(vscConverterStationJson, MediaType.APPLICATION_JSON));
 
@@ -285,7 +285,7 @@ public class PreloadingNetworkStoreClientTest {
 
         String lccConverterStationJson = objectMapper.writeValueAsString(TopLevelDocument.of(ImmutableList.of(lccConverterStation)));
 
-        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/lcc-converter-stations"))
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/all"))
                 .andExpect(method(GET))
                 .andRespond(withSuccess(lccConverterStationJson, MediaType.APPLICATION_JSON));
 
@@ -319,7 +319,7 @@ public class PreloadingNetworkStoreClientTest {
 
         String twoWindingsTransformerJson = objectMapper.writeValueAsString(TopLevelDocument.of(ImmutableList.of(twoWindingsTransformer)));
 
-        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/2-windings-transformers"))
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/all"))
                 .andExpect(method(GET))
                 .andRespond(withSuccess(twoWindingsTransformerJson, MediaType.APPLICATION_JSON));
 
@@ -366,7 +366,7 @@ public class PreloadingNetworkStoreClientTest {
 
         String threeWindingsTransformerJson = objectMapper.writeValueAsString(TopLevelDocument.of(ImmutableList.of(threeWindingsTransformer)));
 
-        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/3-windings-transformers"))
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/all"))
                 .andExpect(method(GET))
                 .andRespond(withSuccess(threeWindingsTransformerJson, MediaType.APPLICATION_JSON));
 
@@ -403,7 +403,7 @@ public class PreloadingNetworkStoreClientTest {
 
         String linesJson = objectMapper.writeValueAsString(TopLevelDocument.of(ImmutableList.of(line)));
 
-        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/lines"))
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/all"))
                 .andExpect(method(GET))
                 .andRespond(withSuccess(linesJson, MediaType.APPLICATION_JSON));
 
@@ -437,7 +437,7 @@ public class PreloadingNetworkStoreClientTest {
 
         String hvdcLinesJson = objectMapper.writeValueAsString(TopLevelDocument.of(ImmutableList.of(hvdcLine)));
 
-        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/hvdc-lines"))
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/all"))
                 .andExpect(method(GET))
                 .andRespond(withSuccess(hvdcLinesJson, MediaType.APPLICATION_JSON));
 
@@ -470,7 +470,7 @@ public class PreloadingNetworkStoreClientTest {
 
         String danglingLinesJson = objectMapper.writeValueAsString(TopLevelDocument.of(ImmutableList.of(danglingLine)));
 
-        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/dangling-lines"))
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/all"))
                 .andExpect(method(GET))
                 .andRespond(withSuccess(danglingLinesJson, MediaType.APPLICATION_JSON));
 
@@ -503,7 +503,7 @@ public class PreloadingNetworkStoreClientTest {
 
         String configuredBusJson = objectMapper.writeValueAsString(TopLevelDocument.of(ImmutableList.of(configuredBus)));
 
-        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/configured-buses"))
+        server.expect(ExpectedCount.once(), requestTo("/networks/" + networkUuid + "/all"))
                 .andExpect(method(GET))
                 .andRespond(withSuccess(configuredBusJson, MediaType.APPLICATION_JSON));
 
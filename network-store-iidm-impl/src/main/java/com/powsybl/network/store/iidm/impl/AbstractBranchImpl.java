@@ -37,8 +37,8 @@ public abstract class AbstractBranchImpl<T extends Branch<T>, U extends BranchAt
         ConnectablePositionAttributes cpa2 = resource.getAttributes().getPosition2();
         if (cpa1 != null && cpa2 != null) {
             connectablePositionExtension = new ConnectablePositionImpl<>(getBranch(), null,
-                    new ConnectablePositionImpl.FeederImpl(cpa1),
-                    new ConnectablePositionImpl.FeederImpl(cpa2), null);
+                    new ConnectablePositionImpl.FeederImpl(this, "position1", cpa1),
+                    new ConnectablePositionImpl.FeederImpl(this, "position2", cpa2), null);
         }
     }
 
@@ -109,6 +109,7 @@ public abstract class AbstractBranchImpl<T extends Branch<T>, U extends BranchAt
         throw new UnsupportedOperationException("TODO");
     }
 
+    @Override
     public CurrentLimits getCurrentLimits(Branch.Side side) {
         switch (side) {
             case ONE:
@@ -121,11 +122,11 @@ public abstract class AbstractBranchImpl<T extends Branch<T>, U extends BranchAt
     }
 
     public CurrentLimits getCurrentLimits1() {
-        return resource.getAttributes().getCurrentLimits1() != null ? new CurrentLimitsImpl(resource.getAttributes().getCurrentLimits1()) : null;
+        return resource.getAttributes().getCurrentLimits1() != null ? new CurrentLimitsImpl(this, "currentLimits1", resource.getAttributes().getCurrentLimits1()) : null;
     }
 
     public CurrentLimits getCurrentLimits2() {
-        return resource.getAttributes().getCurrentLimits2() != null ? new CurrentLimitsImpl(resource.getAttributes().getCurrentLimits2()) : null;
+        return resource.getAttributes().getCurrentLimits2() != null ? new CurrentLimitsImpl(this, "currentLimits2", resource.getAttributes().getCurrentLimits2()) : null;
     }
 
     public boolean isOverloaded() {
@@ -219,8 +220,8 @@ public abstract class AbstractBranchImpl<T extends Branch<T>, U extends BranchAt
                 .build();
         return new ConnectablePositionImpl<>(getBranch(),
                 null,
-                new ConnectablePositionImpl.FeederImpl(cpa1),
-                new ConnectablePositionImpl.FeederImpl(cpa2),
+                new ConnectablePositionImpl.FeederImpl(this, "position1", cpa1),
+                new ConnectablePositionImpl.FeederImpl(this, "position2", cpa2),
                 null);
     }
 
@@ -11,6 +11,7 @@ import com.powsybl.commons.extensions.ExtensionAdder;
 import com.powsybl.commons.extensions.ExtensionAdderProvider;
 import com.powsybl.commons.extensions.ExtensionAdderProviders;
 import com.powsybl.iidm.network.Identifiable;
+import com.powsybl.network.store.model.AbstractAttributes;
 import com.powsybl.network.store.model.IdentifiableAttributes;
 import com.powsybl.network.store.model.Resource;
 
@@ -39,6 +40,17 @@ public abstract class AbstractIdentifiableImpl<I extends Identifiable<I>, D exte
         return resource.getId();
     }
 
+    /**
+     * Notify that an attribute has been modified in place through a nested object (tap changer, current limits,
+     * ...), which unlike resource attributes setters cannot report it, so that its column is saved on next flush.
+     */
+    void updateResource(String attributeName) {
+        D attributes = resource.getAttributes();
+        if (attributes instanceof AbstractAttributes) {
+            ((AbstractAttributes) attributes).updateResource(attributeName);
+        }
+    }
+
     public String getName() {
         return getNameOrId();
     }
@@ -82,7 +94,9 @@ public abstract class AbstractIdentifiableImpl<I extends Identifiable<I>, D exte
             properties = new HashMap<>();
             resource.getAttributes().setProperties(properties);
         }
-        return properties.put(key, value);
+        String oldValue = properties.put(key, value);
+        updateResource("properties");
+        return oldValue;
     }
 
     public boolean hasProperty() {
@@ -37,7 +37,7 @@ public abstract class AbstractInjectionImpl<I extends Injection<I>, D extends In
         ConnectablePositionAttributes cpa = resource.getAttributes().getPosition();
         if (cpa != null) {
             connectablePositionExtension = new ConnectablePositionImpl<>(getInjection(),
-                    new ConnectablePositionImpl.FeederImpl(cpa), null, null, null);
+                    new ConnectablePositionImpl.FeederImpl(this, "position", cpa), null, null, null);
         }
     }
 
@@ -76,7 +76,7 @@ public abstract class AbstractInjectionImpl<I extends Injection<I>, D extends In
                 .direction(ConnectableDirection.valueOf(feeder.getDirection().name()))
                 .build();
         return new ConnectablePositionImpl<>(getInjection(),
-                new ConnectablePositionImpl.FeederImpl(cpa),
+                new ConnectablePositionImpl.FeederImpl(this, "position", cpa),
                 null, null, null);
     }
 
@@ -8,9 +8,6 @@ package com.powsybl.network.store.iidm.impl;
 
 import com.powsybl.iidm.network.*;
 import com.powsybl.network.store.model.*;
-import org.jgrapht.Graph;
-import org.jgrapht.alg.connectivity.ConnectivityInspector;
-import org.jgrapht.graph.Pseudograph;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -30,7 +27,7 @@ public abstract class AbstractTopology<T> {
         int busbarSectionCount = 0;
     }
 
-    private static void countEquipments(EquipmentCount equipmentCount, Vertex vertex) {
+    static void countEquipments(EquipmentCount equipmentCount, Vertex vertex) {
         switch (vertex.getConnectableType()) {
             case LINE:
             case TWO_WINDINGS_TRANSFORMER:
@@ -150,26 +147,6 @@ public abstract class AbstractTopology<T> {
         return vertices;
     }
 
-    protected void ensureNodeOrBusExists(Graph<T, Edge> graph, T nodeOrBus) {
-        if (!graph.containsVertex(nodeOrBus)) {
-            graph.addVertex(nodeOrBus);
-        }
-    }
-
-    public Graph<T, Edge>  buildGraph(NetworkObjectIndex index, Resource<VoltageLevelAttributes> voltageLevelResource) {
-        Map<T, List<Vertex>> verticesByNodeOrBus = new HashMap<>();
-        return buildGraph(index, voltageLevelResource, verticesByNodeOrBus);
-    }
-
-    public Graph<T, Edge>  buildGraph(NetworkObjectIndex index, Resource<VoltageLevelAttributes> voltageLevelResource,
-                                                                      Map<T, List<Vertex>> verticesByNodeOrBus) {
-        Graph<T, Edge> graph = new Pseudograph<>(Edge.class);
-        List<Vertex> vertices = new ArrayList<>();
-        buildGraph(index, voltageLevelResource, graph, vertices);
-        verticesByNodeOrBus.putAll(vertices.stream().collect(Collectors.groupingBy(this::getNodeOrBus)));
-        return graph;
-    }
-
     protected abstract <U extends SwitchAttributes> T getSwitchNodeOrBus1(Resource<U> resource);
 
     protected abstract <U extends SwitchAttributes> T getSwitchNodeOrBus2(Resource<U> resource);
@@ -233,64 +210,41 @@ public abstract class AbstractTopology<T> {
                 .collect(Collectors.toList()));
     }
 
-    protected void buildEdges(NetworkObjectIndex index, Resource<VoltageLevelAttributes> voltageLevelResource,
-                              Graph<T, Edge> graph) {
+    protected abstract boolean isCalculatedBusValid(EquipmentCount equipmentCount);
+
+    protected void buildLinks(NetworkObjectIndex index, Resource<VoltageLevelAttributes> voltageLevelResource,
+                              VoltageLevelConnectivity<T> connectivity) {
         UUID networkUuid = index.getNetwork().getUuid();
 
+        // open switches are also part of the connectivity so that they can be closed later on
         for (Resource<SwitchAttributes> resource : index.getStoreClient().getVoltageLevelSwitches(networkUuid, voltageLevelResource.getId())) {
-            if (!resource.getAttributes().isOpen()) {
-                T nodeOrBus1 = getSwitchNodeOrBus1(resource);
-                T nodeOrBus2 = getSwitchNodeOrBus2(resource);
-                ensureNodeOrBusExists(graph, nodeOrBus1);
-                ensureNodeOrBusExists(graph, nodeOrBus2);
-                graph.addEdge(nodeOrBus1, nodeOrBus2, resource.getAttributes());
-            }
+            connectivity.addSwitch(resource.getId(), getSwitchNodeOrBus1(resource), getSwitchNodeOrBus2(resource),
+                                   SwitchImpl.isOpen(index, resource));
         }
     }
 
-    protected void buildGraph(NetworkObjectIndex index, Resource<VoltageLevelAttributes> voltageLevelResource,
-                              Graph<T, Edge> graph, List<Vertex> vertices) {
-        buildVertices(index, voltageLevelResource, vertices);
-
-        for (Vertex vertex : vertices) {
-            graph.addVertex(getNodeOrBus(vertex));
+    VoltageLevelConnectivity<T> buildConnectivity(NetworkObjectIndex index, Resource<VoltageLevelAttributes> voltageLevelResource) {
+        VoltageLevelConnectivity<T> connectivity = new VoltageLevelConnectivity<>(this);
+        for (Vertex vertex : buildVertices(index, voltageLevelResource)) {
+            connectivity.addVertex(vertex);
         }
-
-        buildEdges(index, voltageLevelResource, graph);
+        buildLinks(index, voltageLevelResource, connectivity);
+        return connectivity;
     }
 
-    protected abstract boolean isCalculatedBusValid(EquipmentCount equipmentCount);
-
-    public List<Set<Vertex>> findConnectedVerticesList(NetworkObjectIndex index, Resource<VoltageLevelAttributes> voltageLevelResource) {
-        List<Set<Vertex>> connectedVerticesList = new ArrayList<>();
-
-        // build graph
-        Map<T, List<Vertex>> verticesByNodeOrBus = new HashMap<>();
-        Graph<T, Edge> graph = buildGraph(index, voltageLevelResource, verticesByNodeOrBus);
-
-        // find node/bus connected sets
-        for (Set<T> nodesOrBuses : new ConnectivityInspector<>(graph).connectedSets()) {
-            EquipmentCount equipmentCount = new EquipmentCount();
-            for (T nodeOrBus : nodesOrBuses) {
-                List<Vertex> connectedVertices = verticesByNodeOrBus.get(nodeOrBus);
-                if (connectedVertices != null) {
-                    for (Vertex vertex : connectedVertices) {
-                        if (vertex != null) {
-                            countEquipments(equipmentCount, vertex);
-                        }
-                    }
-                }
-            }
-            // filter connected vertices that cannot be a calculated bus
-            if (isCalculatedBusValid(equipmentCount)) {
-                Set<Vertex> connectedVertices = nodesOrBuses.stream()
-                        .flatMap(nodeOrBus -> verticesByNodeOrBus.getOrDefault(nodeOrBus, Collections.emptyList()).stream())
-                        .collect(Collectors.toSet());
-                connectedVerticesList.add(connectedVertices);
-            }
-        }
-
-        return connectedVerticesList;
+    /**
+     * Build the connectivity of a voltage level whose calculated buses are valid but have not been computed here, for
+     * instance because they have been read from the store, so that they can then be incrementally updated. A switch
+     * which has just been opened or closed is taken with its previous state, as calculated buses do not include the
+     * change yet.
+     *
+     * @return the connectivity, or null if it does not match calculated buses of the voltage level
+     */
+    VoltageLevelConnectivity<T> loadConnectivity(NetworkObjectIndex index, Resource<VoltageLevelAttributes> voltageLevelResource,
+                                                 String changedSwitchId, boolean changedSwitchOpen) {
+        VoltageLevelConnectivity<T> connectivity = buildConnectivity(index, voltageLevelResource);
+        connectivity.resetSwitch(changedSwitchId, !changedSwitchOpen);
+        return connectivity.loadCalculatedBuses(voltageLevelResource) ? connectivity : null;
     }
 
     protected abstract CalculatedBus createCalculatedBus(NetworkObjectIndex index, Resource<VoltageLevelAttributes> voltageLevelResource, int calculatedBusNum);
@@ -299,6 +253,19 @@ public abstract class AbstractTopology<T> {
 
     protected abstract Map<T, Integer> getNodeOrBusToCalculatedBusNum(Resource<VoltageLevelAttributes> voltageLevelResource);
 
+    /**
+     * Create the placeholder of a calculated bus which has been removed, so that following calculated buses keep their
+     * number.
+     */
+    static CalculatedBusAttributes createRemovedCalculatedBus() {
+        return new CalculatedBusAttributes(new HashSet<>(), null, null, Double.NaN, Double.NaN);
+    }
+
+    // a valid calculated bus has at least one vertex
+    static boolean isRemoved(CalculatedBusAttributes calculatedBusAttributes) {
+        return calculatedBusAttributes.getVertices().isEmpty();
+    }
+
     static class CalculationResult<T> {
 
         private final List<CalculatedBusAttributes> calculatedBuses;
@@ -319,17 +286,19 @@ public abstract class AbstractTopology<T> {
         }
     }
 
-    private CalculationResult getCalculatedBusAttributesList(NetworkObjectIndex index, Resource<VoltageLevelAttributes> voltageLevelResource) {
+    private static VoltageLevelImpl getVoltageLevel(NetworkObjectIndex index, Resource<VoltageLevelAttributes> voltageLevelResource) {
+        return index.getVoltageLevel(voltageLevelResource.getId()).orElseThrow(IllegalStateException::new);
+    }
+
+    private CalculationResult<T> getCalculatedBusAttributesList(NetworkObjectIndex index, Resource<VoltageLevelAttributes> voltageLevelResource) {
         List<CalculatedBusAttributes> calculatedBusAttributesList;
         Map<T, Integer> nodeOrBusToCalculatedBusNum;
         if (voltageLevelResource.getAttributes().isCalculatedBusesValid()) {
             calculatedBusAttributesList = voltageLevelResource.getAttributes().getCalculatedBuses();
             nodeOrBusToCalculatedBusNum = getNodeOrBusToCalculatedBusNum(voltageLevelResource);
         } else {
-            calculatedBusAttributesList = findConnectedVerticesList(index, voltageLevelResource)
-                    .stream()
-                    .map(connectedVertices -> new CalculatedBusAttributes(connectedVertices, null, null, Double.NaN, Double.NaN))
-                    .collect(Collectors.toList());
+            VoltageLevelConnectivity<T> connectivity = buildConnectivity(index, voltageLevelResource);
+            calculatedBusAttributesList = connectivity.computeCalculatedBuses();
             voltageLevelResource.getAttributes().setCalculatedBuses(calculatedBusAttributesList);
 
             // index calculated buses per node or bus
@@ -344,25 +313,73 @@ public abstract class AbstractTopology<T> {
             setNodeOrBusToCalculatedBusNum(voltageLevelResource, nodeOrBusToCalculatedBusNum);
 
             voltageLevelResource.getAttributes().setCalculatedBusesValid(true);
+
+            // connectivity is kept so that calculated buses can then be incrementally updated on switch change
+            index.getVoltageLevel(voltageLevelResource.getId()).ifPresent(voltageLevel -> {
+                voltageLevel.setConnectivity(connectivity);
+                voltageLevel.resetCalculatedBuses();
+            });
         }
 
         return new CalculationResult<>(calculatedBusAttributesList, nodeOrBusToCalculatedBusNum);
     }
 
-    public Map<String, Bus> calculateBuses(NetworkObjectIndex index, Resource<VoltageLevelAttributes> voltageLevelResource) {
-        List<CalculatedBusAttributes> calculatedBusAttributesList = getCalculatedBusAttributesList(index, voltageLevelResource).getCalculatedBuses();
-        Map<String, Bus> calculatedBuses = new HashMap<>(calculatedBusAttributesList.size());
+    /**
+     * Get calculated buses of the voltage level, indexed by calculated bus number, null for a removed calculated bus.
+     * Calculated bus objects are created once and kept on the voltage level until they change, so that the same
+     * instances are returned.
+     */
+    private List<CalculatedBus> getCalculatedBuses(NetworkObjectIndex index, Resource<VoltageLevelAttributes> voltageLevelResource,
+                                                   List<CalculatedBusAttributes> calculatedBusAttributesList) {
+        VoltageLevelImpl voltageLevel = getVoltageLevel(index, voltageLevelResource);
+        List<CalculatedBus> calculatedBuses = voltageLevel.getCalculatedBuses();
+        if (calculatedBuses == null) {
+            calculatedBuses = new ArrayList<>(calculatedBusAttributesList.size());
+            voltageLevel.setCalculatedBuses(calculatedBuses);
+        }
+        // only calculated buses which have been reset are created again
+        while (calculatedBuses.size() > calculatedBusAttributesList.size()) {
+            calculatedBuses.remove(calculatedBuses.size() - 1);
+        }
         for (int calculatedBusNum = 0; calculatedBusNum < calculatedBusAttributesList.size(); calculatedBusNum++) {
-            CalculatedBus calculatedBus = createCalculatedBus(index, voltageLevelResource, calculatedBusNum);
-            calculatedBuses.put(calculatedBus.getId(), calculatedBus);
+            if (calculatedBusNum == calculatedBuses.size()) {
+                calculatedBuses.add(null);
+            }
+            if (calculatedBuses.get(calculatedBusNum) == null && !isRemoved(calculatedBusAttributesList.get(calculatedBusNum))) {
+                calculatedBuses.set(calculatedBusNum, createCalculatedBus(index, voltageLevelResource, calculatedBusNum));
+            }
         }
         return calculatedBuses;
     }
 
-    public CalculatedBus calculateBus(NetworkObjectIndex index, Resource<VoltageLevelAttributes> voltageLevelResource, T nodeOrBus) {
-        Map<T, Integer> nodeOrBusToCalculatedBusNum = getCalculatedBusAttributesList(index, voltageLevelResource).getNodeOrBusToCalculatedBusNum();
-        Integer calculatedBusNum = nodeOrBusToCalculatedBusNum.get(nodeOrBus);
-        return calculatedBusNum != null ? createCalculatedBus(index, voltageLevelResource, calculatedBusNum) : null;
+    /**
+     * Calculated buses are computed once for all the threads working on the same variant of the network, from the
+     * voltage level resource holding calculated buses of the working variant.
+     */
+    public Map<String, Bus> calculateBuses(NetworkObjectIndex index, Resource<VoltageLevelAttributes> resource) {
+        VoltageLevelImpl voltageLevel = getVoltageLevel(index, resource);
+        synchronized (voltageLevel) {
+            Resource<VoltageLevelAttributes> voltageLevelResource = voltageLevel.getCalculatedBusesResource();
+            List<CalculatedBusAttributes> calculatedBusAttributesList = getCalculatedBusAttributesList(index, voltageLevelResource).getCalculatedBuses();
+            List<CalculatedBus> calculatedBusList = getCalculatedBuses(index, voltageLevelResource, calculatedBusAttributesList);
+            Map<String, Bus> calculatedBuses = new HashMap<>(calculatedBusList.size());
+            for (CalculatedBus calculatedBus : calculatedBusList) {
+                if (calculatedBus != null) {
+                    calculatedBuses.put(calculatedBus.getId(), calculatedBus);
+                }
+            }
+            return calculatedBuses;
+        }
+    }
+
+    public CalculatedBus calculateBus(NetworkObjectIndex index, Resource<VoltageLevelAttributes> resource, T nodeOrBus) {
+        VoltageLevelImpl voltageLevel = getVoltageLevel(index, resource);
+        synchronized (voltageLevel) {
+            Resource<VoltageLevelAttributes> voltageLevelResource = voltageLevel.getCalculatedBusesResource();
+            CalculationResult<T> result = getCalculatedBusAttributesList(index, voltageLevelResource);
+            Integer calculatedBusNum = result.getNodeOrBusToCalculatedBusNum().get(nodeOrBus);
+            return calculatedBusNum != null ? getCalculatedBuses(index, voltageLevelResource, result.getCalculatedBuses()).get(calculatedBusNum) : null;
+        }
     }
 
     public static Terminal getTerminal(NetworkObjectIndex index, Vertex vertex) {
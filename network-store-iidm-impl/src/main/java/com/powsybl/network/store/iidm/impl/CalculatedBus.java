@@ -115,23 +115,29 @@ public class CalculatedBus implements Bus {
 
     @Override
     public double getV() {
-        return getAttributes().getV();
+        CalculatedBusAttributes attributes = getAttributes();
+        return index.getVariantManager().getValue(id, "v", attributes::getV);
     }
 
     @Override
     public Bus setV(double v) {
-        getAttributes().setV(v);
+        CalculatedBusAttributes attributes = getAttributes();
+        index.getVariantManager().setValue(id, "v", v, attributes::getV, attributes::setV);
+        voltageLevelResource.getAttributes().updateResource("calculatedBusV");
         return this;
     }
 
     @Override
     public double getAngle() {
-        return getAttributes().getAngle();
+        CalculatedBusAttributes attributes = getAttributes();
+        return index.getVariantManager().getValue(id, "angle", attributes::getAngle);
     }
 
     @Override
     public Bus setAngle(double angle) {
-        getAttributes().setAngle(angle);
+        CalculatedBusAttributes attributes = getAttributes();
+        index.getVariantManager().setValue(id, "angle", angle, attributes::getAngle, attributes::setAngle);
+        voltageLevelResource.getAttributes().updateResource("calculatedBusAngle");
         return this;
     }
 
@@ -154,30 +160,35 @@ public class CalculatedBus implements Bus {
         return voltageLevelResource.getAttributes().getCalculatedBuses().get(calculatedBusNum);
     }
 
+    // component numbers are state variables, as components of each variant are computed from its own topology
+
     int getConnectedComponentNum() {
         getNetwork().ensureConnectedComponentsUpToDate();
-        return getAttributes().getConnectedComponentNumber();
+        CalculatedBusAttributes attributes = getAttributes();
+        return index.getVariantManager().getValue(id, "connectedComponentNumber", attributes::getConnectedComponentNumber);
     }
 
     void setConnectedComponentNum(int num) {
-        getAttributes().setConnectedComponentNumber(num);
-        voltageLevelResource.getAttributes().updateResource();
+        CalculatedBusAttributes attributes = getAttributes();
+        index.getVariantManager().setValue(id, "connectedComponentNumber", num, attributes::getConnectedComponentNumber, attributes::setConnectedComponentNumber);
+        voltageLevelResource.getAttributes().updateResource("calculatedBuses");
     }
 
     int getSynchronousComponentNum() {
         getNetwork().ensureSynchronousComponentsUpToDate();
-        return getAttributes().getSynchronousComponentNumber();
+        CalculatedBusAttributes attributes = getAttributes();
+        return index.getVariantManager().getValue(id, "synchronousComponentNumber", attributes::getSynchronousComponentNumber);
     }
 
     public void setSynchronousComponentNum(int num) {
-        getAttributes().setSynchronousComponentNumber(num);
-        voltageLevelResource.getAttributes().updateResource();
+        CalculatedBusAttributes attributes = getAttributes();
+        index.getVariantManager().setValue(id, "synchronousComponentNumber", num, attributes::getSynchronousComponentNumber, attributes::setSynchronousComponentNumber);
+        voltageLevelResource.getAttributes().updateResource("calculatedBuses");
     }
 
     @Override
     public boolean isInMainConnectedComponent() {
-        getNetwork().ensureConnectedComponentsUpToDate();
-        return getAttributes().getConnectedComponentNumber() == ComponentConstants.MAIN_NUM;
+        return getConnectedComponentNum() == ComponentConstants.MAIN_NUM;
     }
 
     @Override
@@ -187,8 +198,7 @@ public class CalculatedBus implements Bus {
 
     @Override
     public boolean isInMainSynchronousComponent() {
-        getNetwork().ensureSynchronousComponentsUpToDate();
-        return getAttributes().getSynchronousComponentNumber() == ComponentConstants.MAIN_NUM;
+        return getSynchronousComponentNum() == ComponentConstants.MAIN_NUM;
     }
 
     @Override
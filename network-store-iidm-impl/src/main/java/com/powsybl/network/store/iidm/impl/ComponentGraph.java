@@ -0,0 +1,315 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.iidm.impl;
+
+import com.powsybl.iidm.network.*;
+
+import java.util.*;
+
+/**
+ * Graph of calculated buses of the network linked by branches (and HVDC lines for connected components) used to
+ * compute connected or synchronous components. Buses are identified by a compact int index. Once built, the graph is
+ * incrementally updated: only buses of voltage levels whose calculated buses have changed are replaced, and only
+ * components touched by these buses are recomputed.
+ * <p>
+ * Not thread safe: the graph is only accessed by the network while holding its components lock.
+ *
+ * @author agent <agent at local>
+ */
+final class ComponentGraph {
+
+    private static final int[] NO_NEIGHBOURS = new int[0];
+
+    private static final int NO_LABEL = -1;
+
+    private final NetworkImpl network;
+
+    private final ComponentType componentType;
+
+    // all the following lists are indexed by bus index, a removed bus leaves a free index that is then reused
+
+    private final List<CalculatedBus> buses = new ArrayList<>();
+
+    private final List<int[]> neighbours = new ArrayList<>();
+
+    private int[] labels = new int[16];
+
+    private int[] nums = new int[16];
+
+    private final Deque<Integer> freeBusIndexes = new ArrayDeque<>();
+
+    private final Map<CalculatedBus, Integer> busIndexes = new IdentityHashMap<>();
+
+    private final Map<String, int[]> busIndexesByVoltageLevelId = new HashMap<>();
+
+    private final Map<Integer, Integer> sizeByLabel = new HashMap<>();
+
+    private int nextLabel = 0;
+
+    private final Set<String> modifiedVoltageLevelIds = new HashSet<>();
+
+    private boolean built = false;
+
+    ComponentGraph(NetworkImpl network, ComponentType componentType) {
+        this.network = Objects.requireNonNull(network);
+        this.componentType = Objects.requireNonNull(componentType);
+    }
+
+    /**
+     * To call when calculated buses of a voltage level have changed.
+     */
+    void invalidate(String voltageLevelId) {
+        modifiedVoltageLevelIds.add(voltageLevelId);
+    }
+
+    private int addBus(CalculatedBus bus) {
+        int busIndex;
+        if (freeBusIndexes.isEmpty()) {
+            busIndex = buses.size();
+            buses.add(bus);
+            neighbours.add(NO_NEIGHBOURS);
+            if (busIndex == labels.length) {
+                labels = Arrays.copyOf(labels, busIndex * 2);
+                nums = Arrays.copyOf(nums, busIndex * 2);
+            }
+        } else {
+            busIndex = freeBusIndexes.pop();
+            buses.set(busIndex, bus);
+            neighbours.set(busIndex, NO_NEIGHBOURS);
+        }
+        labels[busIndex] = NO_LABEL;
+        nums[busIndex] = -1;
+        busIndexes.put(bus, busIndex);
+        return busIndex;
+    }
+
+    private void addVoltageLevelBuses(VoltageLevel voltageLevel, BitSet addedBusIndexes) {
+        List<Bus> voltageLevelBuses = voltageLevel.getBusView().getBuses();
+        int[] voltageLevelBusIndexes = new int[voltageLevelBuses.size()];
+        for (int i = 0; i < voltageLevelBuses.size(); i++) {
+            int busIndex = addBus((CalculatedBus) voltageLevelBuses.get(i));
+            voltageLevelBusIndexes[i] = busIndex;
+            addedBusIndexes.set(busIndex);
+        }
+        busIndexesByVoltageLevelId.put(voltageLevel.getId(), voltageLevelBusIndexes);
+    }
+
+    private static int[] addNeighbour(int[] busNeighbours, int neighbour) {
+        int[] newBusNeighbours = Arrays.copyOf(busNeighbours, busNeighbours.length + 1);
+        newBusNeighbours[busNeighbours.length] = neighbour;
+        return newBusNeighbours;
+    }
+
+    private static int[] removeNeighbour(int[] busNeighbours, int neighbour) {
+        return Arrays.stream(busNeighbours).filter(n -> n != neighbour).toArray();
+    }
+
+    private void removeVoltageLevelBuses(String voltageLevelId, BitSet seedBusIndexes) {
+        int[] voltageLevelBusIndexes = busIndexesByVoltageLevelId.remove(voltageLevelId);
+        if (voltageLevelBusIndexes == null) {
+            return;
+        }
+        for (int busIndex : voltageLevelBusIndexes) {
+            // remaining neighbours may now be in another component
+            for (int neighbour : neighbours.get(busIndex)) {
+                // neighbour may have already been removed with another bus of the voltage level
+                if (neighbour != busIndex && buses.get(neighbour) != null) {
+                    neighbours.set(neighbour, removeNeighbour(neighbours.get(neighbour), busIndex));
+                    seedBusIndexes.set(neighbour);
+                }
+            }
+            sizeByLabel.computeIfPresent(labels[busIndex], (label, size) -> size > 1 ? size - 1 : null);
+            seedBusIndexes.clear(busIndex);
+            busIndexes.remove(buses.get(busIndex));
+            buses.set(busIndex, null);
+            neighbours.set(busIndex, NO_NEIGHBOURS);
+            freeBusIndexes.push(busIndex);
+        }
+    }
+
+    private static Bus getBus(Terminal terminal) {
+        return terminal.getBusView().getBus();
+    }
+
+    private List<Bus> getOtherSideBuses(Bus bus) {
+        List<Bus> otherSideBuses = new ArrayList<>();
+        bus.visitConnectedEquipments(new DefaultTopologyVisitor() {
+
+            @Override
+            public void visitLine(Line line, Branch.Side side) {
+                otherSideBuses.add(getBus(line.getTerminal(side == Branch.Side.ONE ? Branch.Side.TWO : Branch.Side.ONE)));
+            }
+
+            @Override
+            public void visitTwoWindingsTransformer(TwoWindingsTransformer transformer, Branch.Side side) {
+                otherSideBuses.add(getBus(transformer.getTerminal(side == Branch.Side.ONE ? Branch.Side.TWO : Branch.Side.ONE)));
+            }
+
+            @Override
+            public void visitThreeWindingsTransformer(ThreeWindingsTransformer transformer, ThreeWindingsTransformer.Side side) {
+                for (ThreeWindingsTransformer.Side otherSide : ThreeWindingsTransformer.Side.values()) {
+                    if (otherSide != side) {
+                        otherSideBuses.add(getBus(transformer.getTerminal(otherSide)));
+                    }
+                }
+            }
+
+            @Override
+            public void visitHvdcConverterStation(HvdcConverterStation<?> converterStation) {
+                if (componentType == ComponentType.CONNECTED) {
+                    HvdcLine hvdcLine = converterStation.getHvdcLine();
+                    if (hvdcLine != null) {
+                        HvdcConverterStation<?> otherConverterStation = hvdcLine.getConverterStation1().getId().equals(converterStation.getId())
+                                ? hvdcLine.getConverterStation2()
+                                : hvdcLine.getConverterStation1();
+                        otherSideBuses.add(getBus(otherConverterStation.getTerminal()));
+                    }
+                }
+            }
+        });
+        return otherSideBuses;
+    }
+
+    /**
+     * Link added buses to their neighbours. Returns false if a neighbour is not part of the graph.
+     */
+    private boolean linkBuses(BitSet addedBusIndexes) {
+        for (int busIndex = addedBusIndexes.nextSetBit(0); busIndex >= 0; busIndex = addedBusIndexes.nextSetBit(busIndex + 1)) {
+            for (Bus otherSideBus : getOtherSideBuses(buses.get(busIndex))) {
+                if (otherSideBus == null) {
+                    continue; // disconnected on the other side
+                }
+                Integer neighbour = busIndexes.get(otherSideBus);
+                if (neighbour == null) {
+                    return false;
+                }
+                if (neighbour != busIndex) {
+                    neighbours.set(busIndex, addNeighbour(neighbours.get(busIndex), neighbour));
+                    // an added neighbour will itself add the reverse link
+                    if (!addedBusIndexes.get(neighbour)) {
+                        neighbours.set(neighbour, addNeighbour(neighbours.get(neighbour), busIndex));
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Relabel all components reached from seed buses.
+     */
+    private void relabel(BitSet seedBusIndexes) {
+        BitSet done = new BitSet(buses.size());
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int seed = seedBusIndexes.nextSetBit(0); seed >= 0; seed = seedBusIndexes.nextSetBit(seed + 1)) {
+            if (done.get(seed) || buses.get(seed) == null) {
+                continue;
+            }
+            int label = nextLabel++;
+            int size = 0;
+            done.set(seed);
+            queue.add(seed);
+            while (!queue.isEmpty()) {
+                int busIndex = queue.poll();
+                sizeByLabel.computeIfPresent(labels[busIndex], (oldLabel, oldSize) -> oldSize > 1 ? oldSize - 1 : null);
+                labels[busIndex] = label;
+                size++;
+                for (int neighbour : neighbours.get(busIndex)) {
+                    if (!done.get(neighbour)) {
+                        done.set(neighbour);
+                        queue.add(neighbour);
+                    }
+                }
+            }
+            sizeByLabel.put(label, size);
+        }
+    }
+
+    /**
+     * Number components by decreasing size, so that the main component has number 0, and update buses whose
+     * component number has changed.
+     */
+    private void renumber() {
+        List<Integer> sortedLabels = new ArrayList<>(sizeByLabel.keySet());
+        sortedLabels.sort(Comparator.<Integer>comparingInt(sizeByLabel::get).reversed().thenComparingInt(label -> label));
+        Map<Integer, Integer> numByLabel = new HashMap<>(sortedLabels.size());
+        for (int num = 0; num < sortedLabels.size(); num++) {
+            numByLabel.put(sortedLabels.get(num), num);
+        }
+        for (int busIndex = 0; busIndex < buses.size(); busIndex++) {
+            CalculatedBus bus = buses.get(busIndex);
+            if (bus != null) {
+                int num = numByLabel.get(labels[busIndex]);
+                if (num != nums[busIndex]) {
+                    nums[busIndex] = num;
+                    if (componentType == ComponentType.CONNECTED) {
+                        bus.setConnectedComponentNum(num);
+                    } else {
+                        bus.setSynchronousComponentNum(num);
+                    }
+                }
+            }
+        }
+    }
+
+    private void clear() {
+        buses.clear();
+        neighbours.clear();
+        freeBusIndexes.clear();
+        busIndexes.clear();
+        busIndexesByVoltageLevelId.clear();
+        sizeByLabel.clear();
+        nextLabel = 0;
+        built = false;
+    }
+
+    private void build() {
+        clear();
+        modifiedVoltageLevelIds.clear();
+
+        BitSet addedBusIndexes = new BitSet();
+        for (VoltageLevel voltageLevel : network.getVoltageLevels()) {
+            addVoltageLevelBuses(voltageLevel, addedBusIndexes);
+        }
+        if (!linkBuses(addedBusIndexes)) {
+            throw new IllegalStateException("Calculated bus not found in component graph");
+        }
+        relabel(addedBusIndexes);
+        renumber();
+        built = true;
+    }
+
+    /**
+     * Update components of the network, incrementally if possible.
+     */
+    void update() {
+        if (!built) {
+            build();
+            return;
+        }
+
+        BitSet seedBusIndexes = new BitSet();
+        for (String voltageLevelId : modifiedVoltageLevelIds) {
+            removeVoltageLevelBuses(voltageLevelId, seedBusIndexes);
+        }
+        BitSet addedBusIndexes = new BitSet();
+        for (String voltageLevelId : modifiedVoltageLevelIds) {
+            network.getIndex().getVoltageLevel(voltageLevelId).ifPresent(voltageLevel -> addVoltageLevelBuses(voltageLevel, addedBusIndexes));
+        }
+        modifiedVoltageLevelIds.clear();
+
+        // a bus not known by the graph has been reached, the network has been modified since the graph has been built
+        if (!linkBuses(addedBusIndexes)) {
+            build();
+            return;
+        }
+
+        seedBusIndexes.or(addedBusIndexes);
+        relabel(seedBusIndexes);
+        renumber();
+    }
+}
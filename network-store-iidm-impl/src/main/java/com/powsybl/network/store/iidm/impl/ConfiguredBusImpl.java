@@ -51,23 +51,23 @@ public class ConfiguredBusImpl extends AbstractIdentifiableImpl<Bus, ConfiguredB
 
     @Override
     public double getV() {
-        return resource.getAttributes().getV();
+        return index.getVariantManager().getValue(this, "v", resource.getAttributes()::getV);
     }
 
     @Override
     public Bus setV(double v) {
-        resource.getAttributes().setV(v);
+        index.getVariantManager().setValue(this, "v", v, resource.getAttributes()::getV, resource.getAttributes()::setV);
         return this;
     }
 
     @Override
     public double getAngle() {
-        return resource.getAttributes().getAngle();
+        return index.getVariantManager().getValue(this, "angle", resource.getAttributes()::getAngle);
     }
 
     @Override
     public Bus setAngle(double angle) {
-        resource.getAttributes().setAngle(angle);
+        index.getVariantManager().setValue(this, "angle", angle, resource.getAttributes()::getAngle, resource.getAttributes()::setAngle);
         return this;
     }
 
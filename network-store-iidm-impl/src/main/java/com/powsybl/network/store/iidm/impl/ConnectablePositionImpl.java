@@ -33,9 +33,15 @@ public class ConnectablePositionImpl<C extends Connectable<C>>
 
     public static class FeederImpl implements Feeder {
 
+        private final AbstractIdentifiableImpl<?, ?> owner;
+
+        private final String attributeName;
+
         private ConnectablePositionAttributes cpa;
 
-        public FeederImpl(ConnectablePositionAttributes cpa) {
+        public FeederImpl(AbstractIdentifiableImpl<?, ?> owner, String attributeName, ConnectablePositionAttributes cpa) {
+            this.owner = owner;
+            this.attributeName = attributeName;
             this.cpa = cpa;
         }
 
@@ -51,6 +57,7 @@ public class ConnectablePositionImpl<C extends Connectable<C>>
         @Override
         public Feeder setName(String name) {
             cpa.setLabel(Objects.requireNonNull(name));
+            owner.updateResource(attributeName);
             return this;
         }
 
@@ -62,6 +69,7 @@ public class ConnectablePositionImpl<C extends Connectable<C>>
         @Override
         public Feeder setOrder(int order) {
             cpa.setOrder(order);
+            owner.updateResource(attributeName);
             return this;
         }
 
@@ -73,6 +81,7 @@ public class ConnectablePositionImpl<C extends Connectable<C>>
         @Override
         public Feeder setDirection(Direction direction) {
             cpa.setDirection(ConnectableDirection.valueOf(Objects.requireNonNull(direction).name()));
+            owner.updateResource(attributeName);
             return this;
         }
     }
@@ -103,6 +103,6 @@ class CurrentLimitsAdderImpl<S, OWNER extends CurrentLimitsOwner<S>> implements
                 .temporaryLimits(temporaryLimits)
                 .build();
         owner.setCurrentLimits(side, attributes);
-        return new CurrentLimitsImpl(attributes);
+        return owner.getCurrentLimits(side);
     }
 }
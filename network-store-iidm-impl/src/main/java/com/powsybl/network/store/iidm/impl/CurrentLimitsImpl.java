@@ -51,14 +51,20 @@ public class CurrentLimitsImpl implements CurrentLimits {
         }
     }
 
+    private final AbstractIdentifiableImpl<?, ?> owner;
+
+    private final String attributeName;
+
     CurrentLimitsAttributes attributes;
 
-    public CurrentLimitsImpl(CurrentLimitsAttributes attributes) {
+    public CurrentLimitsImpl(AbstractIdentifiableImpl<?, ?> owner, String attributeName, CurrentLimitsAttributes attributes) {
+        this.owner = owner;
+        this.attributeName = attributeName;
         this.attributes = attributes;
     }
 
-    static CurrentLimitsImpl create(CurrentLimitsAttributes attributes) {
-        return new CurrentLimitsImpl(attributes);
+    static CurrentLimitsImpl create(AbstractIdentifiableImpl<?, ?> owner, String attributeName, CurrentLimitsAttributes attributes) {
+        return new CurrentLimitsImpl(owner, attributeName, attributes);
     }
 
     @Override
@@ -69,6 +75,7 @@ public class CurrentLimitsImpl implements CurrentLimits {
     @Override
     public CurrentLimits setPermanentLimit(double permanentLimit) {
         attributes.setPermanentLimit(permanentLimit);
+        owner.updateResource(attributeName);
         return this;
     }
 
@@ -6,6 +6,7 @@
  */
 package com.powsybl.network.store.iidm.impl;
 
+import com.powsybl.iidm.network.CurrentLimits;
 import com.powsybl.iidm.network.Validable;
 import com.powsybl.network.store.model.CurrentLimitsAttributes;
 
@@ -16,4 +17,6 @@ public interface CurrentLimitsOwner<SIDE> extends Validable {
 
     void setCurrentLimits(SIDE side, CurrentLimitsAttributes currentLimits);
 
+    CurrentLimits getCurrentLimits(SIDE side);
+
 }
@@ -180,23 +180,23 @@ public class DanglingLineImpl extends AbstractInjectionImpl<DanglingLine, Dangli
 
     @Override
     public double getP0() {
-        return resource.getAttributes().getP0();
+        return index.getVariantManager().getValue(this, "p0", resource.getAttributes()::getP0);
     }
 
     @Override
     public DanglingLine setP0(double p0) {
-        resource.getAttributes().setP0(p0);
+        index.getVariantManager().setValue(this, "p0", p0, resource.getAttributes()::getP0, resource.getAttributes()::setP0);
         return this;
     }
 
     @Override
     public double getQ0() {
-        return resource.getAttributes().getQ0();
+        return index.getVariantManager().getValue(this, "q0", resource.getAttributes()::getQ0);
     }
 
     @Override
     public DanglingLine setQ0(double q0) {
-        resource.getAttributes().setQ0(q0);
+        index.getVariantManager().setValue(this, "q0", q0, resource.getAttributes()::getQ0, resource.getAttributes()::setQ0);
         return this;
     }
 
@@ -268,10 +268,15 @@ public class DanglingLineImpl extends AbstractInjectionImpl<DanglingLine, Dangli
         resource.getAttributes().setCurrentLimits(currentLimits);
     }
 
+    @Override
+    public CurrentLimits getCurrentLimits(Void side) {
+        return getCurrentLimits();
+    }
+
     @Override
     public CurrentLimits getCurrentLimits() {
         return resource.getAttributes().getCurrentLimits() != null
-                ? new CurrentLimitsImpl(resource.getAttributes().getCurrentLimits())
+                ? new CurrentLimitsImpl(this, "currentLimits", resource.getAttributes().getCurrentLimits())
                 : null;
     }
 
@@ -75,12 +75,12 @@ public class GeneratorImpl extends AbstractInjectionImpl<Generator, GeneratorAtt
 
     @Override
     public boolean isVoltageRegulatorOn() {
-        return resource.getAttributes().isVoltageRegulatorOn();
+        return index.getVariantManager().getValue(this, "voltageRegulatorOn", resource.getAttributes()::isVoltageRegulatorOn);
     }
 
     @Override
     public Generator setVoltageRegulatorOn(boolean voltageRegulatorOn) {
-        resource.getAttributes().setVoltageRegulatorOn(voltageRegulatorOn);
+        index.getVariantManager().setValue(this, "voltageRegulatorOn", voltageRegulatorOn, resource.getAttributes()::isVoltageRegulatorOn, resource.getAttributes()::setVoltageRegulatorOn);
         return this;
     }
 
@@ -99,34 +99,34 @@ public class GeneratorImpl extends AbstractInjectionImpl<Generator, GeneratorAtt
 
     @Override
     public double getTargetV() {
-        return resource.getAttributes().getTargetV();
+        return index.getVariantManager().getValue(this, "targetV", resource.getAttributes()::getTargetV);
     }
 
     @Override
     public Generator setTargetV(double targetV) {
-        resource.getAttributes().setTargetV(targetV);
+        index.getVariantManager().setValue(this, "targetV", targetV, resource.getAttributes()::getTargetV, resource.getAttributes()::setTargetV);
         return this;
     }
 
     @Override
     public double getTargetP() {
-        return resource.getAttributes().getTargetP();
+        return index.getVariantManager().getValue(this, "targetP", resource.getAttributes()::getTargetP);
     }
 
     @Override
     public Generator setTargetP(double targetP) {
-        resource.getAttributes().setTargetP(targetP);
+        index.getVariantManager().setValue(this, "targetP", targetP, resource.getAttributes()::getTargetP, resource.getAttributes()::setTargetP);
         return this;
     }
 
     @Override
     public double getTargetQ() {
-        return resource.getAttributes().getTargetQ();
+        return index.getVariantManager().getValue(this, "targetQ", resource.getAttributes()::getTargetQ);
     }
 
     @Override
     public Generator setTargetQ(double targetQ) {
-        resource.getAttributes().setTargetQ(targetQ);
+        index.getVariantManager().setValue(this, "targetQ", targetQ, resource.getAttributes()::getTargetQ, resource.getAttributes()::setTargetQ);
         return this;
     }
 
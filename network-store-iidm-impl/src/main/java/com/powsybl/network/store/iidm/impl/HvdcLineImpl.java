@@ -53,12 +53,12 @@ public class HvdcLineImpl extends AbstractIdentifiableImpl<HvdcLine, HvdcLineAtt
 
     @Override
     public ConvertersMode getConvertersMode() {
-        return resource.getAttributes().getConvertersMode();
+        return index.getVariantManager().getValue(this, "convertersMode", resource.getAttributes()::getConvertersMode);
     }
 
     @Override
     public HvdcLine setConvertersMode(ConvertersMode mode) {
-        resource.getAttributes().setConvertersMode(mode);
+        index.getVariantManager().setValue(this, "convertersMode", mode, resource.getAttributes()::getConvertersMode, resource.getAttributes()::setConvertersMode);
         return this;
     }
 
@@ -86,12 +86,12 @@ public class HvdcLineImpl extends AbstractIdentifiableImpl<HvdcLine, HvdcLineAtt
 
     @Override
     public double getActivePowerSetpoint() {
-        return resource.getAttributes().getActivePowerSetpoint();
+        return index.getVariantManager().getValue(this, "activePowerSetpoint", resource.getAttributes()::getActivePowerSetpoint);
     }
 
     @Override
     public HvdcLine setActivePowerSetpoint(double activePowerSetpoint) {
-        resource.getAttributes().setActivePowerSetpoint(activePowerSetpoint);
+        index.getVariantManager().setValue(this, "activePowerSetpoint", activePowerSetpoint, resource.getAttributes()::getActivePowerSetpoint, resource.getAttributes()::setActivePowerSetpoint);
         return this;
     }
 
@@ -54,23 +54,23 @@ public class LoadImpl extends AbstractInjectionImpl<Load, LoadAttributes> implem
 
     @Override
     public double getP0() {
-        return resource.getAttributes().getP0();
+        return index.getVariantManager().getValue(this, "p0", resource.getAttributes()::getP0);
     }
 
     @Override
     public Load setP0(double p0) {
-        resource.getAttributes().setP0(p0);
+        index.getVariantManager().setValue(this, "p0", p0, resource.getAttributes()::getP0, resource.getAttributes()::setP0);
         return this;
     }
 
     @Override
     public double getQ0() {
-        return resource.getAttributes().getQ0();
+        return index.getVariantManager().getValue(this, "q0", resource.getAttributes()::getQ0);
     }
 
     @Override
     public Load setQ0(double q0) {
-        resource.getAttributes().setQ0(q0);
+        index.getVariantManager().setValue(this, "q0", q0, resource.getAttributes()::getQ0, resource.getAttributes()::setQ0);
         return this;
     }
 
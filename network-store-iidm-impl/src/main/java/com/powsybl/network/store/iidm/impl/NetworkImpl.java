@@ -10,9 +10,6 @@ import com.google.common.collect.ImmutableList;
 import com.powsybl.iidm.network.*;
 import com.powsybl.network.store.model.NetworkAttributes;
 import com.powsybl.network.store.model.Resource;
-import org.jgrapht.Graph;
-import org.jgrapht.alg.connectivity.ConnectivityInspector;
-import org.jgrapht.graph.Pseudograph;
 import org.joda.time.DateTime;
 
 import java.util.*;
@@ -28,6 +25,38 @@ public class NetworkImpl extends AbstractIdentifiableImpl<Network, NetworkAttrib
 
     private final BusView busView = new BusViewImpl();
 
+    private static final String COMPONENTS = "components";
+
+    private final ComponentGraph connectedComponentGraph = new ComponentGraph(this, ComponentType.CONNECTED);
+
+    private final ComponentGraph synchronousComponentGraph = new ComponentGraph(this, ComponentType.SYNCHRONOUS);
+
+    // guards component graphs and their validity, shared by all the threads working on the network
+    private final Object componentsLock = new Object();
+
+    /**
+     * Component graphs of a variant other than the initial one, whose validity is not persisted.
+     */
+    private final class VariantComponents {
+
+        private final ComponentGraph connectedComponentGraph = new ComponentGraph(NetworkImpl.this, ComponentType.CONNECTED);
+
+        private final ComponentGraph synchronousComponentGraph = new ComponentGraph(NetworkImpl.this, ComponentType.SYNCHRONOUS);
+
+        private boolean connectedComponentsValid = false;
+
+        private boolean synchronousComponentsValid = false;
+
+        private void invalidate(String voltageLevelId) {
+            connectedComponentGraph.invalidate(voltageLevelId);
+            synchronousComponentGraph.invalidate(voltageLevelId);
+            connectedComponentsValid = false;
+            synchronousComponentsValid = false;
+        }
+    }
+
+    private final VariantManagerImpl variantManager = new VariantManagerImpl();
+
     public NetworkImpl(NetworkStoreClient storeClient, Resource<NetworkAttributes> resource) {
         super(new NetworkObjectIndex(storeClient), resource);
         index.setNetwork(this);
@@ -150,7 +179,7 @@ public class NetworkImpl extends AbstractIdentifiableImpl<Network, NetworkAttrib
 
     @Override
     public VariantManagerImpl getVariantManager() {
-        return new VariantManagerImpl();
+        return variantManager;
     }
 
     // country
@@ -630,83 +659,52 @@ public class NetworkImpl extends AbstractIdentifiableImpl<Network, NetworkAttrib
         throw new UnsupportedOperationException("TODO");
     }
 
-    private void update(ComponentType componentType) {
-        // build graph
-        Graph<Identifiable, Object> graph = new Pseudograph<>(Object.class);
-
-        for (VoltageLevel vl : getVoltageLevels()) {
-            for (Bus bus : vl.getBusView().getBuses()) {
-                graph.addVertex(bus);
-
-                bus.visitConnectedEquipments(new DefaultTopologyVisitor() {
-
-                    @Override
-                    public void visitLine(Line line, Branch.Side side) {
-                        graph.addVertex(line);
-                        graph.addEdge(bus, line, new Object());
-                    }
-
-                    @Override
-                    public void visitTwoWindingsTransformer(TwoWindingsTransformer transformer, Branch.Side side) {
-                        graph.addVertex(transformer);
-                        graph.addEdge(bus, transformer, new Object());
-                    }
-
-                    @Override
-                    public void visitThreeWindingsTransformer(ThreeWindingsTransformer transformer, ThreeWindingsTransformer.Side side) {
-                        graph.addVertex(transformer);
-                        graph.addEdge(bus, transformer, new Object());
-                    }
-
-                    @Override
-                    public void visitHvdcConverterStation(HvdcConverterStation<?> converterStation) {
-                        if (componentType == ComponentType.CONNECTED) {
-                            graph.addVertex(converterStation.getHvdcLine());
-                            graph.addEdge(bus, converterStation.getHvdcLine(), new Object());
-                        }
-                    }
-                });
-            }
-        }
-
-        // calculate components
-        List<Set<Bus>> sets = new ConnectivityInspector<>(graph).connectedSets()
-                .stream()
-                .map(set -> set.stream().filter(v -> v instanceof Bus)
-                        .map(v -> (Bus) v)
-                        .collect(Collectors.toSet()))
-                .sorted((o1, o2) -> o2.size() - o1.size())
-                .collect(Collectors.toList());
-
-        // associate components to buses
-        for (int num = 0; num < sets.size(); num++) {
-            Set<Bus> buses = sets.get(num);
-            for (Bus bus : buses) {
-                if (componentType == ComponentType.CONNECTED) {
-                    ((CalculatedBus) bus).setConnectedComponentNum(num);
-                } else {
-                    ((CalculatedBus) bus).setSynchronousComponentNum(num);
+    void ensureConnectedComponentsUpToDate() {
+        synchronized (componentsLock) {
+            if (variantManager.isInitialVariantWorking()) {
+                if (!resource.getAttributes().isConnectedComponentsValid()) {
+                    connectedComponentGraph.update();
+                    resource.getAttributes().setConnectedComponentsValid(true);
+                }
+            } else {
+                VariantComponents components = variantManager.getCache(this, COMPONENTS, VariantComponents::new);
+                if (!components.connectedComponentsValid) {
+                    components.connectedComponentGraph.update();
+                    components.connectedComponentsValid = true;
                 }
             }
         }
     }
 
-    void ensureConnectedComponentsUpToDate() {
-        if (!resource.getAttributes().isConnectedComponentsValid()) {
-            update(ComponentType.CONNECTED);
-            resource.getAttributes().setConnectedComponentsValid(true);
-        }
-    }
-
     void ensureSynchronousComponentsUpToDate() {
-        if (!resource.getAttributes().isSynchronousComponentsValid()) {
-            update(ComponentType.SYNCHRONOUS);
-            resource.getAttributes().setSynchronousComponentsValid(true);
+        synchronized (componentsLock) {
+            if (variantManager.isInitialVariantWorking()) {
+                if (!resource.getAttributes().isSynchronousComponentsValid()) {
+                    synchronousComponentGraph.update();
+                    resource.getAttributes().setSynchronousComponentsValid(true);
+                }
+            } else {
+                VariantComponents components = variantManager.getCache(this, COMPONENTS, VariantComponents::new);
+                if (!components.synchronousComponentsValid) {
+                    components.synchronousComponentGraph.update();
+                    components.synchronousComponentsValid = true;
+                }
+            }
         }
     }
 
-    void invalidateComponents() {
-        resource.getAttributes().setConnectedComponentsValid(false);
-        resource.getAttributes().setSynchronousComponentsValid(false);
+    /**
+     * To call when calculated buses of a voltage level have changed, only components of these buses will then be
+     * recomputed. Components of all the variants are invalidated, as variants may share calculated buses of the
+     * voltage level.
+     */
+    void invalidateComponents(String voltageLevelId) {
+        synchronized (componentsLock) {
+            connectedComponentGraph.invalidate(voltageLevelId);
+            synchronousComponentGraph.invalidate(voltageLevelId);
+            resource.getAttributes().setConnectedComponentsValid(false);
+            resource.getAttributes().setSynchronousComponentsValid(false);
+            variantManager.<VariantComponents>forEachCache(this, COMPONENTS, components -> components.invalidate(voltageLevelId));
+        }
     }
 }
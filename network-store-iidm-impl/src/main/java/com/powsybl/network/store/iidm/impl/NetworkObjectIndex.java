@@ -12,11 +12,13 @@ import com.powsybl.iidm.network.*;
 import com.powsybl.network.store.model.*;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
- * A network global object index that guaranty a single instance of identifiable per network.
+ * A network global object index that guaranty a single instance of identifiable per network, including when objects
+ * are concurrently created by several threads working on different variants.
  *
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
@@ -28,37 +30,37 @@ public class NetworkObjectIndex {
 
     private NetworkImpl network;
 
-    private final Map<String, Substation> substationById = new HashMap<>();
+    private final Map<String, Substation> substationById = new ConcurrentHashMap<>();
 
-    private final Map<String, VoltageLevel> voltageLevelById = new HashMap<>();
+    private final Map<String, VoltageLevel> voltageLevelById = new ConcurrentHashMap<>();
 
-    private final Map<String, Generator> generatorById = new HashMap<>();
+    private final Map<String, Generator> generatorById = new ConcurrentHashMap<>();
 
-    private final Map<String, ShuntCompensator> shuntCompensatorById = new HashMap<>();
+    private final Map<String, ShuntCompensator> shuntCompensatorById = new ConcurrentHashMap<>();
 
-    private final Map<String, VscConverterStation> vscConverterStationById = new HashMap<>();
+    private final Map<String, VscConverterStation> vscConverterStationById = new ConcurrentHashMap<>();
 
-    private final Map<String, LccConverterStation> lccConverterStationById = new HashMap<>();
+    private final Map<String, LccConverterStation> lccConverterStationById = new ConcurrentHashMap<>();
 
-    private final Map<String, StaticVarCompensator> staticVarCompensatorById = new HashMap<>();
+    private final Map<String, StaticVarCompensator> staticVarCompensatorById = new ConcurrentHashMap<>();
 
-    private final Map<String, Load> loadById = new HashMap<>();
+    private final Map<String, Load> loadById = new ConcurrentHashMap<>();
 
-    private final Map<String, BusbarSection> busbarSectionById = new HashMap<>();
+    private final Map<String, BusbarSection> busbarSectionById = new ConcurrentHashMap<>();
 
-    private final Map<String, Switch> switchById = new HashMap<>();
+    private final Map<String, Switch> switchById = new ConcurrentHashMap<>();
 
-    private final Map<String, TwoWindingsTransformer> twoWindingsTransformerById = new HashMap<>();
+    private final Map<String, TwoWindingsTransformer> twoWindingsTransformerById = new ConcurrentHashMap<>();
 
-    private final Map<String, ThreeWindingsTransformer> threeWindingsTransformerById = new HashMap<>();
+    private final Map<String, ThreeWindingsTransformer> threeWindingsTransformerById = new ConcurrentHashMap<>();
 
-    private final Map<String, Line> lineById = new HashMap<>();
+    private final Map<String, Line> lineById = new ConcurrentHashMap<>();
 
-    private final Map<String, HvdcLine> hvdcLineById = new HashMap<>();
+    private final Map<String, HvdcLine> hvdcLineById = new ConcurrentHashMap<>();
 
-    private final Map<String, DanglingLine> danglingLineById = new HashMap<>();
+    private final Map<String, DanglingLine> danglingLineById = new ConcurrentHashMap<>();
 
-    private final Map<String, Bus> busesById = new HashMap<>();
+    private final Map<String, Bus> busesById = new ConcurrentHashMap<>();
 
     public NetworkObjectIndex(NetworkStoreClient storeClient) {
         this.storeClient = Objects.requireNonNull(storeClient);
@@ -81,6 +83,10 @@ public class NetworkObjectIndex {
         return network;
     }
 
+    VariantManagerImpl getVariantManager() {
+        return network.getVariantManager();
+    }
+
     private static <T extends Identifiable<T>, U extends IdentifiableAttributes> List<T> getAll(Map<String, T> objectsById,
                                                                                                 Supplier<List<Resource<U>>> resourcesSupplier,
                                                                                                 Function<Resource<U>, T> objectCreator) {
@@ -88,7 +94,7 @@ public class NetworkObjectIndex {
         if (resources.size() != objectsById.size()) {
             for (Resource<U> resource : resources) {
                 if (!objectsById.containsKey(resource.getId())) {
-                    objectsById.put(resource.getId(), objectCreator.apply(resource));
+                    objectsById.putIfAbsent(resource.getId(), objectCreator.apply(resource));
                 }
             }
         }
@@ -104,7 +110,10 @@ public class NetworkObjectIndex {
             T object = objectsById.get(resource.getId());
             if (object == null) {
                 object = objectCreator.apply(resource);
-                objectsById.put(object.getId(), object);
+                T otherObject = objectsById.putIfAbsent(object.getId(), object);
+                if (otherObject != null) {
+                    object = otherObject;
+                }
             }
             some.add(object);
         }
@@ -120,7 +129,10 @@ public class NetworkObjectIndex {
         if (obj == null) {
             obj = resourceSupplier.get().map(objectCreator).orElse(null);
             if (obj != null) {
-                objectsById.put(id, obj);
+                V otherObj = (V) objectsById.putIfAbsent(id, obj);
+                if (otherObj != null) {
+                    obj = otherObj;
+                }
             }
         }
         return Optional.ofNullable(obj);
@@ -134,9 +146,20 @@ public class NetworkObjectIndex {
         }
         T obj = objectCreator.apply(resource);
         objectsById.put(resource.getId(), obj);
+        if (resource.getAttributes() instanceof Contained) {
+            // topology of the voltage levels the new object belongs to has changed
+            ((Contained) resource.getAttributes()).getContainerIds().forEach(this::invalidateTopology);
+        }
         return obj;
     }
 
+    void invalidateTopology(String voltageLevelId) {
+        VoltageLevel voltageLevel = voltageLevelById.get(voltageLevelId);
+        if (voltageLevel != null) {
+            ((VoltageLevelImpl) voltageLevel).invalidateTopology();
+        }
+    }
+
     // substation
 
     Optional<SubstationImpl> getSubstation(String id) {
@@ -180,6 +203,10 @@ public class NetworkObjectIndex {
         return storeClient.getVoltageLevelCount(network.getUuid());
     }
 
+    Optional<CalculatedBusTopologyAttributes> getCalculatedBusTopology(String voltageLevelId) {
+        return storeClient.getVoltageLevelCalculatedBusTopology(network.getUuid(), voltageLevelId);
+    }
+
     List<VoltageLevel> getVoltageLevels(String substationId) {
         return getSome(voltageLevelById,
             () -> storeClient.getVoltageLevelsInSubstation(network.getUuid(), substationId),
@@ -621,29 +648,50 @@ public class NetworkObjectIndex {
                 .build();
     }
 
+    private Optional<? extends Identifiable<?>> getIdentifiable(ResourceType resourceType, String id) {
+        switch (resourceType) {
+            case SUBSTATION: return getSubstation(id);
+            case VOLTAGE_LEVEL: return getVoltageLevel(id);
+            case GENERATOR: return getGenerator(id);
+            case SHUNT_COMPENSATOR: return getShuntCompensator(id);
+            case VSC_CONVERTER_STATION: return getVscConverterStation(id);
+            case LCC_CONVERTER_STATION: return getLccConverterStation(id);
+            case STATIC_VAR_COMPENSATOR: return getStaticVarCompensator(id);
+            case LOAD: return getLoad(id);
+            case BUSBAR_SECTION: return getBusbarSection(id);
+            case SWITCH: return getSwitch(id);
+            case TWO_WINDINGS_TRANSFORMER: return getTwoWindingsTransformer(id);
+            case THREE_WINDINGS_TRANSFORMER: return getThreeWindingsTransformer(id);
+            case LINE: return getLine(id);
+            case HVDC_LINE: return getHvdcLine(id);
+            case DANGLING_LINE: return getDanglingLine(id);
+            default: return Optional.empty();
+        }
+    }
+
     public Identifiable<?> getIdentifiable(String id) {
         Objects.requireNonNull(id);
         if (network.getId().equals(id)) {
             return network;
         }
-        return getSubstation(id).map(s -> (Identifiable) s)
-                .or(() -> getVoltageLevel(id))
-                .or(() -> getGenerator(id))
-                .or(() -> getShuntCompensator(id))
-                .or(() -> getVscConverterStation(id))
-                .or(() -> getStaticVarCompensator(id))
-                .or(() -> getLoad(id))
-                .or(() -> getBusbarSection(id))
-                .or(() -> getSwitch(id))
-                .or(() -> getTwoWindingsTransformer(id))
-                .or(() -> getThreeWindingsTransformer(id))
-                .or(() -> getLine(id))
-                .or(() -> getHvdcLine(id))
-                .or(() -> getDanglingLine(id))
+        // objects already created are found without any request to the store
+        for (Map<String, ? extends Identifiable<?>> objectsById : Arrays.<Map<String, ? extends Identifiable<?>>>asList(substationById, voltageLevelById, generatorById,
+                shuntCompensatorById, vscConverterStationById, lccConverterStationById, staticVarCompensatorById, loadById,
+                busbarSectionById, switchById, twoWindingsTransformerById, threeWindingsTransformerById, lineById,
+                hvdcLineById, danglingLineById)) {
+            Identifiable<?> identifiable = objectsById.get(id);
+            if (identifiable != null) {
+                return identifiable;
+            }
+        }
+        // otherwise type of the identifiable is resolved by the store with only one lookup
+        return storeClient.getIdentifiable(network.getUuid(), id)
+                .flatMap(resource -> getIdentifiable(resource.getType(), id))
                 .orElse(null);
     }
 
     public void removeDanglingLine(String danglingLineId) {
+        getDanglingLine(danglingLineId).ifPresent(danglingLine -> invalidateTopology(danglingLine.getResource().getAttributes().getVoltageLevelId()));
         storeClient.removeDanglingLine(network.getUuid(), danglingLineId);
         danglingLineById.remove(danglingLineId);
     }
@@ -10,7 +10,9 @@ package com.powsybl.network.store.iidm.impl;
 import com.powsybl.network.store.model.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -33,6 +35,12 @@ public interface NetworkStoreClient {
 
     void updateNetwork(UUID networkUuid, Resource<NetworkAttributes> networkResource);
 
+    List<Resource<IdentifiableAttributes>> getResources(UUID networkUuid, Set<ResourceType> resourceTypes);
+
+    List<Resource<IdentifiableAttributes>> getVoltageLevelResources(UUID networkUuid, String voltageLevelId, Set<ResourceType> resourceTypes);
+
+    Optional<Resource<IdentifiableAttributes>> getIdentifiable(UUID networkUuid, String id);
+
     // substation
 
     void createSubstations(UUID networkUuid, List<Resource<SubstationAttributes>> substationResources);
@@ -59,6 +67,10 @@ public interface NetworkStoreClient {
 
     void updateVoltageLevels(UUID networkUuid, List<Resource<VoltageLevelAttributes>> voltageLevelResources);
 
+    Optional<CalculatedBusTopologyAttributes> getVoltageLevelCalculatedBusTopology(UUID networkUuid, String voltageLevelId);
+
+    Map<String, CalculatedBusTopologyAttributes> getCalculatedBusTopologies(UUID networkUuid);
+
     List<Resource<BusbarSectionAttributes>> getVoltageLevelBusbarSections(UUID networkUuid, String voltageLevelId);
 
     List<Resource<SwitchAttributes>> getVoltageLevelSwitches(UUID networkUuid, String voltageLevelId);
@@ -275,9 +287,15 @@ public interface NetworkStoreClient {
 
     Optional<Resource<ConfiguredBusAttributes>> getConfiguredBus(UUID networkUuid, String busId);
 
+    int getConfiguredBusCount(UUID networkUuid);
+
     void updateConfiguredBus(UUID networkUuid, Resource<ConfiguredBusAttributes> busesResource);
 
     void updateConfiguredBuses(UUID networkUuid, List<Resource<ConfiguredBusAttributes>> busesResources);
 
+    // state variables
+
+    void updateStateVariables(UUID networkUuid, List<StateVariables> stateVariables);
+
     void flush();
 }
@@ -0,0 +1,222 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.iidm.impl;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.VoltageLevel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Compact graph of a node/breaker voltage level, with primitive int nodes. Edges are switches and internal
+ * connections, and the adjacency of nodes is stored in compressed sparse row format: edges of the node at index
+ * {@code i} are {@code adjacentEdges[adjacencyOffsets[i]]} to {@code adjacentEdges[adjacencyOffsets[i + 1] - 1]}, in
+ * the order they have been added to the graph. Switches are referenced by the graph, so their open state is the
+ * current one when the graph is traversed.
+ *
+ * @author agent <agent at local>
+ */
+final class NodeBreakerGraph {
+
+    private static final int NO_INDEX = -1;
+
+    static final class Builder {
+
+        private int[] nodes = new int[16];
+
+        private int nodeCount = 0;
+
+        private int[] nodeIndexes = new int[0];
+
+        private int[] edgeNodeIndexes1 = new int[16];
+
+        private int[] edgeNodeIndexes2 = new int[16];
+
+        private final List<SwitchImpl> edgeSwitches = new ArrayList<>();
+
+        private int edgeCount = 0;
+
+        private int addNodeIfAbsent(int node) {
+            if (node < 0) {
+                throw new PowsyblException("Invalid node " + node);
+            }
+            if (node >= nodeIndexes.length) {
+                int oldLength = nodeIndexes.length;
+                nodeIndexes = Arrays.copyOf(nodeIndexes, Math.max(node + 1, oldLength * 2));
+                Arrays.fill(nodeIndexes, oldLength, nodeIndexes.length, NO_INDEX);
+            }
+            int nodeIndex = nodeIndexes[node];
+            if (nodeIndex == NO_INDEX) {
+                if (nodeCount == nodes.length) {
+                    nodes = Arrays.copyOf(nodes, nodeCount * 2);
+                }
+                nodeIndex = nodeCount++;
+                nodes[nodeIndex] = node;
+                nodeIndexes[node] = nodeIndex;
+            }
+            return nodeIndex;
+        }
+
+        Builder addNode(int node) {
+            addNodeIfAbsent(node);
+            return this;
+        }
+
+        private void addEdge(int node1, int node2, SwitchImpl s) {
+            if (edgeCount == edgeNodeIndexes1.length) {
+                edgeNodeIndexes1 = Arrays.copyOf(edgeNodeIndexes1, edgeCount * 2);
+                edgeNodeIndexes2 = Arrays.copyOf(edgeNodeIndexes2, edgeCount * 2);
+            }
+            edgeNodeIndexes1[edgeCount] = addNodeIfAbsent(node1);
+            edgeNodeIndexes2[edgeCount] = addNodeIfAbsent(node2);
+            edgeSwitches.add(s);
+            edgeCount++;
+        }
+
+        Builder addSwitch(SwitchImpl s) {
+            addEdge(s.getNode1(), s.getNode2(), s);
+            return this;
+        }
+
+        Builder addInternalConnection(int node1, int node2) {
+            addEdge(node1, node2, null);
+            return this;
+        }
+
+        NodeBreakerGraph build() {
+            // count edges of each node, a loop is only counted once
+            int[] adjacencyOffsets = new int[nodeCount + 1];
+            for (int edge = 0; edge < edgeCount; edge++) {
+                adjacencyOffsets[edgeNodeIndexes1[edge] + 1]++;
+                if (edgeNodeIndexes2[edge] != edgeNodeIndexes1[edge]) {
+                    adjacencyOffsets[edgeNodeIndexes2[edge] + 1]++;
+                }
+            }
+            for (int nodeIndex = 0; nodeIndex < nodeCount; nodeIndex++) {
+                adjacencyOffsets[nodeIndex + 1] += adjacencyOffsets[nodeIndex];
+            }
+
+            // fill adjacency keeping edges insertion order
+            int[] adjacentEdges = new int[adjacencyOffsets[nodeCount]];
+            int[] positions = Arrays.copyOf(adjacencyOffsets, nodeCount);
+            for (int edge = 0; edge < edgeCount; edge++) {
+                adjacentEdges[positions[edgeNodeIndexes1[edge]]++] = edge;
+                if (edgeNodeIndexes2[edge] != edgeNodeIndexes1[edge]) {
+                    adjacentEdges[positions[edgeNodeIndexes2[edge]]++] = edge;
+                }
+            }
+
+            int maximumNode = nodeIndexes.length - 1;
+            while (maximumNode >= 0 && nodeIndexes[maximumNode] == NO_INDEX) {
+                maximumNode--;
+            }
+
+            return new NodeBreakerGraph(Arrays.copyOf(nodes, nodeCount),
+                                        Arrays.copyOf(nodeIndexes, maximumNode + 1),
+                                        adjacencyOffsets,
+                                        adjacentEdges,
+                                        Arrays.copyOf(edgeNodeIndexes1, edgeCount),
+                                        Arrays.copyOf(edgeNodeIndexes2, edgeCount),
+                                        edgeSwitches.toArray(new SwitchImpl[0]));
+        }
+    }
+
+    private final int[] nodes;
+
+    private final int[] nodeIndexes;
+
+    private final int[] adjacencyOffsets;
+
+    private final int[] adjacentEdges;
+
+    private final int[] edgeNodeIndexes1;
+
+    private final int[] edgeNodeIndexes2;
+
+    private final SwitchImpl[] edgeSwitches;
+
+    private NodeBreakerGraph(int[] nodes, int[] nodeIndexes, int[] adjacencyOffsets, int[] adjacentEdges,
+                             int[] edgeNodeIndexes1, int[] edgeNodeIndexes2, SwitchImpl[] edgeSwitches) {
+        this.nodes = nodes;
+        this.nodeIndexes = nodeIndexes;
+        this.adjacencyOffsets = adjacencyOffsets;
+        this.adjacentEdges = adjacentEdges;
+        this.edgeNodeIndexes1 = edgeNodeIndexes1;
+        this.edgeNodeIndexes2 = edgeNodeIndexes2;
+        this.edgeSwitches = edgeSwitches;
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Get nodes in the order they have been added to the graph.
+     */
+    int[] getNodes() {
+        return nodes.clone();
+    }
+
+    int getMaximumNode() {
+        return Math.max(nodeIndexes.length - 1, 0);
+    }
+
+    private int getNodeIndex(int node) {
+        int nodeIndex = node >= 0 && node < nodeIndexes.length ? nodeIndexes[node] : NO_INDEX;
+        if (nodeIndex == NO_INDEX) {
+            throw new PowsyblException("Node " + node + " not found");
+        }
+        return nodeIndex;
+    }
+
+    /**
+     * Depth first traversal of the graph through closed switches and internal connections, starting from
+     * {@code node}. The traverser is called for each closed switch, and internal connections are always traversed.
+     * The traversal is iterative so that it does not depend on the depth of the graph.
+     */
+    void traverse(int node, VoltageLevel.NodeBreakerView.Traverser traverser) {
+        int startNodeIndex = getNodeIndex(node);
+
+        // each node is pushed at most once, so the stack cannot be deeper than the number of nodes
+        BitSet done = new BitSet(nodes.length);
+        int[] stackNodeIndexes = new int[nodes.length];
+        int[] stackPositions = new int[nodes.length];
+        int depth = 0;
+        done.set(startNodeIndex);
+        stackNodeIndexes[depth] = startNodeIndex;
+        stackPositions[depth] = adjacencyOffsets[startNodeIndex];
+        depth++;
+
+        while (depth > 0) {
+            int nodeIndex = stackNodeIndexes[depth - 1];
+            int position = stackPositions[depth - 1];
+            if (position == adjacencyOffsets[nodeIndex + 1]) {
+                // all edges of the node have been traversed
+                depth--;
+                continue;
+            }
+            stackPositions[depth - 1]++;
+
+            int edge = adjacentEdges[position];
+            SwitchImpl s = edgeSwitches[edge];
+            if (s != null && s.isOpen()) {
+                continue;
+            }
+            int nextNodeIndex = edgeNodeIndexes1[edge] == nodeIndex ? edgeNodeIndexes2[edge] : edgeNodeIndexes1[edge];
+            boolean traverse = s == null || traverser.traverse(nodes[nodeIndex], s, nodes[nextNodeIndex]);
+            if (traverse && !done.get(nextNodeIndex)) {
+                done.set(nextNodeIndex);
+                stackNodeIndexes[depth] = nextNodeIndex;
+                stackPositions[depth] = adjacencyOffsets[nextNodeIndex];
+                depth++;
+            }
+        }
+    }
+}
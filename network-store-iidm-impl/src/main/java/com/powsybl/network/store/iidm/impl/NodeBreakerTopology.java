@@ -8,7 +8,6 @@ package com.powsybl.network.store.iidm.impl;
 
 import com.powsybl.iidm.network.ConnectableType;
 import com.powsybl.network.store.model.*;
-import org.jgrapht.Graph;
 
 import java.util.List;
 import java.util.Map;
@@ -103,14 +102,31 @@ public class NodeBreakerTopology extends AbstractTopology<Integer> {
                 .collect(Collectors.toList()));
     }
 
+    /**
+     * Build the graph of the voltage level: nodes of equipments and all switches, open or closed, and internal
+     * connections. Switches are resolved once here, so that traversing the graph does not require any lookup.
+     */
+    NodeBreakerGraph buildNodeBreakerGraph(NetworkObjectIndex index, Resource<VoltageLevelAttributes> voltageLevelResource) {
+        NodeBreakerGraph.Builder builder = NodeBreakerGraph.builder();
+        for (Vertex vertex : buildVertices(index, voltageLevelResource)) {
+            builder.addNode(vertex.getNode());
+        }
+        for (Resource<SwitchAttributes> resource : index.getStoreClient().getVoltageLevelSwitches(index.getNetwork().getUuid(), voltageLevelResource.getId())) {
+            builder.addSwitch(index.getSwitch(resource.getId()).orElseThrow(IllegalStateException::new));
+        }
+        for (InternalConnectionAttributes attributes : voltageLevelResource.getAttributes().getInternalConnections()) {
+            builder.addInternalConnection(attributes.getNode1(), attributes.getNode2());
+        }
+        return builder.build();
+    }
+
     @Override
-    protected void buildEdges(NetworkObjectIndex index, Resource<VoltageLevelAttributes> voltageLevelResource, Graph<Integer, Edge> graph) {
-        super.buildEdges(index, voltageLevelResource, graph);
+    protected void buildLinks(NetworkObjectIndex index, Resource<VoltageLevelAttributes> voltageLevelResource,
+                              VoltageLevelConnectivity<Integer> connectivity) {
+        super.buildLinks(index, voltageLevelResource, connectivity);
 
         for (InternalConnectionAttributes attributes : voltageLevelResource.getAttributes().getInternalConnections()) {
-            ensureNodeOrBusExists(graph, attributes.getNode1());
-            ensureNodeOrBusExists(graph, attributes.getNode2());
-            graph.addEdge(attributes.getNode1(), attributes.getNode2(), attributes);
+            connectivity.addInternalConnection(attributes.getNode1(), attributes.getNode2());
         }
     }
 
@@ -9,14 +9,11 @@ package com.powsybl.network.store.iidm.impl;
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.iidm.network.*;
 import com.powsybl.network.store.model.*;
-import org.jgrapht.Graph;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
-import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -49,25 +46,24 @@ public class NodeBreakerViewImpl implements VoltageLevel.NodeBreakerView {
         }
     }
 
+    private NodeBreakerGraph getNodeBreakerGraph() {
+        return index.getVoltageLevel(voltageLevelResource.getId())
+                .orElseThrow(IllegalStateException::new)
+                .getNodeBreakerGraph();
+    }
+
     @Override
     public int getMaximumNodeIndex() {
         checkTopologyKind();
 
-        Graph<Integer, Edge> graph = NodeBreakerTopology.INSTANCE.buildGraph(index, voltageLevelResource);
-        return graph.vertexSet().stream()
-                .mapToInt(Integer::intValue)
-                .max()
-                .orElse(0);
+        return getNodeBreakerGraph().getMaximumNode();
     }
 
     @Override
     public int[] getNodes() {
         checkTopologyKind();
 
-        Graph<Integer, Edge> graph = NodeBreakerTopology.INSTANCE.buildGraph(index, voltageLevelResource);
-        return graph.vertexSet().stream()
-                .mapToInt(Integer::intValue)
-                .toArray();
+        return getNodeBreakerGraph().getNodes();
     }
 
     @Override
@@ -101,36 +97,13 @@ public class NodeBreakerViewImpl implements VoltageLevel.NodeBreakerView {
                 .orElse(null);
     }
 
-    private void traverse(Graph<Integer, Edge> graph, int node, Traverser traverser,
-                          Set<Integer> done) {
-        if (done.contains(node)) {
-            return;
-        }
-        done.add(node);
-
-        for (Edge edge : graph.edgesOf(node)) {
-            int nextNode = edge.getNode1() == node ? edge.getNode2() : edge.getNode1();
-            if (edge instanceof SwitchAttributes) {
-                Resource resource = ((SwitchAttributes) edge).getResource();
-                SwitchImpl s = index.getSwitch(resource.getId()).orElseThrow(IllegalStateException::new);
-                if (traverser.traverse(node, s, nextNode)) {
-                    traverse(graph, nextNode, traverser, done);
-                }
-            } else {
-                traverse(graph, nextNode, traverser, done);
-            }
-        }
-    }
-
     @Override
     public void traverse(int node, Traverser traverser) {
         Objects.requireNonNull(traverser);
 
         checkTopologyKind();
 
-        Graph<Integer, Edge> graph = NodeBreakerTopology.INSTANCE.buildGraph(index, voltageLevelResource);
-        Set<Integer> done = new HashSet<>();
-        traverse(graph, node, traverser, done);
+        getNodeBreakerGraph().traverse(node, traverser);
     }
 
     @Override
@@ -142,7 +115,7 @@ public class NodeBreakerViewImpl implements VoltageLevel.NodeBreakerView {
     @Override
     public InternalConnectionAdder newInternalConnection() {
         checkTopologyKind();
-        return new InternalConnectionAdderNodeBreakerImpl(voltageLevelResource);
+        return new InternalConnectionAdderNodeBreakerImpl(voltageLevelResource, index);
     }
 
     @Override
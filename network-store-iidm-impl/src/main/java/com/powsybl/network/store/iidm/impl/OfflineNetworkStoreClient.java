@@ -10,7 +10,9 @@ import com.powsybl.network.store.model.*;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -48,6 +50,21 @@ public class OfflineNetworkStoreClient implements NetworkStoreClient {
         // nothing to do
     }
 
+    @Override
+    public List<Resource<IdentifiableAttributes>> getResources(UUID networkUuid, Set<ResourceType> resourceTypes) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<Resource<IdentifiableAttributes>> getVoltageLevelResources(UUID networkUuid, String voltageLevelId, Set<ResourceType> resourceTypes) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public Optional<Resource<IdentifiableAttributes>> getIdentifiable(UUID networkUuid, String id) {
+        return Optional.empty();
+    }
+
     @Override
     public void createSubstations(UUID networkUuid, List<Resource<SubstationAttributes>> substationResources) {
         // nothing to do
@@ -103,6 +120,16 @@ public class OfflineNetworkStoreClient implements NetworkStoreClient {
         // nothing to do
     }
 
+    @Override
+    public Optional<CalculatedBusTopologyAttributes> getVoltageLevelCalculatedBusTopology(UUID networkUuid, String voltageLevelId) {
+        return Optional.empty();
+    }
+
+    @Override
+    public Map<String, CalculatedBusTopologyAttributes> getCalculatedBusTopologies(UUID networkUuid) {
+        return Collections.emptyMap();
+    }
+
     @Override
     public List<Resource<BusbarSectionAttributes>> getVoltageLevelBusbarSections(UUID networkUuid, String voltageLevelId) {
         return Collections.emptyList();
@@ -573,6 +600,11 @@ public class OfflineNetworkStoreClient implements NetworkStoreClient {
         return Optional.empty();
     }
 
+    @Override
+    public int getConfiguredBusCount(UUID networkUuid) {
+        return 0;
+    }
+
     @Override
     public void updateConfiguredBus(UUID networkUuid, Resource<ConfiguredBusAttributes> busesResource) {
         // nothing to do
@@ -583,6 +615,11 @@ public class OfflineNetworkStoreClient implements NetworkStoreClient {
         // nothing to do
     }
 
+    @Override
+    public void updateStateVariables(UUID networkUuid, List<StateVariables> stateVariables) {
+        // nothing to do
+    }
+
     @Override
     public void flush() {
         // nothing to do
@@ -34,7 +34,9 @@ public class PhaseTapChangerAdderImpl extends AbstractTapChangerAdder implements
 
     private double regulationValue = Double.NaN;
 
-    private String id;
+    private final AbstractIdentifiableImpl<?, ?> owner;
+
+    private final String attributeName;
 
     class StepAdderImpl implements StepAdder {
 
@@ -121,10 +123,11 @@ public class PhaseTapChangerAdderImpl extends AbstractTapChangerAdder implements
         }
     }
 
-    public PhaseTapChangerAdderImpl(NetworkObjectIndex index, TapChangerParentAttributes tapChangerParentAttributes, String id) {
+    public PhaseTapChangerAdderImpl(NetworkObjectIndex index, AbstractIdentifiableImpl<?, ?> owner, TapChangerParentAttributes tapChangerParentAttributes, String attributeName) {
         super(index);
+        this.owner = owner;
         this.tapChangerParentAttributes = tapChangerParentAttributes;
-        this.id = id;
+        this.attributeName = attributeName;
     }
 
     @Override
@@ -207,13 +210,14 @@ public class PhaseTapChangerAdderImpl extends AbstractTapChangerAdder implements
                 .regulatingTerminal(terminalRefAttributes)
                 .build();
         tapChangerParentAttributes.setPhaseTapChangerAttributes(phaseTapChangerAttributes);
+        owner.updateResource(attributeName);
 
         checkOnlyOneTapChangerRegulatingEnabled(this, tapChangerParentAttributes.getRatioTapChangerAttributes(), regulating);
         if (tapChangerParentAttributes.getRatioTapChangerAttributes() != null) {
             LOGGER.warn("{} has both Ratio and Phase Tap Changer", tapChangerParentAttributes);
         }
 
-        return new PhaseTapChangerImpl(index, phaseTapChangerAttributes);
+        return new PhaseTapChangerImpl(index, owner, attributeName, phaseTapChangerAttributes);
     }
 
     private static void checkPhaseTapChangerRegulation(Validable validable, PhaseTapChanger.RegulationMode regulationMode,
@@ -231,6 +235,6 @@ public class PhaseTapChangerAdderImpl extends AbstractTapChangerAdder implements
 
     @Override
     public String getMessageHeader() {
-        return "phaseTapChanger '" + id + "': ";
+        return "phaseTapChanger '" + owner.getId() + "': ";
     }
 }
@@ -13,6 +13,8 @@ import com.powsybl.network.store.model.PhaseTapChangerAttributes;
 import com.powsybl.network.store.model.TerminalRefAttributes;
 
 import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
@@ -23,30 +25,48 @@ public class PhaseTapChangerImpl implements PhaseTapChanger {
 
     private final NetworkObjectIndex index;
 
-    public PhaseTapChangerImpl(NetworkObjectIndex index, PhaseTapChangerAttributes attributes) {
+    private final AbstractIdentifiableImpl<?, ?> owner;
+
+    private final String attributeName;
+
+    // tap changer objects are created on each access, so state variables are keyed by the transformer and attribute name
+    private final String variantKey;
+
+    public PhaseTapChangerImpl(NetworkObjectIndex index, AbstractIdentifiableImpl<?, ?> owner, String attributeName, PhaseTapChangerAttributes attributes) {
         this.attributes = Objects.requireNonNull(attributes);
         this.index = Objects.requireNonNull(index);
+        this.owner = Objects.requireNonNull(owner);
+        this.attributeName = Objects.requireNonNull(attributeName);
+        variantKey = owner.getId() + "." + attributeName;
+    }
+
+    // like resource attributes, the transformer resource is only updated when the initial variant is modified
+    private <T> void setValue(String name, T value, Supplier<T> initialValueGetter, Consumer<T> initialValueSetter) {
+        index.getVariantManager().setValue(variantKey, name, value, initialValueGetter, initialValue -> {
+            initialValueSetter.accept(initialValue);
+            owner.updateResource(attributeName);
+        });
     }
 
     @Override
     public RegulationMode getRegulationMode() {
-        return attributes.getRegulationMode();
+        return index.getVariantManager().getValue(variantKey, "regulationMode", attributes::getRegulationMode);
     }
 
     @Override
     public PhaseTapChanger setRegulationMode(RegulationMode regulationMode) {
-        attributes.setRegulationMode(regulationMode);
+        setValue("regulationMode", regulationMode, attributes::getRegulationMode, attributes::setRegulationMode);
         return this;
     }
 
     @Override
     public double getRegulationValue() {
-        return attributes.getRegulationValue();
+        return index.getVariantManager().getValue(variantKey, "regulationValue", attributes::getRegulationValue);
     }
 
     @Override
     public PhaseTapChanger setRegulationValue(double regulationValue) {
-        attributes.setRegulationValue(regulationValue);
+        setValue("regulationValue", regulationValue, attributes::getRegulationValue, attributes::setRegulationValue);
         return this;
     }
 
@@ -58,6 +78,7 @@ public class PhaseTapChangerImpl implements PhaseTapChanger {
     @Override
     public PhaseTapChanger setLowTapPosition(int lowTapPosition) {
         attributes.setLowTapPosition(lowTapPosition);
+        owner.updateResource(attributeName);
         return this;
     }
 
@@ -68,12 +89,12 @@ public class PhaseTapChangerImpl implements PhaseTapChanger {
 
     @Override
     public int getTapPosition() {
-        return attributes.getTapPosition();
+        return index.getVariantManager().getValue(variantKey, "tapPosition", attributes::getTapPosition);
     }
 
     @Override
     public PhaseTapChanger setTapPosition(int tapPosition) {
-        attributes.setTapPosition(tapPosition);
+        setValue("tapPosition", tapPosition, attributes::getTapPosition, attributes::setTapPosition);
         return this;
     }
 
@@ -84,23 +105,23 @@ public class PhaseTapChangerImpl implements PhaseTapChanger {
 
     @Override
     public PhaseTapChangerStep getStep(int tapPosition) {
-        return new PhaseTapChangerStepImpl(attributes.getSteps().get(tapPosition - attributes.getLowTapPosition()));
+        return new PhaseTapChangerStepImpl(owner, attributeName, attributes.getSteps().get(tapPosition - attributes.getLowTapPosition()));
     }
 
     @Override
     public PhaseTapChangerStep getCurrentStep() {
-        return new PhaseTapChangerStepImpl(attributes.getSteps().get(attributes.getTapPosition() - attributes.getLowTapPosition()));
+        return new PhaseTapChangerStepImpl(owner, attributeName, attributes.getSteps().get(getTapPosition() - attributes.getLowTapPosition()));
 
     }
 
     @Override
     public boolean isRegulating() {
-        return attributes.isRegulating();
+        return index.getVariantManager().getValue(variantKey, "regulating", attributes::isRegulating);
     }
 
     @Override
     public PhaseTapChanger setRegulating(boolean regulating) {
-        attributes.setRegulating(regulating);
+        setValue("regulating", regulating, attributes::isRegulating, attributes::setRegulating);
         return this;
     }
 
@@ -113,6 +134,7 @@ public class PhaseTapChangerImpl implements PhaseTapChanger {
     @Override
     public PhaseTapChanger setRegulationTerminal(Terminal regulatingTerminal) {
         attributes.setRegulatingTerminal(TerminalRefUtils.getTerminalRefAttributes(regulatingTerminal));
+        owner.updateResource(attributeName);
         return this;
     }
 
@@ -124,6 +146,7 @@ public class PhaseTapChangerImpl implements PhaseTapChanger {
     @Override
     public PhaseTapChanger setTargetDeadband(double targetDeadband) {
         attributes.setTargetDeadband(targetDeadband);
+        owner.updateResource(attributeName);
         return this;
     }
 
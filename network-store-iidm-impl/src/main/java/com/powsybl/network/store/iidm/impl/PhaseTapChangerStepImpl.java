@@ -17,7 +17,13 @@ public class PhaseTapChangerStepImpl implements PhaseTapChangerStep {
 
     PhaseTapChangerStepAttributes attributes;
 
-    public PhaseTapChangerStepImpl(PhaseTapChangerStepAttributes attributes) {
+    private final AbstractIdentifiableImpl<?, ?> owner;
+
+    private final String attributeName;
+
+    public PhaseTapChangerStepImpl(AbstractIdentifiableImpl<?, ?> owner, String attributeName, PhaseTapChangerStepAttributes attributes) {
+        this.owner = owner;
+        this.attributeName = attributeName;
         this.attributes = attributes;
     }
 
@@ -29,6 +35,7 @@ public class PhaseTapChangerStepImpl implements PhaseTapChangerStep {
     @Override
     public PhaseTapChangerStepImpl setRho(double rho) {
         attributes.setRho(rho);
+        owner.updateResource(attributeName);
         return this;
     }
 
@@ -40,6 +47,7 @@ public class PhaseTapChangerStepImpl implements PhaseTapChangerStep {
     @Override
     public PhaseTapChangerStepImpl setR(double r) {
         attributes.setR(r);
+        owner.updateResource(attributeName);
         return this;
     }
 
@@ -51,6 +59,7 @@ public class PhaseTapChangerStepImpl implements PhaseTapChangerStep {
     @Override
     public PhaseTapChangerStepImpl setX(double x) {
         attributes.setX(x);
+        owner.updateResource(attributeName);
         return this;
     }
 
@@ -62,6 +71,7 @@ public class PhaseTapChangerStepImpl implements PhaseTapChangerStep {
     @Override
     public PhaseTapChangerStepImpl setB(double b) {
         attributes.setB(b);
+        owner.updateResource(attributeName);
         return this;
     }
 
@@ -73,6 +83,7 @@ public class PhaseTapChangerStepImpl implements PhaseTapChangerStep {
     @Override
     public PhaseTapChangerStepImpl setG(double g) {
         attributes.setG(g);
+        owner.updateResource(attributeName);
         return this;
     }
 
@@ -84,6 +95,7 @@ public class PhaseTapChangerStepImpl implements PhaseTapChangerStep {
     @Override
     public PhaseTapChangerStep setAlpha(double alpha) {
         attributes.setAlpha(alpha);
+        owner.updateResource(attributeName);
         return this;
     }
 }
@@ -34,7 +34,9 @@ public class RatioTapChangerAdderImpl extends AbstractTapChangerAdder implements
 
     private double targetV = Double.NaN;
 
-    private String id;
+    private final AbstractIdentifiableImpl<?, ?> owner;
+
+    private final String attributeName;
 
     class StepAdderImpl implements StepAdder {
 
@@ -108,10 +110,11 @@ public class RatioTapChangerAdderImpl extends AbstractTapChangerAdder implements
         }
     }
 
-    public RatioTapChangerAdderImpl(NetworkObjectIndex index, TapChangerParentAttributes tapChangerParentAttributes, String id) {
+    public RatioTapChangerAdderImpl(NetworkObjectIndex index, AbstractIdentifiableImpl<?, ?> owner, TapChangerParentAttributes tapChangerParentAttributes, String attributeName) {
         super(index);
+        this.owner = owner;
         this.tapChangerParentAttributes = tapChangerParentAttributes;
-        this.id = id;
+        this.attributeName = attributeName;
     }
 
     @Override
@@ -191,13 +194,14 @@ public class RatioTapChangerAdderImpl extends AbstractTapChangerAdder implements
                 .regulatingTerminal(terminalRefAttributes)
                 .build();
         tapChangerParentAttributes.setRatioTapChangerAttributes(ratioTapChangerAttributes);
+        owner.updateResource(attributeName);
 
         checkOnlyOneTapChangerRegulatingEnabled(this, tapChangerParentAttributes.getPhaseTapChangerAttributes(), regulating);
         if (tapChangerParentAttributes.getPhaseTapChangerAttributes() != null) {
             LOGGER.warn("{} has both Ratio and Phase Tap Changer", tapChangerParentAttributes);
         }
 
-        return new RatioTapChangerImpl(index, ratioTapChangerAttributes);
+        return new RatioTapChangerImpl(index, owner, attributeName, ratioTapChangerAttributes);
     }
 
     private void checkRatioTapChangerRegulation(Validable validable, boolean regulating, double targetV) {
@@ -213,6 +217,6 @@ public class RatioTapChangerAdderImpl extends AbstractTapChangerAdder implements
 
     @Override
     public String getMessageHeader() {
-        return "ratioTapChanger '" + id + "': ";
+        return "ratioTapChanger '" + owner.getId() + "': ";
     }
 }
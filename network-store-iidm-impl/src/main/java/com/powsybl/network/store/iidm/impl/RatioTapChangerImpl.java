@@ -13,6 +13,8 @@ import com.powsybl.network.store.model.RatioTapChangerAttributes;
 import com.powsybl.network.store.model.TerminalRefAttributes;
 
 import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
@@ -23,19 +25,37 @@ public class RatioTapChangerImpl implements RatioTapChanger {
 
     private final NetworkObjectIndex index;
 
-    public RatioTapChangerImpl(NetworkObjectIndex index, RatioTapChangerAttributes attributes) {
+    private final AbstractIdentifiableImpl<?, ?> owner;
+
+    private final String attributeName;
+
+    // tap changer objects are created on each access, so state variables are keyed by the transformer and attribute name
+    private final String variantKey;
+
+    public RatioTapChangerImpl(NetworkObjectIndex index, AbstractIdentifiableImpl<?, ?> owner, String attributeName, RatioTapChangerAttributes attributes) {
         this.attributes = Objects.requireNonNull(attributes);
         this.index = Objects.requireNonNull(index);
+        this.owner = Objects.requireNonNull(owner);
+        this.attributeName = Objects.requireNonNull(attributeName);
+        variantKey = owner.getId() + "." + attributeName;
+    }
+
+    // like resource attributes, the transformer resource is only updated when the initial variant is modified
+    private <T> void setValue(String name, T value, Supplier<T> initialValueGetter, Consumer<T> initialValueSetter) {
+        index.getVariantManager().setValue(variantKey, name, value, initialValueGetter, initialValue -> {
+            initialValueSetter.accept(initialValue);
+            owner.updateResource(attributeName);
+        });
     }
 
     @Override
     public double getTargetV() {
-        return attributes.getTargetV();
+        return index.getVariantManager().getValue(variantKey, "targetV", attributes::getTargetV);
     }
 
     @Override
     public RatioTapChanger setTargetV(double targetV) {
-        attributes.setTargetV(targetV);
+        setValue("targetV", targetV, attributes::getTargetV, attributes::setTargetV);
         return this;
     }
 
@@ -47,6 +67,7 @@ public class RatioTapChangerImpl implements RatioTapChanger {
     @Override
     public RatioTapChanger setLoadTapChangingCapabilities(boolean status) {
         attributes.setLoadTapChangingCapabilities(status);
+        owner.updateResource(attributeName);
         return this;
     }
 
@@ -58,6 +79,7 @@ public class RatioTapChangerImpl implements RatioTapChanger {
     @Override
     public RatioTapChanger setLowTapPosition(int lowTapPosition) {
         attributes.setLowTapPosition(lowTapPosition);
+        owner.updateResource(attributeName);
         return this;
     }
 
@@ -68,12 +90,12 @@ public class RatioTapChangerImpl implements RatioTapChanger {
 
     @Override
     public int getTapPosition() {
-        return attributes.getTapPosition();
+        return index.getVariantManager().getValue(variantKey, "tapPosition", attributes::getTapPosition);
     }
 
     @Override
     public RatioTapChanger setTapPosition(int tapPosition) {
-        attributes.setTapPosition(tapPosition);
+        setValue("tapPosition", tapPosition, attributes::getTapPosition, attributes::setTapPosition);
         return this;
     }
 
@@ -84,22 +106,22 @@ public class RatioTapChangerImpl implements RatioTapChanger {
 
     @Override
     public RatioTapChangerStep getStep(int tapPosition) {
-        return new RatioTapChangerStepImpl(attributes.getSteps().get(tapPosition - attributes.getLowTapPosition()));
+        return new RatioTapChangerStepImpl(owner, attributeName, attributes.getSteps().get(tapPosition - attributes.getLowTapPosition()));
     }
 
     @Override
     public RatioTapChangerStep getCurrentStep() {
-        return new RatioTapChangerStepImpl(attributes.getSteps().get(attributes.getTapPosition() - attributes.getLowTapPosition()));
+        return new RatioTapChangerStepImpl(owner, attributeName, attributes.getSteps().get(getTapPosition() - attributes.getLowTapPosition()));
     }
 
     @Override
     public boolean isRegulating() {
-        return attributes.isRegulating();
+        return index.getVariantManager().getValue(variantKey, "regulating", attributes::isRegulating);
     }
 
     @Override
     public RatioTapChanger setRegulating(boolean regulating) {
-        attributes.setRegulating(regulating);
+        setValue("regulating", regulating, attributes::isRegulating, attributes::setRegulating);
         return this;
     }
 
@@ -112,6 +134,7 @@ public class RatioTapChangerImpl implements RatioTapChanger {
     @Override
     public RatioTapChanger setRegulationTerminal(Terminal regulatingTerminal) {
         attributes.setRegulatingTerminal(TerminalRefUtils.getTerminalRefAttributes(regulatingTerminal));
+        owner.updateResource(attributeName);
         return this;
     }
 
@@ -129,6 +152,7 @@ public class RatioTapChangerImpl implements RatioTapChanger {
     @Override
     public RatioTapChanger setTargetDeadband(double targetDeadBand) {
         attributes.setTargetDeadband(targetDeadBand);
+        owner.updateResource(attributeName);
         return this;
     }
 }
@@ -16,7 +16,13 @@ public class RatioTapChangerStepImpl implements RatioTapChangerStep {
 
     RatioTapChangerStepAttributes attributes;
 
-    RatioTapChangerStepImpl(RatioTapChangerStepAttributes attributes) {
+    private final AbstractIdentifiableImpl<?, ?> owner;
+
+    private final String attributeName;
+
+    RatioTapChangerStepImpl(AbstractIdentifiableImpl<?, ?> owner, String attributeName, RatioTapChangerStepAttributes attributes) {
+        this.owner = owner;
+        this.attributeName = attributeName;
         this.attributes = attributes;
     }
 
@@ -28,6 +34,7 @@ public class RatioTapChangerStepImpl implements RatioTapChangerStep {
     @Override
     public RatioTapChangerStepImpl setRho(double rho) {
         attributes.setRho(rho);
+        owner.updateResource(attributeName);
         return this;
     }
 
@@ -39,6 +46,7 @@ public class RatioTapChangerStepImpl implements RatioTapChangerStep {
     @Override
     public RatioTapChangerStepImpl setR(double r) {
         attributes.setR(r);
+        owner.updateResource(attributeName);
         return this;
     }
 
@@ -50,6 +58,7 @@ public class RatioTapChangerStepImpl implements RatioTapChangerStep {
     @Override
     public RatioTapChangerStepImpl setX(double x) {
         attributes.setX(x);
+        owner.updateResource(attributeName);
         return this;
     }
 
@@ -61,6 +70,7 @@ public class RatioTapChangerStepImpl implements RatioTapChangerStep {
     @Override
     public RatioTapChangerStepImpl setG(double g) {
         attributes.setG(g);
+        owner.updateResource(attributeName);
         return this;
     }
 
@@ -72,6 +82,7 @@ public class RatioTapChangerStepImpl implements RatioTapChangerStep {
     @Override
     public RatioTapChangerStepImpl setB(double b) {
         attributes.setB(b);
+        owner.updateResource(attributeName);
         return this;
     }
 }
@@ -44,12 +44,12 @@ public class ShuntCompensatorImpl extends AbstractInjectionImpl<ShuntCompensator
 
     @Override
     public int getSectionCount() {
-        return resource.getAttributes().getSectionCount();
+        return index.getVariantManager().getValue(this, "sectionCount", resource.getAttributes()::getSectionCount);
     }
 
     @Override
     public ShuntCompensator setSectionCount(int sectionCount) {
-        resource.getAttributes().setSectionCount(sectionCount);
+        index.getVariantManager().setValue(this, "sectionCount", sectionCount, resource.getAttributes()::getSectionCount, resource.getAttributes()::setSectionCount);
         return this;
     }
 
@@ -93,9 +93,9 @@ public class ShuntCompensatorImpl extends AbstractInjectionImpl<ShuntCompensator
     public ShuntCompensatorModel getModel() {
         ShuntCompensatorModelAttributes shuntCompensatorModelAttributes = resource.getAttributes().getModel();
         if (shuntCompensatorModelAttributes.getType() == ShuntCompensatorModelType.LINEAR) {
-            return new ShuntCompensatorLinearModelImpl((ShuntCompensatorLinearModelAttributes) shuntCompensatorModelAttributes);
+            return new ShuntCompensatorLinearModelImpl(this, (ShuntCompensatorLinearModelAttributes) shuntCompensatorModelAttributes);
         } else {
-            return new ShuntCompensatorNonLinearModelImpl((ShuntCompensatorNonLinearModelAttributes) shuntCompensatorModelAttributes);
+            return new ShuntCompensatorNonLinearModelImpl(this, (ShuntCompensatorNonLinearModelAttributes) shuntCompensatorModelAttributes);
         }
     }
 
@@ -115,12 +115,12 @@ public class ShuntCompensatorImpl extends AbstractInjectionImpl<ShuntCompensator
 
     @Override
     public boolean isVoltageRegulatorOn() {
-        return resource.getAttributes().isVoltageRegulatorOn();
+        return index.getVariantManager().getValue(this, "voltageRegulatorOn", resource.getAttributes()::isVoltageRegulatorOn);
     }
 
     @Override
     public ShuntCompensator setVoltageRegulatorOn(boolean voltageRegulatorOn) {
-        resource.getAttributes().setVoltageRegulatorOn(voltageRegulatorOn);
+        index.getVariantManager().setValue(this, "voltageRegulatorOn", voltageRegulatorOn, resource.getAttributes()::isVoltageRegulatorOn, resource.getAttributes()::setVoltageRegulatorOn);
         return this;
     }
 
@@ -139,12 +139,12 @@ public class ShuntCompensatorImpl extends AbstractInjectionImpl<ShuntCompensator
 
     @Override
     public double getTargetV() {
-        return resource.getAttributes().getTargetV();
+        return index.getVariantManager().getValue(this, "targetV", resource.getAttributes()::getTargetV);
     }
 
     @Override
     public ShuntCompensator setTargetV(double targetV) {
-        resource.getAttributes().setTargetV(targetV);
+        index.getVariantManager().setValue(this, "targetV", targetV, resource.getAttributes()::getTargetV, resource.getAttributes()::setTargetV);
         return this;
     }
 
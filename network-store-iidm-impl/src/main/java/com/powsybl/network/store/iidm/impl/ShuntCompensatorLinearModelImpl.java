@@ -14,14 +14,17 @@ import com.powsybl.network.store.model.ShuntCompensatorLinearModelAttributes;
  */
 public class ShuntCompensatorLinearModelImpl implements ShuntCompensatorLinearModel {
 
+    private final ShuntCompensatorImpl shuntCompensator;
+
     private final ShuntCompensatorLinearModelAttributes attributes;
 
-    public ShuntCompensatorLinearModelImpl(ShuntCompensatorLinearModelAttributes attributes) {
+    public ShuntCompensatorLinearModelImpl(ShuntCompensatorImpl shuntCompensator, ShuntCompensatorLinearModelAttributes attributes) {
+        this.shuntCompensator = shuntCompensator;
         this.attributes = attributes;
     }
 
-    static ShuntCompensatorLinearModelImpl create(ShuntCompensatorLinearModelAttributes attributes) {
-        return new ShuntCompensatorLinearModelImpl(attributes);
+    static ShuntCompensatorLinearModelImpl create(ShuntCompensatorImpl shuntCompensator, ShuntCompensatorLinearModelAttributes attributes) {
+        return new ShuntCompensatorLinearModelImpl(shuntCompensator, attributes);
     }
 
     @Override
@@ -32,6 +35,7 @@ public class ShuntCompensatorLinearModelImpl implements ShuntCompensatorLinearMo
     @Override
     public ShuntCompensatorLinearModel setBPerSection(double bPerSection) {
         attributes.setBPerSection(bPerSection);
+        shuntCompensator.updateResource("model");
         return this;
     }
 
@@ -43,12 +47,14 @@ public class ShuntCompensatorLinearModelImpl implements ShuntCompensatorLinearMo
     @Override
     public ShuntCompensatorLinearModel setGPerSection(double gPerSection) {
         attributes.setGPerSection(gPerSection);
+        shuntCompensator.updateResource("model");
         return this;
     }
 
     @Override
     public ShuntCompensatorLinearModel setMaximumSectionCount(int maximumSectionCount) {
         attributes.setMaximumSectionCount(maximumSectionCount);
+        shuntCompensator.updateResource("model");
         return this;
     }
 }
@@ -20,16 +20,15 @@ public class ShuntCompensatorNonLinearModelImpl implements ShuntCompensatorNonLi
 
     static class SectionImpl implements Section {
 
+        private final ShuntCompensatorImpl shuntCompensator;
+
         private final ShuntCompensatorNonLinearSectionAttributes attributes;
 
-        public SectionImpl(ShuntCompensatorNonLinearSectionAttributes attributes) {
+        public SectionImpl(ShuntCompensatorImpl shuntCompensator, ShuntCompensatorNonLinearSectionAttributes attributes) {
+            this.shuntCompensator = shuntCompensator;
             this.attributes = attributes;
         }
 
-        static SectionImpl create(ShuntCompensatorNonLinearSectionAttributes attributes) {
-            return new SectionImpl(attributes);
-        }
-
         @Override
         public double getB() {
             return attributes.getB();
@@ -38,6 +37,7 @@ public class ShuntCompensatorNonLinearModelImpl implements ShuntCompensatorNonLi
         @Override
         public Section setB(double b) {
             attributes.setB(b);
+            shuntCompensator.updateResource("model");
             return this;
         }
 
@@ -49,22 +49,26 @@ public class ShuntCompensatorNonLinearModelImpl implements ShuntCompensatorNonLi
         @Override
         public Section setG(double g) {
             attributes.setG(g);
+            shuntCompensator.updateResource("model");
             return this;
         }
     }
 
+    private final ShuntCompensatorImpl shuntCompensator;
+
     private final ShuntCompensatorNonLinearModelAttributes attributes;
 
-    public ShuntCompensatorNonLinearModelImpl(ShuntCompensatorNonLinearModelAttributes attributes) {
+    public ShuntCompensatorNonLinearModelImpl(ShuntCompensatorImpl shuntCompensator, ShuntCompensatorNonLinearModelAttributes attributes) {
+        this.shuntCompensator = shuntCompensator;
         this.attributes = attributes;
     }
 
-    static ShuntCompensatorNonLinearModelImpl create(ShuntCompensatorNonLinearModelAttributes attributes) {
-        return new ShuntCompensatorNonLinearModelImpl(attributes);
+    static ShuntCompensatorNonLinearModelImpl create(ShuntCompensatorImpl shuntCompensator, ShuntCompensatorNonLinearModelAttributes attributes) {
+        return new ShuntCompensatorNonLinearModelImpl(shuntCompensator, attributes);
     }
 
     @Override
     public List<Section> getAllSections() {
-        return attributes.getSections().stream().map(SectionImpl::create).collect(Collectors.toList());
+        return attributes.getSections().stream().map(section -> new SectionImpl(shuntCompensator, section)).collect(Collectors.toList());
     }
 }
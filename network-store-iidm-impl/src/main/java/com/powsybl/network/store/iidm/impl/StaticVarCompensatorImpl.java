@@ -66,34 +66,34 @@ public class StaticVarCompensatorImpl extends AbstractInjectionImpl<StaticVarCom
 
     @Override
     public double getVoltageSetpoint() {
-        return resource.getAttributes().getVoltageSetPoint();
+        return index.getVariantManager().getValue(this, "voltageSetpoint", resource.getAttributes()::getVoltageSetPoint);
     }
 
     @Override
     public StaticVarCompensator setVoltageSetpoint(double voltageSetPoint) {
-        resource.getAttributes().setVoltageSetPoint(voltageSetPoint);
+        index.getVariantManager().setValue(this, "voltageSetpoint", voltageSetPoint, resource.getAttributes()::getVoltageSetPoint, resource.getAttributes()::setVoltageSetPoint);
         return this;
     }
 
     @Override
     public double getReactivePowerSetpoint() {
-        return resource.getAttributes().getReactivePowerSetPoint();
+        return index.getVariantManager().getValue(this, "reactivePowerSetpoint", resource.getAttributes()::getReactivePowerSetPoint);
     }
 
     @Override
     public StaticVarCompensator setReactivePowerSetpoint(double reactivePowerSetPoint) {
-        resource.getAttributes().setReactivePowerSetPoint(reactivePowerSetPoint);
+        index.getVariantManager().setValue(this, "reactivePowerSetpoint", reactivePowerSetPoint, resource.getAttributes()::getReactivePowerSetPoint, resource.getAttributes()::setReactivePowerSetPoint);
         return this;
     }
 
     @Override
     public RegulationMode getRegulationMode() {
-        return resource.getAttributes().getRegulationMode();
+        return index.getVariantManager().getValue(this, "regulationMode", resource.getAttributes()::getRegulationMode);
     }
 
     @Override
     public StaticVarCompensator setRegulationMode(RegulationMode regulationMode) {
-        resource.getAttributes().setRegulationMode(regulationMode);
+        index.getVariantManager().setValue(this, "regulationMode", regulationMode, resource.getAttributes()::getRegulationMode, resource.getAttributes()::setRegulationMode);
         return this;
     }
 
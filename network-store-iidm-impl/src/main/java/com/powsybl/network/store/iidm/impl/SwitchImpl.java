@@ -50,19 +50,27 @@ public class SwitchImpl extends AbstractIdentifiableImpl<Switch, SwitchAttribute
         return resource.getAttributes().getBus2();
     }
 
+    /**
+     * Switch state in the working variant. State variable is owned by the switch id, so that topology can read it
+     * from the switch resource without creating the switch object.
+     */
+    static boolean isOpen(NetworkObjectIndex index, Resource<SwitchAttributes> resource) {
+        return index.getVariantManager().getValue(resource.getId(), "open", resource.getAttributes()::isOpen);
+    }
+
     @Override
     public boolean isOpen() {
-        return resource.getAttributes().isOpen();
+        return isOpen(index, resource);
     }
 
     @Override
     public void setOpen(boolean open) {
-        boolean wasOpen = resource.getAttributes().isOpen();
+        boolean wasOpen = isOpen();
         if (open != wasOpen) {
-            resource.getAttributes().setOpen(open);
+            index.getVariantManager().setValue(resource.getId(), "open", open, resource.getAttributes()::isOpen, resource.getAttributes()::setOpen);
 
-            // invalidate calculated buses
-            getVoltageLevel().invalidateCalculatedBuses();
+            // update calculated buses
+            getVoltageLevel().updateCalculatedBuses(resource.getId(), open);
         }
     }
 
@@ -24,16 +24,26 @@ class TerminalBusViewImpl<U extends InjectionAttributes> implements Terminal.Bus
 
     private final U attributes;
 
+    private volatile VoltageLevelImpl voltageLevel;
+
+    // calculated bus of the terminal, valid as long as calculated buses of the voltage level have the same version
+    private Bus bus;
+
+    private int busVersion = -1;
+
     TerminalBusViewImpl(NetworkObjectIndex index, U attributes) {
         this.index = Objects.requireNonNull(index);
         this.attributes = attributes;
     }
 
-    @Override
-    public Bus getBus() {
-        VoltageLevelImpl voltageLevel = index.getVoltageLevel(attributes.getVoltageLevelId()).orElseThrow(IllegalStateException::new);
-        Resource<VoltageLevelAttributes> voltageLevelResource = voltageLevel.getResource();
+    private VoltageLevelImpl getVoltageLevel() {
+        if (voltageLevel == null) {
+            voltageLevel = index.getVoltageLevel(attributes.getVoltageLevelId()).orElseThrow(IllegalStateException::new);
+        }
+        return voltageLevel;
+    }
 
+    private Bus calculateBus(Resource<VoltageLevelAttributes> voltageLevelResource) {
         if (voltageLevelResource.getAttributes().getTopologyKind() == TopologyKind.NODE_BREAKER) {
             return NodeBreakerTopology.INSTANCE.calculateBus(index, voltageLevelResource, attributes.getNode());
         } else {
@@ -41,6 +51,22 @@ class TerminalBusViewImpl<U extends InjectionAttributes> implements Terminal.Bus
         }
     }
 
+    @Override
+    public Bus getBus() {
+        VoltageLevelImpl vl = getVoltageLevel();
+        Resource<VoltageLevelAttributes> voltageLevelResource = vl.getResource();
+        // cached bus is shared by all the threads working on the network and follows calculated buses of the voltage
+        // level in the working variant, as versions of calculated buses are unique across variants
+        synchronized (vl) {
+            if (busVersion != vl.getCalculatedBusesVersion() || !vl.getCalculatedBusesResource().getAttributes().isCalculatedBusesValid()) {
+                bus = calculateBus(voltageLevelResource);
+                // version is read after calculation as calculated buses may have been updated by the calculation
+                busVersion = vl.getCalculatedBusesVersion();
+            }
+            return bus;
+        }
+    }
+
     @Override
     public Bus getConnectableBus() {
         throw new UnsupportedOperationException("TODO");
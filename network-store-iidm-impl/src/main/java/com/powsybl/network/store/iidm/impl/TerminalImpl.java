@@ -69,23 +69,23 @@ public class TerminalImpl<U extends InjectionAttributes> implements Terminal {
 
     @Override
     public double getP() {
-        return attributes.getP();
+        return index.getVariantManager().getValue(this, "p", attributes::getP);
     }
 
     @Override
     public Terminal setP(double p) {
-        attributes.setP(p);
+        index.getVariantManager().setValue(this, "p", p, attributes::getP, attributes::setP);
         return this;
     }
 
     @Override
     public double getQ() {
-        return attributes.getQ();
+        return index.getVariantManager().getValue(this, "q", attributes::getQ);
     }
 
     @Override
     public Terminal setQ(double q) {
-        attributes.setQ(q);
+        index.getVariantManager().setValue(this, "q", q, attributes::getQ, attributes::setQ);
         return this;
     }
 
@@ -48,6 +48,11 @@ public class ThreeWindingsTransformerImpl extends AbstractIdentifiableImpl<Three
             this.index = index;
         }
 
+        // leg attributes are saved in columns suffixed by the leg number
+        private void updateResource(String attributeName) {
+            transformer.updateResource(attributeName + attributes.getLegNumber());
+        }
+
         @Override
         public Terminal getTerminal() {
             if (attributes.getLegNumber() == 1) {
@@ -69,6 +74,7 @@ public class ThreeWindingsTransformerImpl extends AbstractIdentifiableImpl<Three
         @Override
         public Leg setR(double r) {
             attributes.setR(r);
+            updateResource("r");
             return this;
         }
 
@@ -80,6 +86,7 @@ public class ThreeWindingsTransformerImpl extends AbstractIdentifiableImpl<Three
         @Override
         public Leg setX(double x) {
             attributes.setX(x);
+            updateResource("x");
             return this;
         }
 
@@ -91,6 +98,7 @@ public class ThreeWindingsTransformerImpl extends AbstractIdentifiableImpl<Three
         @Override
         public Leg setG(double g) {
             attributes.setG(g);
+            updateResource("g");
             return this;
         }
 
@@ -102,6 +110,7 @@ public class ThreeWindingsTransformerImpl extends AbstractIdentifiableImpl<Three
         @Override
         public Leg setB(double b) {
             attributes.setB(b);
+            updateResource("b");
             return this;
         }
 
@@ -113,16 +122,22 @@ public class ThreeWindingsTransformerImpl extends AbstractIdentifiableImpl<Three
         @Override
         public Leg setRatedU(double ratedU) {
             attributes.setRatedU(ratedU);
+            updateResource("ratedU");
             return this;
         }
 
         @Override
         public CurrentLimits getCurrentLimits() {
             return attributes.getCurrentLimitsAttributes() != null
-                    ? new CurrentLimitsImpl(attributes.getCurrentLimitsAttributes())
+                    ? new CurrentLimitsImpl(transformer, "currentLimits" + attributes.getLegNumber(), attributes.getCurrentLimitsAttributes())
                     : null;
         }
 
+        @Override
+        public CurrentLimits getCurrentLimits(Void side) {
+            return getCurrentLimits();
+        }
+
         @Override
         public CurrentLimitsAdder newCurrentLimits() {
             return new CurrentLimitsAdderImpl<>(null, this);
@@ -130,27 +145,28 @@ public class ThreeWindingsTransformerImpl extends AbstractIdentifiableImpl<Three
 
         @Override
         public PhaseTapChangerAdder newPhaseTapChanger() {
-            return new PhaseTapChangerAdderImpl(index, attributes, transformer.getId());
+            return new PhaseTapChangerAdderImpl(index, transformer, attributes, "phaseTapChanger" + attributes.getLegNumber());
         }
 
         @Override
         public RatioTapChangerAdder newRatioTapChanger() {
-            return new RatioTapChangerAdderImpl(index, attributes, transformer.getId());
+            return new RatioTapChangerAdderImpl(index, transformer, attributes, "ratioTapChanger" + attributes.getLegNumber());
         }
 
         @Override
         public PhaseTapChanger getPhaseTapChanger() {
-            return attributes.getPhaseTapChangerAttributes() != null ? new PhaseTapChangerImpl(index, attributes.getPhaseTapChangerAttributes()) : null;
+            return attributes.getPhaseTapChangerAttributes() != null ? new PhaseTapChangerImpl(index, transformer, "phaseTapChanger" + attributes.getLegNumber(), attributes.getPhaseTapChangerAttributes()) : null;
         }
 
         @Override
         public RatioTapChanger getRatioTapChanger() {
-            return attributes.getRatioTapChangerAttributes() != null ? new RatioTapChangerImpl(index, attributes.getRatioTapChangerAttributes()) : null;
+            return attributes.getRatioTapChangerAttributes() != null ? new RatioTapChangerImpl(index, transformer, "ratioTapChanger" + attributes.getLegNumber(), attributes.getRatioTapChangerAttributes()) : null;
         }
 
         @Override
         public void setCurrentLimits(Void side, CurrentLimitsAttributes currentLimitsAttributes) {
             this.attributes.setCurrentLimitsAttributes(currentLimitsAttributes);
+            updateResource("currentLimits");
         }
 
         @Override
@@ -162,6 +178,7 @@ public class ThreeWindingsTransformerImpl extends AbstractIdentifiableImpl<Three
         public Leg setRatedS(double ratedS) {
             ValidationUtil.checkRatedS(this, ratedS);
             attributes.setRatedS(ratedS);
+            updateResource("ratedS");
             return this;
         }
 
@@ -187,9 +204,9 @@ public class ThreeWindingsTransformerImpl extends AbstractIdentifiableImpl<Three
         ConnectablePositionAttributes cpa3 = resource.getAttributes().getPosition3();
         if (cpa1 != null && cpa2 != null && cpa3 != null) {
             connectablePositionExtension = new ConnectablePositionImpl<>(this, null,
-                    new ConnectablePositionImpl.FeederImpl(cpa1),
-                    new ConnectablePositionImpl.FeederImpl(cpa2),
-                    new ConnectablePositionImpl.FeederImpl(cpa3));
+                    new ConnectablePositionImpl.FeederImpl(this, "position1", cpa1),
+                    new ConnectablePositionImpl.FeederImpl(this, "position2", cpa2),
+                    new ConnectablePositionImpl.FeederImpl(this, "position3", cpa3));
         }
     }
 
@@ -303,9 +320,9 @@ public class ThreeWindingsTransformerImpl extends AbstractIdentifiableImpl<Three
                 .build();
         return new ConnectablePositionImpl<>(this,
                 null,
-                new ConnectablePositionImpl.FeederImpl(cpa1),
-                new ConnectablePositionImpl.FeederImpl(cpa2),
-                new ConnectablePositionImpl.FeederImpl(cpa3)
+                new ConnectablePositionImpl.FeederImpl(this, "position1", cpa1),
+                new ConnectablePositionImpl.FeederImpl(this, "position2", cpa2),
+                new ConnectablePositionImpl.FeederImpl(this, "position3", cpa3)
                 );
     }
 
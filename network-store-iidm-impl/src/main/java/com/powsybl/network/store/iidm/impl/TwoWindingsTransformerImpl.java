@@ -42,18 +42,18 @@ public class TwoWindingsTransformerImpl extends AbstractBranchImpl<TwoWindingsTr
 
     @Override
     public RatioTapChangerAdder newRatioTapChanger() {
-        return new RatioTapChangerAdderImpl(index, resource.getAttributes(), getId());
+        return new RatioTapChangerAdderImpl(index, this, resource.getAttributes(), "ratioTapChanger");
     }
 
     @Override
     public PhaseTapChangerAdder newPhaseTapChanger() {
-        return new PhaseTapChangerAdderImpl(index, resource.getAttributes(), getId());
+        return new PhaseTapChangerAdderImpl(index, this, resource.getAttributes(), "phaseTapChanger");
     }
 
     @Override
     public RatioTapChanger getRatioTapChanger() {
         if (resource.getAttributes().getRatioTapChangerAttributes() != null) {
-            return new RatioTapChangerImpl(index, resource.getAttributes().getRatioTapChangerAttributes());
+            return new RatioTapChangerImpl(index, this, "ratioTapChanger", resource.getAttributes().getRatioTapChangerAttributes());
         }
         return null;
     }
@@ -61,7 +61,7 @@ public class TwoWindingsTransformerImpl extends AbstractBranchImpl<TwoWindingsTr
     @Override
     public PhaseTapChanger getPhaseTapChanger() {
         if (resource.getAttributes().getPhaseTapChangerAttributes() != null) {
-            return new PhaseTapChangerImpl(index, resource.getAttributes().getPhaseTapChangerAttributes());
+            return new PhaseTapChangerImpl(index, this, "phaseTapChanger", resource.getAttributes().getPhaseTapChangerAttributes());
         }
         return null;
     }
@@ -6,65 +6,385 @@
  */
 package com.powsybl.network.store.iidm.impl;
 
+import com.powsybl.commons.PowsyblException;
 import com.powsybl.iidm.network.VariantManager;
 import com.powsybl.iidm.network.VariantManagerConstants;
 
-import java.util.Collection;
-import java.util.Collections;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
+ * State variables of the initial variant are the ones of the resources, so they are persisted as usual. Other variants
+ * only store in memory the state variables that differ from the initial variant: a new variant shares everything with
+ * its source and a state variable is copied on write, either when it is modified in the variant or when it is modified
+ * in the initial variant and the variant still shares its value. Other variants are not persisted.
+ * <p>
+ * State variables are identified by an owner key, compared with equals, and an attribute name. Owner key is either
+ * the implementation object itself, which is unique in a network, or a stable id for state variables of objects that
+ * may be recreated, like calculated buses.
+ * <p>
+ * Each variant also has its own caches, like calculated buses of a voltage level whose switch states differ from the
+ * initial variant or network components. Caches are computed from the state variables of the variant, so they are
+ * never shared with other variants: they are not copied when the variant is cloned and dropped with the variant.
+ *
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
 public class VariantManagerImpl implements VariantManager {
 
+    private static final int INITIAL_VARIANT_INDEX = 0;
+
+    private static final Object NULL_VALUE = new Object();
+
+    private interface VariantContext {
+
+        Variant getVariant();
+
+        void setVariant(Variant variant);
+
+        void resetIfVariantIs(Variant variant, Variant initialVariant);
+
+        boolean isVariantSet();
+    }
+
+    private static final class SingleVariantContext implements VariantContext {
+
+        private volatile Variant variant;
+
+        private SingleVariantContext(Variant variant) {
+            this.variant = variant;
+        }
+
+        @Override
+        public Variant getVariant() {
+            return variant;
+        }
+
+        @Override
+        public void setVariant(Variant variant) {
+            this.variant = variant;
+        }
+
+        @Override
+        public void resetIfVariantIs(Variant variant, Variant initialVariant) {
+            if (this.variant == variant) {
+                this.variant = initialVariant;
+            }
+        }
+
+        @Override
+        public boolean isVariantSet() {
+            return true;
+        }
+    }
+
+    /**
+     * Each thread has its own working variant, which has to be explicitly set. A variant removed by another thread is
+     * detected on next access, see {@link #getWorkingVariant()}.
+     */
+    private static final class ThreadLocalVariantContext implements VariantContext {
+
+        private final ThreadLocal<Variant> variant = new ThreadLocal<>();
+
+        @Override
+        public Variant getVariant() {
+            Variant v = variant.get();
+            if (v == null) {
+                throw new PowsyblException("Variant index not set");
+            }
+            return v;
+        }
+
+        @Override
+        public void setVariant(Variant variant) {
+            this.variant.set(variant);
+        }
+
+        @Override
+        public void resetIfVariantIs(Variant variant, Variant initialVariant) {
+            if (this.variant.get() == variant) {
+                this.variant.remove();
+            }
+        }
+
+        @Override
+        public boolean isVariantSet() {
+            return variant.get() != null;
+        }
+    }
+
+    /**
+     * State variables of a variant which differ from the initial variant, by owner key and then by attribute name,
+     * and caches of the variant, by owner key and then by cache name.
+     */
+    private static final class Variant {
+
+        private final String id;
+
+        private final int index;
+
+        private final Map<Object, Map<String, Object>> values;
+
+        private final Map<Object, Map<String, Object>> caches = new HashMap<>();
+
+        private Variant(String id, int index) {
+            this(id, index, new HashMap<>());
+        }
+
+        private Variant(String id, int index, Map<Object, Map<String, Object>> values) {
+            this.id = id;
+            this.index = index;
+            this.values = values;
+        }
+
+        private synchronized Object getValue(Object owner, String attribute) {
+            Map<String, Object> ownerValues = values.get(owner);
+            return ownerValues != null ? ownerValues.get(attribute) : null;
+        }
+
+        private synchronized void setValue(Object owner, String attribute, Object value) {
+            values.computeIfAbsent(owner, k -> new HashMap<>()).put(attribute, value);
+        }
+
+        private synchronized void setValueIfAbsent(Object owner, String attribute, Object value) {
+            values.computeIfAbsent(owner, k -> new HashMap<>()).putIfAbsent(attribute, value);
+        }
+
+        private synchronized Object getCache(Object owner, String name, Supplier<?> cacheSupplier) {
+            return caches.computeIfAbsent(owner, k -> new HashMap<>()).computeIfAbsent(name, k -> cacheSupplier.get());
+        }
+
+        private synchronized Object getCache(Object owner, String name) {
+            Map<String, Object> ownerCaches = caches.get(owner);
+            return ownerCaches != null ? ownerCaches.get(name) : null;
+        }
+
+        private synchronized Variant copy(String newId, int newIndex) {
+            Map<Object, Map<String, Object>> newValues = new HashMap<>(values.size());
+            for (Map.Entry<Object, Map<String, Object>> e : values.entrySet()) {
+                newValues.put(e.getKey(), new HashMap<>(e.getValue()));
+            }
+            return new Variant(newId, newIndex, newValues);
+        }
+    }
+
+    // indexed by variant index, a removed variant leaves a null slot that is then reused
+    private final List<Variant> variants = new CopyOnWriteArrayList<>();
+
+    private final Map<String, Integer> variantIndexById = new HashMap<>();
+
+    private volatile VariantContext variantContext;
+
+    public VariantManagerImpl() {
+        Variant initialVariant = new Variant(VariantManagerConstants.INITIAL_VARIANT_ID, INITIAL_VARIANT_INDEX);
+        variants.add(initialVariant);
+        variantIndexById.put(VariantManagerConstants.INITIAL_VARIANT_ID, INITIAL_VARIANT_INDEX);
+        variantContext = new SingleVariantContext(initialVariant);
+    }
+
+    private int getVariantIndex(String variantId) {
+        Objects.requireNonNull(variantId);
+        Integer variantIndex = variantIndexById.get(variantId);
+        if (variantIndex == null) {
+            throw new PowsyblException("Variant '" + variantId + "' not found");
+        }
+        return variantIndex;
+    }
+
+    /**
+     * Get the working variant, checking it has not been removed (or removed and replaced by another variant) since it
+     * has been set, as a thread cannot reset the working variant of other threads. An overwritten variant is replaced
+     * by its new version.
+     */
+    private Variant getWorkingVariant() {
+        Variant variant = variantContext.getVariant();
+        Variant currentVariant = variants.get(variant.index);
+        if (currentVariant == null || !currentVariant.id.equals(variant.id)) {
+            throw new PowsyblException("Variant '" + variant.id + "' has been removed");
+        }
+        return currentVariant;
+    }
+
     @Override
-    public Collection<String> getVariantIds() {
-        return Collections.singletonList(VariantManagerConstants.INITIAL_VARIANT_ID);
+    public synchronized Collection<String> getVariantIds() {
+        List<String> variantIds = new ArrayList<>(variantIndexById.size());
+        for (Variant variant : variants) {
+            if (variant != null) {
+                variantIds.add(variant.id);
+            }
+        }
+        return Collections.unmodifiableList(variantIds);
     }
 
     @Override
     public String getWorkingVariantId() {
-        return VariantManagerConstants.INITIAL_VARIANT_ID;
+        return getWorkingVariant().id;
+    }
+
+    boolean isInitialVariantWorking() {
+        return getWorkingVariant().index == INITIAL_VARIANT_INDEX;
     }
 
     @Override
-    public void setWorkingVariant(String s) {
-        // TODO
+    public synchronized void setWorkingVariant(String variantId) {
+        variantContext.setVariant(variants.get(getVariantIndex(variantId)));
     }
 
     @Override
-    public void cloneVariant(String s, List<String> list) {
-        // TODO
+    public void cloneVariant(String sourceVariantId, List<String> targetVariantIds) {
+        cloneVariant(sourceVariantId, targetVariantIds, false);
     }
 
     @Override
-    public void cloneVariant(String s, List<String> list, boolean b) {
-        // TODO
+    public synchronized void cloneVariant(String sourceVariantId, List<String> targetVariantIds, boolean mayOverwrite) {
+        Objects.requireNonNull(targetVariantIds);
+        if (targetVariantIds.isEmpty()) {
+            throw new IllegalArgumentException("Empty target variant id list");
+        }
+        Variant sourceVariant = variants.get(getVariantIndex(sourceVariantId));
+        for (String targetVariantId : targetVariantIds) {
+            Objects.requireNonNull(targetVariantId);
+            Integer targetVariantIndex = variantIndexById.get(targetVariantId);
+            if (targetVariantIndex != null) {
+                if (!mayOverwrite) {
+                    throw new PowsyblException("Target variant '" + targetVariantId + "' already exists");
+                }
+                if (targetVariantIndex == INITIAL_VARIANT_INDEX) {
+                    throw new PowsyblException("Overwriting initial variant is not supported");
+                }
+                variants.set(targetVariantIndex, sourceVariant.copy(targetVariantId, targetVariantIndex));
+            } else {
+                // reuse a free slot if any
+                int freeVariantIndex = variants.indexOf(null);
+                if (freeVariantIndex != -1) {
+                    variants.set(freeVariantIndex, sourceVariant.copy(targetVariantId, freeVariantIndex));
+                    variantIndexById.put(targetVariantId, freeVariantIndex);
+                } else {
+                    variants.add(sourceVariant.copy(targetVariantId, variants.size()));
+                    variantIndexById.put(targetVariantId, variants.size() - 1);
+                }
+            }
+        }
     }
 
     @Override
-    public void cloneVariant(String s, String s1) {
-        // TODO
+    public void cloneVariant(String sourceVariantId, String targetVariantId) {
+        cloneVariant(sourceVariantId, Collections.singletonList(targetVariantId));
     }
 
     @Override
-    public void cloneVariant(String s, String s1, boolean b) {
-        // TODO
+    public void cloneVariant(String sourceVariantId, String targetVariantId, boolean mayOverwrite) {
+        cloneVariant(sourceVariantId, Collections.singletonList(targetVariantId), mayOverwrite);
     }
 
     @Override
-    public void removeVariant(String s) {
-        // TODO
+    public synchronized void removeVariant(String variantId) {
+        if (VariantManagerConstants.INITIAL_VARIANT_ID.equals(variantId)) {
+            throw new PowsyblException("Removing initial variant is forbidden");
+        }
+        int variantIndex = getVariantIndex(variantId);
+        Variant variant = variants.get(variantIndex);
+        variantIndexById.remove(variantId);
+        variants.set(variantIndex, null);
+        // working variant of other threads is checked on their next access
+        variantContext.resetIfVariantIs(variant, variants.get(INITIAL_VARIANT_INDEX));
     }
 
     @Override
-    public void allowVariantMultiThreadAccess(boolean b) {
-        throw new UnsupportedOperationException("TODO");
+    public synchronized void allowVariantMultiThreadAccess(boolean allow) {
+        if (allow && !(variantContext instanceof ThreadLocalVariantContext)) {
+            VariantContext newVariantContext = new ThreadLocalVariantContext();
+            // working variant of other threads is not set so that missing initializations fail fast
+            newVariantContext.setVariant(getWorkingVariant());
+            variantContext = newVariantContext;
+        } else if (!allow && !(variantContext instanceof SingleVariantContext)) {
+            variantContext = new SingleVariantContext(variantContext.isVariantSet() ? getWorkingVariant() : variants.get(INITIAL_VARIANT_INDEX));
+        }
     }
 
     @Override
     public boolean isVariantMultiThreadAccessAllowed() {
-        throw new UnsupportedOperationException("TODO");
+        return variantContext instanceof ThreadLocalVariantContext;
+    }
+
+    /**
+     * Get a state variable in the working variant.
+     *
+     * @param owner key of the owner of the state variable
+     * @param attribute name of the state variable
+     * @param initialValueGetter getter of the state variable in the initial variant
+     */
+    @SuppressWarnings("unchecked")
+    <T> T getValue(Object owner, String attribute, Supplier<T> initialValueGetter) {
+        Variant variant = getWorkingVariant();
+        if (variant.index != INITIAL_VARIANT_INDEX) {
+            Object value = variant.getValue(owner, attribute);
+            if (value != null) {
+                return value == NULL_VALUE ? null : (T) value;
+            }
+        }
+        return initialValueGetter.get();
+    }
+
+    /**
+     * Set a state variable in the working variant.
+     *
+     * @param owner key of the owner of the state variable
+     * @param attribute name of the state variable
+     * @param value new value of the state variable
+     * @param initialValueGetter getter of the state variable in the initial variant
+     * @param initialValueSetter setter of the state variable in the initial variant
+     */
+    <T> void setValue(Object owner, String attribute, T value, Supplier<T> initialValueGetter, Consumer<T> initialValueSetter) {
+        Variant workingVariant = getWorkingVariant();
+        if (workingVariant.index == INITIAL_VARIANT_INDEX) {
+            if (variants.size() > 1) {
+                // other variants sharing the initial value keep it
+                T initialValue = initialValueGetter.get();
+                if (!Objects.equals(initialValue, value)) {
+                    for (int i = 1; i < variants.size(); i++) {
+                        Variant variant = variants.get(i);
+                        if (variant != null) {
+                            variant.setValueIfAbsent(owner, attribute, initialValue != null ? initialValue : NULL_VALUE);
+                        }
+                    }
+                }
+            }
+            initialValueSetter.accept(value);
+        } else {
+            workingVariant.setValue(owner, attribute, value != null ? value : NULL_VALUE);
+        }
+    }
+
+    /**
+     * Get a cache of the working variant, created on first call.
+     *
+     * @param owner key of the owner of the cache
+     * @param name name of the cache
+     * @param cacheSupplier creator of the cache
+     */
+    @SuppressWarnings("unchecked")
+    <T> T getCache(Object owner, String name, Supplier<T> cacheSupplier) {
+        return (T) getWorkingVariant().getCache(owner, name, cacheSupplier);
+    }
+
+    /**
+     * Apply an action to a cache in all the variants where it has been created, for instance to invalidate it.
+     *
+     * @param owner key of the owner of the cache
+     * @param name name of the cache
+     * @param action action to apply to the cache
+     */
+    @SuppressWarnings("unchecked")
+    <T> void forEachCache(Object owner, String name, Consumer<T> action) {
+        for (Variant variant : variants) {
+            if (variant != null) {
+                Object cache = variant.getCache(owner, name);
+                if (cache != null) {
+                    action.accept((T) cache);
+                }
+            }
+        }
     }
 }
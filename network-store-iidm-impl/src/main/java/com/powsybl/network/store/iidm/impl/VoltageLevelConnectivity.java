@@ -0,0 +1,338 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.iidm.impl;
+
+import com.powsybl.network.store.model.CalculatedBusAttributes;
+import com.powsybl.network.store.model.Resource;
+import com.powsybl.network.store.model.Vertex;
+import com.powsybl.network.store.model.VoltageLevelAttributes;
+
+import java.util.*;
+
+/**
+ * Connectivity of the nodes (node/breaker topology) or buses (bus/breaker topology) of a voltage level through its
+ * switches and internal connections. Connected sets are computed once and then incrementally maintained when a switch
+ * is opened or closed: closing a switch merges the 2 connected sets of its sides, opening a switch splits its
+ * connected set only if its sides are not connected anymore. Only the calculated buses of the affected connected sets
+ * are then updated, other calculated buses keep their number: the position of a removed calculated bus is left empty
+ * (see {@link AbstractTopology#isRemoved(CalculatedBusAttributes)}) until a new calculated bus takes it.
+ *
+ * @author agent <agent at local>
+ */
+class VoltageLevelConnectivity<T> {
+
+    private static final class Link<T> {
+
+        private final T nodeOrBus1;
+
+        private final T nodeOrBus2;
+
+        private boolean open;
+
+        private Link(T nodeOrBus1, T nodeOrBus2, boolean open) {
+            this.nodeOrBus1 = nodeOrBus1;
+            this.nodeOrBus2 = nodeOrBus2;
+            this.open = open;
+        }
+
+        private T getOtherSide(T nodeOrBus) {
+            return nodeOrBus1.equals(nodeOrBus) ? nodeOrBus2 : nodeOrBus1;
+        }
+    }
+
+    private final AbstractTopology<T> topology;
+
+    // insertion ordered so that connected sets, and so calculated buses, are always found in the same order
+    private final Map<T, List<Link<T>>> linksByNodeOrBus = new LinkedHashMap<>();
+
+    private final Map<T, List<Vertex>> verticesByNodeOrBus = new HashMap<>();
+
+    private final Map<String, Link<T>> linkBySwitchId = new HashMap<>();
+
+    private final Map<T, Integer> setNumByNodeOrBus = new HashMap<>();
+
+    private final Map<Integer, Set<T>> nodesOrBusesBySetNum = new HashMap<>();
+
+    private int nextSetNum = 0;
+
+    // only connected sets that are a valid calculated bus have a calculated bus number
+    private final Map<Integer, Integer> calculatedBusNumBySetNum = new HashMap<>();
+
+    // empty positions of the calculated bus list
+    private final SortedSet<Integer> freeCalculatedBusNums = new TreeSet<>();
+
+    VoltageLevelConnectivity(AbstractTopology<T> topology) {
+        this.topology = Objects.requireNonNull(topology);
+    }
+
+    private List<Link<T>> ensureNodeOrBusExists(T nodeOrBus) {
+        return linksByNodeOrBus.computeIfAbsent(nodeOrBus, k -> new ArrayList<>());
+    }
+
+    void addVertex(Vertex vertex) {
+        T nodeOrBus = topology.getNodeOrBus(vertex);
+        ensureNodeOrBusExists(nodeOrBus);
+        verticesByNodeOrBus.computeIfAbsent(nodeOrBus, k -> new ArrayList<>()).add(vertex);
+    }
+
+    private Link<T> addLink(T nodeOrBus1, T nodeOrBus2, boolean open) {
+        Link<T> link = new Link<>(nodeOrBus1, nodeOrBus2, open);
+        ensureNodeOrBusExists(nodeOrBus1).add(link);
+        ensureNodeOrBusExists(nodeOrBus2).add(link);
+        return link;
+    }
+
+    void addSwitch(String switchId, T nodeOrBus1, T nodeOrBus2, boolean open) {
+        linkBySwitchId.put(switchId, addLink(nodeOrBus1, nodeOrBus2, open));
+    }
+
+    void addInternalConnection(T nodeOrBus1, T nodeOrBus2) {
+        addLink(nodeOrBus1, nodeOrBus2, false);
+    }
+
+    /**
+     * Change the state of a switch without updating connected sets, only to be called before they are computed.
+     */
+    void resetSwitch(String switchId, boolean open) {
+        Link<T> link = linkBySwitchId.get(switchId);
+        if (link != null) {
+            link.open = open;
+        }
+    }
+
+    boolean containsSwitch(String switchId) {
+        return linkBySwitchId.containsKey(switchId);
+    }
+
+    /**
+     * Breadth first search of the connected set of a node or bus through closed links. Returns null as soon as
+     * {@code stopNodeOrBus} is reached.
+     */
+    private Set<T> findConnectedSet(T nodeOrBus, T stopNodeOrBus) {
+        Set<T> connectedSet = new LinkedHashSet<>();
+        Deque<T> queue = new ArrayDeque<>();
+        connectedSet.add(nodeOrBus);
+        queue.add(nodeOrBus);
+        while (!queue.isEmpty()) {
+            T current = queue.poll();
+            for (Link<T> link : linksByNodeOrBus.get(current)) {
+                if (!link.open) {
+                    T next = link.getOtherSide(current);
+                    if (next.equals(stopNodeOrBus)) {
+                        return null;
+                    }
+                    if (connectedSet.add(next)) {
+                        queue.add(next);
+                    }
+                }
+            }
+        }
+        return connectedSet;
+    }
+
+    private int addConnectedSet(Set<T> connectedSet) {
+        int setNum = nextSetNum++;
+        for (T nodeOrBus : connectedSet) {
+            setNumByNodeOrBus.put(nodeOrBus, setNum);
+        }
+        nodesOrBusesBySetNum.put(setNum, connectedSet);
+        return setNum;
+    }
+
+    private CalculatedBusAttributes createCalculatedBus(int setNum) {
+        AbstractTopology.EquipmentCount equipmentCount = new AbstractTopology.EquipmentCount();
+        Set<Vertex> vertices = new HashSet<>();
+        for (T nodeOrBus : nodesOrBusesBySetNum.get(setNum)) {
+            for (Vertex vertex : verticesByNodeOrBus.getOrDefault(nodeOrBus, Collections.emptyList())) {
+                AbstractTopology.countEquipments(equipmentCount, vertex);
+                vertices.add(vertex);
+            }
+        }
+        // filter connected sets that cannot be a calculated bus
+        return topology.isCalculatedBusValid(equipmentCount)
+                ? new CalculatedBusAttributes(vertices, null, null, Double.NaN, Double.NaN)
+                : null;
+    }
+
+    /**
+     * Compute from scratch all connected sets and return the calculated buses.
+     */
+    List<CalculatedBusAttributes> computeCalculatedBuses() {
+        computeConnectedSets();
+
+        List<CalculatedBusAttributes> calculatedBuses = new ArrayList<>();
+        for (int setNum = 0; setNum < nextSetNum; setNum++) {
+            CalculatedBusAttributes calculatedBus = createCalculatedBus(setNum);
+            if (calculatedBus != null) {
+                calculatedBusNumBySetNum.put(setNum, calculatedBuses.size());
+                calculatedBuses.add(calculatedBus);
+            }
+        }
+        return calculatedBuses;
+    }
+
+    private void computeConnectedSets() {
+        setNumByNodeOrBus.clear();
+        nodesOrBusesBySetNum.clear();
+        nextSetNum = 0;
+        calculatedBusNumBySetNum.clear();
+        freeCalculatedBusNums.clear();
+
+        for (T nodeOrBus : linksByNodeOrBus.keySet()) {
+            if (!setNumByNodeOrBus.containsKey(nodeOrBus)) {
+                addConnectedSet(findConnectedSet(nodeOrBus, null));
+            }
+        }
+    }
+
+    /**
+     * Compute from scratch all connected sets and match them with calculated buses which have not been computed by
+     * this connectivity, for instance read from the store, so that they keep their number.
+     *
+     * @return false if calculated buses do not match the connected sets, they then have to be computed again
+     */
+    boolean loadCalculatedBuses(Resource<VoltageLevelAttributes> voltageLevelResource) {
+        computeConnectedSets();
+
+        List<CalculatedBusAttributes> calculatedBuses = voltageLevelResource.getAttributes().getCalculatedBuses();
+        Map<T, Integer> nodeOrBusToCalculatedBusNum = topology.getNodeOrBusToCalculatedBusNum(voltageLevelResource);
+        if (calculatedBuses == null || nodeOrBusToCalculatedBusNum == null) {
+            return false;
+        }
+        Set<Integer> matchedCalculatedBusNums = new HashSet<>();
+        for (int setNum = 0; setNum < nextSetNum; setNum++) {
+            if (createCalculatedBus(setNum) != null) {
+                Integer calculatedBusNum = nodesOrBusesBySetNum.get(setNum).stream()
+                        .map(nodeOrBusToCalculatedBusNum::get)
+                        .filter(Objects::nonNull)
+                        .findFirst()
+                        .orElse(null);
+                if (calculatedBusNum == null || calculatedBusNum >= calculatedBuses.size()
+                        || !matchedCalculatedBusNums.add(calculatedBusNum)) {
+                    return false;
+                }
+                calculatedBusNumBySetNum.put(setNum, calculatedBusNum);
+            }
+        }
+        for (int calculatedBusNum = 0; calculatedBusNum < calculatedBuses.size(); calculatedBusNum++) {
+            if (!matchedCalculatedBusNums.contains(calculatedBusNum)) {
+                if (!AbstractTopology.isRemoved(calculatedBuses.get(calculatedBusNum))) {
+                    return false;
+                }
+                freeCalculatedBusNums.add(calculatedBusNum);
+            }
+        }
+        return true;
+    }
+
+    private void removeCalculatedBus(int setNum, List<CalculatedBusAttributes> calculatedBuses,
+                                     Map<T, Integer> nodeOrBusToCalculatedBusNum, Set<Integer> updatedCalculatedBusNums) {
+        Integer calculatedBusNum = calculatedBusNumBySetNum.remove(setNum);
+        if (calculatedBusNum == null) {
+            return;
+        }
+        for (Vertex vertex : calculatedBuses.get(calculatedBusNum).getVertices()) {
+            nodeOrBusToCalculatedBusNum.remove(topology.getNodeOrBus(vertex));
+        }
+        calculatedBuses.set(calculatedBusNum, AbstractTopology.createRemovedCalculatedBus());
+        freeCalculatedBusNums.add(calculatedBusNum);
+        updatedCalculatedBusNums.add(calculatedBusNum);
+    }
+
+    private void addCalculatedBus(int setNum, List<CalculatedBusAttributes> calculatedBuses,
+                                  Map<T, Integer> nodeOrBusToCalculatedBusNum, Set<Integer> updatedCalculatedBusNums) {
+        CalculatedBusAttributes calculatedBus = createCalculatedBus(setNum);
+        if (calculatedBus == null) {
+            return;
+        }
+        // first free position is reused, so that the calculated bus list does not grow
+        int calculatedBusNum;
+        if (freeCalculatedBusNums.isEmpty()) {
+            calculatedBusNum = calculatedBuses.size();
+            calculatedBuses.add(calculatedBus);
+        } else {
+            calculatedBusNum = freeCalculatedBusNums.first();
+            freeCalculatedBusNums.remove(calculatedBusNum);
+            calculatedBuses.set(calculatedBusNum, calculatedBus);
+        }
+        calculatedBusNumBySetNum.put(setNum, calculatedBusNum);
+        for (Vertex vertex : calculatedBus.getVertices()) {
+            nodeOrBusToCalculatedBusNum.put(topology.getNodeOrBus(vertex), calculatedBusNum);
+        }
+        updatedCalculatedBusNums.add(calculatedBusNum);
+    }
+
+    // free positions at the end of the list are dropped, others are kept so that no calculated bus is renumbered
+    private void trimCalculatedBuses(List<CalculatedBusAttributes> calculatedBuses) {
+        while (!freeCalculatedBusNums.isEmpty() && freeCalculatedBusNums.last() == calculatedBuses.size() - 1) {
+            calculatedBuses.remove(calculatedBuses.size() - 1);
+            freeCalculatedBusNums.remove(freeCalculatedBusNums.last());
+        }
+    }
+
+    /**
+     * Update connected sets and calculated buses of the voltage level after a switch has been opened or closed.
+     *
+     * @return numbers of the calculated buses which have been removed, added or modified, empty if calculated buses
+     * have not changed
+     */
+    Set<Integer> updateSwitch(Resource<VoltageLevelAttributes> voltageLevelResource, String switchId, boolean open) {
+        Link<T> link = linkBySwitchId.get(switchId);
+        if (link == null) {
+            throw new IllegalArgumentException("Switch '" + switchId + "' not found in voltage level '" + voltageLevelResource.getId() + "'");
+        }
+        if (link.open == open) {
+            return Collections.emptySet();
+        }
+        link.open = open;
+
+        int setNum1 = setNumByNodeOrBus.get(link.nodeOrBus1);
+        int setNum2 = setNumByNodeOrBus.get(link.nodeOrBus2);
+        List<Integer> updatedSetNums;
+        if (open) {
+            // sides may still be connected through another path
+            Set<T> connectedSet1 = setNum1 == setNum2 ? findConnectedSet(link.nodeOrBus1, link.nodeOrBus2) : null;
+            if (connectedSet1 == null) {
+                return Collections.emptySet();
+            }
+            nodesOrBusesBySetNum.get(setNum1).removeAll(connectedSet1);
+            updatedSetNums = Arrays.asList(setNum1, addConnectedSet(connectedSet1));
+        } else {
+            if (setNum1 == setNum2) {
+                return Collections.emptySet();
+            }
+            // smallest connected set is merged into the biggest one
+            int keptSetNum = nodesOrBusesBySetNum.get(setNum1).size() >= nodesOrBusesBySetNum.get(setNum2).size() ? setNum1 : setNum2;
+            int mergedSetNum = keptSetNum == setNum1 ? setNum2 : setNum1;
+            Set<T> mergedSet = nodesOrBusesBySetNum.remove(mergedSetNum);
+            for (T nodeOrBus : mergedSet) {
+                setNumByNodeOrBus.put(nodeOrBus, keptSetNum);
+            }
+            nodesOrBusesBySetNum.get(keptSetNum).addAll(mergedSet);
+            updatedSetNums = Arrays.asList(keptSetNum, mergedSetNum);
+        }
+
+        List<CalculatedBusAttributes> calculatedBuses = voltageLevelResource.getAttributes().getCalculatedBuses();
+        Map<T, Integer> nodeOrBusToCalculatedBusNum = topology.getNodeOrBusToCalculatedBusNum(voltageLevelResource);
+        Set<Integer> updatedCalculatedBusNums = new TreeSet<>();
+        for (int setNum : updatedSetNums) {
+            removeCalculatedBus(setNum, calculatedBuses, nodeOrBusToCalculatedBusNum, updatedCalculatedBusNums);
+        }
+        for (int setNum : updatedSetNums) {
+            if (nodesOrBusesBySetNum.containsKey(setNum)) {
+                addCalculatedBus(setNum, calculatedBuses, nodeOrBusToCalculatedBusNum, updatedCalculatedBusNums);
+            }
+        }
+        if (!updatedCalculatedBusNums.isEmpty()) {
+            trimCalculatedBuses(calculatedBuses);
+            // calculated buses have been modified in place, notify the resource
+            voltageLevelResource.getAttributes().setCalculatedBuses(calculatedBuses);
+            topology.setNodeOrBusToCalculatedBusNum(voltageLevelResource, nodeOrBusToCalculatedBusNum);
+        }
+        return updatedCalculatedBusNums;
+    }
+}
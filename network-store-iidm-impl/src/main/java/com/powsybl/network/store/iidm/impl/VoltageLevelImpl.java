@@ -11,6 +11,7 @@ import com.powsybl.commons.extensions.Extension;
 import com.powsybl.iidm.network.*;
 import com.powsybl.iidm.network.extensions.SlackTerminal;
 import com.powsybl.iidm.network.util.ShortIdDictionary;
+import com.powsybl.network.store.model.CalculatedBusTopologyAttributes;
 import com.powsybl.network.store.model.Resource;
 import com.powsybl.network.store.model.VoltageLevelAttributes;
 
@@ -21,7 +22,9 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.Random;
+import java.util.Set;
 import java.util.stream.Stream;
 
 /**
@@ -29,26 +32,255 @@ import java.util.stream.Stream;
  */
 public class VoltageLevelImpl extends AbstractIdentifiableImpl<VoltageLevel, VoltageLevelAttributes> implements VoltageLevel {
 
+    private static final String SWITCH_STATES = "switchStates";
+
+    private static final String CALCULATED_BUSES = "calculatedBuses";
+
+    /**
+     * Calculated buses of a variant: the voltage level resource holding the calculated bus topology, the connectivity
+     * used to incrementally update it on switch change and the calculated bus objects.
+     */
+    private static final class CalculatedBusState {
+
+        private final Resource<VoltageLevelAttributes> resource;
+
+        private VoltageLevelConnectivity<?> connectivity;
+
+        private List<CalculatedBus> calculatedBuses;
+
+        private int version;
+
+        // switch states of the variant the calculated buses have been computed for, unused for the initial variant
+        private Object switchStates;
+
+        private CalculatedBusState(Resource<VoltageLevelAttributes> resource, int version) {
+            this.resource = resource;
+            this.version = version;
+        }
+
+        private void reset(Object switchStates, int version) {
+            resource.getAttributes().setCalculatedBusesValid(false);
+            connectivity = null;
+            calculatedBuses = null;
+            this.switchStates = switchStates;
+            this.version = version;
+        }
+    }
+
     private final NodeBreakerViewImpl nodeBreakerView;
 
     private final BusBreakerViewImpl busBreakerView;
 
     private final BusView busView;
 
+    // topology caches are shared by all the threads working on the network, so they are guarded by the voltage level
+
+    private NodeBreakerGraph nodeBreakerGraph;
+
+    private final CalculatedBusState initialCalculatedBusState;
+
+    // identifies switch states of the voltage level in the initial variant: a variant whose switch states have been
+    // changed in the voltage level, either in the variant or in the initial variant, has its own calculated buses
+    private Object switchStates = new Object();
+
+    // incremented each time calculated buses of any variant change
+    private int calculatedBusesVersion = 0;
+
     public VoltageLevelImpl(NetworkObjectIndex index, Resource<VoltageLevelAttributes> resource) {
         super(index, resource);
         nodeBreakerView = NodeBreakerViewImpl.create(resource.getAttributes().getTopologyKind(), resource, index);
         busBreakerView = BusBreakerViewImpl.create(resource.getAttributes().getTopologyKind(), resource, index);
         busView = new VoltageLevelBusViewImpl(index, resource);
+        initialCalculatedBusState = new CalculatedBusState(resource, calculatedBusesVersion);
     }
 
     static VoltageLevelImpl create(NetworkObjectIndex index, Resource<VoltageLevelAttributes> resource) {
         return new VoltageLevelImpl(index, resource);
     }
 
-    void invalidateCalculatedBuses() {
-        resource.getAttributes().setCalculatedBusesValid(false);
-        getNetwork().invalidateComponents();
+    /**
+     * Copy of the voltage level resource holding calculated buses of a variant, detached from the store as other
+     * variants are not persisted.
+     */
+    private Resource<VoltageLevelAttributes> createVariantResource() {
+        VoltageLevelAttributes attributes = new VoltageLevelAttributes(resource.getAttributes());
+        attributes.setResource(null);
+        return Resource.voltageLevelBuilder()
+                .id(resource.getId())
+                .attributes(attributes)
+                .build();
+    }
+
+    /**
+     * Get calculated buses of the working variant. A variant shares calculated buses of the initial variant as long
+     * as it has the same switch states in the voltage level, otherwise its calculated buses are computed from its own
+     * switch states and kept in the variant caches.
+     */
+    private synchronized CalculatedBusState getCalculatedBusState() {
+        VariantManagerImpl variantManager = index.getVariantManager();
+        Object variantSwitchStates = variantManager.getValue(this, SWITCH_STATES, () -> switchStates);
+        if (variantSwitchStates == switchStates) {
+            return initialCalculatedBusState;
+        }
+        CalculatedBusState calculatedBusState = variantManager.getCache(this, CALCULATED_BUSES,
+            () -> new CalculatedBusState(createVariantResource(), calculatedBusesVersion));
+        if (calculatedBusState.switchStates != variantSwitchStates) {
+            calculatedBusState.reset(variantSwitchStates, ++calculatedBusesVersion);
+        }
+        return calculatedBusState;
+    }
+
+    /**
+     * Get the voltage level resource holding calculated buses of the working variant, which is the resource of the
+     * voltage level for the initial variant and for variants sharing its calculated buses.
+     */
+    synchronized Resource<VoltageLevelAttributes> getCalculatedBusesResource() {
+        CalculatedBusState calculatedBusState = getCalculatedBusState();
+        if (calculatedBusState == initialCalculatedBusState) {
+            loadCalculatedBusTopology();
+        }
+        return calculatedBusState.resource;
+    }
+
+    synchronized void setConnectivity(VoltageLevelConnectivity<?> connectivity) {
+        getCalculatedBusState().connectivity = connectivity;
+    }
+
+    synchronized List<CalculatedBus> getCalculatedBuses() {
+        return getCalculatedBusState().calculatedBuses;
+    }
+
+    synchronized void setCalculatedBuses(List<CalculatedBus> calculatedBuses) {
+        getCalculatedBusState().calculatedBuses = calculatedBuses;
+    }
+
+    /**
+     * Version of calculated buses of the working variant, changed each time they change, so that a calculated bus
+     * reference can be kept as long as the version is the same.
+     */
+    synchronized int getCalculatedBusesVersion() {
+        return getCalculatedBusState().version;
+    }
+
+    synchronized void resetCalculatedBuses() {
+        CalculatedBusState calculatedBusState = getCalculatedBusState();
+        calculatedBusState.calculatedBuses = null;
+        calculatedBusState.version = ++calculatedBusesVersion;
+    }
+
+    // instances of other calculated buses are kept
+    private synchronized void resetCalculatedBuses(CalculatedBusState calculatedBusState, Set<Integer> calculatedBusNums) {
+        List<CalculatedBus> calculatedBuses = calculatedBusState.calculatedBuses;
+        if (calculatedBuses != null) {
+            for (int calculatedBusNum : calculatedBusNums) {
+                if (calculatedBusNum < calculatedBuses.size()) {
+                    calculatedBuses.set(calculatedBusNum, null);
+                }
+            }
+        }
+        calculatedBusState.version = ++calculatedBusesVersion;
+    }
+
+    /**
+     * Calculated bus topology is not read with the voltage level but on first use. It is not loaded if calculated
+     * buses have already been computed or invalidated since the voltage level has been read.
+     */
+    synchronized void loadCalculatedBusTopology() {
+        VoltageLevelAttributes attributes = resource.getAttributes();
+        if (!attributes.isCalculatedBusTopologyLoaded()) {
+            Optional<CalculatedBusTopologyAttributes> calculatedBusTopology = attributes.isCalculatedBusesValid()
+                    ? Optional.empty()
+                    : index.getCalculatedBusTopology(resource.getId());
+            if (calculatedBusTopology.isPresent()) {
+                attributes.loadCalculatedBusTopology(calculatedBusTopology.get());
+            } else {
+                attributes.markCalculatedBusTopologyLoaded();
+            }
+        }
+    }
+
+    /**
+     * Get the graph of the voltage level in a node/breaker topology, built on first call and then kept until an
+     * equipment, a switch or an internal connection is added to or removed from the voltage level. As switches are
+     * referenced by the graph, opening or closing a switch does not require to rebuild it.
+     */
+    synchronized NodeBreakerGraph getNodeBreakerGraph() {
+        if (nodeBreakerGraph == null) {
+            nodeBreakerGraph = NodeBreakerTopology.INSTANCE.buildNodeBreakerGraph(index, resource);
+        }
+        return nodeBreakerGraph;
+    }
+
+    /**
+     * To call when the content of the voltage level (equipments, switches or internal connections) has changed.
+     */
+    synchronized void invalidateTopology() {
+        nodeBreakerGraph = null;
+        initialCalculatedBusState.connectivity = null;
+        index.getVariantManager().<CalculatedBusState>forEachCache(this, CALCULATED_BUSES, calculatedBusState -> calculatedBusState.connectivity = null);
+    }
+
+    private void invalidateCalculatedBuses(CalculatedBusState calculatedBusState) {
+        synchronized (this) {
+            if (calculatedBusState == initialCalculatedBusState) {
+                // stored calculated bus topology is obsolete
+                resource.getAttributes().markCalculatedBusTopologyLoaded();
+            }
+            calculatedBusState.reset(calculatedBusState.switchStates, ++calculatedBusesVersion);
+        }
+        // outside of the voltage level lock, as components update locks voltage levels
+        getNetwork().invalidateComponents(resource.getId());
+    }
+
+    /**
+     * Update calculated buses of the working variant after a switch of the voltage level has been opened or closed. If
+     * calculated buses are valid, only calculated buses connected to the switch are updated, and network components are
+     * invalidated only if calculated buses have changed. Otherwise all calculated buses are invalidated. Connectivity
+     * of the voltage level is built here if calculated buses have not been computed but read from the store.
+     * <p>
+     * Other variants sharing calculated buses of the working variant keep them: a variant which shared calculated
+     * buses of the initial variant gets its own calculated buses, computed on next use.
+     */
+    void updateCalculatedBuses(String switchId, boolean open) {
+        CalculatedBusState calculatedBusState;
+        Set<Integer> updatedCalculatedBusNums = null;
+        synchronized (this) {
+            VariantManagerImpl variantManager = index.getVariantManager();
+            calculatedBusState = getCalculatedBusState();
+            Object newSwitchStates = new Object();
+            variantManager.setValue(this, SWITCH_STATES, newSwitchStates, () -> switchStates, s -> switchStates = s);
+            if (calculatedBusState == initialCalculatedBusState && !variantManager.isInitialVariantWorking()) {
+                // calculated buses of the variant will be computed from its switch states
+                calculatedBusState = null;
+            } else {
+                if (calculatedBusState != initialCalculatedBusState) {
+                    calculatedBusState.switchStates = newSwitchStates;
+                } else {
+                    loadCalculatedBusTopology();
+                }
+                Resource<VoltageLevelAttributes> calculatedBusesResource = calculatedBusState.resource;
+                if (calculatedBusState.connectivity == null && calculatedBusesResource.getAttributes().isCalculatedBusesValid()) {
+                    AbstractTopology<?> topology = resource.getAttributes().getTopologyKind() == TopologyKind.NODE_BREAKER
+                            ? NodeBreakerTopology.INSTANCE
+                            : BusBreakerTopology.INSTANCE;
+                    calculatedBusState.connectivity = topology.loadConnectivity(index, calculatedBusesResource, switchId, open);
+                }
+                VoltageLevelConnectivity<?> connectivity = calculatedBusState.connectivity;
+                if (connectivity != null && calculatedBusesResource.getAttributes().isCalculatedBusesValid() && connectivity.containsSwitch(switchId)) {
+                    updatedCalculatedBusNums = connectivity.updateSwitch(calculatedBusesResource, switchId, open);
+                    if (!updatedCalculatedBusNums.isEmpty()) {
+                        resetCalculatedBuses(calculatedBusState, updatedCalculatedBusNums);
+                    }
+                }
+            }
+        }
+        if (calculatedBusState == null) {
+            getNetwork().invalidateComponents(resource.getId());
+        } else if (updatedCalculatedBusNums == null) {
+            invalidateCalculatedBuses(calculatedBusState);
+        } else if (!updatedCalculatedBusNums.isEmpty()) {
+            getNetwork().invalidateComponents(resource.getId());
+        }
     }
 
     @Override
@@ -35,34 +35,34 @@ public class VscConverterStationImpl extends AbstractHvdcConverterStationImpl<Vs
 
     @Override
     public boolean isVoltageRegulatorOn() {
-        return resource.getAttributes().getVoltageRegulatorOn();
+        return index.getVariantManager().getValue(this, "voltageRegulatorOn", resource.getAttributes()::getVoltageRegulatorOn);
     }
 
     @Override
     public HvdcConverterStation setVoltageRegulatorOn(boolean voltageRegulatorOn) {
-        resource.getAttributes().setVoltageRegulatorOn(voltageRegulatorOn);
+        index.getVariantManager().setValue(this, "voltageRegulatorOn", voltageRegulatorOn, resource.getAttributes()::getVoltageRegulatorOn, resource.getAttributes()::setVoltageRegulatorOn);
         return this;
     }
 
     @Override
     public double getVoltageSetpoint() {
-        return resource.getAttributes().getVoltageSetPoint();
+        return index.getVariantManager().getValue(this, "voltageSetpoint", resource.getAttributes()::getVoltageSetPoint);
     }
 
     @Override
     public HvdcConverterStation setVoltageSetpoint(double voltageSetpoint) {
-        resource.getAttributes().setVoltageSetPoint(voltageSetpoint);
+        index.getVariantManager().setValue(this, "voltageSetpoint", voltageSetpoint, resource.getAttributes()::getVoltageSetPoint, resource.getAttributes()::setVoltageSetPoint);
         return this;
     }
 
     @Override
     public double getReactivePowerSetpoint() {
-        return resource.getAttributes().getReactivePowerSetPoint();
+        return index.getVariantManager().getValue(this, "reactivePowerSetpoint", resource.getAttributes()::getReactivePowerSetPoint);
     }
 
     @Override
     public HvdcConverterStation setReactivePowerSetpoint(double reactivePowerSetpoint) {
-        resource.getAttributes().setReactivePowerSetPoint(reactivePowerSetpoint);
+        index.getVariantManager().setValue(this, "reactivePowerSetpoint", reactivePowerSetpoint, resource.getAttributes()::getReactivePowerSetPoint, resource.getAttributes()::setReactivePowerSetPoint);
         return this;
     }
 
@@ -0,0 +1,110 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.iidm.impl;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.TopologyKind;
+import com.powsybl.iidm.network.VoltageLevel;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent <agent at local>
+ */
+public class NodeBreakerGraphTest {
+
+    private static SwitchImpl createSwitch(VoltageLevel voltageLevel, String id, int node1, int node2, boolean open) {
+        return (SwitchImpl) voltageLevel.getNodeBreakerView().newBreaker()
+                .setId(id)
+                .setNode1(node1)
+                .setNode2(node2)
+                .setOpen(open)
+                .add();
+    }
+
+    @Test
+    public void test() {
+        Network network = new NetworkFactoryImpl().createNetwork("n", "test");
+        VoltageLevel vl = network.newSubstation()
+                .setId("s")
+                .add()
+                .newVoltageLevel()
+                .setId("vl")
+                .setNominalV(400)
+                .setTopologyKind(TopologyKind.NODE_BREAKER)
+                .add();
+        SwitchImpl s1 = createSwitch(vl, "s1", 2, 3, false);
+        SwitchImpl s2 = createSwitch(vl, "s2", 3, 0, false);
+        SwitchImpl s3 = createSwitch(vl, "s3", 0, 7, true);
+
+        NodeBreakerGraph graph = NodeBreakerGraph.builder()
+                .addNode(5)
+                .addNode(2)
+                .addSwitch(s1)
+                .addSwitch(s2)
+                .addSwitch(s3)
+                .addInternalConnection(0, 5)
+                .addInternalConnection(5, 5)
+                .build();
+        assertArrayEquals(new int[] {5, 2, 3, 0, 7}, graph.getNodes());
+        assertEquals(7, graph.getMaximumNode());
+
+        // open switch s3 is not traversed, internal connections are traversed without calling the traverser
+        List<Integer> traversedNodes = new ArrayList<>();
+        graph.traverse(2, (node1, sw, node2) -> {
+            traversedNodes.add(node1);
+            traversedNodes.add(node2);
+            return true;
+        });
+        assertEquals(Arrays.asList(2, 3, 3, 2, 3, 0, 0, 3), traversedNodes);
+
+        // switch state is read at traversal time
+        s3.setOpen(false);
+        traversedNodes.clear();
+        graph.traverse(2, (node1, sw, node2) -> {
+            traversedNodes.add(node2);
+            return true;
+        });
+        assertEquals(Arrays.asList(3, 2, 0, 3, 7, 0), traversedNodes);
+
+        // traversal stops when traverser returns false
+        traversedNodes.clear();
+        graph.traverse(2, (node1, sw, node2) -> {
+            traversedNodes.add(node2);
+            return false;
+        });
+        assertEquals(Arrays.asList(3), traversedNodes);
+
+        assertThrows(PowsyblException.class, () -> graph.traverse(4, (node1, sw, node2) -> true));
+    }
+
+    @Test
+    public void deepGraphTest() {
+        // a long chain of internal connections must not overflow the stack
+        int nodeCount = 100000;
+        NodeBreakerGraph.Builder builder = NodeBreakerGraph.builder();
+        for (int node = 0; node < nodeCount - 1; node++) {
+            builder.addInternalConnection(node, node + 1);
+        }
+        NodeBreakerGraph graph = builder.build();
+        assertEquals(nodeCount - 1, graph.getMaximumNode());
+        graph.traverse(0, (node1, sw, node2) -> true);
+    }
+
+    @Test
+    public void emptyTest() {
+        NodeBreakerGraph graph = NodeBreakerGraph.builder().build();
+        assertEquals(0, graph.getNodes().length);
+        assertEquals(0, graph.getMaximumNode());
+    }
+}
@@ -0,0 +1,159 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.iidm.impl;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.*;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent <agent at local>
+ */
+public class VariantManagerImplTest {
+
+    private static Generator createGenerator(Network network) {
+        VoltageLevel vl = network.newSubstation()
+                .setId("s")
+                .add()
+                .newVoltageLevel()
+                .setId("vl")
+                .setNominalV(400)
+                .setTopologyKind(TopologyKind.NODE_BREAKER)
+                .add();
+        return vl.newGenerator()
+                .setId("g")
+                .setNode(0)
+                .setMinP(0)
+                .setMaxP(200)
+                .setTargetP(100)
+                .setTargetV(400)
+                .setVoltageRegulatorOn(true)
+                .add();
+    }
+
+    @Test
+    public void test() {
+        Network network = new NetworkFactoryImpl().createNetwork("n", "test");
+        Generator g = createGenerator(network);
+        VariantManager variantManager = network.getVariantManager();
+        assertSame(variantManager, network.getVariantManager());
+        assertEquals(VariantManagerConstants.INITIAL_VARIANT_ID, variantManager.getWorkingVariantId());
+
+        variantManager.cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, Arrays.asList("v1", "v2"));
+        assertEquals(Arrays.asList(VariantManagerConstants.INITIAL_VARIANT_ID, "v1", "v2"), variantManager.getVariantIds());
+
+        // modification in a variant is not seen by other variants
+        variantManager.setWorkingVariant("v1");
+        assertEquals(100, g.getTargetP(), 0);
+        g.setTargetP(50);
+        assertEquals(50, g.getTargetP(), 0);
+        variantManager.setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+        assertEquals(100, g.getTargetP(), 0);
+
+        // modification in initial variant is not seen by variants sharing its value
+        g.setTargetP(150);
+        variantManager.setWorkingVariant("v2");
+        assertEquals(100, g.getTargetP(), 0);
+        variantManager.setWorkingVariant("v1");
+        assertEquals(50, g.getTargetP(), 0);
+
+        // cloned variant copies its source
+        variantManager.cloneVariant("v1", "v3");
+        variantManager.setWorkingVariant("v3");
+        assertEquals(50, g.getTargetP(), 0);
+
+        // removing working variant resets it to initial variant
+        variantManager.removeVariant("v3");
+        assertEquals(VariantManagerConstants.INITIAL_VARIANT_ID, variantManager.getWorkingVariantId());
+        assertEquals(150, g.getTargetP(), 0);
+
+        assertThrows(PowsyblException.class, () -> variantManager.cloneVariant("v1", "v2"));
+        assertThrows(PowsyblException.class, () -> variantManager.setWorkingVariant("v3"));
+        assertThrows(PowsyblException.class, () -> variantManager.removeVariant(VariantManagerConstants.INITIAL_VARIANT_ID));
+    }
+
+    @Test
+    public void cacheTest() {
+        VariantManagerImpl variantManager = new VariantManagerImpl();
+        variantManager.cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "v1");
+        variantManager.setWorkingVariant("v1");
+        List<String> cache = variantManager.getCache("o", "c", ArrayList::new);
+        cache.add("a");
+        assertSame(cache, variantManager.getCache("o", "c", ArrayList::new));
+
+        // caches are not shared with cloned variants
+        variantManager.cloneVariant("v1", "v2");
+        variantManager.setWorkingVariant("v2");
+        assertTrue(variantManager.<List<String>>getCache("o", "c", ArrayList::new).isEmpty());
+
+        List<List<String>> caches = new ArrayList<>();
+        variantManager.<List<String>>forEachCache("o", "c", caches::add);
+        assertEquals(2, caches.size());
+
+        // caches are dropped with their variant
+        variantManager.removeVariant("v1");
+        caches.clear();
+        variantManager.<List<String>>forEachCache("o", "c", caches::add);
+        assertEquals(1, caches.size());
+    }
+
+    @Test
+    public void multiThreadTest() throws InterruptedException {
+        Network network = new NetworkFactoryImpl().createNetwork("n", "test");
+        VariantManager variantManager = network.getVariantManager();
+        variantManager.cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "v1");
+        variantManager.setWorkingVariant("v1");
+        variantManager.allowVariantMultiThreadAccess(true);
+        assertTrue(variantManager.isVariantMultiThreadAccessAllowed());
+        assertEquals("v1", variantManager.getWorkingVariantId());
+
+        // working variant has to be set by each thread
+        PowsyblException[] exception = new PowsyblException[1];
+        Thread thread = new Thread(() -> {
+            try {
+                variantManager.getWorkingVariantId();
+            } catch (PowsyblException e) {
+                exception[0] = e;
+            }
+        });
+        thread.start();
+        thread.join();
+        assertNotNull(exception[0]);
+
+        variantManager.allowVariantMultiThreadAccess(false);
+        assertEquals("v1", variantManager.getWorkingVariantId());
+    }
+
+    @Test
+    public void removedByOtherThreadTest() throws InterruptedException {
+        Network network = new NetworkFactoryImpl().createNetwork("n", "test");
+        VariantManager variantManager = network.getVariantManager();
+        variantManager.cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "v1");
+        variantManager.allowVariantMultiThreadAccess(true);
+        variantManager.setWorkingVariant("v1");
+
+        // another thread removes v1 and reuses its slot for v2
+        Thread thread = new Thread(() -> {
+            variantManager.setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+            variantManager.removeVariant("v1");
+            variantManager.cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "v2");
+        });
+        thread.start();
+        thread.join();
+
+        PowsyblException e = assertThrows(PowsyblException.class, variantManager::getWorkingVariantId);
+        assertEquals("Variant 'v1' has been removed", e.getMessage());
+        variantManager.setWorkingVariant("v2");
+        assertEquals("v2", variantManager.getWorkingVariantId());
+    }
+}
@@ -19,7 +19,9 @@ import com.powsybl.iidm.network.*;
 import com.powsybl.iidm.network.VoltageLevel.NodeBreakerView.InternalConnection;
 import com.powsybl.iidm.network.extensions.*;
 import com.powsybl.iidm.network.test.*;
+import com.powsybl.network.store.client.NetworkStoreConfig;
 import com.powsybl.network.store.client.NetworkStoreService;
+import com.powsybl.network.store.client.WireFormat;
 import com.powsybl.network.store.server.AbstractEmbeddedCassandraSetup;
 import com.powsybl.network.store.server.NetworkStoreApplication;
 import com.powsybl.sld.iidm.extensions.BusbarSectionPosition;
@@ -90,6 +92,24 @@ public class NetworkStoreIT extends AbstractEmbeddedCassandraSetup {
         }
     }
 
+    @Test
+    public void smileWireFormatTest() {
+        NetworkStoreConfig config = new NetworkStoreConfig(getBaseUrl()).setWireFormat(WireFormat.SMILE);
+        try (NetworkStoreService service = NetworkStoreService.create(config)) {
+            Network network = service.importNetwork(new ResourceDataSource("test", new ResourceSet("/", "test.xiidm")));
+            service.flush(network);
+        }
+
+        try (NetworkStoreService service = NetworkStoreService.create(config)) {
+            Map<UUID, String> networkIds = service.getNetworkIds();
+            assertEquals(1, networkIds.size());
+            Network readNetwork = service.getNetwork(networkIds.keySet().iterator().next());
+            assertEquals("sim1", readNetwork.getId());
+            assertEquals(1, readNetwork.getSubstationCount());
+            assertEquals("RTE", readNetwork.getSubstation("P1").getTso());
+        }
+    }
+
     private static void testNetwork(Network network) {
         assertEquals("sim1", network.getId());
         assertEquals("sim1", network.getName());
@@ -202,6 +222,128 @@ public class NetworkStoreIT extends AbstractEmbeddedCassandraSetup {
         }
     }
 
+    @Test
+    public void switchCalculatedBusesTest() {
+        try (NetworkStoreService service = createNetworkStoreService()) {
+            Network network = NetworkTest1Factory.create(service.getNetworkFactory());
+            VoltageLevel voltageLevel1 = network.getVoltageLevel("voltageLevel1");
+            assertEquals(1, voltageLevel1.getBusView().getBusStream().count());
+
+            // opening the coupling breaker splits the bus in 2
+            network.getSwitch("voltageLevel1Breaker1").setOpen(true);
+            assertEquals(2, voltageLevel1.getBusView().getBusStream().count());
+            assertEquals("voltageLevel1_0", network.getLoad("load1").getTerminal().getBusView().getBus().getId());
+            assertEquals("voltageLevel1_1", network.getGenerator("generator1").getTerminal().getBusView().getBus().getId());
+            Bus loadBus = network.getLoad("load1").getTerminal().getBusView().getBus();
+
+            // opening the generator breaker disconnects the generator, busbar section alone is not a bus anymore
+            network.getSwitch("generator1Breaker1").setOpen(true);
+            assertNull(network.getGenerator("generator1").getTerminal().getBusView().getBus());
+            assertEquals(1, voltageLevel1.getBusView().getBusStream().count());
+            // bus of the load has not been affected
+            assertSame(loadBus, network.getLoad("load1").getTerminal().getBusView().getBus());
+
+            // opening a switch of an already disconnected feeder does not change anything
+            network.getSwitch("generator1Disconnector1").setOpen(true);
+            assertEquals(1, voltageLevel1.getBusView().getBusStream().count());
+
+            // closing all switches merges everything back into 1 bus
+            network.getSwitch("generator1Disconnector1").setOpen(false);
+            network.getSwitch("generator1Breaker1").setOpen(false);
+            assertEquals(2, voltageLevel1.getBusView().getBusStream().count());
+            network.getSwitch("voltageLevel1Breaker1").setOpen(false);
+            List<Bus> buses = voltageLevel1.getBusView().getBusStream().collect(Collectors.toList());
+            assertEquals(1, buses.size());
+            assertEquals("voltageLevel1_0", buses.get(0).getId());
+            assertEquals("voltageLevel1_0", network.getGenerator("generator1").getTerminal().getBusView().getBus().getId());
+            assertEquals("voltageLevel1_0", network.getLoad("load1").getTerminal().getBusView().getBus().getId());
+
+            // calculated bus instances are reused until topology changes
+            Bus bus = network.getLoad("load1").getTerminal().getBusView().getBus();
+            assertSame(bus, network.getGenerator("generator1").getTerminal().getBusView().getBus());
+            assertSame(bus, voltageLevel1.getBusView().getBus("voltageLevel1_0"));
+            network.getSwitch("voltageLevel1Breaker1").setOpen(true);
+            assertNotSame(bus, network.getLoad("load1").getTerminal().getBusView().getBus());
+        }
+    }
+
+    @Test
+    public void switchStoredCalculatedBusesTest() {
+        try (NetworkStoreService service = createNetworkStoreService()) {
+            Network network = NetworkTest1Factory.create(service.getNetworkFactory());
+            assertEquals(1, network.getVoltageLevel("voltageLevel1").getBusView().getBusStream().count());
+            service.flush(network);
+        }
+
+        try (NetworkStoreService service = createNetworkStoreService()) {
+            Network network = service.getNetwork(service.getNetworkIds().keySet().iterator().next());
+            VoltageLevel voltageLevel1 = network.getVoltageLevel("voltageLevel1");
+
+            // calculated buses read from the store are also incrementally updated
+            network.getSwitch("voltageLevel1Breaker1").setOpen(true);
+            assertEquals(2, voltageLevel1.getBusView().getBusStream().count());
+            assertEquals("voltageLevel1_0", network.getLoad("load1").getTerminal().getBusView().getBus().getId());
+            assertEquals("voltageLevel1_1", network.getGenerator("generator1").getTerminal().getBusView().getBus().getId());
+            Bus loadBus = network.getLoad("load1").getTerminal().getBusView().getBus();
+
+            network.getSwitch("generator1Breaker1").setOpen(true);
+            assertNull(network.getGenerator("generator1").getTerminal().getBusView().getBus());
+            assertSame(loadBus, network.getLoad("load1").getTerminal().getBusView().getBus());
+        }
+    }
+
+    @Test
+    public void switchVariantTest() {
+        try (NetworkStoreService service = createNetworkStoreService()) {
+            Network network = NetworkTest1Factory.create(service.getNetworkFactory());
+            VoltageLevel voltageLevel1 = network.getVoltageLevel("voltageLevel1");
+            assertEquals(1, voltageLevel1.getBusView().getBusStream().count());
+            VariantManager variantManager = network.getVariantManager();
+            variantManager.cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, Arrays.asList("v1", "v2"));
+
+            // opening a switch in a variant only splits the bus in this variant
+            variantManager.setWorkingVariant("v1");
+            network.getSwitch("voltageLevel1Breaker1").setOpen(true);
+            assertTrue(network.getSwitch("voltageLevel1Breaker1").isOpen());
+            assertEquals(2, voltageLevel1.getBusView().getBusStream().count());
+            assertEquals("voltageLevel1_1", network.getGenerator("generator1").getTerminal().getBusView().getBus().getId());
+            assertNotEquals(network.getLoad("load1").getTerminal().getBusView().getBus().getConnectedComponent().getNum(),
+                            network.getGenerator("generator1").getTerminal().getBusView().getBus().getConnectedComponent().getNum());
+            variantManager.setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+            assertFalse(network.getSwitch("voltageLevel1Breaker1").isOpen());
+            assertEquals(1, voltageLevel1.getBusView().getBusStream().count());
+            assertEquals("voltageLevel1_0", network.getGenerator("generator1").getTerminal().getBusView().getBus().getId());
+
+            // opening a switch in initial variant is not seen by variants sharing its calculated buses
+            network.getSwitch("generator1Breaker1").setOpen(true);
+            assertNull(network.getGenerator("generator1").getTerminal().getBusView().getBus());
+            variantManager.setWorkingVariant("v2");
+            assertFalse(network.getSwitch("generator1Breaker1").isOpen());
+            assertEquals(1, voltageLevel1.getBusView().getBusStream().count());
+            assertEquals("voltageLevel1_0", network.getGenerator("generator1").getTerminal().getBusView().getBus().getId());
+            variantManager.setWorkingVariant("v1");
+            assertEquals(2, voltageLevel1.getBusView().getBusStream().count());
+            assertEquals("voltageLevel1_1", network.getGenerator("generator1").getTerminal().getBusView().getBus().getId());
+
+            // calculated buses of a variant are incrementally updated
+            Bus loadBus = network.getLoad("load1").getTerminal().getBusView().getBus();
+            network.getSwitch("generator1Breaker1").setOpen(true);
+            assertNull(network.getGenerator("generator1").getTerminal().getBusView().getBus());
+            assertSame(loadBus, network.getLoad("load1").getTerminal().getBusView().getBus());
+
+            // switch states of other variants are not persisted
+            variantManager.setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+            service.flush(network);
+        }
+
+        try (NetworkStoreService service = createNetworkStoreService()) {
+            Network network = service.getNetwork(service.getNetworkIds().keySet().iterator().next());
+            assertFalse(network.getSwitch("voltageLevel1Breaker1").isOpen());
+            assertTrue(network.getSwitch("generator1Breaker1").isOpen());
+            assertEquals(Collections.singletonList(VariantManagerConstants.INITIAL_VARIANT_ID), network.getVariantManager().getVariantIds());
+        }
+    }
+
     @Test
     public void svcTest() {
         try (NetworkStoreService service = createNetworkStoreService()) {
@@ -668,6 +810,41 @@ public class NetworkStoreIT extends AbstractEmbeddedCassandraSetup {
         }
     }
 
+    @Test
+    public void threeWindingsTransformerNestedAttributesUpdateTest() {
+        try (NetworkStoreService service = createNetworkStoreService()) {
+            Network network = NetworkStorageTestCaseFactory.create(service.getNetworkFactory());
+            service.flush(network);
+        }
+
+        try (NetworkStoreService service = createNetworkStoreService()) {
+            Map<UUID, String> networkIds = service.getNetworkIds();
+            Network readNetwork = service.getNetwork(networkIds.keySet().stream().findFirst().get());
+
+            // attributes nested in legs are updated together with a top level attribute
+            ThreeWindingsTransformer transformer = readNetwork.getThreeWindingsTransformer("TWT1");
+            transformer.getLeg1().setR(12.);
+            transformer.getLeg1().getPhaseTapChanger().setTapPosition(2);
+            transformer.getLeg1().getCurrentLimits().setPermanentLimit(30.);
+            transformer.getLeg2().getRatioTapChanger().getStep(1).setRho(1.5);
+            transformer.setProperty("key", "value");
+
+            service.flush(readNetwork);
+        }
+
+        try (NetworkStoreService service = createNetworkStoreService()) {
+            Map<UUID, String> networkIds = service.getNetworkIds();
+            Network readNetwork = service.getNetwork(networkIds.keySet().stream().findFirst().get());
+
+            ThreeWindingsTransformer transformer = readNetwork.getThreeWindingsTransformer("TWT1");
+            assertEquals(12., transformer.getLeg1().getR(), 0.);
+            assertEquals(2, transformer.getLeg1().getPhaseTapChanger().getTapPosition());
+            assertEquals(30., transformer.getLeg1().getCurrentLimits().getPermanentLimit(), 0.);
+            assertEquals(1.5, transformer.getLeg2().getRatioTapChanger().getStep(1).getRho(), 0.);
+            assertEquals("value", transformer.getProperty("key"));
+        }
+    }
+
     @Test
     public void internalConnectionsFromCgmesTest() {
         try (NetworkStoreService service = createNetworkStoreService()) {
@@ -1124,6 +1301,12 @@ public class NetworkStoreIT extends AbstractEmbeddedCassandraSetup {
             assertEquals(ComponentConstants.MAIN_NUM, network.getGenerator("g").getTerminal().getBusView().getBus().getSynchronousComponent().getNum());
             assertEquals(1, network.getLoad("ld").getTerminal().getBusView().getBus().getConnectedComponent().getNum());
             assertEquals(1, network.getLoad("ld").getTerminal().getBusView().getBus().getSynchronousComponent().getNum());
+
+            // components are merged back when the switch is closed again
+            network.getSwitch("s").setOpen(false);
+            assertEquals(ComponentConstants.MAIN_NUM, network.getGenerator("g").getTerminal().getBusView().getBus().getConnectedComponent().getNum());
+            assertEquals(ComponentConstants.MAIN_NUM, network.getLoad("ld").getTerminal().getBusView().getBus().getConnectedComponent().getNum());
+            assertEquals(ComponentConstants.MAIN_NUM, network.getLoad("ld").getTerminal().getBusView().getBus().getSynchronousComponent().getNum());
         }
     }
 
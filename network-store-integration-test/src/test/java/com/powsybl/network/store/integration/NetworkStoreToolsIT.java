@@ -9,6 +9,7 @@ package com.powsybl.network.store.integration;
 import com.github.nosan.embedded.cassandra.api.connection.ClusterCassandraConnection;
 import com.github.nosan.embedded.cassandra.api.cql.CqlDataSet;
 import com.powsybl.network.store.client.NetworkStoreService;
+import com.powsybl.network.store.model.NetworkDeletionStatus;
 import com.powsybl.network.store.server.CassandraConfig;
 import com.powsybl.network.store.server.NetworkStoreApplication;
 import com.powsybl.network.store.test.EmbeddedCassandraFactoryConfig;
@@ -36,6 +37,7 @@ import java.util.UUID;
 import java.util.function.Supplier;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Jon Harper <jon.harper at rte-france.com>
@@ -147,5 +149,10 @@ public class NetworkStoreToolsIT extends AbstractNetworkStoreToolsIT {
                       0,
                       "Deleting " + networkUuid + "...",
                       "");
+
+        try (NetworkStoreService networkStoreService = new NetworkStoreService(getBaseUrl())) {
+            assertTrue(networkStoreService.getNetworkIds().isEmpty());
+            assertEquals(NetworkDeletionStatus.State.DONE, networkStoreService.getNetworkDeletionStatus(networkUuid).orElseThrow().getState());
+        }
     }
 }
@@ -31,6 +31,17 @@ public abstract class AbstractAttributes {
     @SuppressWarnings("unused")
     public void updateResource() {
         if (resource != null) {
+            // we do not know what has changed, so all attributes will be saved
+            resource.allAttributesUpdated();
+            // notify the store client that the resource has changed
+            resource.getResourceUpdater().updateResource(resource.getNetworkUuid(), resource);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    public void updateResource(String attributeName) {
+        if (resource != null) {
+            resource.attributeUpdated(attributeName);
             // notify the store client that the resource has changed
             resource.getResourceUpdater().updateResource(resource.getNetworkUuid(), resource);
         }
@@ -7,6 +7,7 @@
 package com.powsybl.network.store.model;
 
 import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.implementation.MethodCall;
 import net.bytebuddy.implementation.SuperMethodCall;
 import net.bytebuddy.matcher.ElementMatchers;
@@ -14,6 +15,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.EnumMap;
 
 /**
@@ -28,23 +31,46 @@ public final class AttributesSpyer {
     private AttributesSpyer() {
     }
 
+    private static boolean isSetter(Method method) {
+        return method.getName().startsWith("set")
+                && method.getName().length() > 3
+                && method.getParameterCount() == 1
+                && method.getReturnType() == void.class
+                && !Modifier.isStatic(method.getModifiers())
+                && !Modifier.isFinal(method.getModifiers())
+                && !method.isBridge()
+                && !method.getName().equals("setResource");
+    }
+
+    private static String getAttributeName(Method setter) {
+        String name = setter.getName().substring(3);
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
     /*
      * Construct an instance object of a subclass of T, dynamically generated with ByteBuddy, for each resource type,
-     * and with all setters intercepted to set after the dirty field to true
+     * and with all setters intercepted to notify the resource of the updated attribute
      */
     public static<T extends IdentifiableAttributes> T spy(T attributes, ResourceType resourceType) {
         T instance = null;
         try {
             Class subClass;
             if (!ATTRIBUTES_CLASSES.containsKey(resourceType)) {
-                // create dynamically the subclass
-                subClass = new ByteBuddy()
-                        .subclass(attributes.getClass())
-                        .method(ElementMatchers.isSetter()
-                                .and(ElementMatchers.not(ElementMatchers.named("setResource"))))
-                        .intercept(SuperMethodCall.INSTANCE.andThen(
-                                MethodCall.invoke(attributes.getClass().getMethod("updateResource"))
-                        )).make()
+                // create dynamically the subclass, each setter being intercepted to call updateResource with the
+                // name of the attribute
+                Method updateResourceMethod = attributes.getClass().getMethod("updateResource", String.class);
+                DynamicType.Builder<?> builder = new ByteBuddy()
+                        .subclass(attributes.getClass());
+                for (Method method : attributes.getClass().getMethods()) {
+                    if (isSetter(method)) {
+                        builder = builder.method(ElementMatchers.named(method.getName())
+                                        .and(ElementMatchers.takesArguments(method.getParameterTypes())))
+                                .intercept(SuperMethodCall.INSTANCE.andThen(
+                                        MethodCall.invoke(updateResourceMethod).with(getAttributeName(method))
+                                ));
+                    }
+                }
+                subClass = builder.make()
                         .load(attributes.getClass().getClassLoader())
                         .getLoaded();
                 ATTRIBUTES_CLASSES.put(resourceType, subClass);
@@ -0,0 +1,45 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Calculated buses of a voltage level, stored apart from the voltage level so that they are only read when needed
+ * and can be updated without rewriting the voltage level.
+ *
+ * @author agent <agent at local>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@ApiModel("Calculated bus topology attributes")
+public class CalculatedBusTopologyAttributes {
+
+    @ApiModelProperty("Calculated buses")
+    private List<CalculatedBusAttributes> calculatedBuses;
+
+    @ApiModelProperty("Node to calculated bus")
+    private Map<Integer, Integer> nodeToCalculatedBus;
+
+    @ApiModelProperty("Bus to calculated bus")
+    private Map<String, Integer> busToCalculatedBus;
+
+    @ApiModelProperty("Calculated bus validity")
+    private boolean calculatedBusesValid;
+}
@@ -0,0 +1,47 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Progress of the background deletion of a network, which deletes the tables of the network one after the other.
+ *
+ * @author agent <agent at local>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@ApiModel("Network deletion status")
+public class NetworkDeletionStatus {
+
+    public enum State {
+        RUNNING,
+        DONE,
+        FAILED
+    }
+
+    @ApiModelProperty("Deletion state")
+    private State state;
+
+    @ApiModelProperty("Number of tables already deleted")
+    private int deletedTableCount;
+
+    @ApiModelProperty("Number of tables to delete")
+    private int tableCount;
+
+    @ApiModelProperty("Error message if deletion has failed")
+    private String error;
+}
@@ -15,4 +15,9 @@ public final class NetworkStoreApi {
     }
 
     public static final String VERSION = "v1";
+
+    /**
+     * Media type of the binary (Smile) encoding of resources, supported in addition to JSON.
+     */
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
 }
@@ -13,7 +13,9 @@ import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
 import lombok.*;
 
+import java.util.HashSet;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -45,6 +47,15 @@ public class Resource<T extends IdentifiableAttributes> {
     @JsonIgnore
     private ResourceUpdater resourceUpdater;
 
+    /**
+     * Names of the attributes updated since the resource has been read from or written to the server, so that only
+     * these attributes are saved on next update. null means that all attributes have to be saved.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @EqualsAndHashCode.Exclude
+    @ApiModelProperty("Names of updated attributes, all attributes are updated if not specified")
+    private Set<String> updatedAttributes;
+
     public static class Builder<T extends IdentifiableAttributes> {
 
         private final ResourceType type;
@@ -82,9 +93,9 @@ public class Resource<T extends IdentifiableAttributes> {
             }
 
             if (networkUuid == null && resourceUpdater == null) {
-                return new Resource<>(type, id, attributes, networkUuid, resourceUpdater);
+                return new Resource<>(type, id, attributes, networkUuid, resourceUpdater, null);
             } else {
-                Resource<T> resource = new Resource<>(type, id, null, networkUuid, resourceUpdater);
+                Resource<T> resource = new Resource<>(type, id, null, networkUuid, resourceUpdater, null);
                 T spiedAttributes = AttributesSpyer.spy(attributes, type);
                 resource.setAttributes(spiedAttributes);
                 spiedAttributes.setResource(resource);
@@ -93,6 +104,29 @@ public class Resource<T extends IdentifiableAttributes> {
         }
     }
 
+    /**
+     * Start tracking updated attributes: from now only attributes that are updated will be saved.
+     */
+    public void trackUpdatedAttributes() {
+        updatedAttributes = new HashSet<>();
+    }
+
+    /**
+     * Record that an attribute has been updated.
+     */
+    public void attributeUpdated(String attributeName) {
+        if (updatedAttributes != null) {
+            updatedAttributes.add(attributeName);
+        }
+    }
+
+    /**
+     * Record that all attributes have to be saved.
+     */
+    public void allAttributesUpdated() {
+        updatedAttributes = null;
+    }
+
     public static Builder<NetworkAttributes> networkBuilder() {
         return networkBuilder(null, null);
     }
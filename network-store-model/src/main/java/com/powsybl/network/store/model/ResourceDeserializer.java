@@ -8,11 +8,13 @@ package com.powsybl.network.store.model;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 
 import java.io.IOException;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
@@ -70,6 +72,7 @@ public class ResourceDeserializer extends StdDeserializer<Resource> {
         ResourceType type = null;
         String id = null;
         IdentifiableAttributes attributes = null;
+        Set<String> updatedAttributes = null;
 
         JsonToken token;
         while ((token = parser.nextToken()) != null) {
@@ -86,6 +89,11 @@ public class ResourceDeserializer extends StdDeserializer<Resource> {
                         parser.nextValue();
                         attributes = parser.readValueAs(getTypeClass(type));
                         break;
+                    case "updatedAttributes":
+                        parser.nextValue();
+                        updatedAttributes = parser.readValueAs(new TypeReference<Set<String>>() {
+                        });
+                        break;
                     default:
                         break;
                 }
@@ -94,6 +102,6 @@ public class ResourceDeserializer extends StdDeserializer<Resource> {
             }
         }
 
-        return new Resource<>(type, id, attributes, null, null);
+        return new Resource<>(type, id, attributes, null, null, updatedAttributes);
     }
 }
@@ -6,6 +6,10 @@
  */
 package com.powsybl.network.store.model;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
@@ -26,5 +30,23 @@ public enum ResourceType {
     LINE,
     HVDC_LINE,
     DANGLING_LINE,
-    CONFIGURED_BUS
+    CONFIGURED_BUS;
+
+    /**
+     * Types of the resources contained in a voltage level.
+     */
+    public static final Set<ResourceType> VOLTAGE_LEVEL_RESOURCE_TYPES = Collections.unmodifiableSet(EnumSet.of(
+            LOAD,
+            GENERATOR,
+            SHUNT_COMPENSATOR,
+            VSC_CONVERTER_STATION,
+            LCC_CONVERTER_STATION,
+            STATIC_VAR_COMPENSATOR,
+            BUSBAR_SECTION,
+            SWITCH,
+            TWO_WINDINGS_TRANSFORMER,
+            THREE_WINDINGS_TRANSFORMER,
+            LINE,
+            DANGLING_LINE,
+            CONFIGURED_BUS));
 }
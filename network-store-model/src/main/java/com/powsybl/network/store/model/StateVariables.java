@@ -0,0 +1,173 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.*;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * State variables (the ones computed by a load flow) of a collection of resources of a same type, stored in a columnar
+ * way: values of a variable are stored in an array in the same order as the resource IDs. Voltage levels have one
+ * value of each calculated bus variable per calculated bus, so one array per voltage level.
+ *
+ * @author agent <agent at local>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@ApiModel("State variables of a collection of resources")
+public class StateVariables {
+
+    private static final Map<ResourceType, Map<String, ToDoubleFunction<IdentifiableAttributes>>> VARIABLES = new EnumMap<>(ResourceType.class);
+
+    // variables of calculated buses of a voltage level
+    private static final Map<String, ToDoubleFunction<CalculatedBusAttributes>> CALCULATED_BUS_VARIABLES = new LinkedHashMap<>();
+
+    static {
+        Map<String, ToDoubleFunction<IdentifiableAttributes>> injectionVariables = new LinkedHashMap<>();
+        injectionVariables.put("p", attributes -> ((InjectionAttributes) attributes).getP());
+        injectionVariables.put("q", attributes -> ((InjectionAttributes) attributes).getQ());
+        for (ResourceType type : EnumSet.of(ResourceType.LOAD, ResourceType.GENERATOR, ResourceType.SHUNT_COMPENSATOR,
+                                            ResourceType.VSC_CONVERTER_STATION, ResourceType.LCC_CONVERTER_STATION,
+                                            ResourceType.STATIC_VAR_COMPENSATOR, ResourceType.DANGLING_LINE)) {
+            VARIABLES.put(type, Collections.unmodifiableMap(injectionVariables));
+        }
+
+        Map<String, ToDoubleFunction<IdentifiableAttributes>> branchVariables = new LinkedHashMap<>();
+        branchVariables.put("p1", attributes -> ((BranchAttributes) attributes).getP1());
+        branchVariables.put("q1", attributes -> ((BranchAttributes) attributes).getQ1());
+        branchVariables.put("p2", attributes -> ((BranchAttributes) attributes).getP2());
+        branchVariables.put("q2", attributes -> ((BranchAttributes) attributes).getQ2());
+        VARIABLES.put(ResourceType.LINE, Collections.unmodifiableMap(branchVariables));
+        VARIABLES.put(ResourceType.TWO_WINDINGS_TRANSFORMER, Collections.unmodifiableMap(branchVariables));
+
+        Map<String, ToDoubleFunction<IdentifiableAttributes>> threeWindingsTransformerVariables = new LinkedHashMap<>();
+        threeWindingsTransformerVariables.put("p1", attributes -> ((ThreeWindingsTransformerAttributes) attributes).getP1());
+        threeWindingsTransformerVariables.put("q1", attributes -> ((ThreeWindingsTransformerAttributes) attributes).getQ1());
+        threeWindingsTransformerVariables.put("p2", attributes -> ((ThreeWindingsTransformerAttributes) attributes).getP2());
+        threeWindingsTransformerVariables.put("q2", attributes -> ((ThreeWindingsTransformerAttributes) attributes).getQ2());
+        threeWindingsTransformerVariables.put("p3", attributes -> ((ThreeWindingsTransformerAttributes) attributes).getP3());
+        threeWindingsTransformerVariables.put("q3", attributes -> ((ThreeWindingsTransformerAttributes) attributes).getQ3());
+        VARIABLES.put(ResourceType.THREE_WINDINGS_TRANSFORMER, Collections.unmodifiableMap(threeWindingsTransformerVariables));
+
+        Map<String, ToDoubleFunction<IdentifiableAttributes>> busVariables = new LinkedHashMap<>();
+        busVariables.put("v", attributes -> ((ConfiguredBusAttributes) attributes).getV());
+        busVariables.put("angle", attributes -> ((ConfiguredBusAttributes) attributes).getAngle());
+        VARIABLES.put(ResourceType.CONFIGURED_BUS, Collections.unmodifiableMap(busVariables));
+
+        CALCULATED_BUS_VARIABLES.put("calculatedBusV", CalculatedBusAttributes::getV);
+        CALCULATED_BUS_VARIABLES.put("calculatedBusAngle", CalculatedBusAttributes::getAngle);
+    }
+
+    @ApiModelProperty("Resource type")
+    private ResourceType type;
+
+    @ApiModelProperty("Resource IDs")
+    private List<String> ids;
+
+    @ApiModelProperty("Voltage level IDs, only for resources contained in a single voltage level")
+    private List<String> voltageLevelIds;
+
+    @ApiModelProperty("State variable values indexed by variable name, in the same order as resource IDs")
+    private Map<String, double[]> values;
+
+    @ApiModelProperty("Calculated bus state variable values indexed by variable name, one array per voltage level in the same order as resource IDs")
+    private Map<String, List<double[]>> calculatedBusValues;
+
+    /**
+     * Get names of state variables of a resource type, empty if the resource type has no state variables.
+     */
+    public static Set<String> getNames(ResourceType type) {
+        if (Objects.requireNonNull(type) == ResourceType.VOLTAGE_LEVEL) {
+            return CALCULATED_BUS_VARIABLES.keySet();
+        }
+        return VARIABLES.getOrDefault(type, Collections.emptyMap()).keySet();
+    }
+
+    /**
+     * Check if only state variables of a resource have been updated since last synchronization with the server.
+     */
+    public static boolean isStateVariablesUpdate(Resource<?> resource) {
+        Set<String> updatedAttributes = resource.getUpdatedAttributes();
+        return updatedAttributes != null
+                && !updatedAttributes.isEmpty()
+                && getNames(resource.getType()).containsAll(updatedAttributes);
+    }
+
+    private static String getVoltageLevelId(IdentifiableAttributes attributes) {
+        if (attributes instanceof InjectionAttributes) {
+            return ((InjectionAttributes) attributes).getVoltageLevelId();
+        } else if (attributes instanceof ConfiguredBusAttributes) {
+            return ((ConfiguredBusAttributes) attributes).getVoltageLevelId();
+        }
+        return null;
+    }
+
+    /**
+     * Build state variables from a non empty list of resources of a same type.
+     */
+    public static <T extends IdentifiableAttributes> StateVariables of(List<Resource<T>> resources) {
+        if (resources.isEmpty()) {
+            throw new IllegalArgumentException("Empty resource list");
+        }
+        ResourceType type = resources.get(0).getType();
+        if (type == ResourceType.VOLTAGE_LEVEL) {
+            return ofVoltageLevels(resources);
+        }
+        Map<String, ToDoubleFunction<IdentifiableAttributes>> variables = VARIABLES.get(type);
+        if (variables == null) {
+            throw new IllegalArgumentException("Resource type " + type + " has no state variables");
+        }
+
+        List<String> ids = new ArrayList<>(resources.size());
+        List<String> voltageLevelIds = new ArrayList<>(resources.size());
+        Map<String, double[]> values = new LinkedHashMap<>();
+        variables.keySet().forEach(name -> values.put(name, new double[resources.size()]));
+        for (int i = 0; i < resources.size(); i++) {
+            Resource<T> resource = resources.get(i);
+            if (resource.getType() != type) {
+                throw new IllegalArgumentException("Resources have different types: " + type + ", " + resource.getType());
+            }
+            ids.add(resource.getId());
+            voltageLevelIds.add(getVoltageLevelId(resource.getAttributes()));
+            for (Map.Entry<String, ToDoubleFunction<IdentifiableAttributes>> e : variables.entrySet()) {
+                values.get(e.getKey())[i] = e.getValue().applyAsDouble(resource.getAttributes());
+            }
+        }
+
+        return new StateVariables(type, ids, voltageLevelIds.contains(null) ? null : voltageLevelIds, values, null);
+    }
+
+    private static <T extends IdentifiableAttributes> StateVariables ofVoltageLevels(List<Resource<T>> resources) {
+        List<String> ids = new ArrayList<>(resources.size());
+        Map<String, List<double[]>> calculatedBusValues = new LinkedHashMap<>();
+        CALCULATED_BUS_VARIABLES.keySet().forEach(name -> calculatedBusValues.put(name, new ArrayList<>(resources.size())));
+        for (Resource<T> resource : resources) {
+            if (resource.getType() != ResourceType.VOLTAGE_LEVEL) {
+                throw new IllegalArgumentException("Resources have different types: " + ResourceType.VOLTAGE_LEVEL + ", " + resource.getType());
+            }
+            ids.add(resource.getId());
+            List<CalculatedBusAttributes> calculatedBuses = ((VoltageLevelAttributes) resource.getAttributes()).getCalculatedBuses();
+            for (Map.Entry<String, ToDoubleFunction<CalculatedBusAttributes>> e : CALCULATED_BUS_VARIABLES.entrySet()) {
+                calculatedBusValues.get(e.getKey()).add(calculatedBuses != null
+                        ? calculatedBuses.stream().mapToDouble(e.getValue()).toArray()
+                        : new double[0]);
+            }
+        }
+        return new StateVariables(ResourceType.VOLTAGE_LEVEL, ids, null, Collections.emptyMap(), calculatedBusValues);
+    }
+}
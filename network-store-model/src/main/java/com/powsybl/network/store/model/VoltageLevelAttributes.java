@@ -53,6 +53,8 @@ public class VoltageLevelAttributes extends AbstractAttributes implements Identi
     @Builder.Default
     private List<InternalConnectionAttributes> internalConnections = new ArrayList<>();
 
+    // calculated bus topology, stored apart from the voltage level and loaded on demand
+
     @ApiModelProperty("Calculated buses")
     private List<CalculatedBusAttributes> calculatedBuses;
 
@@ -66,6 +68,13 @@ public class VoltageLevelAttributes extends AbstractAttributes implements Identi
     @ApiModelProperty("Calculated bus validity")
     private boolean calculatedBusesValid = false;
 
+    // false when the voltage level has been read without its calculated bus topology, so that a full update does not
+    // overwrite the stored topology. No setter, so that it is not tracked as an updated attribute.
+    @Builder.Default
+    @Setter(AccessLevel.NONE)
+    @ApiModelProperty("Calculated bus topology loaded")
+    private boolean calculatedBusTopologyLoaded = true;
+
     public VoltageLevelAttributes(VoltageLevelAttributes other) {
         super(other);
         this.substationId = other.substationId;
@@ -81,6 +90,31 @@ public class VoltageLevelAttributes extends AbstractAttributes implements Identi
         this.nodeToCalculatedBus = other.nodeToCalculatedBus;
         this.busToCalculatedBus = other.busToCalculatedBus;
         this.calculatedBusesValid = other.calculatedBusesValid;
+        this.calculatedBusTopologyLoaded = other.calculatedBusTopologyLoaded;
+    }
+
+    /**
+     * Set calculated bus topology read from the store, which is not an update of the voltage level.
+     */
+    public void loadCalculatedBusTopology(CalculatedBusTopologyAttributes calculatedBusTopology) {
+        this.calculatedBuses = calculatedBusTopology.getCalculatedBuses();
+        this.nodeToCalculatedBus = calculatedBusTopology.getNodeToCalculatedBus();
+        this.busToCalculatedBus = calculatedBusTopology.getBusToCalculatedBus();
+        this.calculatedBusesValid = calculatedBusTopology.isCalculatedBusesValid();
+        this.calculatedBusTopologyLoaded = true;
+    }
+
+    /**
+     * Mark the calculated bus topology as loaded without reading it from the store, because it is going to be
+     * entirely recomputed.
+     */
+    public void markCalculatedBusTopologyLoaded() {
+        this.calculatedBusTopologyLoaded = true;
+    }
+
+    @JsonIgnore
+    public CalculatedBusTopologyAttributes getCalculatedBusTopology() {
+        return new CalculatedBusTopologyAttributes(calculatedBuses, nodeToCalculatedBus, busToCalculatedBus, calculatedBusesValid);
     }
 
     @Override
@@ -20,6 +20,7 @@ import org.junit.Test;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.UUID;
 
 import static org.junit.Assert.*;
@@ -279,6 +280,42 @@ public class ResourceTest {
 
     }
 
+    @Test
+    public void updatedAttributesTest() throws IOException {
+        UUID testNetworkId = UUID.fromString("7928181c-7977-4592-ba19-88027e4254e4");
+
+        ResourceUpdater updateR = (networkUuid, resource) -> {
+        };
+
+        Resource<GeneratorAttributes> resourceGenerator = Resource.generatorBuilder(testNetworkId, updateR)
+                .id("gen1")
+                .attributes(GeneratorAttributes.builder()
+                        .voltageLevelId("vl1")
+                        .energySource(EnergySource.HYDRO)
+                        .build())
+                .build();
+
+        // updated attributes are not tracked by default, so all attributes are saved
+        resourceGenerator.getAttributes().setP(10);
+        assertNull(resourceGenerator.getUpdatedAttributes());
+
+        resourceGenerator.trackUpdatedAttributes();
+        resourceGenerator.getAttributes().setP(20);
+        resourceGenerator.getAttributes().setQ(30);
+        resourceGenerator.getAttributes().setVoltageRegulatorOn(true);
+        assertEquals(new HashSet<>(Arrays.asList("p", "q", "voltageRegulatorOn")), resourceGenerator.getUpdatedAttributes());
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        String json = objectMapper.writeValueAsString(resourceGenerator);
+        Resource<GeneratorAttributes> resourceGenerator2 = objectMapper.readValue(json, new TypeReference<Resource<GeneratorAttributes>>() { });
+        assertEquals(new HashSet<>(Arrays.asList("p", "q", "voltageRegulatorOn")), resourceGenerator2.getUpdatedAttributes());
+        assertEquals(20, resourceGenerator2.getAttributes().getP(), 0);
+
+        // an update of the whole resource cancels the tracking
+        resourceGenerator.getAttributes().updateResource();
+        assertNull(resourceGenerator.getUpdatedAttributes());
+    }
+
     @Test
     public void shuntCompensator() {
         UUID testNetworkId = UUID.fromString("7928181c-7977-4592-ba19-88027e4254e4");
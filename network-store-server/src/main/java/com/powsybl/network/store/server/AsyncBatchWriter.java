@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.server;
+
+import com.datastax.driver.core.*;
+import com.google.common.base.Stopwatch;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.powsybl.commons.PowsyblException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Write statements to Cassandra using asynchronous requests. Statements are grouped by routing key (so by token range)
+ * into small single partition unlogged batches, and at most {@code maxInFlightBatches} batches are pending at the same
+ * time.
+ *
+ * @author agent <agent at local>
+ */
+class AsyncBatchWriter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncBatchWriter.class);
+
+    private final Session session;
+
+    private final int batchSize;
+
+    private final int maxInFlightBatches;
+
+    AsyncBatchWriter(Session session, int batchSize, int maxInFlightBatches) {
+        this.session = Objects.requireNonNull(session);
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Invalid batch size: " + batchSize);
+        }
+        if (maxInFlightBatches < 1) {
+            throw new IllegalArgumentException("Invalid max in flight batches: " + maxInFlightBatches);
+        }
+        this.batchSize = batchSize;
+        this.maxInFlightBatches = maxInFlightBatches;
+    }
+
+    private Collection<List<Statement>> groupByRoutingKey(List<? extends Statement> statements) {
+        Configuration configuration = session.getCluster().getConfiguration();
+        ProtocolVersion protocolVersion = configuration.getProtocolOptions().getProtocolVersion();
+        CodecRegistry codecRegistry = configuration.getCodecRegistry();
+        Map<ByteBuffer, List<Statement>> statementsByRoutingKey = new LinkedHashMap<>();
+        for (Statement statement : statements) {
+            ByteBuffer routingKey = statement.getRoutingKey(protocolVersion, codecRegistry);
+            statementsByRoutingKey.computeIfAbsent(routingKey, k -> new ArrayList<>()).add(statement);
+        }
+        return statementsByRoutingKey.values();
+    }
+
+    void write(String table, List<? extends Statement> statements) {
+        Objects.requireNonNull(table);
+        Objects.requireNonNull(statements);
+        if (statements.isEmpty()) {
+            return;
+        }
+
+        Stopwatch stopwatch = Stopwatch.createStarted();
+
+        Semaphore permits = new Semaphore(maxInFlightBatches);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        FutureCallback<ResultSet> callback = new FutureCallback<ResultSet>() {
+            @Override
+            public void onSuccess(ResultSet resultSet) {
+                permits.release();
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                error.compareAndSet(null, t);
+                permits.release();
+            }
+        };
+
+        for (List<Statement> group : groupByRoutingKey(statements)) {
+            for (List<Statement> subStatements : Lists.partition(group, batchSize)) {
+                if (error.get() != null) {
+                    break;
+                }
+                Statement statement;
+                if (subStatements.size() == 1) {
+                    statement = subStatements.get(0);
+                } else {
+                    statement = new BatchStatement(BatchStatement.Type.UNLOGGED).addAll(subStatements);
+                }
+                permits.acquireUninterruptibly();
+                Futures.addCallback(session.executeAsync(statement), callback, MoreExecutors.directExecutor());
+            }
+        }
+
+        // wait for all pending requests
+        permits.acquireUninterruptibly(maxInFlightBatches);
+        permits.release(maxInFlightBatches);
+
+        Throwable t = error.get();
+        if (t != null) {
+            if (t instanceof RuntimeException) {
+                throw (RuntimeException) t;
+            }
+            throw new PowsyblException(t);
+        }
+
+        stopwatch.stop();
+        long elapsed = stopwatch.elapsed(TimeUnit.MILLISECONDS);
+        LOGGER.debug("{} rows written to table '{}' in {} ms ({} rows/s)", statements.size(), table, elapsed,
+                elapsed > 0 ? statements.size() * 1000L / elapsed : statements.size());
+    }
+}
@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.server;
+
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.TypeCodec;
+import com.datastax.driver.core.exceptions.InvalidTypeException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.reflect.TypeToken;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Codec of nested structures stored in a single blob column instead of collections of user defined types, so that
+ * they are written and read in one piece. The structure is encoded in Smile (binary JSON) and, if enabled, compressed
+ * with LZ4. The first byte of the blob tells if it is compressed, so that both encodings can always be read.
+ *
+ * @author agent <agent at local>
+ */
+public class BlobCodec<T> extends TypeCodec<T> {
+
+    public enum Compression {
+        NONE,
+        LZ4
+    }
+
+    private static final byte RAW = 0;
+
+    private static final byte LZ4_COMPRESSED = 1;
+
+    // flag and uncompressed length
+    private static final int LZ4_HEADER_SIZE = 1 + Integer.BYTES;
+
+    private static final LZ4Factory LZ4_FACTORY = LZ4Factory.fastestInstance();
+
+    private final ObjectMapper objectMapper;
+
+    private final JavaType type;
+
+    private final Compression compression;
+
+    public BlobCodec(TypeToken<T> javaType, ObjectMapper objectMapper, Compression compression) {
+        super(DataType.blob(), javaType);
+        this.objectMapper = Objects.requireNonNull(objectMapper);
+        this.type = objectMapper.getTypeFactory().constructType(javaType.getType());
+        this.compression = Objects.requireNonNull(compression);
+    }
+
+    @Override
+    public ByteBuffer serialize(T value, ProtocolVersion protocolVersion) {
+        if (value == null) {
+            return null;
+        }
+        byte[] bytes;
+        try {
+            bytes = objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new InvalidTypeException("Cannot encode " + getJavaType(), e);
+        }
+        if (compression == Compression.LZ4) {
+            LZ4Compressor compressor = LZ4_FACTORY.fastCompressor();
+            ByteBuffer compressed = ByteBuffer.allocate(LZ4_HEADER_SIZE + compressor.maxCompressedLength(bytes.length));
+            compressed.put(LZ4_COMPRESSED).putInt(bytes.length);
+            int compressedLength = compressor.compress(bytes, 0, bytes.length, compressed.array(), LZ4_HEADER_SIZE);
+            // small structures do not always compress
+            if (LZ4_HEADER_SIZE + compressedLength < 1 + bytes.length) {
+                compressed.limit(LZ4_HEADER_SIZE + compressedLength).position(0);
+                return compressed;
+            }
+        }
+        ByteBuffer raw = ByteBuffer.allocate(1 + bytes.length);
+        raw.put(RAW).put(bytes).flip();
+        return raw;
+    }
+
+    @Override
+    public T deserialize(ByteBuffer bytes, ProtocolVersion protocolVersion) {
+        if (bytes == null || bytes.remaining() == 0) {
+            return null;
+        }
+        ByteBuffer buffer = bytes.duplicate();
+        byte flag = buffer.get();
+        byte[] data;
+        if (flag == RAW) {
+            data = new byte[buffer.remaining()];
+            buffer.get(data);
+        } else if (flag == LZ4_COMPRESSED) {
+            int length = buffer.getInt();
+            byte[] compressed = new byte[buffer.remaining()];
+            buffer.get(compressed);
+            LZ4FastDecompressor decompressor = LZ4_FACTORY.fastDecompressor();
+            data = decompressor.decompress(compressed, length);
+        } else {
+            throw new InvalidTypeException("Unknown blob encoding: " + flag);
+        }
+        try {
+            return objectMapper.readValue(data, type);
+        } catch (IOException e) {
+            throw new InvalidTypeException("Cannot decode " + getJavaType(), e);
+        }
+    }
+
+    @Override
+    public T parse(String value) {
+        return value == null || value.isEmpty() ? null : deserialize(TypeCodec.blob().parse(value), ProtocolVersion.NEWEST_SUPPORTED);
+    }
+
+    @Override
+    public String format(T value) {
+        return value == null ? null : TypeCodec.blob().format(serialize(value, ProtocolVersion.NEWEST_SUPPORTED));
+    }
+}
@@ -9,8 +9,9 @@ package com.powsybl.network.store.server;
 import com.datastax.driver.core.*;
 import com.datastax.driver.core.exceptions.InvalidTypeException;
 import com.datastax.driver.extras.codecs.joda.InstantCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.powsybl.commons.PowsyblException;
-import com.powsybl.iidm.network.ConnectableType;
 import com.powsybl.iidm.network.PhaseTapChanger;
 import com.powsybl.iidm.network.ReactiveLimitsKind;
 import com.powsybl.network.store.model.*;
@@ -26,9 +27,18 @@ import org.springframework.data.cassandra.core.mapping.SimpleUserTypeResolver;
 import java.nio.ByteBuffer;
 import java.util.TreeMap;
 
+import static com.powsybl.network.store.server.CassandraConstants.BUS_TO_CALCULATED_BUS;
+import static com.powsybl.network.store.server.CassandraConstants.CALCULATED_BUSES;
+import static com.powsybl.network.store.server.CassandraConstants.LINE_ATTRIBUTES;
 import static com.powsybl.network.store.server.CassandraConstants.MIN_MAX_REACTIVE_LIMITS;
+import static com.powsybl.network.store.server.CassandraConstants.NODE_TO_CALCULATED_BUS;
+import static com.powsybl.network.store.server.CassandraConstants.PHASE_TAP_CHANGER_STEPS;
+import static com.powsybl.network.store.server.CassandraConstants.RATIO_TAP_CHANGER_STEPS;
 import static com.powsybl.network.store.server.CassandraConstants.REACTIVE_CAPABILITY_CURVE;
+import static com.powsybl.network.store.server.CassandraConstants.REACTIVE_CAPABILITY_CURVE_POINTS;
 import static com.powsybl.network.store.server.CassandraConstants.TARGET_V;
+import static com.powsybl.network.store.server.CassandraConstants.THREE_WINDINGS_TRANSFORMER_ATTRIBUTES;
+import static com.powsybl.network.store.server.CassandraConstants.TWO_WINDINGS_TRANSFORMER_ATTRIBUTES;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
@@ -57,9 +67,27 @@ public class CassandraConfig extends AbstractCassandraConfiguration {
 
             KeyspaceMetadata keyspace = cluster1.getMetadata().getKeyspace(CassandraConstants.KEYSPACE_IIDM);
             if (keyspace == null) {
+                if (cluster1.getMetadata().getKeyspace(CassandraConstants.PREVIOUS_KEYSPACE_IIDM) != null) {
+                    throw new PowsyblException("Keyspace '" + CassandraConstants.KEYSPACE_IIDM + "' not found, keyspace '"
+                            + CassandraConstants.PREVIOUS_KEYSPACE_IIDM + "' has a previous schema and has to be migrated, see README");
+                }
                 throw new PowsyblException("Keyspace '" + CassandraConstants.KEYSPACE_IIDM + "' not found");
             }
 
+            // all blob codecs share the same encoding, so whatever codec the registry picks to write a value, it can
+            // be read back with the codec of its exact type
+            ObjectMapper blobObjectMapper = new ObjectMapper(new SmileFactory());
+            BlobCodec.Compression blobCompression = env.getProperty("cassandra.blob-compression", BlobCodec.Compression.class, BlobCodec.Compression.LZ4);
+            codecRegistry.register(new BlobCodec<>(PHASE_TAP_CHANGER_STEPS, blobObjectMapper, blobCompression));
+            codecRegistry.register(new BlobCodec<>(RATIO_TAP_CHANGER_STEPS, blobObjectMapper, blobCompression));
+            codecRegistry.register(new BlobCodec<>(REACTIVE_CAPABILITY_CURVE_POINTS, blobObjectMapper, blobCompression));
+            codecRegistry.register(new BlobCodec<>(CALCULATED_BUSES, blobObjectMapper, blobCompression));
+            codecRegistry.register(new BlobCodec<>(NODE_TO_CALCULATED_BUS, blobObjectMapper, blobCompression));
+            codecRegistry.register(new BlobCodec<>(BUS_TO_CALCULATED_BUS, blobObjectMapper, blobCompression));
+            codecRegistry.register(new BlobCodec<>(LINE_ATTRIBUTES, blobObjectMapper, blobCompression));
+            codecRegistry.register(new BlobCodec<>(TWO_WINDINGS_TRANSFORMER_ATTRIBUTES, blobObjectMapper, blobCompression));
+            codecRegistry.register(new BlobCodec<>(THREE_WINDINGS_TRANSFORMER_ATTRIBUTES, blobObjectMapper, blobCompression));
+
             UserType terminalRefType = keyspace.getUserType(CassandraConstants.TERMINAL_REF);
             TypeCodec<UDTValue> terminalRefTypeCodec = codecRegistry.codecFor(terminalRefType);
             TerminalRefCodec terminalRefCodec = new TerminalRefCodec(terminalRefTypeCodec, TerminalRefAttributes.class);
@@ -85,10 +113,6 @@ public class CassandraConfig extends AbstractCassandraConfiguration {
             ReactiveCapabilityCurveCodec reactiveCapabilityCurveCodec = new ReactiveCapabilityCurveCodec(reactiveCapabilityCurveTypeCodec, ReactiveCapabilityCurveAttributes.class);
             codecRegistry.register(reactiveCapabilityCurveCodec);
 
-            UserType reactiveCapabilityCurvePointType = keyspace.getUserType("reactiveCapabilityCurvePoint");
-            TypeCodec<UDTValue> reactiveCapabilityCurvePointTypeCodec = codecRegistry.codecFor(reactiveCapabilityCurvePointType);
-            ReactiveCapabilityCurvePointCodec reactiveCapabilityCurvePointCodec = new ReactiveCapabilityCurvePointCodec(reactiveCapabilityCurvePointTypeCodec, ReactiveCapabilityCurvePointAttributes.class);
-            codecRegistry.register(reactiveCapabilityCurvePointCodec);
 
             UserType currentLimitsType = keyspace.getUserType("currentLimits");
             TypeCodec<UDTValue> currentLimitsTypeCodec = codecRegistry.codecFor(currentLimitsType);
@@ -100,20 +124,12 @@ public class CassandraConfig extends AbstractCassandraConfiguration {
             TemporaryCurrentLimitCodec temporaryCurrentLimitCodec = new TemporaryCurrentLimitCodec(temporaryCurrentLimitTypeCodec, TemporaryCurrentLimitAttributes.class);
             codecRegistry.register(temporaryCurrentLimitCodec);
 
-            UserType phaseTapChangerStepType = keyspace.getUserType("phaseTapChangerStep");
-            TypeCodec<UDTValue> phaseTapChangerStepTypeCodec = codecRegistry.codecFor(phaseTapChangerStepType);
-            PhaseTapChangerStepCodec phaseTapChangerStepCodec = new PhaseTapChangerStepCodec(phaseTapChangerStepTypeCodec, PhaseTapChangerStepAttributes.class);
-            codecRegistry.register(phaseTapChangerStepCodec);
 
             UserType phaseTapChangerType = keyspace.getUserType("phaseTapChanger");
             TypeCodec<UDTValue> phaseTapChangerTypeCodec = codecRegistry.codecFor(phaseTapChangerType);
             PhaseTapChangerCodec phaseTapChangerCodec = new PhaseTapChangerCodec(phaseTapChangerTypeCodec, PhaseTapChangerAttributes.class);
             codecRegistry.register(phaseTapChangerCodec);
 
-            UserType ratioTapChangerStepType = keyspace.getUserType("ratioTapChangerStep");
-            TypeCodec<UDTValue> ratioTapChangerStepTypeCodec = codecRegistry.codecFor(ratioTapChangerStepType);
-            RatioTapChangerStepCodec ratioTapChangerStepCodec = new RatioTapChangerStepCodec(ratioTapChangerStepTypeCodec, RatioTapChangerStepAttributes.class);
-            codecRegistry.register(ratioTapChangerStepCodec);
 
             UserType ratioTapChangerType = keyspace.getUserType("ratioTapChanger");
             TypeCodec<UDTValue> ratioTapChangerTypeCodec = codecRegistry.codecFor(ratioTapChangerType);
@@ -130,15 +146,7 @@ public class CassandraConfig extends AbstractCassandraConfiguration {
             MergedXnodeCodec mergedXnodeCodec = new MergedXnodeCodec(mergedXnodeTypeCodec, MergedXnodeAttributes.class);
             codecRegistry.register(mergedXnodeCodec);
 
-            UserType calculatedBusType = keyspace.getUserType("calculatedBus");
-            TypeCodec<UDTValue> calculatedBusTypeCodec = codecRegistry.codecFor(calculatedBusType);
-            CalculatedBusCodec calculatedBusCodec = new CalculatedBusCodec(calculatedBusTypeCodec, CalculatedBusAttributes.class);
-            codecRegistry.register(calculatedBusCodec);
 
-            UserType vertexType = keyspace.getUserType("vertex");
-            TypeCodec<UDTValue> vertexTypeCodec = codecRegistry.codecFor(vertexType);
-            VertexCodec vertexCodec = new VertexCodec(vertexTypeCodec, Vertex.class);
-            codecRegistry.register(vertexCodec);
 
             UserType activePowerControlType = keyspace.getUserType("activePowerControl");
             TypeCodec<UDTValue> activePowerControlTypeCodec = codecRegistry.codecFor(activePowerControlType);
@@ -398,52 +406,11 @@ public class CassandraConfig extends AbstractCassandraConfiguration {
         }
 
         protected ReactiveCapabilityCurveAttributes toReactiveCapabilityCurve(UDTValue value) {
-            return value == null ? null : new ReactiveCapabilityCurveAttributes(new TreeMap<>(value.getMap("points", Double.class, ReactiveCapabilityCurvePointAttributes.class)));
+            return value == null ? null : new ReactiveCapabilityCurveAttributes(value.get("points", REACTIVE_CAPABILITY_CURVE_POINTS));
         }
 
         protected UDTValue toUDTValue(ReactiveCapabilityCurveAttributes value) {
-            return value == null ? null : userType.newValue().setMap("points", value.getPoints(), Double.class, ReactiveCapabilityCurvePointAttributes.class);
-        }
-    }
-
-    private static class ReactiveCapabilityCurvePointCodec extends TypeCodec<ReactiveCapabilityCurvePointAttributes> {
-
-        private final TypeCodec<UDTValue> innerCodec;
-
-        private final UserType userType;
-
-        public ReactiveCapabilityCurvePointCodec(TypeCodec<UDTValue> innerCodec, Class<ReactiveCapabilityCurvePointAttributes> javaType) {
-            super(innerCodec.getCqlType(), javaType);
-            this.innerCodec = innerCodec;
-            this.userType = (UserType) innerCodec.getCqlType();
-        }
-
-        @Override
-        public ByteBuffer serialize(ReactiveCapabilityCurvePointAttributes value, ProtocolVersion protocolVersion) throws InvalidTypeException {
-            return innerCodec.serialize(toUDTValue(value), protocolVersion);
-        }
-
-        @Override
-        public ReactiveCapabilityCurvePointAttributes deserialize(ByteBuffer bytes, ProtocolVersion protocolVersion) throws InvalidTypeException {
-            return toReactiveCapabilityCurvePoint(innerCodec.deserialize(bytes, protocolVersion));
-        }
-
-        @Override
-        public ReactiveCapabilityCurvePointAttributes parse(String value) throws InvalidTypeException {
-            return value == null || value.isEmpty() ? null : toReactiveCapabilityCurvePoint(innerCodec.parse(value));
-        }
-
-        @Override
-        public String format(ReactiveCapabilityCurvePointAttributes value) throws InvalidTypeException {
-            return value == null ? null : innerCodec.format(toUDTValue(value));
-        }
-
-        protected ReactiveCapabilityCurvePointAttributes toReactiveCapabilityCurvePoint(UDTValue value) {
-            return value == null ? null : new ReactiveCapabilityCurvePointAttributes(value.getDouble("p"), value.getDouble("minQ"), value.getDouble("maxQ"));
-        }
-
-        protected UDTValue toUDTValue(ReactiveCapabilityCurvePointAttributes value) {
-            return value == null ? null : userType.newValue().setDouble("p", value.getP()).setDouble("minQ", value.getMinQ()).setDouble("maxQ", value.getMaxQ());
+            return value == null ? null : userType.newValue().set("points", value.getPoints(), REACTIVE_CAPABILITY_CURVE_POINTS);
         }
     }
 
@@ -529,61 +496,6 @@ public class CassandraConfig extends AbstractCassandraConfiguration {
         }
     }
 
-    private static class PhaseTapChangerStepCodec extends TypeCodec<PhaseTapChangerStepAttributes> {
-
-        private final TypeCodec<UDTValue> innerCodec;
-
-        private final UserType userType;
-
-        public PhaseTapChangerStepCodec(TypeCodec<UDTValue> innerCodec, Class<PhaseTapChangerStepAttributes> javaType) {
-            super(innerCodec.getCqlType(), javaType);
-            this.innerCodec = innerCodec;
-            this.userType = (UserType) innerCodec.getCqlType();
-        }
-
-        @Override
-        public ByteBuffer serialize(PhaseTapChangerStepAttributes value, ProtocolVersion protocolVersion) {
-            return innerCodec.serialize(toUDTValue(value), protocolVersion);
-        }
-
-        @Override
-        public PhaseTapChangerStepAttributes deserialize(ByteBuffer bytes, ProtocolVersion protocolVersion) {
-            return toPhaseTapChangerStep(innerCodec.deserialize(bytes, protocolVersion));
-        }
-
-        @Override
-        public PhaseTapChangerStepAttributes parse(String value) {
-            return value == null || value.isEmpty() ? null : toPhaseTapChangerStep(innerCodec.parse(value));
-        }
-
-        @Override
-        public String format(PhaseTapChangerStepAttributes value) {
-            return value == null ? null : innerCodec.format(toUDTValue(value));
-        }
-
-        protected PhaseTapChangerStepAttributes toPhaseTapChangerStep(UDTValue value) {
-            return value == null ? null : PhaseTapChangerStepAttributes.builder()
-                    .x(value.getDouble("x"))
-                    .b(value.getDouble("b"))
-                    .g(value.getDouble("g"))
-                    .r(value.getDouble("r"))
-                    .alpha(value.getDouble("alpha"))
-                    .rho(value.getDouble("rho"))
-                    .build();
-        }
-
-        protected UDTValue toUDTValue(PhaseTapChangerStepAttributes value) {
-            return value == null ? null : userType.newValue()
-                    .setDouble("rho", value.getRho())
-                    .setDouble("r", value.getR())
-                    .setDouble("x", value.getX())
-                    .setDouble("r", value.getR())
-                    .setDouble("g", value.getG())
-                    .setDouble("b", value.getB())
-                    .setDouble("alpha", value.getAlpha());
-        }
-    }
-
     private static class PhaseTapChangerCodec extends TypeCodec<PhaseTapChangerAttributes> {
 
         private final TypeCodec<UDTValue> innerCodec;
@@ -624,7 +536,7 @@ public class CassandraConfig extends AbstractCassandraConfiguration {
                     .regulationMode(PhaseTapChanger.RegulationMode.valueOf(value.getString("regulationMode")))
                     .regulating(value.getBool("regulating"))
                     .lowTapPosition(value.getInt("lowTapPosition"))
-                    .steps(value.getList("steps", PhaseTapChangerStepAttributes.class))
+                    .steps(value.get("steps", PHASE_TAP_CHANGER_STEPS))
                     .regulatingTerminal(value.get(CassandraConstants.REGULATING_TERMINAL, TerminalRefAttributes.class))
                     .build();
         }
@@ -637,7 +549,7 @@ public class CassandraConfig extends AbstractCassandraConfiguration {
                     .setDouble("targetDeadband", value.getTargetDeadband())
                     .setString("regulationMode", value.getRegulationMode().toString())
                     .setBool("regulating", value.isRegulating())
-                    .setList("steps", value.getSteps())
+                    .set("steps", value.getSteps(), PHASE_TAP_CHANGER_STEPS)
                     .set(CassandraConstants.REGULATING_TERMINAL, value.getRegulatingTerminal(), TerminalRefAttributes.class);
         }
     }
@@ -680,7 +592,7 @@ public class CassandraConfig extends AbstractCassandraConfiguration {
                     .tapPosition(value.getInt("tapPosition"))
                     .regulating(value.getBool("regulating"))
                     .lowTapPosition(value.getInt("lowTapPosition"))
-                    .steps(value.getList("steps", RatioTapChangerStepAttributes.class))
+                    .steps(value.get("steps", RATIO_TAP_CHANGER_STEPS))
                     .loadTapChangingCapabilities(value.getBool("loadTapChangingCapabilities"))
                     .targetV(value.getDouble(TARGET_V))
                     .regulatingTerminal(value.get(CassandraConstants.REGULATING_TERMINAL, TerminalRefAttributes.class))
@@ -693,66 +605,13 @@ public class CassandraConfig extends AbstractCassandraConfiguration {
                     .setInt("tapPosition", value.getTapPosition())
                     .setDouble("targetDeadband", value.getTargetDeadband())
                     .setBool("regulating", value.isRegulating())
-                    .setList("steps", value.getSteps())
+                    .set("steps", value.getSteps(), RATIO_TAP_CHANGER_STEPS)
                     .setDouble(TARGET_V, value.getTargetV())
                     .setBool("loadTapChangingCapabilities", value.isLoadTapChangingCapabilities())
                     .set(CassandraConstants.REGULATING_TERMINAL, value.getRegulatingTerminal(), TerminalRefAttributes.class);
         }
     }
 
-    private static class RatioTapChangerStepCodec extends TypeCodec<RatioTapChangerStepAttributes> {
-
-        private final TypeCodec<UDTValue> innerCodec;
-
-        private final UserType userType;
-
-        public RatioTapChangerStepCodec(TypeCodec<UDTValue> innerCodec, Class<RatioTapChangerStepAttributes> javaType) {
-            super(innerCodec.getCqlType(), javaType);
-            this.innerCodec = innerCodec;
-            this.userType = (UserType) innerCodec.getCqlType();
-        }
-
-        @Override
-        public ByteBuffer serialize(RatioTapChangerStepAttributes value, ProtocolVersion protocolVersion) {
-            return innerCodec.serialize(toUDTValue(value), protocolVersion);
-        }
-
-        @Override
-        public RatioTapChangerStepAttributes deserialize(ByteBuffer bytes, ProtocolVersion protocolVersion) {
-            return toRatioTapChangerStep(innerCodec.deserialize(bytes, protocolVersion));
-        }
-
-        @Override
-        public RatioTapChangerStepAttributes parse(String value) {
-            return value == null || value.isEmpty() ? null : toRatioTapChangerStep(innerCodec.parse(value));
-        }
-
-        @Override
-        public String format(RatioTapChangerStepAttributes value) {
-            return value == null ? null : innerCodec.format(toUDTValue(value));
-        }
-
-        protected RatioTapChangerStepAttributes toRatioTapChangerStep(UDTValue value) {
-            return value == null ? null : RatioTapChangerStepAttributes.builder()
-                    .x(value.getDouble("x"))
-                    .b(value.getDouble("b"))
-                    .g(value.getDouble("g"))
-                    .r(value.getDouble("r"))
-                    .rho(value.getDouble("rho"))
-                    .build();
-        }
-
-        protected UDTValue toUDTValue(RatioTapChangerStepAttributes value) {
-            return value == null ? null : userType.newValue()
-                    .setDouble("rho", value.getRho())
-                    .setDouble("r", value.getR())
-                    .setDouble("x", value.getX())
-                    .setDouble("r", value.getR())
-                    .setDouble("g", value.getG())
-                    .setDouble("b", value.getB());
-        }
-    }
-
     private static class InternalConnectionCodec extends TypeCodec<InternalConnectionAttributes> {
 
         private final TypeCodec<UDTValue> innerCodec;
@@ -853,131 +712,6 @@ public class CassandraConfig extends AbstractCassandraConfiguration {
         }
     }
 
-    private static class VertexCodec extends TypeCodec<Vertex> {
-
-        private final TypeCodec<UDTValue> innerCodec;
-
-        private final UserType userType;
-
-        public VertexCodec(TypeCodec<UDTValue> innerCodec, Class<Vertex> javaType) {
-            super(innerCodec.getCqlType(), javaType);
-            this.innerCodec = innerCodec;
-            this.userType = (UserType) innerCodec.getCqlType();
-        }
-
-        @Override
-        public ByteBuffer serialize(Vertex value, ProtocolVersion protocolVersion) {
-            return innerCodec.serialize(toUDTValue(value), protocolVersion);
-        }
-
-        @Override
-        public Vertex deserialize(ByteBuffer bytes, ProtocolVersion protocolVersion) {
-            return toVertex(innerCodec.deserialize(bytes, protocolVersion));
-        }
-
-        @Override
-        public Vertex parse(String value) {
-            return value == null || value.isEmpty() ? null : toVertex(innerCodec.parse(value));
-        }
-
-        @Override
-        public String format(Vertex value) {
-            return value == null ? null : innerCodec.format(toUDTValue(value));
-        }
-
-        protected Vertex toVertex(UDTValue value) {
-            if (value == null) {
-                return null;
-            }
-            return new Vertex(
-                    value.getString("id"),
-                    ConnectableType.valueOf(value.getString("connectableType")),
-                    value.isNull("node") ? null : value.getInt("node"),
-                    value.isNull("bus") ? null : value.getString("bus"),
-                    value.getString("side"));
-        }
-
-        protected UDTValue toUDTValue(Vertex value) {
-            if (value == null) {
-                return null;
-            }
-            UDTValue udtValue = userType.newValue()
-                    .setString("id", value.getId())
-                    .setString("connectableType", value.getConnectableType().name())
-                    .setString("side", value.getSide());
-            if (value.getNode() != null) {
-                udtValue.setInt("node", value.getNode());
-            }
-            if (value.getBus() != null) {
-                udtValue.setString("bus", value.getBus());
-            }
-            return udtValue;
-        }
-    }
-
-    private static class CalculatedBusCodec extends TypeCodec<CalculatedBusAttributes> {
-
-        private final TypeCodec<UDTValue> innerCodec;
-
-        private final UserType userType;
-
-        public CalculatedBusCodec(TypeCodec<UDTValue> innerCodec, Class<CalculatedBusAttributes> javaType) {
-            super(innerCodec.getCqlType(), javaType);
-            this.innerCodec = innerCodec;
-            this.userType = (UserType) innerCodec.getCqlType();
-        }
-
-        @Override
-        public ByteBuffer serialize(CalculatedBusAttributes value, ProtocolVersion protocolVersion) {
-            return innerCodec.serialize(toUDTValue(value), protocolVersion);
-        }
-
-        @Override
-        public CalculatedBusAttributes deserialize(ByteBuffer bytes, ProtocolVersion protocolVersion) {
-            return toCalculatedBus(innerCodec.deserialize(bytes, protocolVersion));
-        }
-
-        @Override
-        public CalculatedBusAttributes parse(String value) {
-            return value == null || value.isEmpty() ? null : toCalculatedBus(innerCodec.parse(value));
-        }
-
-        @Override
-        public String format(CalculatedBusAttributes value) {
-            return value == null ? null : innerCodec.format(toUDTValue(value));
-        }
-
-        protected CalculatedBusAttributes toCalculatedBus(UDTValue value) {
-            if (value == null) {
-                return null;
-            }
-            return new CalculatedBusAttributes(
-                    value.getSet("vertices", Vertex.class),
-                    value.isNull("ccNum") ? null : value.getInt("ccNum"),
-                    value.isNull("scNum") ? null : value.getInt("scNum"),
-                    value.getDouble("v"),
-                    value.getDouble("angle"));
-        }
-
-        protected UDTValue toUDTValue(CalculatedBusAttributes value) {
-            if (value == null) {
-                return null;
-            }
-
-            UDTValue udtValue = userType.newValue()
-                    .setSet("vertices", value.getVertices())
-                    .setDouble("v", value.getV())
-                    .setDouble("angle", value.getAngle());
-            if (value.getConnectedComponentNumber() != null) {
-                udtValue.setInt("ccNum", value.getConnectedComponentNumber());
-            }
-            if (value.getSynchronousComponentNumber() != null) {
-                udtValue.setInt("scNum", value.getSynchronousComponentNumber());
-            }
-            return udtValue;
-        }
-    }
-
     private static class ActivePowerControlCodec extends TypeCodec<ActivePowerControlAttributes> {
 
         private final TypeCodec<UDTValue> innerCodec;
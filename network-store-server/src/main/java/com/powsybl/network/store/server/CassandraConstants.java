@@ -7,12 +7,29 @@
 
 package com.powsybl.network.store.server;
 
+import com.google.common.reflect.TypeToken;
+import com.powsybl.network.store.model.CalculatedBusAttributes;
+import com.powsybl.network.store.model.LineAttributes;
+import com.powsybl.network.store.model.PhaseTapChangerStepAttributes;
+import com.powsybl.network.store.model.RatioTapChangerStepAttributes;
+import com.powsybl.network.store.model.ReactiveCapabilityCurvePointAttributes;
+import com.powsybl.network.store.model.ThreeWindingsTransformerAttributes;
+import com.powsybl.network.store.model.TwoWindingsTransformerAttributes;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
 public final class CassandraConstants {
 
-    public static final String KEYSPACE_IIDM = "iidm";
+    // the keyspace is versioned, as changes of primary keys or of user type fields cannot be applied to existing tables
+    public static final String KEYSPACE_IIDM = "iidm_v2";
+
+    // keyspace of the schema before networks were split into buckets
+    public static final String PREVIOUS_KEYSPACE_IIDM = "iidm";
 
     public static final String TERMINAL_REF = "terminalRef";
     public static final String REGULATING_TERMINAL = "regulatingTerminal";
@@ -20,6 +37,19 @@ public final class CassandraConstants {
     public static final String REACTIVE_CAPABILITY_CURVE = "reactiveCapabilityCurve";
     public static final String TARGET_V = "targetV";
 
+    // nested structures stored as blobs
+    public static final TypeToken<List<PhaseTapChangerStepAttributes>> PHASE_TAP_CHANGER_STEPS = new TypeToken<List<PhaseTapChangerStepAttributes>>() { };
+    public static final TypeToken<List<RatioTapChangerStepAttributes>> RATIO_TAP_CHANGER_STEPS = new TypeToken<List<RatioTapChangerStepAttributes>>() { };
+    public static final TypeToken<TreeMap<Double, ReactiveCapabilityCurvePointAttributes>> REACTIVE_CAPABILITY_CURVE_POINTS = new TypeToken<TreeMap<Double, ReactiveCapabilityCurvePointAttributes>>() { };
+    public static final TypeToken<List<CalculatedBusAttributes>> CALCULATED_BUSES = new TypeToken<List<CalculatedBusAttributes>>() { };
+    public static final TypeToken<Map<Integer, Integer>> NODE_TO_CALCULATED_BUS = new TypeToken<Map<Integer, Integer>>() { };
+    public static final TypeToken<Map<String, Integer>> BUS_TO_CALCULATED_BUS = new TypeToken<Map<String, Integer>>() { };
+
+    // branch attributes denormalized in the branch by voltage level index
+    public static final TypeToken<LineAttributes> LINE_ATTRIBUTES = TypeToken.of(LineAttributes.class);
+    public static final TypeToken<TwoWindingsTransformerAttributes> TWO_WINDINGS_TRANSFORMER_ATTRIBUTES = TypeToken.of(TwoWindingsTransformerAttributes.class);
+    public static final TypeToken<ThreeWindingsTransformerAttributes> THREE_WINDINGS_TRANSFORMER_ATTRIBUTES = TypeToken.of(ThreeWindingsTransformerAttributes.class);
+
     private CassandraConstants() {
     }
 }
@@ -0,0 +1,148 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.server;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Decompress gzip encoded request bodies. Response compression is handled by the servlet container.
+ *
+ * @author agent <agent at local>
+ */
+@Component
+public class GzipRequestFilter extends OncePerRequestFilter {
+
+    private static final String GZIP = "gzip";
+
+    private static final class GzipServletInputStream extends ServletInputStream {
+
+        private final ServletInputStream compressedInputStream;
+
+        private InputStream is;
+
+        private boolean finished = false;
+
+        private GzipServletInputStream(ServletInputStream compressedInputStream) {
+            this.compressedInputStream = compressedInputStream;
+        }
+
+        // created on first read as reading the gzip header may block
+        private InputStream getDecompressedInputStream() throws IOException {
+            if (is == null) {
+                is = new GZIPInputStream(compressedInputStream);
+            }
+            return is;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = getDecompressedInputStream().read();
+            finished = b == -1;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = getDecompressedInputStream().read(b, off, len);
+            finished = n == -1;
+            return n;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return finished;
+        }
+
+        @Override
+        public boolean isReady() {
+            return finished || compressedInputStream.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            compressedInputStream.setReadListener(readListener);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (is != null) {
+                is.close();
+            } else {
+                compressedInputStream.close();
+            }
+        }
+    }
+
+    private static final class GzipRequestWrapper extends HttpServletRequestWrapper {
+
+        private ServletInputStream inputStream;
+
+        private GzipRequestWrapper(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (inputStream == null) {
+                inputStream = new GzipServletInputStream(super.getInputStream());
+            }
+            return inputStream;
+        }
+
+        // once decompressed, the body has no encoding and an unknown length
+
+        @Override
+        public int getContentLength() {
+            return -1;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return -1;
+        }
+
+        @Override
+        public String getHeader(String name) {
+            if (HttpHeaders.CONTENT_ENCODING.equalsIgnoreCase(name) || HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                return null;
+            }
+            return super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            if (HttpHeaders.CONTENT_ENCODING.equalsIgnoreCase(name) || HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                return Collections.emptyEnumeration();
+            }
+            return super.getHeaders(name);
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        if (GZIP.equalsIgnoreCase(request.getHeader(HttpHeaders.CONTENT_ENCODING))) {
+            filterChain.doFilter(new GzipRequestWrapper(request), response);
+        } else {
+            filterChain.doFilter(request, response);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.server;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * A page cursor which has not been given by a previous page, answered with a 400 status.
+ *
+ * @author agent <agent at local>
+ */
+@ResponseStatus(value = HttpStatus.BAD_REQUEST, reason = "Invalid page")
+public class InvalidPageException extends IllegalArgumentException {
+
+    public InvalidPageException(String page, Throwable cause) {
+        super("Invalid page: " + page, cause);
+    }
+}
@@ -0,0 +1,118 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.server;
+
+import com.powsybl.network.store.model.NetworkDeletionStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delete networks in background jobs. A network is first marked as being deleted, so that it immediately disappears,
+ * and then its tables are deleted by a job. Status of the jobs is kept in memory, and evicted some time after the end
+ * of the job.
+ *
+ * @author agent <agent at local>
+ */
+@Service
+public class NetworkDeletionService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(NetworkDeletionService.class);
+
+    @Autowired
+    private NetworkStoreRepository repository;
+
+    @Value("${network-store.deletion.threads:2}")
+    private int threadCount;
+
+    @Value("${network-store.deletion.status-retention-seconds:3600}")
+    private long statusRetentionSeconds;
+
+    private ScheduledExecutorService executorService;
+
+    private final Map<UUID, NetworkDeletionStatus> statusByNetworkUuid = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void start() {
+        executorService = Executors.newScheduledThreadPool(threadCount);
+    }
+
+    @PreDestroy
+    void stop() {
+        executorService.shutdown();
+    }
+
+    private static NetworkDeletionStatus createStatus(NetworkDeletionStatus.State state, int deletedTableCount, String error) {
+        return new NetworkDeletionStatus(state, deletedTableCount, NetworkStoreRepository.getNetworkTableCount(), error);
+    }
+
+    private void setFinalStatus(UUID networkUuid, NetworkDeletionStatus status) {
+        statusByNetworkUuid.put(networkUuid, status);
+        // only this status is evicted, not the one of a deletion started again in the meantime
+        executorService.schedule(() -> statusByNetworkUuid.remove(networkUuid, status), statusRetentionSeconds, TimeUnit.SECONDS);
+    }
+
+    private void submit(UUID networkUuid) {
+        NetworkDeletionStatus runningStatus = createStatus(NetworkDeletionStatus.State.RUNNING, 0, null);
+        NetworkDeletionStatus status = statusByNetworkUuid.compute(networkUuid, (uuid, oldStatus) ->
+                oldStatus != null && oldStatus.getState() == NetworkDeletionStatus.State.RUNNING ? oldStatus : runningStatus);
+        if (status != runningStatus) {
+            return; // already being deleted
+        }
+        executorService.execute(() -> {
+            try {
+                repository.deleteNetwork(networkUuid, deletedTableCount -> statusByNetworkUuid.put(networkUuid,
+                        createStatus(NetworkDeletionStatus.State.RUNNING, deletedTableCount, null)));
+                setFinalStatus(networkUuid, createStatus(NetworkDeletionStatus.State.DONE, NetworkStoreRepository.getNetworkTableCount(), null));
+            } catch (RuntimeException e) {
+                LOGGER.error(e.toString(), e);
+                setFinalStatus(networkUuid, createStatus(NetworkDeletionStatus.State.FAILED,
+                        statusByNetworkUuid.get(networkUuid).getDeletedTableCount(), e.toString()));
+            }
+        });
+    }
+
+    /**
+     * Start the deletion of a network.
+     *
+     * @return false if the network does not exist
+     */
+    public boolean deleteNetwork(UUID networkUuid) {
+        if (!repository.markNetworkAsDeleting(networkUuid)) {
+            return false;
+        }
+        submit(networkUuid);
+        return true;
+    }
+
+    /**
+     * Restart deletion of networks that have been marked as being deleted but not fully deleted, for instance because
+     * the server has been stopped during the deletion.
+     */
+    public void resumeDeletions() {
+        for (UUID networkUuid : repository.getDeletingNetworkUuids()) {
+            LOGGER.info("Resuming deletion of network {}", networkUuid);
+            submit(networkUuid);
+        }
+    }
+
+    public Optional<NetworkDeletionStatus> getStatus(UUID networkUuid) {
+        return Optional.ofNullable(statusByNetworkUuid.get(networkUuid));
+    }
+}
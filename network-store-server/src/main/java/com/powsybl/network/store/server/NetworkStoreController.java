@@ -6,19 +6,30 @@
  */
 package com.powsybl.network.store.server;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.powsybl.network.store.model.*;
 import io.swagger.annotations.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.*;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import static com.powsybl.network.store.model.NetworkStoreApi.APPLICATION_SMILE_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_STREAM_JSON_VALUE;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
@@ -28,9 +39,22 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 @Api(value = "Network store")
 public class NetworkStoreController {
 
+    private static final int DEFAULT_PAGE_SIZE = 1000;
+
+    private static final MediaType APPLICATION_SMILE = MediaType.valueOf(APPLICATION_SMILE_VALUE);
+
     @Autowired
     private NetworkStoreRepository repository;
 
+    @Autowired
+    private NetworkDeletionService networkDeletionService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // same configuration as the one of the Smile message converter
+    private final ObjectMapper smileObjectMapper = Jackson2ObjectMapperBuilder.smile().build();
+
     private <T extends IdentifiableAttributes> ResponseEntity<TopLevelDocument<T>> get(Supplier<Optional<Resource<T>>> f) {
         return f.get()
                 .map(resource -> ResponseEntity.ok(TopLevelDocument.of(resource)))
@@ -44,7 +68,11 @@ public class NetworkStoreController {
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
 
+    // resources are counted at creation, so a request with the same ID twice is rejected
     private <T extends IdentifiableAttributes> ResponseEntity<Void> createAll(Consumer<List<Resource<T>>> f, List<Resource<T>> resources) {
+        if (resources.stream().map(Resource::getId).distinct().count() != resources.size()) {
+            return ResponseEntity.badRequest().build();
+        }
         f.accept(resources);
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
@@ -68,16 +96,78 @@ public class NetworkStoreController {
                 .body(document);
     }
 
+    private <T extends IdentifiableAttributes> ResponseEntity<TopLevelDocument<T>> getPage(Supplier<List<Resource<T>>> resourcesSupplier,
+                                                                                          BiFunction<Integer, String, ResourcePage<T>> pageSupplier,
+                                                                                          Integer limit, String page) {
+        if (limit == null && page == null) {
+            return getAll(resourcesSupplier, null);
+        }
+        ResourcePage<T> resourcePage = pageSupplier.apply(limit != null ? limit : DEFAULT_PAGE_SIZE, page);
+        TopLevelDocument<T> document = TopLevelDocument.of(resourcePage.getResources());
+        resourcePage.getTotalCount().ifPresent(totalCount -> document.addMeta("totalCount", Long.toString(totalCount)));
+        resourcePage.getNextPage().ifPresent(nextPage -> document.addMeta("nextPage", nextPage));
+        return ResponseEntity.ok()
+                .body(document);
+    }
+
+    // resources are written one per line, page after page, so that only one page is in memory at the same time
+    private <T extends IdentifiableAttributes> ResponseEntity<StreamingResponseBody> stream(BiFunction<Integer, String, ResourcePage<T>> pageSupplier) {
+        ObjectWriter writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        StreamingResponseBody body = outputStream -> {
+            String page = null;
+            do {
+                ResourcePage<T> resourcePage = pageSupplier.apply(DEFAULT_PAGE_SIZE, page);
+                for (Resource<T> resource : resourcePage.getResources()) {
+                    writer.writeValue(outputStream, resource);
+                    outputStream.write('\n');
+                }
+                outputStream.flush();
+                page = resourcePage.getNextPage().orElse(null);
+            } while (page != null);
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_STREAM_JSON)
+                .body(body);
+    }
+
+    // the document is written resource by resource while they are read, so that the whole collection is never in memory,
+    // total count is only known at the end so metadata are written after data
+    private <T extends IdentifiableAttributes> ResponseEntity<StreamingResponseBody> streamDocument(Iterable<Resource<T>> resources, String accept) {
+        boolean smile = accept != null && MediaType.parseMediaTypes(accept).stream().anyMatch(APPLICATION_SMILE::equalsTypeAndSubtype);
+        ObjectMapper mapper = smile ? smileObjectMapper : objectMapper;
+        ObjectWriter writer = mapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = mapper.getFactory().createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.writeStartObject();
+                generator.writeArrayFieldStart("data");
+                int count = 0;
+                for (Resource<T> resource : resources) {
+                    writer.writeValue(generator, resource);
+                    count++;
+                }
+                generator.writeEndArray();
+                generator.writeObjectFieldStart("meta");
+                generator.writeStringField("totalCount", Integer.toString(count));
+                generator.writeEndObject();
+                generator.writeEndObject();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(smile ? APPLICATION_SMILE : MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
     // network
 
-    @GetMapping(produces = APPLICATION_JSON_VALUE)
+    @GetMapping(produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get network list", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get network list"))
     public TopLevelDocument<NetworkAttributes> getNetworks() {
         return TopLevelDocument.of(repository.getNetworks());
     }
 
-    @GetMapping(value = "/{networkId}", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get a network by id", response = TopLevelDocument.class)
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Successfully get network"),
@@ -87,22 +177,56 @@ public class NetworkStoreController {
         return get(() -> repository.getNetwork(id));
     }
 
-    @PostMapping(consumes = APPLICATION_JSON_VALUE)
+    @PostMapping(consumes = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Create networks")
-    @ApiResponses(@ApiResponse(code = 201, message = "Successfully create networks"))
-    public ResponseEntity<Void> createNetworks(@ApiParam(value = "Network resources", required = true) @RequestBody List<Resource<NetworkAttributes>> networkResources) {
+    @ApiResponses(value = {
+            @ApiResponse(code = 201, message = "Successfully create networks"),
+            @ApiResponse(code = 400, message = "Same resource ID more than once")
+        })
+    public ResponseEntity<Void> createNetworks(@ApiParam(value = "Network resources", required = true) @RequestBody List<Resource<NetworkAttributes>> networkResources,
+                                               @ApiParam(value = "Number of partitions of each table, server default if not set") @RequestParam(required = false) Integer bucketCount) {
+        if (bucketCount != null) {
+            return createAll(resources -> repository.createNetworks(resources, bucketCount), networkResources);
+        }
         return createAll(repository::createNetworks, networkResources);
     }
 
-    @DeleteMapping(value = "/{networkId}", produces = APPLICATION_JSON_VALUE)
-    @ApiOperation(value = "Delete a network by id")
+    @DeleteMapping(value = "/{networkId}", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
+    @ApiOperation(value = "Delete a network by id, in background")
     @ApiResponses(value = {
-            @ApiResponse(code = 200, message = "Successfully delete network"),
+            @ApiResponse(code = 202, message = "Successfully start network deletion"),
             @ApiResponse(code = 404, message = "Network has not been found")
         })
     public ResponseEntity<Void> deleteNetwork(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID id) {
-        repository.deleteNetwork(id);
-        return ResponseEntity.ok().build();
+        return networkDeletionService.deleteNetwork(id)
+                ? ResponseEntity.status(HttpStatus.ACCEPTED).build()
+                : ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+    }
+
+    @GetMapping(value = "/{networkId}/deletion", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
+    @ApiOperation(value = "Get status of a network deletion", response = NetworkDeletionStatus.class)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Successfully get network deletion status"),
+            @ApiResponse(code = 404, message = "Network deletion has not been found")
+        })
+    public ResponseEntity<NetworkDeletionStatus> getNetworkDeletionStatus(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID id) {
+        return networkDeletionService.getStatus(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).build());
+    }
+
+    @PostMapping(value = "/{networkId}/clone", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
+    @ApiOperation(value = "Clone a network, with a new UUID, for a selection of resource types", response = TopLevelDocument.class)
+    @ApiResponses(value = {
+            @ApiResponse(code = 201, message = "Successfully clone network"),
+            @ApiResponse(code = 404, message = "Network has not been found")
+        })
+    public ResponseEntity<TopLevelDocument<NetworkAttributes>> cloneNetwork(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                                                            @ApiParam(value = "Resource types, all resource types of the network if not specified") @RequestParam(required = false) Set<ResourceType> types) {
+        Set<ResourceType> resourceTypes = types != null ? types : EnumSet.complementOf(EnumSet.of(ResourceType.NETWORK));
+        return repository.cloneNetwork(networkId, resourceTypes)
+                .map(resource -> ResponseEntity.status(HttpStatus.CREATED).body(TopLevelDocument.of(resource)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(TopLevelDocument.empty()));
     }
 
     @PutMapping(value = "/{networkId}")
@@ -114,17 +238,86 @@ public class NetworkStoreController {
         return updateAll(resources -> repository.updateNetworks(resources), Collections.singletonList(networkResources));
     }
 
+    @GetMapping(value = "/{networkId}/counts", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
+    @ApiOperation(value = "Get resource counts of a network, by resource type")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully get resource counts"))
+    public ResponseEntity<Map<ResourceType, Integer>> getResourceCounts(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId) {
+        return ResponseEntity.ok(repository.getResourceCounts(networkId));
+    }
+
+    @GetMapping(value = "/{networkId}/counts/{resourceType}", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
+    @ApiOperation(value = "Get resource count of a network for one resource type")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully get resource count"))
+    public ResponseEntity<Integer> getResourceCount(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                                    @ApiParam(value = "Resource type", required = true) @PathVariable("resourceType") ResourceType resourceType) {
+        return ResponseEntity.ok(repository.getResourceCount(networkId, resourceType));
+    }
+
+    @GetMapping(value = "/{networkId}/identifiables/{id}", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
+    @ApiOperation(value = "Get an identifiable of any type by id", response = TopLevelDocument.class)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Successfully get identifiable"),
+            @ApiResponse(code = 404, message = "Identifiable has not been found")
+        })
+    public ResponseEntity<TopLevelDocument<IdentifiableAttributes>> getIdentifiable(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                                                                    @ApiParam(value = "Identifiable ID", required = true) @PathVariable("id") String id) {
+        return get(() -> repository.getIdentifiable(networkId, id));
+    }
+
+    @PostMapping(value = "/{networkId}/reindex")
+    @ApiOperation(value = "Rebuild indexes of a network written before they existed")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Successfully rebuild network indexes"),
+            @ApiResponse(code = 404, message = "Network has not been found")
+        })
+    public ResponseEntity<Void> reindexNetwork(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId) {
+        return repository.reindexNetwork(networkId) ? ResponseEntity.ok().build() : ResponseEntity.notFound().build();
+    }
+
+    @GetMapping(value = "/{networkId}/all", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
+    @ApiOperation(value = "Get all resources of a network, for a selection of resource types", response = TopLevelDocument.class)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Successfully get resource list"),
+            @ApiResponse(code = 400, message = "Resource type is not supported")
+        })
+    public ResponseEntity<StreamingResponseBody> getResources(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                                              @ApiParam(value = "Resource types, all resource types of the network if not specified") @RequestParam(required = false) Set<ResourceType> types,
+                                                              @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        Set<ResourceType> resourceTypes = types != null ? types : EnumSet.complementOf(EnumSet.of(ResourceType.NETWORK));
+        if (resourceTypes.contains(ResourceType.NETWORK)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return streamDocument(repository.getResources(networkId, resourceTypes), accept);
+    }
+
+    @PutMapping(value = "/{networkId}/state-variables")
+    @ApiOperation(value = "Update state variables of resources of a network")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully update state variables"))
+    public ResponseEntity<Void> updateStateVariables(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                                     @ApiParam(value = "State variables, by resource type", required = true) @RequestBody List<StateVariables> stateVariables) {
+        repository.updateStateVariables(networkId, stateVariables);
+        return ResponseEntity.ok().build();
+    }
+
     // substation
 
-    @GetMapping(value = "/{networkId}/substations", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/substations", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get substations", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get substation list"))
     public ResponseEntity<TopLevelDocument<SubstationAttributes>> getSubstations(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
-                                                                                 @ApiParam(value = "Max number of substation to get") @RequestParam(required = false) Integer limit) {
-        return getAll(() -> repository.getSubstations(networkId), limit);
+                                                                                 @ApiParam(value = "Max number of substation to get") @RequestParam(required = false) Integer limit,
+                                                                                 @ApiParam(value = "Page cursor, given by 'nextPage' metadata of previous page") @RequestParam(required = false) String page) {
+        return getPage(() -> repository.getSubstations(networkId), (pageLimit, pageCursor) -> repository.getSubstations(networkId, pageLimit, pageCursor), limit, page);
     }
 
-    @GetMapping(value = "/{networkId}/substations/{substationId}", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/substations", params = "stream=true", produces = APPLICATION_STREAM_JSON_VALUE)
+    @ApiOperation(value = "Stream substations")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully stream substation list"))
+    public ResponseEntity<StreamingResponseBody> streamSubstations(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId) {
+        return stream((pageLimit, pageCursor) -> repository.getSubstations(networkId, pageLimit, pageCursor));
+    }
+
+    @GetMapping(value = "/{networkId}/substations/{substationId}", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get a substation by id", response = TopLevelDocument.class)
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Successfully get substation"),
@@ -137,7 +330,10 @@ public class NetworkStoreController {
 
     @PostMapping(value = "/{networkId}/substations")
     @ApiOperation(value = "Create substations")
-    @ApiResponses(@ApiResponse(code = 201, message = "Successfully substations"))
+    @ApiResponses(value = {
+            @ApiResponse(code = 201, message = "Successfully substations"),
+            @ApiResponse(code = 400, message = "Same resource ID more than once")
+        })
     public ResponseEntity<Void> createSubstations(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
                                                   @ApiParam(value = "Substation resources", required = true) @RequestBody List<Resource<SubstationAttributes>> substationResources) {
         return createAll(resource -> repository.createSubstations(networkId, resource), substationResources);
@@ -145,15 +341,23 @@ public class NetworkStoreController {
 
     // voltage level
 
-    @GetMapping(value = "/{networkId}/voltage-levels", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/voltage-levels", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get voltage levels", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get voltage level list"))
     public ResponseEntity<TopLevelDocument<VoltageLevelAttributes>> getVoltageLevels(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
-                                                                                     @ApiParam(value = "Max number of voltage level to get") @RequestParam(required = false) Integer limit) {
-        return getAll(() -> repository.getVoltageLevels(networkId), limit);
+                                                                                     @ApiParam(value = "Max number of voltage level to get") @RequestParam(required = false) Integer limit,
+                                                                                     @ApiParam(value = "Page cursor, given by 'nextPage' metadata of previous page") @RequestParam(required = false) String page) {
+        return getPage(() -> repository.getVoltageLevels(networkId), (pageLimit, pageCursor) -> repository.getVoltageLevels(networkId, pageLimit, pageCursor), limit, page);
     }
 
-    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/voltage-levels", params = "stream=true", produces = APPLICATION_STREAM_JSON_VALUE)
+    @ApiOperation(value = "Stream voltage levels")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully stream voltage level list"))
+    public ResponseEntity<StreamingResponseBody> streamVoltageLevels(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId) {
+        return stream((pageLimit, pageCursor) -> repository.getVoltageLevels(networkId, pageLimit, pageCursor));
+    }
+
+    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get a voltage level by id", response = TopLevelDocument.class)
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Successfully get voltage level"),
@@ -164,9 +368,32 @@ public class NetworkStoreController {
         return get(() -> repository.getVoltageLevel(networkId, voltageLevelId));
     }
 
+    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/calculated-bus-topology", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
+    @ApiOperation(value = "Get calculated bus topology of a voltage level", response = CalculatedBusTopologyAttributes.class)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Successfully get calculated bus topology"),
+            @ApiResponse(code = 404, message = "Calculated bus topology has not been found")
+        })
+    public ResponseEntity<CalculatedBusTopologyAttributes> getVoltageLevelCalculatedBusTopology(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                                                                                @ApiParam(value = "Voltage level ID", required = true) @PathVariable("voltageLevelId") String voltageLevelId) {
+        return repository.getCalculatedBusTopology(networkId, voltageLevelId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).build());
+    }
+
+    @GetMapping(value = "/{networkId}/calculated-bus-topologies", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
+    @ApiOperation(value = "Get calculated bus topologies of all the voltage levels, indexed by voltage level ID")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully get calculated bus topologies"))
+    public ResponseEntity<Map<String, CalculatedBusTopologyAttributes>> getCalculatedBusTopologies(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId) {
+        return ResponseEntity.ok(repository.getCalculatedBusTopologies(networkId));
+    }
+
     @PostMapping(value = "/{networkId}/voltage-levels")
     @ApiOperation(value = "Create voltage levels")
-    @ApiResponses(@ApiResponse(code = 201, message = "Successfully create voltage levels"))
+    @ApiResponses(value = {
+            @ApiResponse(code = 201, message = "Successfully create voltage levels"),
+            @ApiResponse(code = 400, message = "Same resource ID more than once")
+        })
     public ResponseEntity<Void> createVoltageLevels(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
                                                     @ApiParam(value = "Voltage level resources", required = true) @RequestBody List<Resource<VoltageLevelAttributes>> voltageLevelResources) {
         return createAll(resource -> repository.createVoltageLevels(networkId, resource), voltageLevelResources);
@@ -181,7 +408,7 @@ public class NetworkStoreController {
         return updateAll(resources -> repository.updateVoltageLevels(networkId, resources), voltageLevelResources);
     }
 
-    @GetMapping(value = "/{networkId}/substations/{substationId}/voltage-levels", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/substations/{substationId}/voltage-levels", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get voltage levels for a substation", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get voltage level list for a substation"))
     public ResponseEntity<TopLevelDocument<VoltageLevelAttributes>> getVoltageLevels(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
@@ -189,7 +416,7 @@ public class NetworkStoreController {
         return getAll(() -> repository.getVoltageLevels(networkId, substationId), null);
     }
 
-    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/busbar-sections", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/busbar-sections", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get busbar sections connected to voltage level", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get busbar sections connected to the voltage level"))
     public ResponseEntity<TopLevelDocument<BusbarSectionAttributes>> getVoltageLevelBusbarSections(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
@@ -197,7 +424,7 @@ public class NetworkStoreController {
         return getAll(() -> repository.getVoltageLevelBusbarSections(networkId, voltageLevelId), null);
     }
 
-    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/switches", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/switches", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get switches connected to voltage level", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get switches connected to the voltage level"))
     public ResponseEntity<TopLevelDocument<SwitchAttributes>> getVoltageLevelSwitches(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
@@ -205,7 +432,7 @@ public class NetworkStoreController {
         return getAll(() -> repository.getVoltageLevelSwitches(networkId, voltageLevelId), null);
     }
 
-    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/generators", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/generators", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get generators connected to voltage level", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get generators connected to the voltage level"))
     public ResponseEntity<TopLevelDocument<GeneratorAttributes>> getVoltageLevelGenerators(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
@@ -213,7 +440,7 @@ public class NetworkStoreController {
         return getAll(() -> repository.getVoltageLevelGenerators(networkId, voltageLevelId), null);
     }
 
-    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/loads", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/loads", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get loads connected to voltage level", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get loads connected to the voltage level"))
     public ResponseEntity<TopLevelDocument<LoadAttributes>> getVoltageLevelLoads(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
@@ -221,7 +448,7 @@ public class NetworkStoreController {
         return getAll(() -> repository.getVoltageLevelLoads(networkId, voltageLevelId), null);
     }
 
-    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/shunt-compensators", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/shunt-compensators", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get shunt compensators connected to voltage level", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get shunt compensators connected to the voltage level"))
     public ResponseEntity<TopLevelDocument<ShuntCompensatorAttributes>> getVoltageLevelShuntCompensators(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
@@ -229,7 +456,7 @@ public class NetworkStoreController {
         return getAll(() -> repository.getVoltageLevelShuntCompensators(networkId, voltageLevelId), null);
     }
 
-    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/vsc-converter-stations", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/vsc-converter-stations", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get static VSC converter stations connected to voltage level", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get VSC converter stations connected to the voltage level"))
     public ResponseEntity<TopLevelDocument<VscConverterStationAttributes>> getVoltageLevelVscConverterStations(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
@@ -237,7 +464,7 @@ public class NetworkStoreController {
         return getAll(() -> repository.getVoltageLevelVscConverterStations(networkId, voltageLevelId), null);
     }
 
-    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/lcc-converter-stations", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/lcc-converter-stations", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get static LCC converter stations connected to voltage level", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get LCC converter stations connected to the voltage level"))
     public ResponseEntity<TopLevelDocument<LccConverterStationAttributes>> getVoltageLevelLccConverterStations(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
@@ -245,7 +472,7 @@ public class NetworkStoreController {
         return getAll(() -> repository.getVoltageLevelLccConverterStations(networkId, voltageLevelId), null);
     }
 
-    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/static-var-compensators", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/static-var-compensators", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get static var compensators connected to voltage level", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get static var compensators connected to the voltage level"))
     public ResponseEntity<TopLevelDocument<StaticVarCompensatorAttributes>> getVoltageLevelStaticVarCompensators(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
@@ -253,7 +480,7 @@ public class NetworkStoreController {
         return getAll(() -> repository.getVoltageLevelStaticVarCompensators(networkId, voltageLevelId), null);
     }
 
-    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/2-windings-transformers", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/2-windings-transformers", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get 2 windings transformers connected to voltage level", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get 2 windings transformers connected to the voltage level"))
     public ResponseEntity<TopLevelDocument<TwoWindingsTransformerAttributes>> getVoltageLevelTwoWindingsTransformers(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
@@ -261,7 +488,7 @@ public class NetworkStoreController {
         return getAll(() -> repository.getVoltageLevelTwoWindingsTransformers(networkId, voltageLevelId), null);
     }
 
-    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/3-windings-transformers", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/3-windings-transformers", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get 3 windings transformers connected to voltage level", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get 3 windings transformers connected to the voltage level"))
     public ResponseEntity<TopLevelDocument<ThreeWindingsTransformerAttributes>> getVoltageLevelThreeWindingsTransformers(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
@@ -269,7 +496,7 @@ public class NetworkStoreController {
         return getAll(() -> repository.getVoltageLevelThreeWindingsTransformers(networkId, voltageLevelId), null);
     }
 
-    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/lines", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/lines", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get lines connected to voltage level", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get lines connected to the voltage level"))
     public ResponseEntity<TopLevelDocument<LineAttributes>> getVoltageLevelLines(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
@@ -277,7 +504,7 @@ public class NetworkStoreController {
         return getAll(() -> repository.getVoltageLevelLines(networkId, voltageLevelId), null);
     }
 
-    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/dangling-lines", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/dangling-lines", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get dangling lines connected to voltage level", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get dangling lines connected to the voltage level"))
     public ResponseEntity<TopLevelDocument<DanglingLineAttributes>> getVoltageLevelDanglingLines(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
@@ -285,25 +512,52 @@ public class NetworkStoreController {
         return getAll(() -> repository.getVoltageLevelDanglingLines(networkId, voltageLevelId), null);
     }
 
+    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/equipments", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
+    @ApiOperation(value = "Get all resources contained in a voltage level, for a selection of resource types", response = TopLevelDocument.class)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Successfully get resources contained in the voltage level"),
+            @ApiResponse(code = 400, message = "Resource type is not contained in a voltage level")
+        })
+    public ResponseEntity<TopLevelDocument<IdentifiableAttributes>> getVoltageLevelResources(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                                                                             @ApiParam(value = "Voltage level ID", required = true) @PathVariable("voltageLevelId") String voltageLevelId,
+                                                                                             @ApiParam(value = "Resource types, all resource types contained in a voltage level if not specified, VOLTAGE_LEVEL to also get the voltage level with its calculated bus topology") @RequestParam(required = false) Set<ResourceType> types) {
+        Set<ResourceType> resourceTypes = types != null ? types : ResourceType.VOLTAGE_LEVEL_RESOURCE_TYPES;
+        if (!resourceTypes.stream().allMatch(type -> type == ResourceType.VOLTAGE_LEVEL || ResourceType.VOLTAGE_LEVEL_RESOURCE_TYPES.contains(type))) {
+            return ResponseEntity.badRequest().build();
+        }
+        return getAll(() -> repository.getVoltageLevelResources(networkId, voltageLevelId, resourceTypes), null);
+    }
+
     // generator
 
     @PostMapping(value = "/{networkId}/generators")
     @ApiOperation(value = "Create generators")
-    @ApiResponses(@ApiResponse(code = 201, message = "Successfully create generators"))
+    @ApiResponses(value = {
+            @ApiResponse(code = 201, message = "Successfully create generators"),
+            @ApiResponse(code = 400, message = "Same resource ID more than once")
+        })
     public ResponseEntity<Void> createGenerators(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
                                                  @ApiParam(value = "Generator resources", required = true) @RequestBody List<Resource<GeneratorAttributes>> generatorResources) {
         return createAll(resource -> repository.createGenerators(networkId, resource), generatorResources);
     }
 
-    @GetMapping(value = "/{networkId}/generators", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/generators", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get generators", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get generator list"))
     public ResponseEntity<TopLevelDocument<GeneratorAttributes>> getGenerators(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
-                                                                               @ApiParam(value = "Max number of generator to get") @RequestParam(required = false) Integer limit) {
-        return getAll(() -> repository.getGenerators(networkId), limit);
+                                                                               @ApiParam(value = "Max number of generator to get") @RequestParam(required = false) Integer limit,
+                                                                               @ApiParam(value = "Page cursor, given by 'nextPage' metadata of previous page") @RequestParam(required = false) String page) {
+        return getPage(() -> repository.getGenerators(networkId), (pageLimit, pageCursor) -> repository.getGenerators(networkId, pageLimit, pageCursor), limit, page);
+    }
+
+    @GetMapping(value = "/{networkId}/generators", params = "stream=true", produces = APPLICATION_STREAM_JSON_VALUE)
+    @ApiOperation(value = "Stream generators")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully stream generator list"))
+    public ResponseEntity<StreamingResponseBody> streamGenerators(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId) {
+        return stream((pageLimit, pageCursor) -> repository.getGenerators(networkId, pageLimit, pageCursor));
     }
 
-    @GetMapping(value = "/{networkId}/generators/{generatorId}", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/generators/{generatorId}", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get a generator by id", response = TopLevelDocument.class)
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Successfully get generator"),
@@ -327,21 +581,32 @@ public class NetworkStoreController {
 
     @PostMapping(value = "/{networkId}/loads")
     @ApiOperation(value = "Create loads")
-    @ApiResponses(@ApiResponse(code = 201, message = "Successfully create loads"))
+    @ApiResponses(value = {
+            @ApiResponse(code = 201, message = "Successfully create loads"),
+            @ApiResponse(code = 400, message = "Same resource ID more than once")
+        })
     public ResponseEntity<Void> createLoads(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
                                             @ApiParam(value = "Load resources", required = true) @RequestBody List<Resource<LoadAttributes>> loadResources) {
         return createAll(resource -> repository.createLoads(networkId, resource), loadResources);
     }
 
-    @GetMapping(value = "/{networkId}/loads", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/loads", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get loads", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get load list"))
     public ResponseEntity<TopLevelDocument<LoadAttributes>> getLoads(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
-                                                                     @ApiParam(value = "Max number of load to get") @RequestParam(required = false) Integer limit) {
-        return getAll(() -> repository.getLoads(networkId), limit);
+                                                                     @ApiParam(value = "Max number of load to get") @RequestParam(required = false) Integer limit,
+                                                                     @ApiParam(value = "Page cursor, given by 'nextPage' metadata of previous page") @RequestParam(required = false) String page) {
+        return getPage(() -> repository.getLoads(networkId), (pageLimit, pageCursor) -> repository.getLoads(networkId, pageLimit, pageCursor), limit, page);
+    }
+
+    @GetMapping(value = "/{networkId}/loads", params = "stream=true", produces = APPLICATION_STREAM_JSON_VALUE)
+    @ApiOperation(value = "Stream loads")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully stream load list"))
+    public ResponseEntity<StreamingResponseBody> streamLoads(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId) {
+        return stream((pageLimit, pageCursor) -> repository.getLoads(networkId, pageLimit, pageCursor));
     }
 
-    @GetMapping(value = "/{networkId}/loads/{loadId}", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/loads/{loadId}", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get a load by id", response = TopLevelDocument.class)
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Successfully get load"),
@@ -365,21 +630,32 @@ public class NetworkStoreController {
 
     @PostMapping(value = "/{networkId}/shunt-compensators")
     @ApiOperation(value = "Create shunt compensators")
-    @ApiResponses(@ApiResponse(code = 201, message = "Successfully create shunt compensators"))
+    @ApiResponses(value = {
+            @ApiResponse(code = 201, message = "Successfully create shunt compensators"),
+            @ApiResponse(code = 400, message = "Same resource ID more than once")
+        })
     public ResponseEntity<Void> createShuntCompensators(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
                                                         @ApiParam(value = "Shunt compensator resources", required = true) @RequestBody List<Resource<ShuntCompensatorAttributes>> shuntResources) {
         return createAll(resource -> repository.createShuntCompensators(networkId, resource), shuntResources);
     }
 
-    @GetMapping(value = "/{networkId}/shunt-compensators", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/shunt-compensators", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get shunt compensators", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get shunt compensator list"))
     public ResponseEntity<TopLevelDocument<ShuntCompensatorAttributes>> getShuntCompensators(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
-                                                                                             @ApiParam(value = "Max number of shunt compensator to get") @RequestParam(required = false) Integer limit) {
-        return getAll(() -> repository.getShuntCompensators(networkId), limit);
+                                                                                             @ApiParam(value = "Max number of shunt compensator to get") @RequestParam(required = false) Integer limit,
+                                                                                             @ApiParam(value = "Page cursor, given by 'nextPage' metadata of previous page") @RequestParam(required = false) String page) {
+        return getPage(() -> repository.getShuntCompensators(networkId), (pageLimit, pageCursor) -> repository.getShuntCompensators(networkId, pageLimit, pageCursor), limit, page);
+    }
+
+    @GetMapping(value = "/{networkId}/shunt-compensators", params = "stream=true", produces = APPLICATION_STREAM_JSON_VALUE)
+    @ApiOperation(value = "Stream shunt compensators")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully stream shunt compensator list"))
+    public ResponseEntity<StreamingResponseBody> streamShuntCompensators(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId) {
+        return stream((pageLimit, pageCursor) -> repository.getShuntCompensators(networkId, pageLimit, pageCursor));
     }
 
-    @GetMapping(value = "/{networkId}/shunt-compensators/{shuntCompensatorId}", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/shunt-compensators/{shuntCompensatorId}", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get a shunt compensator by id", response = TopLevelDocument.class)
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Successfully get shunt compensator"),
@@ -403,21 +679,32 @@ public class NetworkStoreController {
 
     @PostMapping(value = "/{networkId}/vsc-converter-stations")
     @ApiOperation(value = "Create VSC converter stations")
-    @ApiResponses(@ApiResponse(code = 201, message = "Successfully create VSC converter stations"))
+    @ApiResponses(value = {
+            @ApiResponse(code = 201, message = "Successfully create VSC converter stations"),
+            @ApiResponse(code = 400, message = "Same resource ID more than once")
+        })
     public ResponseEntity<Void> createVscConverterStations(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
                                                            @ApiParam(value = "VSC converter station resources", required = true) @RequestBody List<Resource<VscConverterStationAttributes>> vscConverterStationResources) {
         return createAll(resource -> repository.createVscConverterStations(networkId, resource), vscConverterStationResources);
     }
 
-    @GetMapping(value = "/{networkId}/vsc-converter-stations", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/vsc-converter-stations", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get VSC converter stations", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get VSC converter stations list"))
     public ResponseEntity<TopLevelDocument<VscConverterStationAttributes>> getVscConverterStations(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
-                                                                                                   @ApiParam(value = "Max number of VSC converter stations to get") @RequestParam(required = false) Integer limit) {
-        return getAll(() -> repository.getVscConverterStations(networkId), limit);
+                                                                                                   @ApiParam(value = "Max number of VSC converter stations to get") @RequestParam(required = false) Integer limit,
+                                                                                                   @ApiParam(value = "Page cursor, given by 'nextPage' metadata of previous page") @RequestParam(required = false) String page) {
+        return getPage(() -> repository.getVscConverterStations(networkId), (pageLimit, pageCursor) -> repository.getVscConverterStations(networkId, pageLimit, pageCursor), limit, page);
+    }
+
+    @GetMapping(value = "/{networkId}/vsc-converter-stations", params = "stream=true", produces = APPLICATION_STREAM_JSON_VALUE)
+    @ApiOperation(value = "Stream VSC converter stations")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully stream VSC converter stations list"))
+    public ResponseEntity<StreamingResponseBody> streamVscConverterStations(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId) {
+        return stream((pageLimit, pageCursor) -> repository.getVscConverterStations(networkId, pageLimit, pageCursor));
     }
 
-    @GetMapping(value = "/{networkId}/vsc-converter-stations/{vscConverterStationId}", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/vsc-converter-stations/{vscConverterStationId}", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get a VSC converter station by id", response = TopLevelDocument.class)
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Successfully get VSC converter station"),
@@ -441,21 +728,32 @@ public class NetworkStoreController {
 
     @PostMapping(value = "/{networkId}/lcc-converter-stations")
     @ApiOperation(value = "Create LCC converter stations")
-    @ApiResponses(@ApiResponse(code = 201, message = "Successfully create LCC converter stations"))
+    @ApiResponses(value = {
+            @ApiResponse(code = 201, message = "Successfully create LCC converter stations"),
+            @ApiResponse(code = 400, message = "Same resource ID more than once")
+        })
     public ResponseEntity<Void> createLccConverterStations(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
                                                            @ApiParam(value = "LCC converter station resources", required = true) @RequestBody List<Resource<LccConverterStationAttributes>> lccConverterStationResources) {
         return createAll(resource -> repository.createLccConverterStations(networkId, resource), lccConverterStationResources);
     }
 
-    @GetMapping(value = "/{networkId}/lcc-converter-stations", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/lcc-converter-stations", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get LCC converter stations", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get LCC converter stations list"))
     public ResponseEntity<TopLevelDocument<LccConverterStationAttributes>> getLccConverterStations(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
-                                                                                                   @ApiParam(value = "Max number of LCC converter stations to get") @RequestParam(required = false) Integer limit) {
-        return getAll(() -> repository.getLccConverterStations(networkId), limit);
+                                                                                                   @ApiParam(value = "Max number of LCC converter stations to get") @RequestParam(required = false) Integer limit,
+                                                                                                   @ApiParam(value = "Page cursor, given by 'nextPage' metadata of previous page") @RequestParam(required = false) String page) {
+        return getPage(() -> repository.getLccConverterStations(networkId), (pageLimit, pageCursor) -> repository.getLccConverterStations(networkId, pageLimit, pageCursor), limit, page);
+    }
+
+    @GetMapping(value = "/{networkId}/lcc-converter-stations", params = "stream=true", produces = APPLICATION_STREAM_JSON_VALUE)
+    @ApiOperation(value = "Stream LCC converter stations")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully stream LCC converter stations list"))
+    public ResponseEntity<StreamingResponseBody> streamLccConverterStations(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId) {
+        return stream((pageLimit, pageCursor) -> repository.getLccConverterStations(networkId, pageLimit, pageCursor));
     }
 
-    @GetMapping(value = "/{networkId}/lcc-converter-stations/{lccConverterStationId}", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/lcc-converter-stations/{lccConverterStationId}", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get a LCC converter station by id", response = TopLevelDocument.class)
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Successfully get LCC converter station"),
@@ -479,21 +777,32 @@ public class NetworkStoreController {
 
     @PostMapping(value = "/{networkId}/static-var-compensators")
     @ApiOperation(value = "Create static var compensators")
-    @ApiResponses(@ApiResponse(code = 201, message = "Successfully create static var compensators"))
+    @ApiResponses(value = {
+            @ApiResponse(code = 201, message = "Successfully create static var compensators"),
+            @ApiResponse(code = 400, message = "Same resource ID more than once")
+        })
     public ResponseEntity<Void> createStaticVarCompensators(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
                                                             @ApiParam(value = "Static var compensator resources", required = true) @RequestBody List<Resource<StaticVarCompensatorAttributes>> staticVarCompenstatorResources) {
         return createAll(resource -> repository.createStaticVarCompensators(networkId, resource), staticVarCompenstatorResources);
     }
 
-    @GetMapping(value = "/{networkId}/static-var-compensators", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/static-var-compensators", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get static var compensators", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get static var compensator list"))
     public ResponseEntity<TopLevelDocument<StaticVarCompensatorAttributes>> getStaticVarCompensators(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
-                                                                                                     @ApiParam(value = "Max number of static var compensators to get") @RequestParam(required = false) Integer limit) {
-        return getAll(() -> repository.getStaticVarCompensators(networkId), limit);
+                                                                                                     @ApiParam(value = "Max number of static var compensators to get") @RequestParam(required = false) Integer limit,
+                                                                                                     @ApiParam(value = "Page cursor, given by 'nextPage' metadata of previous page") @RequestParam(required = false) String page) {
+        return getPage(() -> repository.getStaticVarCompensators(networkId), (pageLimit, pageCursor) -> repository.getStaticVarCompensators(networkId, pageLimit, pageCursor), limit, page);
+    }
+
+    @GetMapping(value = "/{networkId}/static-var-compensators", params = "stream=true", produces = APPLICATION_STREAM_JSON_VALUE)
+    @ApiOperation(value = "Stream static var compensators")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully stream static var compensator list"))
+    public ResponseEntity<StreamingResponseBody> streamStaticVarCompensators(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId) {
+        return stream((pageLimit, pageCursor) -> repository.getStaticVarCompensators(networkId, pageLimit, pageCursor));
     }
 
-    @GetMapping(value = "/{networkId}/static-var-compensators/{staticVarCompensatorId}", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/static-var-compensators/{staticVarCompensatorId}", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get a static var compensator by id", response = TopLevelDocument.class)
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Successfully get static var compensator"),
@@ -518,21 +827,32 @@ public class NetworkStoreController {
 
     @PostMapping(value = "/{networkId}/busbar-sections")
     @ApiOperation(value = "Create busbar sections")
-    @ApiResponses(@ApiResponse(code = 201, message = "Successfully create busbar sections"))
+    @ApiResponses(value = {
+            @ApiResponse(code = 201, message = "Successfully create busbar sections"),
+            @ApiResponse(code = 400, message = "Same resource ID more than once")
+        })
     public ResponseEntity<Void> createBusbarSections(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
                                                      @ApiParam(value = "Busbar section resources", required = true) @RequestBody List<Resource<BusbarSectionAttributes>> busbarSectionResources) {
         return createAll(resource -> repository.createBusbarSections(networkId, resource), busbarSectionResources);
     }
 
-    @GetMapping(value = "/{networkId}/busbar-sections", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/busbar-sections", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get busbar sections", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get busbar section list"))
     public ResponseEntity<TopLevelDocument<BusbarSectionAttributes>> getBusbarSections(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
-                                                                                       @ApiParam(value = "Max number of busbar section to get") @RequestParam(required = false) Integer limit) {
-        return getAll(() -> repository.getBusbarSections(networkId), limit);
+                                                                                       @ApiParam(value = "Max number of busbar section to get") @RequestParam(required = false) Integer limit,
+                                                                                       @ApiParam(value = "Page cursor, given by 'nextPage' metadata of previous page") @RequestParam(required = false) String page) {
+        return getPage(() -> repository.getBusbarSections(networkId), (pageLimit, pageCursor) -> repository.getBusbarSections(networkId, pageLimit, pageCursor), limit, page);
+    }
+
+    @GetMapping(value = "/{networkId}/busbar-sections", params = "stream=true", produces = APPLICATION_STREAM_JSON_VALUE)
+    @ApiOperation(value = "Stream busbar sections")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully stream busbar section list"))
+    public ResponseEntity<StreamingResponseBody> streamBusbarSections(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId) {
+        return stream((pageLimit, pageCursor) -> repository.getBusbarSections(networkId, pageLimit, pageCursor));
     }
 
-    @GetMapping(value = "/{networkId}/busbar-sections/{busbarSectionId}", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/busbar-sections/{busbarSectionId}", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get a busbar section by id", response = TopLevelDocument.class)
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Successfully get busbar section"),
@@ -547,21 +867,32 @@ public class NetworkStoreController {
 
     @PostMapping(value = "/{networkId}/switches")
     @ApiOperation(value = "Create switches")
-    @ApiResponses(@ApiResponse(code = 201, message = "Successfully create switches"))
+    @ApiResponses(value = {
+            @ApiResponse(code = 201, message = "Successfully create switches"),
+            @ApiResponse(code = 400, message = "Same resource ID more than once")
+        })
     public ResponseEntity<Void> createSwitches(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
                                                @ApiParam(value = "Switch resource", required = true) @RequestBody List<Resource<SwitchAttributes>> switchResources) {
         return createAll(resources -> repository.createSwitches(networkId, resources), switchResources);
     }
 
-    @GetMapping(value = "/{networkId}/switches", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/switches", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get switches", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get switch list"))
     public ResponseEntity<TopLevelDocument<SwitchAttributes>> getSwitches(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
-                                                                          @ApiParam(value = "Max number of switch to get") @RequestParam(required = false) Integer limit) {
-        return getAll(() -> repository.getSwitches(networkId), limit);
+                                                                          @ApiParam(value = "Max number of switch to get") @RequestParam(required = false) Integer limit,
+                                                                          @ApiParam(value = "Page cursor, given by 'nextPage' metadata of previous page") @RequestParam(required = false) String page) {
+        return getPage(() -> repository.getSwitches(networkId), (pageLimit, pageCursor) -> repository.getSwitches(networkId, pageLimit, pageCursor), limit, page);
+    }
+
+    @GetMapping(value = "/{networkId}/switches", params = "stream=true", produces = APPLICATION_STREAM_JSON_VALUE)
+    @ApiOperation(value = "Stream switches")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully stream switch list"))
+    public ResponseEntity<StreamingResponseBody> streamSwitches(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId) {
+        return stream((pageLimit, pageCursor) -> repository.getSwitches(networkId, pageLimit, pageCursor));
     }
 
-    @GetMapping(value = "/{networkId}/switches/{switchId}", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/switches/{switchId}", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get a switch by id", response = TopLevelDocument.class)
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Successfully get switch"),
@@ -585,21 +916,32 @@ public class NetworkStoreController {
 
     @PostMapping(value = "/{networkId}/2-windings-transformers")
     @ApiOperation(value = "Create 2 windings transformers")
-    @ApiResponses(@ApiResponse(code = 201, message = "Successfully create 2 windings transformers"))
+    @ApiResponses(value = {
+            @ApiResponse(code = 201, message = "Successfully create 2 windings transformers"),
+            @ApiResponse(code = 400, message = "Same resource ID more than once")
+        })
     public ResponseEntity<Void> createTwoWindingsTransformers(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
                                                               @ApiParam(value = "2 windings transformer resources", required = true) @RequestBody List<Resource<TwoWindingsTransformerAttributes>> twoWindingsTransformerResources) {
         return createAll(resource -> repository.createTwoWindingsTransformers(networkId, resource), twoWindingsTransformerResources);
     }
 
-    @GetMapping(value = "/{networkId}/2-windings-transformers", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/2-windings-transformers", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get 2 windings transformers", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get 2 windings transformer list"))
     public ResponseEntity<TopLevelDocument<TwoWindingsTransformerAttributes>> getTwoWindingsTransformers(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
-                                                                                                         @ApiParam(value = "Max number of 2 windings transformer to get") @RequestParam(required = false) Integer limit) {
-        return getAll(() -> repository.getTwoWindingsTransformers(networkId), limit);
+                                                                                                         @ApiParam(value = "Max number of 2 windings transformer to get") @RequestParam(required = false) Integer limit,
+                                                                                                         @ApiParam(value = "Page cursor, given by 'nextPage' metadata of previous page") @RequestParam(required = false) String page) {
+        return getPage(() -> repository.getTwoWindingsTransformers(networkId), (pageLimit, pageCursor) -> repository.getTwoWindingsTransformers(networkId, pageLimit, pageCursor), limit, page);
+    }
+
+    @GetMapping(value = "/{networkId}/2-windings-transformers", params = "stream=true", produces = APPLICATION_STREAM_JSON_VALUE)
+    @ApiOperation(value = "Stream 2 windings transformers")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully stream 2 windings transformer list"))
+    public ResponseEntity<StreamingResponseBody> streamTwoWindingsTransformers(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId) {
+        return stream((pageLimit, pageCursor) -> repository.getTwoWindingsTransformers(networkId, pageLimit, pageCursor));
     }
 
-    @GetMapping(value = "/{networkId}/2-windings-transformers/{twoWindingsTransformerId}", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/2-windings-transformers/{twoWindingsTransformerId}", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get a 2 windings transformer by id", response = TopLevelDocument.class)
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Successfully get 2 windings transformer"),
@@ -623,21 +965,32 @@ public class NetworkStoreController {
 
     @PostMapping(value = "/{networkId}/3-windings-transformers")
     @ApiOperation(value = "Create 3 windings transformers")
-    @ApiResponses(@ApiResponse(code = 201, message = "Successfully create 3 windings transformers"))
+    @ApiResponses(value = {
+            @ApiResponse(code = 201, message = "Successfully create 3 windings transformers"),
+            @ApiResponse(code = 400, message = "Same resource ID more than once")
+        })
     public ResponseEntity<Void> createThreeWindingsTransformers(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
                                                                 @ApiParam(value = "3 windings transformer resources", required = true) @RequestBody List<Resource<ThreeWindingsTransformerAttributes>> threeWindingsTransformerResources) {
         return createAll(resource -> repository.createThreeWindingsTransformers(networkId, resource), threeWindingsTransformerResources);
     }
 
-    @GetMapping(value = "/{networkId}/3-windings-transformers", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/3-windings-transformers", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get 3 windings transformers", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get 3 windings transformer list"))
     public ResponseEntity<TopLevelDocument<ThreeWindingsTransformerAttributes>> getThreeWindingsTransformers(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
-                                                                                                             @ApiParam(value = "Max number of 3 windings transformer to get") @RequestParam(required = false) Integer limit) {
-        return getAll(() -> repository.getThreeWindingsTransformers(networkId), limit);
+                                                                                                             @ApiParam(value = "Max number of 3 windings transformer to get") @RequestParam(required = false) Integer limit,
+                                                                                                             @ApiParam(value = "Page cursor, given by 'nextPage' metadata of previous page") @RequestParam(required = false) String page) {
+        return getPage(() -> repository.getThreeWindingsTransformers(networkId), (pageLimit, pageCursor) -> repository.getThreeWindingsTransformers(networkId, pageLimit, pageCursor), limit, page);
+    }
+
+    @GetMapping(value = "/{networkId}/3-windings-transformers", params = "stream=true", produces = APPLICATION_STREAM_JSON_VALUE)
+    @ApiOperation(value = "Stream 3 windings transformers")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully stream 3 windings transformer list"))
+    public ResponseEntity<StreamingResponseBody> streamThreeWindingsTransformers(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId) {
+        return stream((pageLimit, pageCursor) -> repository.getThreeWindingsTransformers(networkId, pageLimit, pageCursor));
     }
 
-    @GetMapping(value = "/{networkId}/3-windings-transformers/{threeWindingsTransformerId}", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/3-windings-transformers/{threeWindingsTransformerId}", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get a 3 windings transformer by id", response = TopLevelDocument.class)
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Successfully get 3 windings transformer"),
@@ -661,21 +1014,32 @@ public class NetworkStoreController {
 
     @PostMapping(value = "/{networkId}/lines")
     @ApiOperation(value = "Create lines")
-    @ApiResponses(@ApiResponse(code = 201, message = "Successfully create lines"))
+    @ApiResponses(value = {
+            @ApiResponse(code = 201, message = "Successfully create lines"),
+            @ApiResponse(code = 400, message = "Same resource ID more than once")
+        })
     public ResponseEntity<Void> createLines(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
                                             @ApiParam(value = "line resources", required = true) @RequestBody List<Resource<LineAttributes>> lineResources) {
         return createAll(resource -> repository.createLines(networkId, resource), lineResources);
     }
 
-    @GetMapping(value = "/{networkId}/lines", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/lines", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get lines", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get line list"))
     public ResponseEntity<TopLevelDocument<LineAttributes>> getLines(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
-                                                                                        @ApiParam(value = "Max number of line to get") @RequestParam(required = false) Integer limit) {
-        return getAll(() -> repository.getLines(networkId), limit);
+                                                                                        @ApiParam(value = "Max number of line to get") @RequestParam(required = false) Integer limit,
+                                                                                        @ApiParam(value = "Page cursor, given by 'nextPage' metadata of previous page") @RequestParam(required = false) String page) {
+        return getPage(() -> repository.getLines(networkId), (pageLimit, pageCursor) -> repository.getLines(networkId, pageLimit, pageCursor), limit, page);
+    }
+
+    @GetMapping(value = "/{networkId}/lines", params = "stream=true", produces = APPLICATION_STREAM_JSON_VALUE)
+    @ApiOperation(value = "Stream lines")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully stream line list"))
+    public ResponseEntity<StreamingResponseBody> streamLines(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId) {
+        return stream((pageLimit, pageCursor) -> repository.getLines(networkId, pageLimit, pageCursor));
     }
 
-    @GetMapping(value = "/{networkId}/lines/{lineId}", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/lines/{lineId}", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get a line by id", response = TopLevelDocument.class)
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Successfully get line"),
@@ -699,21 +1063,32 @@ public class NetworkStoreController {
 
     @PostMapping(value = "/{networkId}/hvdc-lines")
     @ApiOperation(value = "Create hvdc lines")
-    @ApiResponses(@ApiResponse(code = 201, message = "Successfully create hvdc lines"))
+    @ApiResponses(value = {
+            @ApiResponse(code = 201, message = "Successfully create hvdc lines"),
+            @ApiResponse(code = 400, message = "Same resource ID more than once")
+        })
     public ResponseEntity<Void> createHvdcLines(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
                                                 @ApiParam(value = "Hvdc line resources", required = true) @RequestBody List<Resource<HvdcLineAttributes>> hvdcLineResources) {
         return createAll(resource -> repository.createHvdcLines(networkId, resource), hvdcLineResources);
     }
 
-    @GetMapping(value = "/{networkId}/hvdc-lines", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/hvdc-lines", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get hvdc lines", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get hvdc line list"))
     public ResponseEntity<TopLevelDocument<HvdcLineAttributes>> getHvdcLines(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
-                                                                             @ApiParam(value = "Max number of hvdc line to get") @RequestParam(required = false) Integer limit) {
-        return getAll(() -> repository.getHvdcLines(networkId), limit);
+                                                                             @ApiParam(value = "Max number of hvdc line to get") @RequestParam(required = false) Integer limit,
+                                                                             @ApiParam(value = "Page cursor, given by 'nextPage' metadata of previous page") @RequestParam(required = false) String page) {
+        return getPage(() -> repository.getHvdcLines(networkId), (pageLimit, pageCursor) -> repository.getHvdcLines(networkId, pageLimit, pageCursor), limit, page);
+    }
+
+    @GetMapping(value = "/{networkId}/hvdc-lines", params = "stream=true", produces = APPLICATION_STREAM_JSON_VALUE)
+    @ApiOperation(value = "Stream hvdc lines")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully stream hvdc line list"))
+    public ResponseEntity<StreamingResponseBody> streamHvdcLines(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId) {
+        return stream((pageLimit, pageCursor) -> repository.getHvdcLines(networkId, pageLimit, pageCursor));
     }
 
-    @GetMapping(value = "/{networkId}/hvdc-lines/{hvdcLineId}", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/hvdc-lines/{hvdcLineId}", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get a hvdc line by id", response = TopLevelDocument.class)
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Successfully get hvdc line"),
@@ -737,21 +1112,32 @@ public class NetworkStoreController {
 
     @PostMapping(value = "/{networkId}/dangling-lines")
     @ApiOperation(value = "Create dangling lines")
-    @ApiResponses(@ApiResponse(code = 201, message = "Successfully create dangling lines"))
+    @ApiResponses(value = {
+            @ApiResponse(code = 201, message = "Successfully create dangling lines"),
+            @ApiResponse(code = 400, message = "Same resource ID more than once")
+        })
     public ResponseEntity<Void> createDanglingLines(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
                                                     @ApiParam(value = "Dangling line resources", required = true) @RequestBody List<Resource<DanglingLineAttributes>> danglingLineResources) {
         return createAll(resource -> repository.createDanglingLines(networkId, resource), danglingLineResources);
     }
 
-    @GetMapping(value = "/{networkId}/dangling-lines", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/dangling-lines", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get dangling lines", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get dangling line list"))
     public ResponseEntity<TopLevelDocument<DanglingLineAttributes>> getDanglingLines(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
-                                                                                     @ApiParam(value = "Max number of dangling line to get") @RequestParam(required = false) Integer limit) {
-        return getAll(() -> repository.getDanglingLines(networkId), limit);
+                                                                                     @ApiParam(value = "Max number of dangling line to get") @RequestParam(required = false) Integer limit,
+                                                                                     @ApiParam(value = "Page cursor, given by 'nextPage' metadata of previous page") @RequestParam(required = false) String page) {
+        return getPage(() -> repository.getDanglingLines(networkId), (pageLimit, pageCursor) -> repository.getDanglingLines(networkId, pageLimit, pageCursor), limit, page);
+    }
+
+    @GetMapping(value = "/{networkId}/dangling-lines", params = "stream=true", produces = APPLICATION_STREAM_JSON_VALUE)
+    @ApiOperation(value = "Stream dangling lines")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully stream dangling line list"))
+    public ResponseEntity<StreamingResponseBody> streamDanglingLines(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId) {
+        return stream((pageLimit, pageCursor) -> repository.getDanglingLines(networkId, pageLimit, pageCursor));
     }
 
-    @GetMapping(value = "/{networkId}/dangling-lines/{danglingLineId}", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/dangling-lines/{danglingLineId}", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get a dangling line by id", response = TopLevelDocument.class)
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Successfully get dangling line"),
@@ -762,7 +1148,7 @@ public class NetworkStoreController {
         return get(() -> repository.getDanglingLine(networkId, danglingLineId));
     }
 
-    @DeleteMapping(value = "/{networkId}/dangling-lines/{danglingLineId}", produces = APPLICATION_JSON_VALUE)
+    @DeleteMapping(value = "/{networkId}/dangling-lines/{danglingLineId}", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Delete a dangling line by id")
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Successfully delete dangling line")
@@ -786,21 +1172,32 @@ public class NetworkStoreController {
 
     @PostMapping(value = "/{networkId}/configured-buses")
     @ApiOperation(value = "Create buses")
-    @ApiResponses(@ApiResponse(code = 201, message = "Successfully create buses"))
+    @ApiResponses(value = {
+            @ApiResponse(code = 201, message = "Successfully create buses"),
+            @ApiResponse(code = 400, message = "Same resource ID more than once")
+        })
     public ResponseEntity<Void> createBuses(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
                                                               @ApiParam(value = "Buses resources", required = true) @RequestBody List<Resource<ConfiguredBusAttributes>> busesResources) {
         return createAll(resource -> repository.createBuses(networkId, busesResources), busesResources);
     }
 
-    @GetMapping(value = "/{networkId}/configured-buses", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/configured-buses", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get buses", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get buses list"))
     public ResponseEntity<TopLevelDocument<ConfiguredBusAttributes>> getBuses(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
-                                                                                                         @ApiParam(value = "Max number of buses to get") @RequestParam(required = false) Integer limit) {
-        return getAll(() -> repository.getConfiguredBuses(networkId), limit);
+                                                                                                         @ApiParam(value = "Max number of buses to get") @RequestParam(required = false) Integer limit,
+                                                                                                         @ApiParam(value = "Page cursor, given by 'nextPage' metadata of previous page") @RequestParam(required = false) String page) {
+        return getPage(() -> repository.getConfiguredBuses(networkId), (pageLimit, pageCursor) -> repository.getConfiguredBuses(networkId, pageLimit, pageCursor), limit, page);
+    }
+
+    @GetMapping(value = "/{networkId}/configured-buses", params = "stream=true", produces = APPLICATION_STREAM_JSON_VALUE)
+    @ApiOperation(value = "Stream buses")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully stream buses list"))
+    public ResponseEntity<StreamingResponseBody> streamBuses(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId) {
+        return stream((pageLimit, pageCursor) -> repository.getConfiguredBuses(networkId, pageLimit, pageCursor));
     }
 
-    @GetMapping(value = "/{networkId}/configured-buses/{busId}", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/configured-buses/{busId}", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get a bus by id", response = TopLevelDocument.class)
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Successfully get bus"),
@@ -811,7 +1208,7 @@ public class NetworkStoreController {
         return get(() -> repository.getConfiguredBus(networkId, busId));
     }
 
-    @GetMapping(value = "/{networkId}/voltage-level/{voltageLevelId}/configured-buses", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/voltage-level/{voltageLevelId}/configured-buses", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get a bus by id", response = TopLevelDocument.class)
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Successfully get buses"),
@@ -7,23 +7,59 @@
 package com.powsybl.network.store.server;
 
 import com.datastax.driver.core.*;
+import com.datastax.driver.core.exceptions.PagingStateException;
+import com.datastax.driver.core.querybuilder.Insert;
+import com.datastax.driver.core.querybuilder.Select;
+import com.datastax.driver.core.querybuilder.Update;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Lists;
+import com.google.common.collect.Iterables;
+import com.google.common.primitives.Doubles;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.powsybl.commons.PowsyblException;
 import com.powsybl.iidm.network.*;
 import com.powsybl.network.store.model.*;
 import org.joda.time.DateTime;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
 import javax.annotation.PostConstruct;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static com.datastax.driver.core.querybuilder.QueryBuilder.*;
+import static com.powsybl.network.store.server.CassandraConstants.BUS_TO_CALCULATED_BUS;
+import static com.powsybl.network.store.server.CassandraConstants.CALCULATED_BUSES;
 import static com.powsybl.network.store.server.CassandraConstants.KEYSPACE_IIDM;
+import static com.powsybl.network.store.server.CassandraConstants.NODE_TO_CALCULATED_BUS;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
@@ -32,16 +68,32 @@ import static com.powsybl.network.store.server.CassandraConstants.KEYSPACE_IIDM;
 @Repository
 public class NetworkStoreRepository {
 
-    private static final int BATCH_SIZE = 1000;
-
     @Autowired
     private Session session;
 
+    @Value("${cassandra.write.batch-size:100}")
+    private int writeBatchSize;
+
+    @Value("${cassandra.write.max-in-flight-batches:32}")
+    private int writeMaxInFlightBatches;
+
+    @Value("${cassandra.delete.max-in-flight-tables:4}")
+    private int deleteMaxInFlightTables;
+
+    @Value("${network-store.partition.bucket-count:1}")
+    private int defaultBucketCount;
+
+    private AsyncBatchWriter batchWriter;
+
     private PreparedStatement psInsertNetwork;
     private PreparedStatement psUpdateNetwork;
     private PreparedStatement psInsertSubstation;
     private PreparedStatement psInsertVoltageLevel;
     private PreparedStatement psUpdateVoltageLevel;
+    private PreparedStatement psInsertCalculatedBusTopology;
+    private PreparedStatement psUpdateCalculatedBusTopology;
+    private PreparedStatement psSelectCalculatedBusTopology;
+    private PreparedStatement psSelectCalculatedBusTopologies;
     private PreparedStatement psInsertGenerator;
     private PreparedStatement psUpdateGenerator;
     private PreparedStatement psInsertLoad;
@@ -69,6 +121,64 @@ public class NetworkStoreRepository {
     private PreparedStatement psUpdateDanglingLine;
     private PreparedStatement psInsertConfiguredBus;
     private PreparedStatement psUpdateConfiguredBus;
+    private PreparedStatement psIncrementResourceCount;
+    private PreparedStatement psInsertIdentifiable;
+    private PreparedStatement psInsertBranchByVoltageLevel;
+    private PreparedStatement psSelectNetworks;
+    private PreparedStatement psSelectNetwork;
+    private PreparedStatement psSelectBucketCount;
+    private PreparedStatement psSelectResourceCounts;
+    private PreparedStatement psSelectResourceCount;
+    private PreparedStatement psSelectIdentifiableIds;
+    private PreparedStatement psSelectIdentifiableType;
+    private PreparedStatement psSelectBranchesByVoltageLevel;
+    private PreparedStatement psSelectBranchesByVoltageLevelAndType;
+    private PreparedStatement psSelectTwoWindingsTransformerVoltageLevelsById;
+    private PreparedStatement psSelectThreeWindingsTransformerVoltageLevelsById;
+    private PreparedStatement psSelectLineVoltageLevelsById;
+    private PreparedStatement psSelectSubstations;
+    private PreparedStatement psSelectSubstation;
+    private PreparedStatement psSelectVoltageLevels;
+    private PreparedStatement psSelectVoltageLevel;
+    private PreparedStatement psSelectVoltageLevelsBySubstation;
+    private PreparedStatement psSelectGenerators;
+    private PreparedStatement psSelectGenerator;
+    private PreparedStatement psSelectGeneratorsByVoltageLevel;
+    private PreparedStatement psSelectLoads;
+    private PreparedStatement psSelectLoad;
+    private PreparedStatement psSelectLoadsByVoltageLevel;
+    private PreparedStatement psSelectShuntCompensators;
+    private PreparedStatement psSelectShuntCompensator;
+    private PreparedStatement psSelectShuntCompensatorsByVoltageLevel;
+    private PreparedStatement psSelectVscConverterStations;
+    private PreparedStatement psSelectVscConverterStation;
+    private PreparedStatement psSelectVscConverterStationsByVoltageLevel;
+    private PreparedStatement psSelectLccConverterStations;
+    private PreparedStatement psSelectLccConverterStation;
+    private PreparedStatement psSelectLccConverterStationsByVoltageLevel;
+    private PreparedStatement psSelectStaticVarCompensators;
+    private PreparedStatement psSelectStaticVarCompensator;
+    private PreparedStatement psSelectStaticVarCompensatorsByVoltageLevel;
+    private PreparedStatement psSelectBusbarSections;
+    private PreparedStatement psSelectBusbarSection;
+    private PreparedStatement psSelectBusbarSectionsByVoltageLevel;
+    private PreparedStatement psSelectSwitches;
+    private PreparedStatement psSelectSwitch;
+    private PreparedStatement psSelectSwitchesByVoltageLevel;
+    private PreparedStatement psSelectTwoWindingsTransformers;
+    private PreparedStatement psSelectTwoWindingsTransformer;
+    private PreparedStatement psSelectThreeWindingsTransformers;
+    private PreparedStatement psSelectThreeWindingsTransformer;
+    private PreparedStatement psSelectLines;
+    private PreparedStatement psSelectLine;
+    private PreparedStatement psSelectHvdcLines;
+    private PreparedStatement psSelectHvdcLine;
+    private PreparedStatement psSelectDanglingLines;
+    private PreparedStatement psSelectDanglingLine;
+    private PreparedStatement psSelectDanglingLinesByVoltageLevel;
+    private PreparedStatement psSelectConfiguredBuses;
+    private PreparedStatement psSelectConfiguredBus;
+    private PreparedStatement psSelectConfiguredBusesByVoltageLevel;
 
     private static final String REGULATING_TERMINAL = "regulatingTerminal";
     private static final String CONNECTABLE_BUS = "connectableBus";
@@ -76,9 +186,52 @@ public class NetworkStoreRepository {
     private static final String NON_LINEAR_MODEL = "nonLinearModel";
     private static final String SECTION_COUNT = "sectionCount";
     private static final String GENERATION = "generation";
+    private static final String IDENTIFIABLE = "identifiable";
+
+    private static final int ROWS_MAPPING_CHUNK_SIZE = 1000;
+    private static final String BRANCH_BY_VOLTAGE_LEVEL = "branchByVoltageLevel";
+
+    private static final String CALCULATED_BUS_TOPOLOGY = "calculatedBusTopology";
+    private static final String CALCULATED_BUSES_COLUMN = "calculatedBuses";
+    private static final String CALCULATED_BUS_V = "calculatedBusV";
+    private static final String CALCULATED_BUS_ANGLE = "calculatedBusAngle";
+
+    // voltage level attributes stored in the calculated bus topology table
+    private static final Set<String> CALCULATED_BUS_TOPOLOGY_ATTRIBUTES = ImmutableSet.of(
+            CALCULATED_BUSES_COLUMN, "nodeToCalculatedBus", "busToCalculatedBus", "calculatedBusesValid", CALCULATED_BUS_V, CALCULATED_BUS_ANGLE);
+    private static final String BUCKET = "bucket";
+
+    private static final int CLONE_FETCH_SIZE = 1000;
+
+    // tables with a (networkUuid, bucket) partition key
+    private static final List<String> NETWORK_RESOURCE_TABLES = ImmutableList.of(
+            "substation", "voltageLevel", "busbarSection", "switch", "generator", "load", "shuntCompensator",
+            "staticVarCompensator", "vscConverterStation", "lccConverterStation", "twoWindingsTransformer",
+            "threeWindingsTransformer", "line", "hvdcLine", "danglingLine", "configuredBus", IDENTIFIABLE,
+            BRANCH_BY_VOLTAGE_LEVEL, CALCULATED_BUS_TOPOLOGY);
+
+    // attributes stored in several columns, other attributes are stored in a column with the same name
+    private static final Map<String, List<String>> ATTRIBUTE_COLUMNS = ImmutableMap.of(
+            "reactiveLimits", ImmutableList.of("minMaxReactiveLimits", "reactiveCapabilityCurve"),
+            "model", ImmutableList.of(LINEAR_MODEL, NON_LINEAR_MODEL),
+            // calculated bus state variables are also stored apart, see updateCalculatedBusStateVariables
+            CALCULATED_BUSES_COLUMN, ImmutableList.of(CALCULATED_BUSES_COLUMN, CALCULATED_BUS_V, CALCULATED_BUS_ANGLE));
+
+    // partial update statements indexed by table and updated columns
+    private final Map<String, PreparedStatement> psPartialUpdates = new ConcurrentHashMap<>();
+
+    private final Map<String, List<String>> primaryKeyColumnsByTable = new ConcurrentHashMap<>();
+
+    // insert statements of all the columns of a table, indexed by table, used to copy rows as is
+    private final Map<String, PreparedStatement> psCopies = new ConcurrentHashMap<>();
+
+    // number of buckets of each network, which never changes once the network has been created
+    private final Map<UUID, Integer> bucketCounts = new ConcurrentHashMap<>();
 
     @PostConstruct
     void prepareStatements() {
+        batchWriter = new AsyncBatchWriter(session, writeBatchSize, writeMaxInFlightBatches);
+
         psInsertNetwork = session.prepare(insertInto(KEYSPACE_IIDM, "network")
                 .value("uuid", bindMarker())
                 .value("id", bindMarker())
@@ -87,7 +240,8 @@ public class NetworkStoreRepository {
                 .value("forecastDistance", bindMarker())
                 .value("sourceFormat", bindMarker())
                 .value("connectedComponentsValid", bindMarker())
-                .value("synchronousComponentsValid", bindMarker()));
+                .value("synchronousComponentsValid", bindMarker())
+                .value("bucketCount", bindMarker()));
         psUpdateNetwork = session.prepare(update(KEYSPACE_IIDM, "network")
                 .with(set("id", bindMarker()))
                 .and(set("properties", bindMarker()))
@@ -105,7 +259,8 @@ public class NetworkStoreRepository {
                 .value("properties", bindMarker())
                 .value("country", bindMarker())
                 .value("tso", bindMarker())
-                .value("entsoeArea", bindMarker()));
+                .value("entsoeArea", bindMarker())
+                .value(BUCKET, bindMarker()));
 
         psInsertVoltageLevel = session.prepare(insertInto(KEYSPACE_IIDM, "voltageLevel")
                 .value("networkUuid", bindMarker())
@@ -118,10 +273,7 @@ public class NetworkStoreRepository {
                 .value("highVoltageLimit", bindMarker())
                 .value("topologyKind", bindMarker())
                 .value("internalConnections", bindMarker())
-                .value("calculatedBuses", bindMarker())
-                .value("nodeToCalculatedBus", bindMarker())
-                .value("busToCalculatedBus", bindMarker())
-                .value("calculatedBusesValid", bindMarker()));
+                .value(BUCKET, bindMarker()));
         psUpdateVoltageLevel = session.prepare(update(KEYSPACE_IIDM, "voltageLevel")
                 .with(set("name", bindMarker()))
                 .and(set("properties", bindMarker()))
@@ -130,13 +282,31 @@ public class NetworkStoreRepository {
                 .and(set("highVoltageLimit", bindMarker()))
                 .and(set("topologyKind", bindMarker()))
                 .and(set("internalConnections", bindMarker()))
-                .and(set("calculatedBuses", bindMarker()))
+                .where(eq("networkUuid", bindMarker()))
+                .and(eq("id", bindMarker()))
+                .and(eq("substationId", bindMarker()))
+                .and(eq(BUCKET, bindMarker())));
+
+        psInsertCalculatedBusTopology = session.prepare(insertInto(KEYSPACE_IIDM, CALCULATED_BUS_TOPOLOGY)
+                .value("networkUuid", bindMarker())
+                .value("voltageLevelId", bindMarker())
+                .value(CALCULATED_BUSES_COLUMN, bindMarker())
+                .value("nodeToCalculatedBus", bindMarker())
+                .value("busToCalculatedBus", bindMarker())
+                .value("calculatedBusesValid", bindMarker())
+                .value(CALCULATED_BUS_V, bindMarker())
+                .value(CALCULATED_BUS_ANGLE, bindMarker())
+                .value(BUCKET, bindMarker()));
+        psUpdateCalculatedBusTopology = session.prepare(update(KEYSPACE_IIDM, CALCULATED_BUS_TOPOLOGY)
+                .with(set(CALCULATED_BUSES_COLUMN, bindMarker()))
                 .and(set("nodeToCalculatedBus", bindMarker()))
                 .and(set("busToCalculatedBus", bindMarker()))
                 .and(set("calculatedBusesValid", bindMarker()))
+                .and(set(CALCULATED_BUS_V, bindMarker()))
+                .and(set(CALCULATED_BUS_ANGLE, bindMarker()))
                 .where(eq("networkUuid", bindMarker()))
-                .and(eq("id", bindMarker()))
-                .and(eq("substationId", bindMarker())));
+                .and(eq("voltageLevelId", bindMarker()))
+                .and(eq(BUCKET, bindMarker())));
 
         psInsertGenerator = session.prepare(insertInto(KEYSPACE_IIDM, "generator")
                 .value("networkUuid", bindMarker())
@@ -162,7 +332,8 @@ public class NetworkStoreRepository {
                 .value(CONNECTABLE_BUS, bindMarker())
                 .value("activePowerControl", bindMarker())
                 .value(REGULATING_TERMINAL, bindMarker())
-                .value("coordinatedReactiveControl", bindMarker()));
+                .value("coordinatedReactiveControl", bindMarker())
+                .value(BUCKET, bindMarker()));
         psUpdateGenerator = session.prepare(update(KEYSPACE_IIDM, "generator")
                 .with(set("name", bindMarker()))
                 .and(set("properties", bindMarker()))
@@ -187,7 +358,8 @@ public class NetworkStoreRepository {
                 .and(set("coordinatedReactiveControl", bindMarker()))
                 .where(eq("networkUuid", bindMarker()))
                 .and(eq("id", bindMarker()))
-                .and(eq("voltageLevelId", bindMarker())));
+                .and(eq("voltageLevelId", bindMarker()))
+                .and(eq(BUCKET, bindMarker())));
 
         psInsertLoad = session.prepare(insertInto(KEYSPACE_IIDM, "load")
                 .value("networkUuid", bindMarker())
@@ -203,7 +375,8 @@ public class NetworkStoreRepository {
                 .value("q", bindMarker())
                 .value("position", bindMarker())
                 .value("bus", bindMarker())
-                .value(CONNECTABLE_BUS, bindMarker()));
+                .value(CONNECTABLE_BUS, bindMarker())
+                .value(BUCKET, bindMarker()));
         psUpdateLoad = session.prepare(update(KEYSPACE_IIDM, "load")
                 .with(set("name", bindMarker()))
                 .and(set("properties", bindMarker()))
@@ -218,7 +391,8 @@ public class NetworkStoreRepository {
                 .and(set(CONNECTABLE_BUS, bindMarker()))
                 .where(eq("networkUuid", bindMarker()))
                 .and(eq("id", bindMarker()))
-                .and(eq("voltageLevelId", bindMarker())));
+                .and(eq("voltageLevelId", bindMarker()))
+                .and(eq(BUCKET, bindMarker())));
 
         psInsertShuntCompensator = session.prepare(insertInto(KEYSPACE_IIDM, "shuntCompensator")
                 .value("networkUuid", bindMarker())
@@ -238,7 +412,8 @@ public class NetworkStoreRepository {
                 .value(REGULATING_TERMINAL, bindMarker())
                 .value("voltageRegulatorOn", bindMarker())
                 .value("targetV", bindMarker())
-                .value("targetDeadband", bindMarker()));
+                .value("targetDeadband", bindMarker())
+                .value(BUCKET, bindMarker()));
         psUpdateShuntCompensator = session.prepare(update(KEYSPACE_IIDM, "shuntCompensator")
                 .with(set("name", bindMarker()))
                 .and(set("properties", bindMarker()))
@@ -257,7 +432,8 @@ public class NetworkStoreRepository {
                 .and(set("targetDeadband", bindMarker()))
                 .where(eq("networkUuid", bindMarker()))
                 .and(eq("id", bindMarker()))
-                .and(eq("voltageLevelId", bindMarker())));
+                .and(eq("voltageLevelId", bindMarker()))
+                .and(eq(BUCKET, bindMarker())));
 
         psInsertVscConverterStation = session.prepare(insertInto(KEYSPACE_IIDM, "vscConverterStation")
                 .value("networkUuid", bindMarker())
@@ -276,7 +452,8 @@ public class NetworkStoreRepository {
                 .value("q", bindMarker())
                 .value("position", bindMarker())
                 .value("bus", bindMarker())
-                .value(CONNECTABLE_BUS, bindMarker()));
+                .value(CONNECTABLE_BUS, bindMarker())
+                .value(BUCKET, bindMarker()));
         psUpdateVscConverterStation = session.prepare(update(KEYSPACE_IIDM, "vscConverterStation")
                 .with(set("name", bindMarker()))
                 .and(set("properties", bindMarker()))
@@ -294,7 +471,8 @@ public class NetworkStoreRepository {
                 .and(set(CONNECTABLE_BUS, bindMarker()))
                 .where(eq("networkUuid", bindMarker()))
                 .and(eq("id", bindMarker()))
-                .and(eq("voltageLevelId", bindMarker())));
+                .and(eq("voltageLevelId", bindMarker()))
+                .and(eq(BUCKET, bindMarker())));
 
         psInsertLccConverterStation = session.prepare(insertInto(KEYSPACE_IIDM, "lccConverterStation")
                 .value("networkUuid", bindMarker())
@@ -309,7 +487,8 @@ public class NetworkStoreRepository {
                 .value("q", bindMarker())
                 .value("position", bindMarker())
                 .value("bus", bindMarker())
-                .value(CONNECTABLE_BUS, bindMarker()));
+                .value(CONNECTABLE_BUS, bindMarker())
+                .value(BUCKET, bindMarker()));
         psUpdateLccConverterStation = session.prepare(update(KEYSPACE_IIDM, "lccConverterStation")
                 .with(set("name", bindMarker()))
                 .and(set("properties", bindMarker()))
@@ -323,7 +502,8 @@ public class NetworkStoreRepository {
                 .and(set(CONNECTABLE_BUS, bindMarker()))
                 .where(eq("networkUuid", bindMarker()))
                 .and(eq("id", bindMarker()))
-                .and(eq("voltageLevelId", bindMarker())));
+                .and(eq("voltageLevelId", bindMarker()))
+                .and(eq(BUCKET, bindMarker())));
 
         psInsertStaticVarCompensator = session.prepare(insertInto(KEYSPACE_IIDM, "staticVarCompensator")
                 .value("networkUuid", bindMarker())
@@ -343,7 +523,8 @@ public class NetworkStoreRepository {
                 .value("bus", bindMarker())
                 .value(CONNECTABLE_BUS, bindMarker())
                 .value(REGULATING_TERMINAL, bindMarker())
-                .value("voltagePerReactivePowerControl", bindMarker()));
+                .value("voltagePerReactivePowerControl", bindMarker())
+                .value(BUCKET, bindMarker()));
         psUpdateStaticVarCompensator = session.prepare(update(KEYSPACE_IIDM, "staticVarCompensator")
                 .with(set("name", bindMarker()))
                 .and(set("properties", bindMarker()))
@@ -362,7 +543,8 @@ public class NetworkStoreRepository {
                 .and(set("voltagePerReactivePowerControl", bindMarker()))
                 .where(eq("networkUuid", bindMarker()))
                 .and(eq("id", bindMarker()))
-                .and(eq("voltageLevelId", bindMarker())));
+                .and(eq("voltageLevelId", bindMarker()))
+                .and(eq(BUCKET, bindMarker())));
 
         psInsertBusbarSection = session.prepare(insertInto(KEYSPACE_IIDM, "busbarSection")
                 .value("networkUuid", bindMarker())
@@ -371,7 +553,8 @@ public class NetworkStoreRepository {
                 .value("name", bindMarker())
                 .value("properties", bindMarker())
                 .value("node", bindMarker())
-                .value("position", bindMarker()));
+                .value("position", bindMarker())
+                .value(BUCKET, bindMarker()));
 
         psInsertSwitch = session.prepare(insertInto(KEYSPACE_IIDM, "switch")
                 .value("networkUuid", bindMarker())
@@ -386,7 +569,8 @@ public class NetworkStoreRepository {
                 .value("fictitious", bindMarker())
                 .value("kind", bindMarker())
                 .value("bus1", bindMarker())
-                .value("bus2", bindMarker()));
+                .value("bus2", bindMarker())
+                .value(BUCKET, bindMarker()));
         psUpdateSwitch = session.prepare(update(KEYSPACE_IIDM, "switch")
                 .with(set("name", bindMarker()))
                 .and(set("properties", bindMarker()))
@@ -400,7 +584,8 @@ public class NetworkStoreRepository {
                 .and(set("bus2", bindMarker()))
                 .where(eq("networkUuid", bindMarker()))
                 .and(eq("id", bindMarker()))
-                .and(eq("voltageLevelId", bindMarker())));
+                .and(eq("voltageLevelId", bindMarker()))
+                .and(eq(BUCKET, bindMarker())));
 
         psInsertTwoWindingsTransformer = session.prepare(insertInto(KEYSPACE_IIDM, "twoWindingsTransformer")
                 .value("networkUuid", bindMarker())
@@ -430,7 +615,8 @@ public class NetworkStoreRepository {
                 .value("connectableBus1", bindMarker())
                 .value("connectableBus2", bindMarker())
                 .value("currentLimits1", bindMarker())
-                .value("currentLimits2", bindMarker()));
+                .value("currentLimits2", bindMarker())
+                .value(BUCKET, bindMarker()));
         psUpdateTwoWindingsTransformer = session.prepare(update(KEYSPACE_IIDM, "twoWindingsTransformer")
                 .with(set("voltageLevelId1", bindMarker()))
                 .and(set("voltageLevelId2", bindMarker()))
@@ -459,7 +645,8 @@ public class NetworkStoreRepository {
                 .and(set("currentLimits1", bindMarker()))
                 .and(set("currentLimits2", bindMarker()))
                 .where(eq("networkUuid", bindMarker()))
-                .and(eq("id", bindMarker())));
+                .and(eq("id", bindMarker()))
+                .and(eq(BUCKET, bindMarker())));
 
         psInsertThreeWindingsTransformer = session.prepare(insertInto(KEYSPACE_IIDM, "threeWindingsTransformer")
                 .value("networkUuid", bindMarker())
@@ -514,7 +701,8 @@ public class NetworkStoreRepository {
                 .value("bus2", bindMarker())
                 .value("connectableBus2", bindMarker())
                 .value("bus3", bindMarker())
-                .value("connectableBus3", bindMarker()));
+                .value("connectableBus3", bindMarker())
+                .value(BUCKET, bindMarker()));
         psUpdateThreeWindingsTransformer = session.prepare(update(KEYSPACE_IIDM, "threeWindingsTransformer")
                 .with(set("voltageLevelId1", bindMarker()))
                 .and(set("voltageLevelId2", bindMarker()))
@@ -568,7 +756,8 @@ public class NetworkStoreRepository {
                 .and(set("bus3", bindMarker()))
                 .and(set("connectableBus3", bindMarker()))
                 .where(eq("networkUuid", bindMarker()))
-                .and(eq("id", bindMarker())));
+                .and(eq("id", bindMarker()))
+                .and(eq(BUCKET, bindMarker())));
 
         psInsertLine = session.prepare(insertInto(KEYSPACE_IIDM, "line")
                 .value("networkUuid", bindMarker())
@@ -597,7 +786,8 @@ public class NetworkStoreRepository {
                 .value("connectableBus2", bindMarker())
                 .value("mergedXnode", bindMarker())
                 .value("currentLimits1", bindMarker())
-                .value("currentLimits2", bindMarker()));
+                .value("currentLimits2", bindMarker())
+                .value(BUCKET, bindMarker()));
         psUpdateLines = session.prepare(update(KEYSPACE_IIDM, "line")
                 .with(set("voltageLevelId1", bindMarker()))
                 .and(set("voltageLevelId2", bindMarker()))
@@ -625,7 +815,8 @@ public class NetworkStoreRepository {
                 .and(set("currentLimits1", bindMarker()))
                 .and(set("currentLimits2", bindMarker()))
                 .where(eq("networkUuid", bindMarker()))
-                .and(eq("id", bindMarker())));
+                .and(eq("id", bindMarker()))
+                .and(eq(BUCKET, bindMarker())));
 
         psInsertHvdcLine = session.prepare(insertInto(KEYSPACE_IIDM, "hvdcLine")
                 .value("networkUuid", bindMarker())
@@ -638,7 +829,8 @@ public class NetworkStoreRepository {
                 .value("activePowerSetpoint", bindMarker())
                 .value("maxP", bindMarker())
                 .value("converterStationId1", bindMarker())
-                .value("converterStationId2", bindMarker()));
+                .value("converterStationId2", bindMarker())
+                .value(BUCKET, bindMarker()));
         psUpdateHvdcLine = session.prepare(update(KEYSPACE_IIDM, "hvdcLine")
                 .with(set("name", bindMarker()))
                 .and(set("properties", bindMarker()))
@@ -650,7 +842,8 @@ public class NetworkStoreRepository {
                 .and(set("converterStationId1", bindMarker()))
                 .and(set("converterStationId2", bindMarker()))
                 .where(eq("networkUuid", bindMarker()))
-                .and(eq("id", bindMarker())));
+                .and(eq("id", bindMarker()))
+                .and(eq(BUCKET, bindMarker())));
 
         psInsertDanglingLine = session.prepare(insertInto(KEYSPACE_IIDM, "danglingLine")
                 .value("networkUuid", bindMarker())
@@ -672,7 +865,8 @@ public class NetworkStoreRepository {
                 .value("q", bindMarker())
                 .value("position", bindMarker())
                 .value("bus", bindMarker())
-                .value(CONNECTABLE_BUS, bindMarker()));
+                .value(CONNECTABLE_BUS, bindMarker())
+                .value(BUCKET, bindMarker()));
         psUpdateDanglingLine = session.prepare(update(KEYSPACE_IIDM, "danglingLine")
                 .with(set("name", bindMarker()))
                 .and(set("properties", bindMarker()))
@@ -693,7 +887,8 @@ public class NetworkStoreRepository {
                 .and(set(CONNECTABLE_BUS, bindMarker()))
                 .where(eq("networkUuid", bindMarker()))
                 .and(eq("id", bindMarker()))
-                .and(eq("voltageLevelId", bindMarker())));
+                .and(eq("voltageLevelId", bindMarker()))
+                .and(eq(BUCKET, bindMarker())));
 
         psInsertConfiguredBus = session.prepare(insertInto(KEYSPACE_IIDM, "configuredBus")
                 .value("networkUuid", bindMarker())
@@ -702,7 +897,8 @@ public class NetworkStoreRepository {
                 .value("name", bindMarker())
                 .value("properties", bindMarker())
                 .value("v", bindMarker())
-                .value("angle", bindMarker()));
+                .value("angle", bindMarker())
+                .value(BUCKET, bindMarker()));
         psUpdateConfiguredBus = session.prepare(update(KEYSPACE_IIDM, "configuredBus")
                 .with(set("name", bindMarker()))
                 .and(set("properties", bindMarker()))
@@ -710,7 +906,448 @@ public class NetworkStoreRepository {
                 .and(set("angle", bindMarker()))
                 .where(eq("networkUuid", bindMarker()))
                 .and(eq("id", bindMarker()))
-                .and(eq("voltageLevelId", bindMarker())));
+                .and(eq("voltageLevelId", bindMarker()))
+                .and(eq(BUCKET, bindMarker())));
+
+        psIncrementResourceCount = session.prepare(update(KEYSPACE_IIDM, "resourceCount")
+                .with(incr("total", bindMarker()))
+                .where(eq("networkUuid", bindMarker()))
+                .and(eq("resourceType", bindMarker())));
+
+        psInsertIdentifiable = session.prepare(insertInto(KEYSPACE_IIDM, IDENTIFIABLE)
+                .value("networkUuid", bindMarker())
+                .value("id", bindMarker())
+                .value("resourceType", bindMarker())
+                .value(BUCKET, bindMarker()));
+
+        psInsertBranchByVoltageLevel = session.prepare(insertInto(KEYSPACE_IIDM, BRANCH_BY_VOLTAGE_LEVEL)
+                .value("networkUuid", bindMarker())
+                .value("voltageLevelId", bindMarker())
+                .value("resourceType", bindMarker())
+                .value("side", bindMarker())
+                .value("id", bindMarker())
+                .value("attributes", bindMarker())
+                .value("p1", bindMarker())
+                .value("q1", bindMarker())
+                .value("p2", bindMarker())
+                .value("q2", bindMarker())
+                .value("p3", bindMarker())
+                .value("q3", bindMarker())
+                .value(BUCKET, bindMarker()));
+
+        prepareSelectStatements();
+    }
+
+    private PreparedStatement prepareSelect(String table, String[] columns, String... keyColumns) {
+        Select.Where where = select(columns).from(KEYSPACE_IIDM, table).where();
+        for (String keyColumn : keyColumns) {
+            where.and(eq(keyColumn, bindMarker()));
+        }
+        return session.prepare(where);
+    }
+
+    private PreparedStatement prepareSelectByIds(String table, String[] columns) {
+        return session.prepare(select(columns).from(KEYSPACE_IIDM, table)
+                .where(eq("networkUuid", bindMarker()))
+                .and(eq(BUCKET, bindMarker()))
+                .and(in("id", bindMarker())));
+    }
+
+    // All the reads of a table (whole network, one resource, resources of a container) select the same columns in the
+    // same order, so that rows are always mapped to resources by the same method. Statements are bound with the
+    // partition key, so the token aware load balancing policy sends them directly to a replica
+    private void prepareSelectStatements() {
+        String[] networkColumns = {
+            "uuid",
+            "id",
+            "properties",
+            "caseDate",
+            "forecastDistance",
+            "sourceFormat",
+            "connectedComponentsValid",
+            "synchronousComponentsValid",
+            "deleting"
+        };
+        psSelectNetworks = session.prepare(select(networkColumns).from(KEYSPACE_IIDM, "network"));
+        psSelectNetwork = prepareSelect("network", networkColumns, "uuid");
+        psSelectBucketCount = prepareSelect("network", new String[] {"bucketCount"}, "uuid");
+
+        psSelectResourceCounts = prepareSelect("resourceCount", new String[] {"resourceType", "total"}, "networkUuid");
+        psSelectResourceCount = prepareSelect("resourceCount", new String[] {"total"}, "networkUuid", "resourceType");
+        psSelectIdentifiableType = prepareSelect(IDENTIFIABLE, new String[] {"resourceType"}, "networkUuid", BUCKET, "id");
+        psSelectIdentifiableIds = prepareSelectByIds(IDENTIFIABLE, new String[] {"id"});
+        String[] branchByVoltageLevelColumns = {"resourceType", "id", "attributes", "p1", "q1", "p2", "q2", "p3", "q3"};
+        psSelectBranchesByVoltageLevel = prepareSelect(BRANCH_BY_VOLTAGE_LEVEL, branchByVoltageLevelColumns, "networkUuid", BUCKET, "voltageLevelId");
+        psSelectBranchesByVoltageLevelAndType = prepareSelect(BRANCH_BY_VOLTAGE_LEVEL, branchByVoltageLevelColumns, "networkUuid", BUCKET, "voltageLevelId", "resourceType");
+
+        String[] substationColumns = {
+            "id",
+            "name",
+            "properties",
+            "country",
+            "tso",
+            "entsoeArea"
+        };
+        psSelectSubstations = prepareSelect("substation", substationColumns, "networkUuid", BUCKET);
+        psSelectSubstation = prepareSelect("substation", substationColumns, "networkUuid", BUCKET, "id");
+
+        String[] voltageLevelColumns = {
+            "id",
+            "substationId",
+            "name",
+            "properties",
+            "nominalV",
+            "lowVoltageLimit",
+            "highVoltageLimit",
+            "topologyKind",
+            "internalConnections"
+        };
+        psSelectVoltageLevels = prepareSelect("voltageLevel", voltageLevelColumns, "networkUuid", BUCKET);
+        psSelectVoltageLevel = prepareSelect("voltageLevel", voltageLevelColumns, "networkUuid", BUCKET, "id");
+        psSelectVoltageLevelsBySubstation = prepareSelect("voltageLevelBySubstation", voltageLevelColumns, "networkUuid", "substationId");
+        psSelectCalculatedBusTopology = prepareSelect(CALCULATED_BUS_TOPOLOGY, new String[] {CALCULATED_BUSES_COLUMN, "nodeToCalculatedBus", "busToCalculatedBus", "calculatedBusesValid", CALCULATED_BUS_V, CALCULATED_BUS_ANGLE},
+                "networkUuid", BUCKET, "voltageLevelId");
+        psSelectCalculatedBusTopologies = prepareSelect(CALCULATED_BUS_TOPOLOGY, new String[] {CALCULATED_BUSES_COLUMN, "nodeToCalculatedBus", "busToCalculatedBus", "calculatedBusesValid", CALCULATED_BUS_V, CALCULATED_BUS_ANGLE, "voltageLevelId"},
+                "networkUuid", BUCKET);
+
+        String[] generatorColumns = {
+            "id",
+            "voltageLevelId",
+            "name",
+            "properties",
+            "node",
+            "energySource",
+            "minP",
+            "maxP",
+            "voltageRegulatorOn",
+            "targetP",
+            "targetQ",
+            "targetV",
+            "ratedS",
+            "p",
+            "q",
+            "position",
+            "minMaxReactiveLimits",
+            "reactiveCapabilityCurve",
+            "bus",
+            CONNECTABLE_BUS,
+            "activePowerControl",
+            REGULATING_TERMINAL,
+            "coordinatedReactiveControl"
+        };
+        psSelectGenerators = prepareSelect("generator", generatorColumns, "networkUuid", BUCKET);
+        psSelectGenerator = prepareSelect("generator", generatorColumns, "networkUuid", BUCKET, "id");
+        psSelectGeneratorsByVoltageLevel = prepareSelect("generatorByVoltageLevel", generatorColumns, "networkUuid", "voltageLevelId");
+
+        String[] loadColumns = {
+            "id",
+            "voltageLevelId",
+            "name",
+            "properties",
+            "node",
+            "loadType",
+            "p0",
+            "q0",
+            "p",
+            "q",
+            "position",
+            "bus",
+            CONNECTABLE_BUS
+        };
+        psSelectLoads = prepareSelect("load", loadColumns, "networkUuid", BUCKET);
+        psSelectLoad = prepareSelect("load", loadColumns, "networkUuid", BUCKET, "id");
+        psSelectLoadsByVoltageLevel = prepareSelect("loadByVoltageLevel", loadColumns, "networkUuid", "voltageLevelId");
+
+        String[] shuntCompensatorColumns = {
+            "id",
+            "voltageLevelId",
+            "name",
+            "properties",
+            "node",
+            LINEAR_MODEL,
+            NON_LINEAR_MODEL,
+            SECTION_COUNT,
+            "p",
+            "q",
+            "position",
+            "bus",
+            CONNECTABLE_BUS,
+            REGULATING_TERMINAL,
+            "voltageRegulatorOn",
+            "targetV",
+            "targetDeadband"
+        };
+        psSelectShuntCompensators = prepareSelect("shuntCompensator", shuntCompensatorColumns, "networkUuid", BUCKET);
+        psSelectShuntCompensator = prepareSelect("shuntCompensator", shuntCompensatorColumns, "networkUuid", BUCKET, "id");
+        psSelectShuntCompensatorsByVoltageLevel = prepareSelect("shuntCompensatorByVoltageLevel", shuntCompensatorColumns, "networkUuid", "voltageLevelId");
+
+        String[] vscConverterStationColumns = {
+            "id",
+            "voltageLevelId",
+            "name",
+            "properties",
+            "node",
+            "lossFactor",
+            "voltageRegulatorOn",
+            "reactivePowerSetPoint",
+            "voltageSetPoint",
+            "minMaxReactiveLimits",
+            "reactiveCapabilityCurve",
+            "p",
+            "q",
+            "position",
+            "bus",
+            CONNECTABLE_BUS
+        };
+        psSelectVscConverterStations = prepareSelect("vscConverterStation", vscConverterStationColumns, "networkUuid", BUCKET);
+        psSelectVscConverterStation = prepareSelect("vscConverterStation", vscConverterStationColumns, "networkUuid", BUCKET, "id");
+        psSelectVscConverterStationsByVoltageLevel = prepareSelect("vscConverterStationByVoltageLevel", vscConverterStationColumns, "networkUuid", "voltageLevelId");
+
+        String[] lccConverterStationColumns = {
+            "id",
+            "voltageLevelId",
+            "name",
+            "properties",
+            "node",
+            "powerFactor",
+            "lossFactor",
+            "p",
+            "q",
+            "position",
+            "bus",
+            CONNECTABLE_BUS
+        };
+        psSelectLccConverterStations = prepareSelect("lccConverterStation", lccConverterStationColumns, "networkUuid", BUCKET);
+        psSelectLccConverterStation = prepareSelect("lccConverterStation", lccConverterStationColumns, "networkUuid", BUCKET, "id");
+        psSelectLccConverterStationsByVoltageLevel = prepareSelect("lccConverterStationByVoltageLevel", lccConverterStationColumns, "networkUuid", "voltageLevelId");
+
+        String[] staticVarCompensatorColumns = {
+            "id",
+            "voltageLevelId",
+            "name",
+            "properties",
+            "node",
+            "bMin",
+            "bMax",
+            "voltageSetPoint",
+            "reactivePowerSetPoint",
+            "regulationMode",
+            "p",
+            "q",
+            "position",
+            "bus",
+            CONNECTABLE_BUS,
+            REGULATING_TERMINAL,
+            "voltagePerReactivePowerControl"
+        };
+        psSelectStaticVarCompensators = prepareSelect("staticVarCompensator", staticVarCompensatorColumns, "networkUuid", BUCKET);
+        psSelectStaticVarCompensator = prepareSelect("staticVarCompensator", staticVarCompensatorColumns, "networkUuid", BUCKET, "id");
+        psSelectStaticVarCompensatorsByVoltageLevel = prepareSelect("staticVarCompensatorByVoltageLevel", staticVarCompensatorColumns, "networkUuid", "voltageLevelId");
+
+        String[] busbarSectionColumns = {
+            "id",
+            "voltageLevelId",
+            "name",
+            "properties",
+            "node",
+            "position"
+        };
+        psSelectBusbarSections = prepareSelect("busbarSection", busbarSectionColumns, "networkUuid", BUCKET);
+        psSelectBusbarSection = prepareSelect("busbarSection", busbarSectionColumns, "networkUuid", BUCKET, "id");
+        psSelectBusbarSectionsByVoltageLevel = prepareSelect("busbarSectionByVoltageLevel", busbarSectionColumns, "networkUuid", "voltageLevelId");
+
+        String[] switchColumns = {
+            "id",
+            "voltageLevelId",
+            "name",
+            "properties",
+            "kind",
+            "node1",
+            "node2",
+            "open",
+            "retained",
+            "fictitious",
+            "bus1",
+            "bus2"
+        };
+        psSelectSwitches = prepareSelect("switch", switchColumns, "networkUuid", BUCKET);
+        psSelectSwitch = prepareSelect("switch", switchColumns, "networkUuid", BUCKET, "id");
+        psSelectSwitchesByVoltageLevel = prepareSelect("switchByVoltageLevel", switchColumns, "networkUuid", "voltageLevelId");
+
+        String[] twoWindingsTransformerColumns = {
+            "id",
+            "voltageLevelId1",
+            "voltageLevelId2",
+            "name",
+            "properties",
+            "node1",
+            "node2",
+            "r",
+            "x",
+            "g",
+            "b",
+            "ratedU1",
+            "ratedU2",
+            "p1",
+            "q1",
+            "p2",
+            "q2",
+            "position1",
+            "position2",
+            "phaseTapChanger",
+            "ratioTapChanger",
+            "bus1",
+            "bus2",
+            "connectableBus1",
+            "connectableBus2",
+            "currentLimits1",
+            "currentLimits2"
+        };
+        psSelectTwoWindingsTransformers = prepareSelect("twoWindingsTransformer", twoWindingsTransformerColumns, "networkUuid", BUCKET);
+        psSelectTwoWindingsTransformer = prepareSelect("twoWindingsTransformer", twoWindingsTransformerColumns, "networkUuid", BUCKET, "id");
+        psSelectTwoWindingsTransformerVoltageLevelsById = prepareSelectByIds("twoWindingsTransformer", new String[] {"id", "voltageLevelId1", "voltageLevelId2"});
+
+        String[] threeWindingsTransformerColumns = {
+            "id",
+            "name",
+            "properties",
+            "ratedU0",
+            "voltageLevelId1",
+            "node1",
+            "r1",
+            "x1",
+            "g1",
+            "b1",
+            "ratedU1",
+            "p1",
+            "q1",
+            "phaseTapChanger1",
+            "ratioTapChanger1",
+            "voltageLevelId2",
+            "node2",
+            "r2",
+            "x2",
+            "g2",
+            "b2",
+            "ratedU2",
+            "p2",
+            "q2",
+            "phaseTapChanger2",
+            "ratioTapChanger2",
+            "voltageLevelId3",
+            "node3",
+            "r3",
+            "x3",
+            "g3",
+            "b3",
+            "ratedU3",
+            "p3",
+            "q3",
+            "phaseTapChanger3",
+            "ratioTapChanger3",
+            "position1",
+            "position2",
+            "position3",
+            "currentLimits1",
+            "currentLimits2",
+            "currentLimits3",
+            "bus1",
+            "connectableBus1",
+            "bus2",
+            "connectableBus2",
+            "bus3",
+            "connectableBus3",
+            "ratedS1",
+            "ratedS2",
+            "ratedS3"
+        };
+        psSelectThreeWindingsTransformers = prepareSelect("threeWindingsTransformer", threeWindingsTransformerColumns, "networkUuid", BUCKET);
+        psSelectThreeWindingsTransformer = prepareSelect("threeWindingsTransformer", threeWindingsTransformerColumns, "networkUuid", BUCKET, "id");
+        psSelectThreeWindingsTransformerVoltageLevelsById = prepareSelectByIds("threeWindingsTransformer", new String[] {"id", "voltageLevelId1", "voltageLevelId2", "voltageLevelId3"});
+
+        String[] lineColumns = {
+            "id",
+            "voltageLevelId1",
+            "voltageLevelId2",
+            "name",
+            "properties",
+            "node1",
+            "node2",
+            "r",
+            "x",
+            "g1",
+            "b1",
+            "g2",
+            "b2",
+            "p1",
+            "q1",
+            "p2",
+            "q2",
+            "position1",
+            "position2",
+            "bus1",
+            "bus2",
+            "connectableBus1",
+            "connectableBus2",
+            "mergedXnode",
+            "currentLimits1",
+            "currentLimits2"
+        };
+        psSelectLines = prepareSelect("line", lineColumns, "networkUuid", BUCKET);
+        psSelectLine = prepareSelect("line", lineColumns, "networkUuid", BUCKET, "id");
+        psSelectLineVoltageLevelsById = prepareSelectByIds("line", new String[] {"id", "voltageLevelId1", "voltageLevelId2"});
+
+        String[] hvdcLineColumns = {
+            "id",
+            "name",
+            "properties",
+            "r",
+            "convertersMode",
+            "nominalV",
+            "activePowerSetpoint",
+            "maxP",
+            "converterStationId1",
+            "converterStationId2"
+        };
+        psSelectHvdcLines = prepareSelect("hvdcLine", hvdcLineColumns, "networkUuid", BUCKET);
+        psSelectHvdcLine = prepareSelect("hvdcLine", hvdcLineColumns, "networkUuid", BUCKET, "id");
+
+        String[] danglingLineColumns = {
+            "id",
+            "voltageLevelId",
+            "name",
+            "properties",
+            "node",
+            "p0",
+            "q0",
+            "r",
+            "x",
+            "g",
+            "b",
+            GENERATION,
+            "ucteXNodeCode",
+            "currentLimits",
+            "p",
+            "q",
+            "position",
+            "bus",
+            CONNECTABLE_BUS
+        };
+        psSelectDanglingLines = prepareSelect("danglingLine", danglingLineColumns, "networkUuid", BUCKET);
+        psSelectDanglingLine = prepareSelect("danglingLine", danglingLineColumns, "networkUuid", BUCKET, "id");
+        psSelectDanglingLinesByVoltageLevel = prepareSelect("danglingLineByVoltageLevel", danglingLineColumns, "networkUuid", "voltageLevelId");
+
+        String[] configuredBusColumns = {
+            "id",
+            "name",
+            "voltageLevelId",
+            "v",
+            "angle",
+            "properties"
+        };
+        psSelectConfiguredBuses = prepareSelect("configuredBus", configuredBusColumns, "networkUuid", BUCKET);
+        psSelectConfiguredBus = prepareSelect("configuredBus", configuredBusColumns, "networkUuid", BUCKET, "id");
+        psSelectConfiguredBusesByVoltageLevel = prepareSelect("configuredBusByVoltageLevel", configuredBusColumns, "networkUuid", "voltageLevelId");
     }
 
     // This method unsets the null valued columns of a bound statement in order to avoid creation of tombstones
@@ -725,481 +1362,1326 @@ public class NetworkStoreRepository {
         return bs;
     }
 
-    // network
+    private List<String> getPrimaryKeyColumns(String table) {
+        return primaryKeyColumnsByTable.computeIfAbsent(table, k -> {
+            TableMetadata tableMetadata = session.getCluster().getMetadata().getKeyspace(KEYSPACE_IIDM).getTable(table);
+            List<String> primaryKeyColumns = new ArrayList<>();
+            for (ColumnMetadata column : tableMetadata.getPrimaryKey()) {
+                primaryKeyColumns.add(column.getName());
+            }
+            return primaryKeyColumns;
+        });
+    }
 
-    public List<Resource<NetworkAttributes>> getNetworks() {
-        ResultSet resultSet = session.execute(select("uuid",
-                                                     "id",
-                                                     "properties",
-                                                     "caseDate",
-                                                     "forecastDistance",
-                                                     "sourceFormat",
-                                                     "connectedComponentsValid",
-                                                     "synchronousComponentsValid")
-                .from(KEYSPACE_IIDM, "network"));
-        List<Resource<NetworkAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            resources.add(Resource.networkBuilder()
-                    .id(row.getString(1))
-                    .attributes(NetworkAttributes.builder()
-                            .uuid(row.getUUID(0))
-                            .properties(row.getMap(2, String.class, String.class))
-                            .caseDate(new DateTime(row.getTimestamp(3)))
-                            .forecastDistance(row.getInt(4))
-                            .sourceFormat(row.getString(5))
-                            .connectedComponentsValid(row.getBool(6))
-                            .synchronousComponentsValid(row.getBool(7))
-                            .build())
-                    .build());
+    private PreparedStatement getPartialUpdateStatement(String table, SortedSet<String> columns) {
+        return psPartialUpdates.computeIfAbsent(table + columns, k -> {
+            Update.Assignments assignments = update(KEYSPACE_IIDM, table).with();
+            columns.forEach(column -> assignments.and(set(column, bindMarker())));
+            Update.Where where = assignments.where();
+            getPrimaryKeyColumns(table).forEach(column -> where.and(eq(column, bindMarker())));
+            return session.prepare(where);
+        });
+    }
+
+    // When only some attributes of a resource have been updated, the full update statement is replaced by one that
+    // only writes the columns of these attributes, so that unchanged (and possibly large) columns are not rewritten.
+    // The full update is kept if an updated attribute has no matching column.
+    private BoundStatement restrictToUpdatedAttributes(String table, Resource<?> resource, BoundStatement update) {
+        return restrictToUpdatedAttributes(table, resource.getUpdatedAttributes(), update);
+    }
+
+    private BoundStatement restrictToUpdatedAttributes(String table, Set<String> updatedAttributes, BoundStatement update) {
+        if (updatedAttributes == null || updatedAttributes.isEmpty()) {
+            return update;
         }
-        return resources;
+        ColumnDefinitions variables = update.preparedStatement().getVariables();
+        List<String> primaryKeyColumns = getPrimaryKeyColumns(table);
+        SortedSet<String> columns = new TreeSet<>();
+        for (String attributeName : updatedAttributes) {
+            for (String column : ATTRIBUTE_COLUMNS.getOrDefault(attributeName, Collections.singletonList(attributeName))) {
+                String columnName = column.toLowerCase(Locale.ROOT);
+                if (!variables.contains(columnName) || primaryKeyColumns.contains(columnName)) {
+                    return update;
+                }
+                // like for full update, null values are not written
+                if (update.isSet(columnName)) {
+                    columns.add(columnName);
+                }
+            }
+        }
+        if (columns.isEmpty()) {
+            return update;
+        }
+
+        BoundStatement partialUpdate = getPartialUpdateStatement(table, columns).bind();
+        for (String column : Iterables.concat(columns, primaryKeyColumns)) {
+            // bucket is only set when the statement is written
+            if (!column.equals(BUCKET)) {
+                partialUpdate.setBytesUnsafe(column, update.getBytesUnsafe(column));
+            }
+        }
+        return partialUpdate;
     }
 
-    public Optional<Resource<NetworkAttributes>> getNetwork(UUID uuid) {
-        ResultSet resultSet = session.execute(select("id",
-                                                     "properties",
-                                                     "caseDate",
-                                                     "forecastDistance",
-                                                     "sourceFormat",
-                                                     "connectedComponentsValid",
-                                                     "synchronousComponentsValid")
-                .from(KEYSPACE_IIDM, "network")
-                .where(eq("uuid", uuid)));
-        Row one = resultSet.one();
-        if (one != null) {
-            return Optional.of(Resource.networkBuilder()
-                    .id(one.getString(0))
-                    .attributes(NetworkAttributes.builder()
-                            .uuid(uuid)
-                            .properties(one.getMap(1, String.class, String.class))
-                            .caseDate(new DateTime(one.getTimestamp(2)))
-                            .forecastDistance(one.getInt(3))
-                            .sourceFormat(one.getString(4))
-                            .connectedComponentsValid(one.getBool(5))
-                            .synchronousComponentsValid(one.getBool(6))
-                            .build())
-                    .build());
+    private List<BoundStatement> restrictToUpdatedAttributes(String table, List<? extends Resource<?>> resources, List<BoundStatement> updates) {
+        List<BoundStatement> restrictedUpdates = new ArrayList<>(updates.size());
+        for (int i = 0; i < updates.size(); i++) {
+            restrictedUpdates.add(restrictToUpdatedAttributes(table, resources.get(i), updates.get(i)));
         }
-        return Optional.empty();
+        return restrictedUpdates;
     }
 
-    public void createNetworks(List<Resource<NetworkAttributes>> resources) {
-        for (List<Resource<NetworkAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
-            BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
-            for (Resource<NetworkAttributes> resource : subresources) {
-                batch.add(unsetNullValues(psInsertNetwork.bind(
-                        resource.getAttributes().getUuid(),
-                        resource.getId(),
-                        resource.getAttributes().getProperties(),
-                        resource.getAttributes().getCaseDate().toDate(),
-                        resource.getAttributes().getForecastDistance(),
-                        resource.getAttributes().getSourceFormat(),
-                        resource.getAttributes().isConnectedComponentsValid(),
-                        resource.getAttributes().isSynchronousComponentsValid()
-                        )));
+    // Read one page of resources using Cassandra paging state as a cursor. Buckets are read one after the other, the
+    // cursor is the current bucket followed by the paging state in this bucket. Total count of the collection is only
+    // given for the first page, it is read from the resource counters
+    private <T extends IdentifiableAttributes> ResourcePage<T> getPage(ResourceType resourceType, UUID networkUuid, PreparedStatement psSelect, int limit, String page,
+                                                                      Function<Iterable<Row>, List<Resource<T>>> rowsMapper) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Invalid limit: " + limit);
+        }
+        Long totalCount = null;
+        if (page == null) {
+            totalCount = (long) getResourceCount(networkUuid, resourceType);
+        }
+        if (limit == 0) {
+            return new ResourcePage<>(Collections.emptyList(), null, totalCount);
+        }
+        int bucketCount = getBucketCount(networkUuid);
+        int bucket = 0;
+        PagingState pagingState = null;
+        if (page != null) {
+            int separatorIndex = page.indexOf(':');
+            if (separatorIndex < 0) {
+                throw new InvalidPageException(page, null);
+            }
+            try {
+                bucket = Integer.parseInt(page.substring(0, separatorIndex));
+                if (separatorIndex < page.length() - 1) {
+                    pagingState = PagingState.fromString(page.substring(separatorIndex + 1));
+                }
+            } catch (NumberFormatException | PagingStateException e) {
+                throw new InvalidPageException(page, e);
+            }
+            if (bucket < 0 || bucket >= bucketCount) {
+                throw new InvalidPageException(page, null);
+            }
+        }
+        List<Row> rows = new ArrayList<>();
+        while (bucket < bucketCount && rows.size() < limit) {
+            Statement statement = psSelect.bind(networkUuid, bucket).setFetchSize(limit - rows.size());
+            if (pagingState != null) {
+                try {
+                    statement.setPagingState(pagingState);
+                } catch (PagingStateException e) {
+                    // paging state of another query
+                    throw new InvalidPageException(page, e);
+                }
+            }
+            ResultSet resultSet = session.execute(statement);
+            Iterables.addAll(rows, Iterables.limit(resultSet, resultSet.getAvailableWithoutFetching()));
+            pagingState = resultSet.getExecutionInfo().getPagingState();
+            if (pagingState == null) {
+                bucket++;
             }
-            session.execute(batch);
         }
+        String nextPage = bucket < bucketCount ? bucket + ":" + (pagingState != null ? pagingState.toString() : "") : null;
+        return new ResourcePage<>(rowsMapper.apply(rows), nextPage, totalCount);
     }
 
-    public void updateNetworks(List<Resource<NetworkAttributes>> resources) {
-        for (List<Resource<NetworkAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
-            BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
-            for (Resource<NetworkAttributes> resource : subresources) {
-                batch.add(unsetNullValues(psUpdateNetwork.bind(
-                        resource.getId(),
-                        resource.getAttributes().getProperties(),
-                        resource.getAttributes().getCaseDate().toDate(),
-                        resource.getAttributes().getForecastDistance(),
-                        resource.getAttributes().getSourceFormat(),
-                        resource.getAttributes().isConnectedComponentsValid(),
-                        resource.getAttributes().isSynchronousComponentsValid(),
-                        resource.getAttributes().getUuid())
-                ));
+    // buckets
+
+    private int getBucketCount(UUID networkUuid) {
+        Integer bucketCount = bucketCounts.get(networkUuid);
+        if (bucketCount == null) {
+            Row row = session.execute(psSelectBucketCount.bind(networkUuid)).one();
+            if (row == null) {
+                // network does not exist (yet), not cached
+                return 1;
             }
-            session.execute(batch);
+            bucketCount = row.isNull(0) ? 1 : row.getInt(0);
+            bucketCounts.put(networkUuid, bucketCount);
         }
+        return bucketCount;
     }
 
-    public void deleteNetwork(UUID uuid) {
-        BatchStatement batch = new BatchStatement();
-        batch.add(delete().from("network").where(eq("uuid", uuid)));
-        batch.add(delete().from("substation").where(eq("networkUuid", uuid)));
-        batch.add(delete().from("voltageLevel").where(eq("networkUuid", uuid)));
-        batch.add(delete().from("busbarSection").where(eq("networkUuid", uuid)));
-        batch.add(delete().from("switch").where(eq("networkUuid", uuid)));
-        batch.add(delete().from("generator").where(eq("networkUuid", uuid)));
-        batch.add(delete().from("load").where(eq("networkUuid", uuid)));
-        batch.add(delete().from("shuntcompensator").where(eq("networkUuid", uuid)));
-        batch.add(delete().from("staticVarCompensator").where(eq("networkUuid", uuid)));
-        batch.add(delete().from("vscConverterStation").where(eq("networkUuid", uuid)));
-        batch.add(delete().from("lccConverterStation").where(eq("networkUuid", uuid)));
-        batch.add(delete().from("twoWindingsTransformer").where(eq("networkUuid", uuid)));
-        batch.add(delete().from("threeWindingsTransformer").where(eq("networkUuid", uuid)));
-        batch.add(delete().from("line").where(eq("networkUuid", uuid)));
-        batch.add(delete().from("hvdcLine").where(eq("networkUuid", uuid)));
-        batch.add(delete().from("danglingLine").where(eq("networkUuid", uuid)));
-        session.execute(batch);
+    static int getBucket(String bucketKey, int bucketCount) {
+        return Math.floorMod(bucketKey.hashCode(), bucketCount);
     }
 
-    // substation
+    private int getBucket(UUID networkUuid, String bucketKey) {
+        return getBucket(bucketKey, getBucketCount(networkUuid));
+    }
 
-    public List<Resource<SubstationAttributes>> getSubstations(UUID networkUuid) {
-        ResultSet resultSet = session.execute(select("id", "name", "properties", "country", "tso", "entsoeArea").from(KEYSPACE_IIDM, "substation")
-                .where(eq("networkUuid", networkUuid)));
-        List<Resource<SubstationAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            resources.add(Resource.substationBuilder()
-                    .id(row.getString(0))
-                    .attributes(SubstationAttributes.builder()
-                            .name(row.getString(1))
-                            .properties(row.getMap(2, String.class, String.class))
-                            .country(row.getString(3) != null ? Country.valueOf(row.getString(3)) : null)
-                            .tso(row.getString(4))
-                            .entsoeArea(row.get(5, EntsoeAreaAttributes.class))
-                            .build())
-                    .build());
+    private List<Integer> getBuckets(UUID networkUuid) {
+        return IntStream.range(0, getBucketCount(networkUuid)).boxed().collect(Collectors.toList());
+    }
+
+    // resources are spread across buckets by a hash of their ID, except branches indexed by voltage level which are
+    // spread by a hash of the voltage level ID, so that branches of a voltage level are in the same partition
+    private static String getBucketKeyColumn(String table) {
+        if (table.equals(BRANCH_BY_VOLTAGE_LEVEL) || table.equals(CALCULATED_BUS_TOPOLOGY)) {
+            return "voltageLevelId";
         }
-        return resources;
+        return NETWORK_RESOURCE_TABLES.contains(table) ? "id" : null;
     }
 
-    public Optional<Resource<SubstationAttributes>> getSubstation(UUID networkUuid, String substationId) {
-        ResultSet resultSet = session.execute(select("name",
-                                                     "properties",
-                                                     "country",
-                                                     "tso",
-                                                     "entsoeArea")
-                .from(KEYSPACE_IIDM, "substation")
-                .where(eq("networkUuid", networkUuid)).and(eq("id", substationId)));
-        Row one = resultSet.one();
-        if (one != null) {
-            return Optional.of(Resource.substationBuilder()
-                    .id(substationId)
-                    .attributes(SubstationAttributes.builder()
-                            .name(one.getString(0))
-                            .properties(one.getMap(1, String.class, String.class))
-                            .country(one.getString(2) != null ? Country.valueOf(one.getString(2)) : null)
-                            .tso(one.getString(3))
-                            .entsoeArea(one.get(4, EntsoeAreaAttributes.class))
-                            .build())
-                    .build());
+    // Bucket column is computed from the bound network UUID and bucket key of each statement, so that statements can be
+    // bound without taking care of it
+    private void setBuckets(String table, List<BoundStatement> statements) {
+        String bucketKeyColumn = getBucketKeyColumn(table);
+        if (bucketKeyColumn != null) {
+            for (BoundStatement statement : statements) {
+                statement.setInt(BUCKET, getBucket(statement.getUUID("networkUuid"), statement.getString(bucketKeyColumn)));
+            }
         }
-        return Optional.empty();
     }
 
-    public void createSubstations(UUID networkUuid, List<Resource<SubstationAttributes>> resources) {
-        for (List<Resource<SubstationAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
-            BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
-            for (Resource<SubstationAttributes> resource : subresources) {
-                batch.add(unsetNullValues(psInsertSubstation.bind(
-                        networkUuid,
-                        resource.getId(),
-                        resource.getAttributes().getName(),
-                        resource.getAttributes().getProperties(),
-                        resource.getAttributes().getCountry() != null ? resource.getAttributes().getCountry().toString() : null,
-                        resource.getAttributes().getTso(),
-                        resource.getAttributes().getEntsoeArea()
-                        )));
+    private void write(String table, List<BoundStatement> statements) {
+        setBuckets(table, statements);
+        batchWriter.write(table, statements);
+    }
+
+    private BoundStatement bindById(PreparedStatement psSelect, UUID networkUuid, String id) {
+        return psSelect.bind(networkUuid, getBucket(networkUuid, id), id);
+    }
+
+    // Read a whole collection of a network, with one query per bucket, all executed in parallel
+    private List<ResultSetFuture> selectAllBucketsAsync(PreparedStatement psSelect, UUID networkUuid) {
+        List<ResultSetFuture> futures = new ArrayList<>();
+        for (int bucket : getBuckets(networkUuid)) {
+            futures.add(session.executeAsync(psSelect.bind(networkUuid, bucket)));
+        }
+        return futures;
+    }
+
+    private static Iterable<Row> getRows(List<ResultSetFuture> futures) {
+        List<ResultSet> resultSets = new ArrayList<>(futures.size());
+        for (ResultSetFuture future : futures) {
+            resultSets.add(future.getUninterruptibly());
+        }
+        return Iterables.concat(resultSets);
+    }
+
+    private Iterable<Row> selectAllBuckets(PreparedStatement psSelect, UUID networkUuid) {
+        return getRows(selectAllBucketsAsync(psSelect, networkUuid));
+    }
+
+    // resource count
+
+    // Counters are not idempotent, they are only incremented for resources which were not already indexed, see
+    // indexIdentifiables
+    private void incrementResourceCount(UUID networkUuid, ResourceType resourceType, long delta) {
+        if (delta != 0) {
+            session.execute(psIncrementResourceCount.bind(delta, networkUuid, resourceType.name()));
+        }
+    }
+
+    public Map<ResourceType, Integer> getResourceCounts(UUID networkUuid) {
+        Map<ResourceType, Integer> counts = new EnumMap<>(ResourceType.class);
+        for (ResourceType resourceType : ResourceType.values()) {
+            if (resourceType != ResourceType.NETWORK) {
+                counts.put(resourceType, 0);
             }
-            session.execute(batch);
         }
+        ResultSet resultSet = session.execute(psSelectResourceCounts.bind(networkUuid));
+        for (Row row : resultSet) {
+            counts.put(ResourceType.valueOf(row.getString(0)), (int) row.getLong(1));
+        }
+        return counts;
     }
 
-    // voltage level
+    public int getResourceCount(UUID networkUuid, ResourceType resourceType) {
+        Row row = session.execute(psSelectResourceCount.bind(networkUuid, resourceType.name())).one();
+        return row != null ? (int) row.getLong(0) : 0;
+    }
 
-    public void createVoltageLevels(UUID networkUuid, List<Resource<VoltageLevelAttributes>> resources) {
-        for (List<Resource<VoltageLevelAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
-            BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
-            for (Resource<VoltageLevelAttributes> resource : subresources) {
-                batch.add(unsetNullValues(psInsertVoltageLevel.bind(
-                        networkUuid,
-                        resource.getId(),
-                        resource.getAttributes().getSubstationId(),
-                        resource.getAttributes().getName(),
-                        resource.getAttributes().getProperties(),
-                        resource.getAttributes().getNominalV(),
-                        resource.getAttributes().getLowVoltageLimit(),
-                        resource.getAttributes().getHighVoltageLimit(),
-                        resource.getAttributes().getTopologyKind().toString(),
-                        resource.getAttributes().getInternalConnections(),
-                        resource.getAttributes().getCalculatedBuses(),
-                        resource.getAttributes().getNodeToCalculatedBus(),
-                        resource.getAttributes().getBusToCalculatedBus(),
-                        resource.getAttributes().isCalculatedBusesValid()
-                        )));
+    // identifiable index
+
+    // IDs already in the index are read before writing it (one query per bucket, executed in parallel), so that a
+    // retried creation does not count its resources twice. Index inserts themselves are plain batched writes. IDs of
+    // a creation request are unique, see NetworkStoreController
+    private <T extends IdentifiableAttributes> void indexIdentifiables(UUID networkUuid, ResourceType resourceType, List<Resource<T>> resources) {
+        Set<String> ids = resources.stream().map(Resource::getId).collect(Collectors.toSet());
+        int indexedCount = Iterables.size(getRows(selectByIdsAsync(psSelectIdentifiableIds, networkUuid, ids)));
+        List<BoundStatement> statements = new ArrayList<>(resources.size());
+        for (Resource<T> resource : resources) {
+            statements.add(psInsertIdentifiable.bind(
+                    networkUuid,
+                    resource.getId(),
+                    resource.getType().name()));
+        }
+        write(IDENTIFIABLE, statements);
+        incrementResourceCount(networkUuid, resourceType, ids.size() - indexedCount);
+    }
+
+    private static int getBranchSideCount(ResourceType resourceType) {
+        switch (resourceType) {
+            case TWO_WINDINGS_TRANSFORMER:
+            case LINE:
+                return 2;
+            case THREE_WINDINGS_TRANSFORMER:
+                return 3;
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Rebuild the indexes of a network (identifiables and branches by voltage level) from its resource tables, for
+     * networks written before an index existed. Index rows are simply overwritten and resource counters are set to the
+     * number of resources found, so that it can be run again safely.
+     *
+     * @return false if the network does not exist
+     */
+    public boolean reindexNetwork(UUID networkUuid) {
+        if (!getNetwork(networkUuid).isPresent()) {
+            return false;
+        }
+        for (ResourceType resourceType : EnumSet.complementOf(EnumSet.of(ResourceType.NETWORK))) {
+            // one bucket partition at a time, only IDs are kept in memory
+            long resourceCount = 0;
+            for (ResultSetFuture future : selectBucketPartitionsAsync(getTable(resourceType), networkUuid)) {
+                List<BoundStatement> statements = new ArrayList<>();
+                for (Row row : future.getUninterruptibly()) {
+                    resourceCount++;
+                    statements.add(psInsertIdentifiable.bind(networkUuid, row.getString("id"), resourceType.name()));
+                }
+                write(IDENTIFIABLE, statements);
+            }
+            incrementResourceCount(networkUuid, resourceType, resourceCount - getResourceCount(networkUuid, resourceType));
+            if (getBranchSideCount(resourceType) > 0) {
+                // branches are denormalized in their index, so they are fully read, one bucket partition at a time
+                for (int bucket : getBuckets(networkUuid)) {
+                    Statement select = getSelectStatement(resourceType).bind(networkUuid, bucket).setFetchSize(CLONE_FETCH_SIZE);
+                    indexBranches(networkUuid, toResources(resourceType, session.execute(select)));
+                }
             }
-            session.execute(batch);
         }
+        return true;
     }
 
-    public void updateVoltageLevels(UUID networkUuid, List<Resource<VoltageLevelAttributes>> resources) {
-        for (List<Resource<VoltageLevelAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
-            BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
-            for (Resource<VoltageLevelAttributes> resource : subresources) {
-                batch.add(unsetNullValues(psUpdateVoltageLevel.bind(
-                        resource.getAttributes().getName(),
-                        resource.getAttributes().getProperties(),
-                        resource.getAttributes().getNominalV(),
-                        resource.getAttributes().getLowVoltageLimit(),
-                        resource.getAttributes().getHighVoltageLimit(),
-                        resource.getAttributes().getTopologyKind().toString(),
-                        resource.getAttributes().getInternalConnections(),
-                        resource.getAttributes().getCalculatedBuses(),
-                        resource.getAttributes().getNodeToCalculatedBus(),
-                        resource.getAttributes().getBusToCalculatedBus(),
-                        resource.getAttributes().isCalculatedBusesValid(),
-                        networkUuid,
-                        resource.getId(),
-                        resource.getAttributes().getSubstationId())
-                ));
+    // voltage level of a side of a branch, sides are numbered from 1
+    private static String getBranchVoltageLevelId(IdentifiableAttributes attributes, int side) {
+        if (attributes instanceof ThreeWindingsTransformerAttributes) {
+            ThreeWindingsTransformerAttributes threeWindingsTransformer = (ThreeWindingsTransformerAttributes) attributes;
+            LegAttributes leg;
+            if (side == 1) {
+                leg = threeWindingsTransformer.getLeg1();
+            } else if (side == 2) {
+                leg = threeWindingsTransformer.getLeg2();
+            } else {
+                leg = threeWindingsTransformer.getLeg3();
             }
-            session.execute(batch);
+            return leg != null ? leg.getVoltageLevelId() : null;
         }
+        BranchAttributes branch = (BranchAttributes) attributes;
+        return side == 1 ? branch.getVoltageLevelId1() : branch.getVoltageLevelId2();
     }
 
-    public List<Resource<VoltageLevelAttributes>> getVoltageLevels(UUID networkUuid, String substationId) {
-        ResultSet resultSet = session.execute(select("id",
-                                                     "name",
-                                                     "properties",
-                                                     "nominalV",
-                                                     "lowVoltageLimit",
-                                                     "highVoltageLimit",
-                                                     "topologyKind",
-                                                     "internalConnections",
-                                                     "calculatedBuses",
-                                                     "nodeToCalculatedBus",
-                                                     "busToCalculatedBus",
-                                                     "calculatedBusesValid")
-                .from(KEYSPACE_IIDM, "voltageLevelBySubstation")
-                .where(eq("networkUuid", networkUuid)).and(eq("substationId", substationId)));
-        List<Resource<VoltageLevelAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            resources.add(Resource.voltageLevelBuilder()
-                    .id(row.getString(0))
-                    .attributes(VoltageLevelAttributes.builder()
-                            .substationId(substationId)
-                            .name(row.getString(1))
-                            .properties(row.getMap(2, String.class, String.class))
-                            .nominalV(row.getDouble(3))
-                            .lowVoltageLimit(row.getDouble(4))
-                            .highVoltageLimit(row.getDouble(5))
-                            .topologyKind(TopologyKind.valueOf(row.getString(6)))
-                            .internalConnections(row.getList(7, InternalConnectionAttributes.class))
-                            .calculatedBuses(row.isNull(8) ? null : row.getList(8, CalculatedBusAttributes.class))
-                            .nodeToCalculatedBus(row.isNull(9) ? null : row.getMap(9, Integer.class, Integer.class))
-                            .busToCalculatedBus(row.isNull(10) ? null : row.getMap(10, String.class, Integer.class))
-                            .calculatedBusesValid(row.getBool(11))
-                            .build())
-                    .build());
+    // Branches are denormalized in the index of each voltage level they are connected to, so that branches of a
+    // voltage level are read from a single partition. Attributes are stored as a blob, rewritten at each update of the
+    // branch, and state variables in their own columns, so that they can be written on their own after a load flow
+    private <T extends IdentifiableAttributes> void indexBranches(UUID networkUuid, List<Resource<T>> resources) {
+        if (resources.isEmpty()) {
+            return;
         }
-        return resources;
+        ResourceType resourceType = resources.get(0).getType();
+        int sideCount = getBranchSideCount(resourceType);
+        Map<String, double[]> values = StateVariables.of(resources).getValues();
+        List<BoundStatement> statements = new ArrayList<>(resources.size() * sideCount);
+        for (int i = 0; i < resources.size(); i++) {
+            Resource<T> resource = resources.get(i);
+            for (int side = 1; side <= sideCount; side++) {
+                String voltageLevelId = getBranchVoltageLevelId(resource.getAttributes(), side);
+                if (voltageLevelId != null) {
+                    BoundStatement statement = psInsertBranchByVoltageLevel.bind(
+                            networkUuid,
+                            voltageLevelId,
+                            resourceType.name(),
+                            side,
+                            resource.getId(),
+                            resource.getAttributes());
+                    for (Map.Entry<String, double[]> e : values.entrySet()) {
+                        statement.setDouble(e.getKey(), e.getValue()[i]);
+                    }
+                    statements.add(statement);
+                }
+            }
+        }
+        write(BRANCH_BY_VOLTAGE_LEVEL, statements);
     }
 
-    public Optional<Resource<VoltageLevelAttributes>> getVoltageLevel(UUID networkUuid, String voltageLevelId) {
-        ResultSet resultSet = session.execute(select("substationId",
-                                                     "name",
-                                                     "properties",
-                                                     "nominalV",
-                                                     "lowVoltageLimit",
-                                                     "highVoltageLimit",
-                                                     "topologyKind",
-                                                     "internalConnections",
-                                                     "calculatedBuses",
-                                                     "nodeToCalculatedBus",
-                                                     "busToCalculatedBus",
-                                                     "calculatedBusesValid")
-                .from(KEYSPACE_IIDM, "voltageLevel")
-                .where(eq("networkUuid", networkUuid)).and(eq("id", voltageLevelId)));
-        Row one = resultSet.one();
-        if (one != null) {
-            return Optional.of(Resource.voltageLevelBuilder()
-                    .id(voltageLevelId)
-                    .attributes(VoltageLevelAttributes.builder()
-                            .substationId(one.getString(0))
-                            .name(one.getString(1))
-                            .properties(one.getMap(2, String.class, String.class))
-                            .nominalV(one.getDouble(3))
-                            .lowVoltageLimit(one.getDouble(4))
-                            .highVoltageLimit(one.getDouble(5))
-                            .topologyKind(TopologyKind.valueOf(one.getString(6)))
-                            .internalConnections(one.getList(7, InternalConnectionAttributes.class))
-                            .calculatedBuses(one.isNull(8) ? null : one.getList(8, CalculatedBusAttributes.class))
-                            .nodeToCalculatedBus(one.isNull(9) ? null : one.getMap(9, Integer.class, Integer.class))
-                            .busToCalculatedBus(one.isNull(10) ? null : one.getMap(10, String.class, Integer.class))
-                            .calculatedBusesValid(one.getBool(11))
-                            .build())
-                    .build());
+    private static Class<? extends IdentifiableAttributes> getBranchAttributesClass(ResourceType resourceType) {
+        switch (resourceType) {
+            case TWO_WINDINGS_TRANSFORMER: return TwoWindingsTransformerAttributes.class;
+            case THREE_WINDINGS_TRANSFORMER: return ThreeWindingsTransformerAttributes.class;
+            case LINE: return LineAttributes.class;
+            default: return null;
         }
-        return Optional.empty();
     }
 
-    public List<Resource<VoltageLevelAttributes>> getVoltageLevels(UUID networkUuid) {
-        ResultSet resultSet = session.execute(select("id",
-                                                     "substationId",
-                                                     "name",
-                                                     "properties",
-                                                     "nominalV",
-                                                     "lowVoltageLimit",
-                                                     "highVoltageLimit",
-                                                     "topologyKind",
-                                                     "internalConnections",
-                                                     "calculatedBuses",
-                                                     "nodeToCalculatedBus",
-                                                     "busToCalculatedBus",
-                                                     "calculatedBusesValid")
-                .from(KEYSPACE_IIDM, "voltageLevel")
-                .where(eq("networkUuid", networkUuid)));
-        List<Resource<VoltageLevelAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            resources.add(Resource.voltageLevelBuilder()
-                    .id(row.getString(0))
-                    .attributes(VoltageLevelAttributes.builder()
-                            .substationId(row.getString(1))
-                            .name(row.getString(2))
-                            .properties(row.getMap(3, String.class, String.class))
-                            .nominalV(row.getDouble(4))
-                            .lowVoltageLimit(row.getDouble(5))
-                            .highVoltageLimit(row.getDouble(6))
-                            .topologyKind(TopologyKind.valueOf(row.getString(7)))
-                            .internalConnections(row.getList(8, InternalConnectionAttributes.class))
-                            .calculatedBuses(row.isNull(9) ? null : row.getList(9, CalculatedBusAttributes.class))
-                            .nodeToCalculatedBus(row.isNull(10) ? null : row.getMap(10, Integer.class, Integer.class))
-                            .busToCalculatedBus(row.isNull(11) ? null : row.getMap(11, String.class, Integer.class))
-                            .calculatedBusesValid(row.getBool(12))
-                            .build())
-                    .build());
+    // A branch with several sides connected to the voltage level has several index rows but is only returned once.
+    // State variables columns are more recent than the ones of the attributes blob
+    private static Map<ResourceType, List<Resource<IdentifiableAttributes>>> toBranches(Iterable<Row> rows) {
+        Map<ResourceType, Map<String, Resource<IdentifiableAttributes>>> branches = new EnumMap<>(ResourceType.class);
+        for (Row row : rows) {
+            ResourceType resourceType = ResourceType.valueOf(row.getString(0));
+            branches.computeIfAbsent(resourceType, k -> new TreeMap<>()).computeIfAbsent(row.getString(1), id -> {
+                IdentifiableAttributes attributes = row.get(2, getBranchAttributesClass(resourceType));
+                if (attributes instanceof ThreeWindingsTransformerAttributes) {
+                    ThreeWindingsTransformerAttributes threeWindingsTransformer = (ThreeWindingsTransformerAttributes) attributes;
+                    threeWindingsTransformer.setP1(row.getDouble(3));
+                    threeWindingsTransformer.setQ1(row.getDouble(4));
+                    threeWindingsTransformer.setP2(row.getDouble(5));
+                    threeWindingsTransformer.setQ2(row.getDouble(6));
+                    threeWindingsTransformer.setP3(row.getDouble(7));
+                    threeWindingsTransformer.setQ3(row.getDouble(8));
+                } else {
+                    BranchAttributes branch = (BranchAttributes) attributes;
+                    branch.setP1(row.getDouble(3));
+                    branch.setQ1(row.getDouble(4));
+                    branch.setP2(row.getDouble(5));
+                    branch.setQ2(row.getDouble(6));
+                }
+                return new Resource.Builder<>(resourceType, null, null)
+                        .id(id)
+                        .attributes(attributes)
+                        .build();
+            });
         }
+        Map<ResourceType, List<Resource<IdentifiableAttributes>>> resources = new EnumMap<>(ResourceType.class);
+        branches.forEach((resourceType, branchesById) -> resources.put(resourceType, new ArrayList<>(branchesById.values())));
         return resources;
     }
 
-    // generator
+    @SuppressWarnings("unchecked")
+    private <T extends IdentifiableAttributes> List<Resource<T>> getVoltageLevelBranches(UUID networkUuid, String voltageLevelId, ResourceType resourceType) {
+        int bucket = getBucket(networkUuid, voltageLevelId);
+        List<Resource<IdentifiableAttributes>> resources = toBranches(session.execute(psSelectBranchesByVoltageLevelAndType.bind(networkUuid, bucket, voltageLevelId, resourceType.name())))
+                .getOrDefault(resourceType, Collections.emptyList());
+        return (List<Resource<T>>) (List<?>) resources;
+    }
 
-    public void createGenerators(UUID networkUuid, List<Resource<GeneratorAttributes>> resources) {
-        for (List<Resource<GeneratorAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
-            BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
-            for (Resource<GeneratorAttributes> resource : subresources) {
-                ReactiveLimitsAttributes reactiveLimits = resource.getAttributes().getReactiveLimits();
-                batch.add(unsetNullValues(psInsertGenerator.bind(
-                        networkUuid,
-                        resource.getId(),
-                        resource.getAttributes().getVoltageLevelId(),
-                        resource.getAttributes().getName(),
-                        resource.getAttributes().getProperties(),
-                        resource.getAttributes().getNode(),
-                        resource.getAttributes().getEnergySource().toString(),
-                        resource.getAttributes().getMinP(),
-                        resource.getAttributes().getMaxP(),
-                        resource.getAttributes().isVoltageRegulatorOn(),
-                        resource.getAttributes().getTargetP(),
-                        resource.getAttributes().getTargetQ(),
-                        resource.getAttributes().getTargetV(),
-                        resource.getAttributes().getRatedS(),
-                        resource.getAttributes().getP(),
-                        resource.getAttributes().getQ(),
-                        resource.getAttributes().getPosition(),
-                        reactiveLimits.getKind() == ReactiveLimitsKind.MIN_MAX ? reactiveLimits : null,
-                        reactiveLimits.getKind() == ReactiveLimitsKind.CURVE ? reactiveLimits : null,
-                        resource.getAttributes().getBus(),
-                        resource.getAttributes().getConnectableBus(),
-                        resource.getAttributes().getActivePowerControl(),
-                        resource.getAttributes().getRegulatingTerminal(),
-                        resource.getAttributes().getCoordinatedReactiveControl())));
+    private PreparedStatement getBranchVoltageLevelsSelectByIdStatement(ResourceType resourceType) {
+        switch (resourceType) {
+            case TWO_WINDINGS_TRANSFORMER: return psSelectTwoWindingsTransformerVoltageLevelsById;
+            case THREE_WINDINGS_TRANSFORMER: return psSelectThreeWindingsTransformerVoltageLevelsById;
+            case LINE: return psSelectLineVoltageLevelsById;
+            default: throw new IllegalArgumentException("Resource type is not a branch: " + resourceType);
+        }
+    }
+
+    // State variables of branches are also written to the index rows of each side. Voltage levels of the branches,
+    // which are part of the index primary key, are read first (one query per bucket, executed in parallel)
+    private void updateBranchIndexStateVariables(UUID networkUuid, ResourceType resourceType, List<String> ids,
+                                                 Map<String, double[]> values, SortedSet<String> columns) {
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            indexes.put(ids.get(i), i);
+        }
+        int sideCount = getBranchSideCount(resourceType);
+        PreparedStatement psUpdateStateVariables = getPartialUpdateStatement(BRANCH_BY_VOLTAGE_LEVEL, columns);
+        List<BoundStatement> statements = new ArrayList<>();
+        for (Row row : getRows(selectByIdsAsync(getBranchVoltageLevelsSelectByIdStatement(resourceType), networkUuid, indexes.keySet()))) {
+            int i = indexes.get(row.getString(0));
+            for (int side = 1; side <= sideCount; side++) {
+                String voltageLevelId = row.getString(side);
+                if (voltageLevelId != null) {
+                    BoundStatement statement = psUpdateStateVariables.bind();
+                    for (Map.Entry<String, double[]> e : values.entrySet()) {
+                        statement.setDouble(e.getKey().toLowerCase(Locale.ROOT), e.getValue()[i]);
+                    }
+                    statement.setUUID("networkuuid", networkUuid);
+                    statement.setString("voltagelevelid", voltageLevelId);
+                    statement.setString("resourcetype", resourceType.name());
+                    statement.setInt("side", side);
+                    statement.setString("id", row.getString(0));
+                    statements.add(statement);
+                }
             }
-            session.execute(batch);
         }
+        write(BRANCH_BY_VOLTAGE_LEVEL, statements);
     }
 
-    public Optional<Resource<GeneratorAttributes>> getGenerator(UUID networkUuid, String generatorId) {
-        ResultSet resultSet = session.execute(select("voltageLevelId",
-                                                     "name",
-                                                     "properties",
-                                                     "node",
-                                                     "energySource",
-                                                     "minP",
-                                                     "maxP",
-                                                     "voltageRegulatorOn",
-                                                     "targetP",
-                                                     "targetQ",
-                                                     "targetV",
-                                                     "ratedS",
-                                                     "p",
-                                                     "q",
-                                                     "position",
-                                                     "minMaxReactiveLimits",
-                                                     "reactiveCapabilityCurve",
-                                                     "bus",
-                                                     CONNECTABLE_BUS,
-                                                     "activePowerControl",
-                                                     REGULATING_TERMINAL,
-                                                     "coordinatedReactiveControl")
-                .from(KEYSPACE_IIDM, "generator")
-                .where(eq("networkUuid", networkUuid)).and(eq("id", generatorId)));
-        Row one = resultSet.one();
-        if (one != null) {
-            MinMaxReactiveLimitsAttributes minMaxReactiveLimitsAttributes = one.get(15, MinMaxReactiveLimitsAttributes.class);
-            ReactiveCapabilityCurveAttributes reactiveCapabilityCurveAttributes = one.get(16, ReactiveCapabilityCurveAttributes.class);
-            return Optional.of(Resource.generatorBuilder()
-                    .id(generatorId)
-                    .attributes(GeneratorAttributes.builder()
-                            .voltageLevelId(one.getString(0))
-                            .name(one.getString(1))
-                            .properties(one.getMap(2, String.class, String.class))
-                            .node(one.get(3, Integer.class))
-                            .energySource(EnergySource.valueOf(one.getString(4)))
-                            .minP(one.getDouble(5))
-                            .maxP(one.getDouble(6))
-                            .voltageRegulatorOn(one.getBool(7))
-                            .targetP(one.getDouble(8))
-                            .targetQ(one.getDouble(9))
-                            .targetV(one.getDouble(10))
-                            .ratedS(one.getDouble(11))
-                            .p(one.getDouble(12))
-                            .q(one.getDouble(13))
-                            .position(one.get(14, ConnectablePositionAttributes.class))
-                            .reactiveLimits(minMaxReactiveLimitsAttributes != null ? minMaxReactiveLimitsAttributes : reactiveCapabilityCurveAttributes)
-                            .bus(one.getString(17))
-                            .connectableBus(one.getString(18))
-                            .activePowerControl(one.get(19, ActivePowerControlAttributes.class))
-                            .regulatingTerminal(one.get(20, TerminalRefAttributes.class))
-                            .coordinatedReactiveControl(one.get(21, CoordinatedReactiveControlAttributes.class))
-                            .build())
-                    .build());
+    // one query per bucket of the IDs, executed in parallel
+    private List<ResultSetFuture> selectByIdsAsync(PreparedStatement psSelectByIds, UUID networkUuid, Set<String> ids) {
+        int bucketCount = getBucketCount(networkUuid);
+        Map<Integer, List<String>> idsByBucket = new TreeMap<>();
+        for (String id : ids) {
+            idsByBucket.computeIfAbsent(getBucket(id, bucketCount), k -> new ArrayList<>()).add(id);
         }
-        return Optional.empty();
+        List<ResultSetFuture> futures = new ArrayList<>(idsByBucket.size());
+        for (Map.Entry<Integer, List<String>> e : idsByBucket.entrySet()) {
+            futures.add(session.executeAsync(psSelectByIds.bind(networkUuid, e.getKey(), e.getValue())));
+        }
+        return futures;
     }
 
-    public List<Resource<GeneratorAttributes>> getGenerators(UUID networkUuid) {
-        ResultSet resultSet = session.execute(select("id",
-                                                     "voltageLevelId",
-                                                     "name",
-                                                     "properties",
-                                                     "node",
-                                                     "energySource",
-                                                     "minP",
-                                                     "maxP",
-                                                     "voltageRegulatorOn",
-                                                     "targetP",
-                                                     "targetQ",
-                                                     "targetV",
-                                                     "ratedS",
-                                                     "p",
-                                                     "q",
-                                                     "position",
-                                                     "minMaxReactiveLimits",
-                                                     "reactiveCapabilityCurve",
-                                                     "bus",
-                                                     CONNECTABLE_BUS,
-                                                     "activePowerControl",
-                                                     REGULATING_TERMINAL,
-                                                     "coordinatedReactiveControl")
-                .from(KEYSPACE_IIDM, "generator")
-                .where(eq("networkUuid", networkUuid)));
-        List<Resource<GeneratorAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            MinMaxReactiveLimitsAttributes minMaxReactiveLimitsAttributes = row.get(16, MinMaxReactiveLimitsAttributes.class);
-            ReactiveCapabilityCurveAttributes reactiveCapabilityCurveAttributes = row.get(17, ReactiveCapabilityCurveAttributes.class);
-            resources.add(Resource.generatorBuilder()
-                    .id(row.getString(0))
+    public Optional<ResourceType> getIdentifiableType(UUID networkUuid, String id) {
+        Row row = session.execute(bindById(psSelectIdentifiableType, networkUuid, id)).one();
+        return row != null ? Optional.of(ResourceType.valueOf(row.getString(0))) : Optional.empty();
+    }
+
+    /**
+     * Get an identifiable of any type: the type is first looked up in the identifiable index and then the resource is
+     * read from the table of its type, so that 2 queries are needed whatever the type.
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<Resource<IdentifiableAttributes>> getIdentifiable(UUID networkUuid, String id) {
+        return getIdentifiableType(networkUuid, id)
+                .flatMap(resourceType -> getIdentifiable(networkUuid, id, resourceType))
+                .map(resource -> (Resource<IdentifiableAttributes>) (Resource<?>) resource);
+    }
+
+    private Optional<? extends Resource<? extends IdentifiableAttributes>> getIdentifiable(UUID networkUuid, String id, ResourceType resourceType) {
+        switch (resourceType) {
+            case SUBSTATION: return getSubstation(networkUuid, id);
+            case VOLTAGE_LEVEL: return getVoltageLevel(networkUuid, id);
+            case LOAD: return getLoad(networkUuid, id);
+            case GENERATOR: return getGenerator(networkUuid, id);
+            case SHUNT_COMPENSATOR: return getShuntCompensator(networkUuid, id);
+            case VSC_CONVERTER_STATION: return getVscConverterStation(networkUuid, id);
+            case LCC_CONVERTER_STATION: return getLccConverterStation(networkUuid, id);
+            case STATIC_VAR_COMPENSATOR: return getStaticVarCompensator(networkUuid, id);
+            case BUSBAR_SECTION: return getBusbarSection(networkUuid, id);
+            case SWITCH: return getSwitch(networkUuid, id);
+            case TWO_WINDINGS_TRANSFORMER: return getTwoWindingsTransformer(networkUuid, id);
+            case THREE_WINDINGS_TRANSFORMER: return getThreeWindingsTransformer(networkUuid, id);
+            case LINE: return getLine(networkUuid, id);
+            case HVDC_LINE: return getHvdcLine(networkUuid, id);
+            case DANGLING_LINE: return getDanglingLine(networkUuid, id);
+            case CONFIGURED_BUS: return getConfiguredBus(networkUuid, id);
+            default: throw new IllegalArgumentException("Resource type not supported: " + resourceType);
+        }
+    }
+
+    // network
+
+    private static List<Resource<NetworkAttributes>> toNetworks(Iterable<Row> rows) {
+        List<Resource<NetworkAttributes>> resources = new ArrayList<>();
+        for (Row row : rows) {
+            // networks being deleted are not visible anymore
+            if (row.getBool(8)) {
+                continue;
+            }
+            resources.add(Resource.networkBuilder()
+                    .id(row.getString(1))
+                    .attributes(NetworkAttributes.builder()
+                            .uuid(row.getUUID(0))
+                            .properties(row.getMap(2, String.class, String.class))
+                            .caseDate(new DateTime(row.getTimestamp(3)))
+                            .forecastDistance(row.getInt(4))
+                            .sourceFormat(row.getString(5))
+                            .connectedComponentsValid(row.getBool(6))
+                            .synchronousComponentsValid(row.getBool(7))
+                            .build())
+                    .build());
+        }
+        return resources;
+    }
+
+    public List<Resource<NetworkAttributes>> getNetworks() {
+        return toNetworks(session.execute(psSelectNetworks.bind()));
+    }
+
+    public Optional<Resource<NetworkAttributes>> getNetwork(UUID uuid) {
+        return toNetworks(session.execute(psSelectNetwork.bind(uuid))).stream().findFirst();
+    }
+
+    public void createNetworks(List<Resource<NetworkAttributes>> resources) {
+        createNetworks(resources, defaultBucketCount);
+    }
+
+    /**
+     * Create networks with resources of each table spread across {@code bucketCount} partitions, instead of a single
+     * one. The number of buckets cannot be changed afterwards. Network UUIDs must never be reused, not even after a
+     * deletion, as resource counters of a deleted network cannot be reliably reset, see {@link #deleteNetwork(UUID)}.
+     */
+    public void createNetworks(List<Resource<NetworkAttributes>> resources, int bucketCount) {
+        if (bucketCount < 1) {
+            throw new IllegalArgumentException("Invalid bucket count: " + bucketCount);
+        }
+        List<BoundStatement> statements = new ArrayList<>(resources.size());
+        for (Resource<NetworkAttributes> resource : resources) {
+            bucketCounts.put(resource.getAttributes().getUuid(), bucketCount);
+            statements.add(unsetNullValues(psInsertNetwork.bind(
+                    resource.getAttributes().getUuid(),
+                    resource.getId(),
+                    resource.getAttributes().getProperties(),
+                    resource.getAttributes().getCaseDate().toDate(),
+                    resource.getAttributes().getForecastDistance(),
+                    resource.getAttributes().getSourceFormat(),
+                    resource.getAttributes().isConnectedComponentsValid(),
+                    resource.getAttributes().isSynchronousComponentsValid(),
+                    bucketCount
+                    )));
+        }
+        write("network", statements);
+    }
+
+    public void updateNetworks(List<Resource<NetworkAttributes>> resources) {
+        List<BoundStatement> statements = new ArrayList<>(resources.size());
+        for (Resource<NetworkAttributes> resource : resources) {
+            statements.add(unsetNullValues(psUpdateNetwork.bind(
+                    resource.getId(),
+                    resource.getAttributes().getProperties(),
+                    resource.getAttributes().getCaseDate().toDate(),
+                    resource.getAttributes().getForecastDistance(),
+                    resource.getAttributes().getSourceFormat(),
+                    resource.getAttributes().isConnectedComponentsValid(),
+                    resource.getAttributes().isSynchronousComponentsValid(),
+                    resource.getAttributes().getUuid())
+            ));
+        }
+        write("network", restrictToUpdatedAttributes("network", resources, statements));
+    }
+
+    /**
+     * Mark a network as being deleted, so that it is not visible anymore while its tables are deleted.
+     *
+     * @return false if the network does not exist or is already being deleted
+     */
+    public boolean markNetworkAsDeleting(UUID uuid) {
+        if (!getNetwork(uuid).isPresent()) {
+            return false;
+        }
+        // conditional, so that a network fully deleted in the meantime is not recreated with only this column
+        return session.execute(update(KEYSPACE_IIDM, "network")
+                .with(set("deleting", true))
+                .where(eq("uuid", uuid))
+                .ifExists())
+                .wasApplied();
+    }
+
+    public List<UUID> getDeletingNetworkUuids() {
+        List<UUID> uuids = new ArrayList<>();
+        for (Row row : session.execute(psSelectNetworks.bind())) {
+            if (row.getBool(8)) {
+                uuids.add(row.getUUID(0));
+            }
+        }
+        return uuids;
+    }
+
+    /**
+     * Number of tables deleted by {@link #deleteNetwork(UUID, IntConsumer)}.
+     */
+    public static int getNetworkTableCount() {
+        // resource tables, resource count and network
+        return NETWORK_RESOURCE_TABLES.size() + 2;
+    }
+
+    /**
+     * Delete a network table by table, instead of one big batch that would fan out to all the materialized views
+     * at once. At most {@code deleteMaxInFlightTables} tables are deleted at the same time. The network row is deleted
+     * last, so that an interrupted deletion can be resumed.
+     *
+     * @param deletedTableCountListener notified of the number of deleted tables each time a table has been deleted
+     */
+    public void deleteNetwork(UUID uuid, IntConsumer deletedTableCountListener) {
+        Semaphore permits = new Semaphore(deleteMaxInFlightTables);
+        AtomicInteger deletedTableCount = new AtomicInteger();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        List<Integer> buckets = getBuckets(uuid);
+        FutureCallback<ResultSet> callback = new FutureCallback<ResultSet>() {
+            @Override
+            public void onSuccess(ResultSet resultSet) {
+                deletedTableCountListener.accept(deletedTableCount.incrementAndGet());
+                permits.release();
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                error.compareAndSet(null, t);
+                permits.release();
+            }
+        };
+        for (String table : NETWORK_RESOURCE_TABLES) {
+            if (error.get() != null) {
+                break;
+            }
+            permits.acquireUninterruptibly();
+            Futures.addCallback(session.executeAsync(delete().from(KEYSPACE_IIDM, table).where(eq("networkUuid", uuid)).and(in(BUCKET, buckets))),
+                                callback, MoreExecutors.directExecutor());
+        }
+        // wait for all pending deletions
+        permits.acquireUninterruptibly(deleteMaxInFlightTables);
+        permits.release(deleteMaxInFlightTables);
+        Throwable t = error.get();
+        if (t != null) {
+            if (t instanceof RuntimeException) {
+                throw (RuntimeException) t;
+            }
+            throw new PowsyblException(t);
+        }
+
+        // Cassandra does not support deleting then incrementing again a counter: a network created later with the same
+        // UUID would get wrong resource counts. This is fine as network UUIDs are randomly generated and never reused
+        session.execute(delete().from(KEYSPACE_IIDM, "resourceCount").where(eq("networkUuid", uuid)));
+        deletedTableCountListener.accept(deletedTableCount.incrementAndGet());
+        session.execute(delete().from(KEYSPACE_IIDM, "network").where(eq("uuid", uuid)));
+        deletedTableCountListener.accept(deletedTableCount.incrementAndGet());
+        bucketCounts.remove(uuid);
+    }
+
+    public void deleteNetwork(UUID uuid) {
+        deleteNetwork(uuid, deletedTableCount -> { });
+    }
+
+    // network clone
+
+    private TableMetadata getTableMetadata(String table) {
+        return session.getCluster().getMetadata().getKeyspace(KEYSPACE_IIDM).getTable(table);
+    }
+
+    private PreparedStatement getCopyStatement(String table) {
+        return psCopies.computeIfAbsent(table, k -> {
+            Insert insert = insertInto(KEYSPACE_IIDM, table);
+            for (ColumnMetadata column : getTableMetadata(table).getColumns()) {
+                insert.value(column.getName(), bindMarker());
+            }
+            return session.prepare(insert);
+        });
+    }
+
+    // Select is built from table metadata so that it has a routing key, and is sent by the token aware load balancing
+    // policy directly to a replica of the partition
+    private ResultSetFuture selectPartitionAsync(String table, String networkUuidColumn, UUID networkUuid) {
+        Statement select = select().all()
+                .from(getTableMetadata(table))
+                .where(eq(networkUuidColumn, networkUuid))
+                .setFetchSize(CLONE_FETCH_SIZE);
+        return session.executeAsync(select);
+    }
+
+    private List<ResultSetFuture> selectBucketPartitionsAsync(String table, UUID networkUuid) {
+        List<ResultSetFuture> futures = new ArrayList<>();
+        for (int bucket : getBuckets(networkUuid)) {
+            Statement select = select().all()
+                    .from(getTableMetadata(table))
+                    .where(eq("networkUuid", networkUuid))
+                    .and(eq(BUCKET, bucket))
+                    .setFetchSize(CLONE_FETCH_SIZE);
+            futures.add(session.executeAsync(select));
+        }
+        return futures;
+    }
+
+    private void copyRows(String table, List<ResultSetFuture> futures, UUID targetNetworkUuid, Predicate<Row> filter) {
+        for (ResultSetFuture future : futures) {
+            copyRows(table, "networkUuid", future.getUninterruptibly(), targetNetworkUuid, filter);
+        }
+    }
+
+    // Rows are copied as raw bytes, without being mapped to resources. The next page is fetched while the current one
+    // is written. Null columns are not written to avoid creation of tombstones. Buckets are kept as is, as the copy of the
+    // network row also keeps the number of buckets
+    private void copyRows(String table, String networkUuidColumn, ResultSet resultSet, UUID targetNetworkUuid, Predicate<Row> filter) {
+        PreparedStatement psCopy = getCopyStatement(table);
+        ColumnDefinitions variables = psCopy.getVariables();
+        while (!resultSet.isExhausted()) {
+            int available = resultSet.getAvailableWithoutFetching();
+            if (!resultSet.isFullyFetched()) {
+                resultSet.fetchMoreResults();
+            }
+            List<BoundStatement> statements = new ArrayList<>(available);
+            for (int i = 0; i < available; i++) {
+                Row row = resultSet.one();
+                if (!filter.test(row)) {
+                    continue;
+                }
+                BoundStatement statement = psCopy.bind();
+                for (int j = 0; j < variables.size(); j++) {
+                    String column = variables.getName(j);
+                    if (column.equalsIgnoreCase(networkUuidColumn)) {
+                        statement.setUUID(j, targetNetworkUuid);
+                    } else if (!row.isNull(column)) {
+                        statement.setBytesUnsafe(j, row.getBytesUnsafe(column));
+                    }
+                }
+                statements.add(statement);
+            }
+            batchWriter.write(table, statements);
+        }
+    }
+
+    /**
+     * Copy a network to a new network, with a new UUID, without transferring resources to the client. Only resources
+     * of the selected types are copied. Partitions of all the tables are read in parallel and rows are written back
+     * using asynchronous batches.
+     *
+     * @return the new network, or empty if the network does not exist
+     */
+    public Optional<Resource<NetworkAttributes>> cloneNetwork(UUID uuid, Set<ResourceType> resourceTypes) {
+        // also excludes networks being deleted
+        if (!getNetwork(uuid).isPresent()) {
+            return Optional.empty();
+        }
+
+        ResultSetFuture networkFuture = selectPartitionAsync("network", "uuid", uuid);
+        Map<ResourceType, List<ResultSetFuture>> futures = new EnumMap<>(ResourceType.class);
+        for (ResourceType resourceType : resourceTypes) {
+            if (resourceType != ResourceType.NETWORK) {
+                futures.put(resourceType, selectBucketPartitionsAsync(getTable(resourceType), uuid));
+            }
+        }
+        List<ResultSetFuture> identifiableFutures = selectBucketPartitionsAsync(IDENTIFIABLE, uuid);
+        List<ResultSetFuture> branchFutures = selectBucketPartitionsAsync(BRANCH_BY_VOLTAGE_LEVEL, uuid);
+        List<ResultSetFuture> topologyFutures = futures.containsKey(ResourceType.VOLTAGE_LEVEL)
+                ? selectBucketPartitionsAsync(CALCULATED_BUS_TOPOLOGY, uuid) : Collections.emptyList();
+
+        UUID cloneUuid = UUID.randomUUID();
+        for (Map.Entry<ResourceType, List<ResultSetFuture>> e : futures.entrySet()) {
+            copyRows(getTable(e.getKey()), e.getValue(), cloneUuid, row -> true);
+        }
+        copyRows(IDENTIFIABLE, identifiableFutures, cloneUuid,
+            row -> futures.containsKey(ResourceType.valueOf(row.getString("resourceType"))));
+        copyRows(BRANCH_BY_VOLTAGE_LEVEL, branchFutures, cloneUuid,
+            row -> futures.containsKey(ResourceType.valueOf(row.getString("resourceType"))));
+        copyRows(CALCULATED_BUS_TOPOLOGY, topologyFutures, cloneUuid, row -> true);
+        Map<ResourceType, Integer> counts = getResourceCounts(uuid);
+        for (ResourceType resourceType : futures.keySet()) {
+            incrementResourceCount(cloneUuid, resourceType, counts.getOrDefault(resourceType, 0));
+        }
+        // network is written last so that the clone is only listed once complete
+        copyRows("network", "uuid", networkFuture.getUninterruptibly(), cloneUuid, row -> true);
+        return getNetwork(cloneUuid);
+    }
+
+    // all resources
+
+    private PreparedStatement getSelectStatement(ResourceType resourceType) {
+        switch (resourceType) {
+            case SUBSTATION: return psSelectSubstations;
+            case VOLTAGE_LEVEL: return psSelectVoltageLevels;
+            case LOAD: return psSelectLoads;
+            case GENERATOR: return psSelectGenerators;
+            case SHUNT_COMPENSATOR: return psSelectShuntCompensators;
+            case VSC_CONVERTER_STATION: return psSelectVscConverterStations;
+            case LCC_CONVERTER_STATION: return psSelectLccConverterStations;
+            case STATIC_VAR_COMPENSATOR: return psSelectStaticVarCompensators;
+            case BUSBAR_SECTION: return psSelectBusbarSections;
+            case SWITCH: return psSelectSwitches;
+            case TWO_WINDINGS_TRANSFORMER: return psSelectTwoWindingsTransformers;
+            case THREE_WINDINGS_TRANSFORMER: return psSelectThreeWindingsTransformers;
+            case LINE: return psSelectLines;
+            case HVDC_LINE: return psSelectHvdcLines;
+            case DANGLING_LINE: return psSelectDanglingLines;
+            case CONFIGURED_BUS: return psSelectConfiguredBuses;
+            default: throw new IllegalArgumentException("Resource type not supported: " + resourceType);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends IdentifiableAttributes> List<Resource<IdentifiableAttributes>> upcast(List<Resource<T>> resources) {
+        return (List<Resource<IdentifiableAttributes>>) (List<?>) resources;
+    }
+
+    private static List<Resource<IdentifiableAttributes>> toResources(ResourceType resourceType, Iterable<Row> rows) {
+        switch (resourceType) {
+            case SUBSTATION: return upcast(toSubstations(rows));
+            case VOLTAGE_LEVEL: return upcast(toVoltageLevels(rows));
+            case LOAD: return upcast(toLoads(rows));
+            case GENERATOR: return upcast(toGenerators(rows));
+            case SHUNT_COMPENSATOR: return upcast(toShuntCompensators(rows));
+            case VSC_CONVERTER_STATION: return upcast(toVscConverterStations(rows));
+            case LCC_CONVERTER_STATION: return upcast(toLccConverterStations(rows));
+            case STATIC_VAR_COMPENSATOR: return upcast(toStaticVarCompensators(rows));
+            case BUSBAR_SECTION: return upcast(toBusbarSections(rows));
+            case SWITCH: return upcast(toSwitches(rows));
+            case TWO_WINDINGS_TRANSFORMER: return upcast(toTwoWindingsTransformers(rows));
+            case THREE_WINDINGS_TRANSFORMER: return upcast(toThreeWindingsTransformers(rows));
+            case LINE: return upcast(toLines(rows));
+            case HVDC_LINE: return upcast(toHvdcLines(rows));
+            case DANGLING_LINE: return upcast(toDanglingLines(rows));
+            case CONFIGURED_BUS: return upcast(toConfiguredBuses(rows));
+            default: throw new IllegalArgumentException("Resource type not supported: " + resourceType);
+        }
+    }
+
+    private static String getTable(ResourceType resourceType) {
+        switch (resourceType) {
+            case NETWORK: return "network";
+            case SUBSTATION: return "substation";
+            case VOLTAGE_LEVEL: return "voltageLevel";
+            case LOAD: return "load";
+            case GENERATOR: return "generator";
+            case SHUNT_COMPENSATOR: return "shuntCompensator";
+            case VSC_CONVERTER_STATION: return "vscConverterStation";
+            case LCC_CONVERTER_STATION: return "lccConverterStation";
+            case STATIC_VAR_COMPENSATOR: return "staticVarCompensator";
+            case BUSBAR_SECTION: return "busbarSection";
+            case SWITCH: return "switch";
+            case TWO_WINDINGS_TRANSFORMER: return "twoWindingsTransformer";
+            case THREE_WINDINGS_TRANSFORMER: return "threeWindingsTransformer";
+            case LINE: return "line";
+            case HVDC_LINE: return "hvdcLine";
+            case DANGLING_LINE: return "danglingLine";
+            case CONFIGURED_BUS: return "configuredBus";
+            default: throw new IllegalArgumentException("Resource type not supported: " + resourceType);
+        }
+    }
+
+    /**
+     * Get all resources of a network for a selection of resource types. One query per resource type and bucket is sent
+     * and all queries are executed in parallel. Rows are mapped to resources chunk by chunk while the result is
+     * iterated, and following pages are fetched on demand, so that the whole network is never in memory. The result can
+     * only be iterated once.
+     */
+    public Iterable<Resource<IdentifiableAttributes>> getResources(UUID networkUuid, Set<ResourceType> resourceTypes) {
+        Map<ResourceType, List<ResultSetFuture>> futures = new EnumMap<>(ResourceType.class);
+        for (ResourceType resourceType : resourceTypes) {
+            futures.put(resourceType, selectAllBucketsAsync(getSelectStatement(resourceType), networkUuid));
+        }
+        List<Iterable<Resource<IdentifiableAttributes>>> resources = new ArrayList<>(futures.size());
+        for (Map.Entry<ResourceType, List<ResultSetFuture>> e : futures.entrySet()) {
+            ResourceType resourceType = e.getKey();
+            resources.add(Iterables.concat(Iterables.transform(Iterables.partition(getRows(e.getValue()), ROWS_MAPPING_CHUNK_SIZE),
+                rows -> toResources(resourceType, rows))));
+        }
+        return Iterables.concat(resources);
+    }
+
+    private PreparedStatement getVoltageLevelSelectStatement(ResourceType resourceType) {
+        switch (resourceType) {
+            case LOAD: return psSelectLoadsByVoltageLevel;
+            case GENERATOR: return psSelectGeneratorsByVoltageLevel;
+            case SHUNT_COMPENSATOR: return psSelectShuntCompensatorsByVoltageLevel;
+            case VSC_CONVERTER_STATION: return psSelectVscConverterStationsByVoltageLevel;
+            case LCC_CONVERTER_STATION: return psSelectLccConverterStationsByVoltageLevel;
+            case STATIC_VAR_COMPENSATOR: return psSelectStaticVarCompensatorsByVoltageLevel;
+            case BUSBAR_SECTION: return psSelectBusbarSectionsByVoltageLevel;
+            case SWITCH: return psSelectSwitchesByVoltageLevel;
+            case DANGLING_LINE: return psSelectDanglingLinesByVoltageLevel;
+            case CONFIGURED_BUS: return psSelectConfiguredBusesByVoltageLevel;
+            default: throw new IllegalArgumentException("Resource type not contained in a voltage level: " + resourceType);
+        }
+    }
+
+    /**
+     * Get all resources of a voltage level for a selection of resource types. Queries of all the resource types are
+     * executed in parallel. Branches of all the types are read from the branch by voltage level index, where they are
+     * denormalized, with a single query run in parallel with the queries of other resource types.
+     * The voltage level itself can also be selected, it is then returned with its calculated bus topology so that
+     * building the topology of the voltage level does not need another request.
+     */
+    public List<Resource<IdentifiableAttributes>> getVoltageLevelResources(UUID networkUuid, String voltageLevelId, Set<ResourceType> resourceTypes) {
+        ResultSetFuture voltageLevelFuture = null;
+        ResultSetFuture calculatedBusTopologyFuture = null;
+        if (resourceTypes.contains(ResourceType.VOLTAGE_LEVEL)) {
+            voltageLevelFuture = session.executeAsync(bindById(psSelectVoltageLevel, networkUuid, voltageLevelId));
+            calculatedBusTopologyFuture = session.executeAsync(bindById(psSelectCalculatedBusTopology, networkUuid, voltageLevelId));
+        }
+        ResultSetFuture branchesFuture = resourceTypes.stream().anyMatch(resourceType -> getBranchSideCount(resourceType) > 0)
+                ? session.executeAsync(psSelectBranchesByVoltageLevel.bind(networkUuid, getBucket(networkUuid, voltageLevelId), voltageLevelId))
+                : null;
+        Map<ResourceType, ResultSetFuture> futures = new EnumMap<>(ResourceType.class);
+        for (ResourceType resourceType : resourceTypes) {
+            if (resourceType != ResourceType.VOLTAGE_LEVEL && getBranchSideCount(resourceType) == 0) {
+                futures.put(resourceType, session.executeAsync(getVoltageLevelSelectStatement(resourceType).bind(networkUuid, voltageLevelId)));
+            }
+        }
+        List<Resource<IdentifiableAttributes>> resources = new ArrayList<>();
+        if (voltageLevelFuture != null) {
+            List<Resource<VoltageLevelAttributes>> voltageLevelResources = toVoltageLevels(voltageLevelFuture.getUninterruptibly());
+            Row calculatedBusTopologyRow = calculatedBusTopologyFuture.getUninterruptibly().one();
+            for (Resource<VoltageLevelAttributes> voltageLevelResource : voltageLevelResources) {
+                voltageLevelResource.getAttributes().loadCalculatedBusTopology(calculatedBusTopologyRow != null
+                        ? toCalculatedBusTopology(calculatedBusTopologyRow)
+                        : new CalculatedBusTopologyAttributes());
+            }
+            resources.addAll(upcast(voltageLevelResources));
+        }
+        Map<ResourceType, List<Resource<IdentifiableAttributes>>> branches = branchesFuture != null
+                ? toBranches(branchesFuture.getUninterruptibly())
+                : Collections.emptyMap();
+        // resources are returned in the order of their types, like a selection of whole collections
+        for (ResourceType resourceType : ResourceType.values()) {
+            ResultSetFuture future = futures.get(resourceType);
+            if (future != null) {
+                resources.addAll(toResources(resourceType, future.getUninterruptibly()));
+            } else if (resourceTypes.contains(resourceType) && getBranchSideCount(resourceType) > 0) {
+                resources.addAll(branches.getOrDefault(resourceType, Collections.emptyList()));
+            }
+        }
+        return resources;
+    }
+
+    // state variables
+
+    private static void checkSize(String name, int size, int expectedSize) {
+        if (size != expectedSize) {
+            throw new IllegalArgumentException("Bad number of " + name + ": " + size + ", expected " + expectedSize);
+        }
+    }
+
+    /**
+     * Update state variables of resources. Only columns of the variables are written, using one prepared statement per
+     * resource type. State variables of branches are also written to the branch by voltage level index.
+     */
+    public void updateStateVariables(UUID networkUuid, List<StateVariables> stateVariablesList) {
+        for (StateVariables stateVariables : stateVariablesList) {
+            ResourceType resourceType = Objects.requireNonNull(stateVariables.getType());
+            if (resourceType == ResourceType.VOLTAGE_LEVEL) {
+                updateCalculatedBusStateVariables(networkUuid, stateVariables);
+                continue;
+            }
+            String table = getTable(resourceType);
+            List<String> ids = Objects.requireNonNull(stateVariables.getIds());
+            List<String> voltageLevelIds = stateVariables.getVoltageLevelIds();
+            if (voltageLevelIds != null) {
+                checkSize("voltage level IDs", voltageLevelIds.size(), ids.size());
+            }
+            Map<String, double[]> values = Objects.requireNonNull(stateVariables.getValues());
+            SortedSet<String> columns = new TreeSet<>();
+            for (Map.Entry<String, double[]> e : values.entrySet()) {
+                if (!StateVariables.getNames(resourceType).contains(e.getKey())) {
+                    throw new IllegalArgumentException("Unknown state variable '" + e.getKey() + "' for resource type " + resourceType);
+                }
+                checkSize(e.getKey() + " values", e.getValue().length, ids.size());
+                columns.add(e.getKey().toLowerCase(Locale.ROOT));
+            }
+            if (ids.isEmpty() || columns.isEmpty()) {
+                continue;
+            }
+
+            PreparedStatement psUpdateStateVariables = getPartialUpdateStatement(table, columns);
+            List<BoundStatement> statements = new ArrayList<>(ids.size());
+            for (int i = 0; i < ids.size(); i++) {
+                BoundStatement statement = psUpdateStateVariables.bind();
+                for (Map.Entry<String, double[]> e : values.entrySet()) {
+                    statement.setDouble(e.getKey().toLowerCase(Locale.ROOT), e.getValue()[i]);
+                }
+                for (String column : getPrimaryKeyColumns(table)) {
+                    switch (column) {
+                        case "networkuuid":
+                            statement.setUUID(column, networkUuid);
+                            break;
+                        case "id":
+                            statement.setString(column, ids.get(i));
+                            break;
+                        case BUCKET:
+                            // set when written
+                            break;
+                        case "voltagelevelid":
+                            if (voltageLevelIds == null) {
+                                throw new IllegalArgumentException("Voltage level IDs are required for resource type " + resourceType);
+                            }
+                            statement.setString(column, voltageLevelIds.get(i));
+                            break;
+                        default:
+                            throw new IllegalStateException("Unexpected primary key column: " + column);
+                    }
+                }
+                statements.add(statement);
+            }
+            write(table, statements);
+            if (getBranchSideCount(resourceType) > 0) {
+                updateBranchIndexStateVariables(networkUuid, resourceType, ids, values, columns);
+            }
+        }
+    }
+
+    /**
+     * Update state variables of calculated buses. They are written in their own columns of the calculated bus topology
+     * table, one list of values per voltage level, so that calculated buses do not have to be read and rewritten.
+     */
+    private void updateCalculatedBusStateVariables(UUID networkUuid, StateVariables stateVariables) {
+        List<String> ids = Objects.requireNonNull(stateVariables.getIds());
+        Map<String, List<double[]>> calculatedBusValues = Objects.requireNonNull(stateVariables.getCalculatedBusValues());
+        SortedSet<String> columns = new TreeSet<>();
+        for (Map.Entry<String, List<double[]>> e : calculatedBusValues.entrySet()) {
+            if (!StateVariables.getNames(ResourceType.VOLTAGE_LEVEL).contains(e.getKey())) {
+                throw new IllegalArgumentException("Unknown state variable '" + e.getKey() + "' for resource type " + ResourceType.VOLTAGE_LEVEL);
+            }
+            checkSize(e.getKey() + " values", e.getValue().size(), ids.size());
+            columns.add(e.getKey().toLowerCase(Locale.ROOT));
+        }
+        if (ids.isEmpty() || columns.isEmpty()) {
+            return;
+        }
+
+        PreparedStatement psUpdateStateVariables = getPartialUpdateStatement(CALCULATED_BUS_TOPOLOGY, columns);
+        List<BoundStatement> statements = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            BoundStatement statement = psUpdateStateVariables.bind();
+            for (Map.Entry<String, List<double[]>> e : calculatedBusValues.entrySet()) {
+                statement.setList(e.getKey().toLowerCase(Locale.ROOT), Doubles.asList(e.getValue().get(i)));
+            }
+            statement.setUUID("networkuuid", networkUuid);
+            statement.setString("voltagelevelid", ids.get(i));
+            statements.add(statement);
+        }
+        write(CALCULATED_BUS_TOPOLOGY, statements);
+    }
+
+    // substation
+
+    private static List<Resource<SubstationAttributes>> toSubstations(Iterable<Row> rows) {
+        List<Resource<SubstationAttributes>> resources = new ArrayList<>();
+        for (Row row : rows) {
+            resources.add(Resource.substationBuilder()
+                    .id(row.getString(0))
+                    .attributes(SubstationAttributes.builder()
+                            .name(row.getString(1))
+                            .properties(row.getMap(2, String.class, String.class))
+                            .country(row.getString(3) != null ? Country.valueOf(row.getString(3)) : null)
+                            .tso(row.getString(4))
+                            .entsoeArea(row.get(5, EntsoeAreaAttributes.class))
+                            .build())
+                    .build());
+        }
+        return resources;
+    }
+
+    public List<Resource<SubstationAttributes>> getSubstations(UUID networkUuid) {
+        return toSubstations(selectAllBuckets(psSelectSubstations, networkUuid));
+    }
+
+    public ResourcePage<SubstationAttributes> getSubstations(UUID networkUuid, int limit, String page) {
+        return getPage(ResourceType.SUBSTATION, networkUuid, psSelectSubstations, limit, page, NetworkStoreRepository::toSubstations);
+    }
+
+    public Optional<Resource<SubstationAttributes>> getSubstation(UUID networkUuid, String substationId) {
+        return toSubstations(session.execute(bindById(psSelectSubstation, networkUuid, substationId))).stream().findFirst();
+    }
+
+    public void createSubstations(UUID networkUuid, List<Resource<SubstationAttributes>> resources) {
+        List<BoundStatement> statements = new ArrayList<>(resources.size());
+        for (Resource<SubstationAttributes> resource : resources) {
+            statements.add(unsetNullValues(psInsertSubstation.bind(
+                    networkUuid,
+                    resource.getId(),
+                    resource.getAttributes().getName(),
+                    resource.getAttributes().getProperties(),
+                    resource.getAttributes().getCountry() != null ? resource.getAttributes().getCountry().toString() : null,
+                    resource.getAttributes().getTso(),
+                    resource.getAttributes().getEntsoeArea()
+                    )));
+        }
+        write("substation", statements);
+        indexIdentifiables(networkUuid, ResourceType.SUBSTATION, resources);
+    }
+
+    // voltage level
+
+    public void createVoltageLevels(UUID networkUuid, List<Resource<VoltageLevelAttributes>> resources) {
+        List<BoundStatement> statements = new ArrayList<>(resources.size());
+        List<BoundStatement> topologyStatements = new ArrayList<>();
+        for (Resource<VoltageLevelAttributes> resource : resources) {
+            statements.add(unsetNullValues(psInsertVoltageLevel.bind(
+                    networkUuid,
+                    resource.getId(),
+                    resource.getAttributes().getSubstationId(),
+                    resource.getAttributes().getName(),
+                    resource.getAttributes().getProperties(),
+                    resource.getAttributes().getNominalV(),
+                    resource.getAttributes().getLowVoltageLimit(),
+                    resource.getAttributes().getHighVoltageLimit(),
+                    resource.getAttributes().getTopologyKind().toString(),
+                    resource.getAttributes().getInternalConnections()
+                    )));
+            // a new voltage level has usually no calculated buses yet
+            if (resource.getAttributes().isCalculatedBusesValid() || resource.getAttributes().getCalculatedBuses() != null) {
+                topologyStatements.add(unsetNullValues(psInsertCalculatedBusTopology.bind(
+                        networkUuid,
+                        resource.getId(),
+                        resource.getAttributes().getCalculatedBuses(),
+                        resource.getAttributes().getNodeToCalculatedBus(),
+                        resource.getAttributes().getBusToCalculatedBus(),
+                        resource.getAttributes().isCalculatedBusesValid(),
+                        getCalculatedBusValues(resource.getAttributes().getCalculatedBuses(), CalculatedBusAttributes::getV),
+                        getCalculatedBusValues(resource.getAttributes().getCalculatedBuses(), CalculatedBusAttributes::getAngle)
+                        )));
+            }
+        }
+        write("voltageLevel", statements);
+        write(CALCULATED_BUS_TOPOLOGY, topologyStatements);
+        indexIdentifiables(networkUuid, ResourceType.VOLTAGE_LEVEL, resources);
+    }
+
+    public void updateVoltageLevels(UUID networkUuid, List<Resource<VoltageLevelAttributes>> resources) {
+        List<BoundStatement> statements = new ArrayList<>(resources.size());
+        List<BoundStatement> topologyStatements = new ArrayList<>();
+        for (Resource<VoltageLevelAttributes> resource : resources) {
+            // split updated attributes between the voltage level and the calculated bus topology tables, so that
+            // a topology processing only rewrites the calculated buses
+            Set<String> updatedAttributes = resource.getUpdatedAttributes();
+            Set<String> voltageLevelAttributes = null;
+            Set<String> topologyAttributes = null;
+            if (updatedAttributes != null && !updatedAttributes.isEmpty()) {
+                voltageLevelAttributes = updatedAttributes.stream()
+                        .filter(attributeName -> !CALCULATED_BUS_TOPOLOGY_ATTRIBUTES.contains(attributeName))
+                        .collect(Collectors.toSet());
+                topologyAttributes = updatedAttributes.stream()
+                        .filter(CALCULATED_BUS_TOPOLOGY_ATTRIBUTES::contains)
+                        .collect(Collectors.toSet());
+            }
+            if (voltageLevelAttributes == null || !voltageLevelAttributes.isEmpty()) {
+                statements.add(restrictToUpdatedAttributes("voltageLevel", voltageLevelAttributes, unsetNullValues(psUpdateVoltageLevel.bind(
+                        resource.getAttributes().getName(),
+                        resource.getAttributes().getProperties(),
+                        resource.getAttributes().getNominalV(),
+                        resource.getAttributes().getLowVoltageLimit(),
+                        resource.getAttributes().getHighVoltageLimit(),
+                        resource.getAttributes().getTopologyKind().toString(),
+                        resource.getAttributes().getInternalConnections(),
+                        networkUuid,
+                        resource.getId(),
+                        resource.getAttributes().getSubstationId())
+                )));
+            }
+            // a full update of a voltage level read without its calculated bus topology must not overwrite it
+            if (resource.getAttributes().isCalculatedBusTopologyLoaded() && (topologyAttributes == null || !topologyAttributes.isEmpty())) {
+                topologyStatements.add(restrictToUpdatedAttributes(CALCULATED_BUS_TOPOLOGY, topologyAttributes, unsetNullValues(psUpdateCalculatedBusTopology.bind(
+                        resource.getAttributes().getCalculatedBuses(),
+                        resource.getAttributes().getNodeToCalculatedBus(),
+                        resource.getAttributes().getBusToCalculatedBus(),
+                        resource.getAttributes().isCalculatedBusesValid(),
+                        getCalculatedBusValues(resource.getAttributes().getCalculatedBuses(), CalculatedBusAttributes::getV),
+                        getCalculatedBusValues(resource.getAttributes().getCalculatedBuses(), CalculatedBusAttributes::getAngle),
+                        networkUuid,
+                        resource.getId())
+                )));
+            }
+        }
+        if (!statements.isEmpty()) {
+            write("voltageLevel", statements);
+        }
+        if (!topologyStatements.isEmpty()) {
+            write(CALCULATED_BUS_TOPOLOGY, topologyStatements);
+        }
+    }
+
+    public Optional<CalculatedBusTopologyAttributes> getCalculatedBusTopology(UUID networkUuid, String voltageLevelId) {
+        Row row = session.execute(bindById(psSelectCalculatedBusTopology, networkUuid, voltageLevelId)).one();
+        return row != null ? Optional.of(toCalculatedBusTopology(row)) : Optional.empty();
+    }
+
+    /**
+     * Get calculated bus topologies of all the voltage levels of a network, indexed by voltage level ID, with one
+     * query per bucket.
+     */
+    public Map<String, CalculatedBusTopologyAttributes> getCalculatedBusTopologies(UUID networkUuid) {
+        Map<String, CalculatedBusTopologyAttributes> calculatedBusTopologies = new HashMap<>();
+        for (Row row : selectAllBuckets(psSelectCalculatedBusTopologies, networkUuid)) {
+            calculatedBusTopologies.put(row.getString(6), toCalculatedBusTopology(row));
+        }
+        return calculatedBusTopologies;
+    }
+
+    private static CalculatedBusTopologyAttributes toCalculatedBusTopology(Row row) {
+        List<CalculatedBusAttributes> calculatedBuses = row.isNull(0) ? null : row.get(0, CALCULATED_BUSES);
+        setCalculatedBusValues(calculatedBuses, row.getList(4, Double.class), CalculatedBusAttributes::setV);
+        setCalculatedBusValues(calculatedBuses, row.getList(5, Double.class), CalculatedBusAttributes::setAngle);
+        return CalculatedBusTopologyAttributes.builder()
+                .calculatedBuses(calculatedBuses)
+                .nodeToCalculatedBus(row.isNull(1) ? null : row.get(1, NODE_TO_CALCULATED_BUS))
+                .busToCalculatedBus(row.isNull(2) ? null : row.get(2, BUS_TO_CALCULATED_BUS))
+                .calculatedBusesValid(row.getBool(3))
+                .build();
+    }
+
+    private static List<Double> getCalculatedBusValues(List<CalculatedBusAttributes> calculatedBuses, ToDoubleFunction<CalculatedBusAttributes> getter) {
+        if (calculatedBuses == null) {
+            return null;
+        }
+        return calculatedBuses.stream().map(getter::applyAsDouble).collect(Collectors.toList());
+    }
+
+    // values of state variable columns, which may have been updated without rewriting calculated buses, take precedence
+    private static void setCalculatedBusValues(List<CalculatedBusAttributes> calculatedBuses, List<Double> values, ObjDoubleConsumer<CalculatedBusAttributes> setter) {
+        if (calculatedBuses != null && values.size() == calculatedBuses.size()) {
+            for (int i = 0; i < values.size(); i++) {
+                setter.accept(calculatedBuses.get(i), values.get(i));
+            }
+        }
+    }
+
+    public List<Resource<VoltageLevelAttributes>> getVoltageLevels(UUID networkUuid, String substationId) {
+        return toVoltageLevels(session.execute(psSelectVoltageLevelsBySubstation.bind(networkUuid, substationId)));
+    }
+
+    public Optional<Resource<VoltageLevelAttributes>> getVoltageLevel(UUID networkUuid, String voltageLevelId) {
+        return toVoltageLevels(session.execute(bindById(psSelectVoltageLevel, networkUuid, voltageLevelId))).stream().findFirst();
+    }
+
+    private static List<Resource<VoltageLevelAttributes>> toVoltageLevels(Iterable<Row> rows) {
+        List<Resource<VoltageLevelAttributes>> resources = new ArrayList<>();
+        for (Row row : rows) {
+            resources.add(Resource.voltageLevelBuilder()
+                    .id(row.getString(0))
+                    .attributes(VoltageLevelAttributes.builder()
+                            .substationId(row.getString(1))
+                            .name(row.getString(2))
+                            .properties(row.getMap(3, String.class, String.class))
+                            .nominalV(row.getDouble(4))
+                            .lowVoltageLimit(row.getDouble(5))
+                            .highVoltageLimit(row.getDouble(6))
+                            .topologyKind(TopologyKind.valueOf(row.getString(7)))
+                            .internalConnections(row.getList(8, InternalConnectionAttributes.class))
+                            .calculatedBusTopologyLoaded(false)
+                            .build())
+                    .build());
+        }
+        return resources;
+    }
+
+    public List<Resource<VoltageLevelAttributes>> getVoltageLevels(UUID networkUuid) {
+        return toVoltageLevels(selectAllBuckets(psSelectVoltageLevels, networkUuid));
+    }
+
+    public ResourcePage<VoltageLevelAttributes> getVoltageLevels(UUID networkUuid, int limit, String page) {
+        return getPage(ResourceType.VOLTAGE_LEVEL, networkUuid, psSelectVoltageLevels, limit, page, NetworkStoreRepository::toVoltageLevels);
+    }
+
+    // generator
+
+    public void createGenerators(UUID networkUuid, List<Resource<GeneratorAttributes>> resources) {
+        List<BoundStatement> statements = new ArrayList<>(resources.size());
+        for (Resource<GeneratorAttributes> resource : resources) {
+            ReactiveLimitsAttributes reactiveLimits = resource.getAttributes().getReactiveLimits();
+            statements.add(unsetNullValues(psInsertGenerator.bind(
+                    networkUuid,
+                    resource.getId(),
+                    resource.getAttributes().getVoltageLevelId(),
+                    resource.getAttributes().getName(),
+                    resource.getAttributes().getProperties(),
+                    resource.getAttributes().getNode(),
+                    resource.getAttributes().getEnergySource().toString(),
+                    resource.getAttributes().getMinP(),
+                    resource.getAttributes().getMaxP(),
+                    resource.getAttributes().isVoltageRegulatorOn(),
+                    resource.getAttributes().getTargetP(),
+                    resource.getAttributes().getTargetQ(),
+                    resource.getAttributes().getTargetV(),
+                    resource.getAttributes().getRatedS(),
+                    resource.getAttributes().getP(),
+                    resource.getAttributes().getQ(),
+                    resource.getAttributes().getPosition(),
+                    reactiveLimits.getKind() == ReactiveLimitsKind.MIN_MAX ? reactiveLimits : null,
+                    reactiveLimits.getKind() == ReactiveLimitsKind.CURVE ? reactiveLimits : null,
+                    resource.getAttributes().getBus(),
+                    resource.getAttributes().getConnectableBus(),
+                    resource.getAttributes().getActivePowerControl(),
+                    resource.getAttributes().getRegulatingTerminal(),
+                    resource.getAttributes().getCoordinatedReactiveControl())));
+        }
+        write("generator", statements);
+        indexIdentifiables(networkUuid, ResourceType.GENERATOR, resources);
+    }
+
+    public Optional<Resource<GeneratorAttributes>> getGenerator(UUID networkUuid, String generatorId) {
+        return toGenerators(session.execute(bindById(psSelectGenerator, networkUuid, generatorId))).stream().findFirst();
+    }
+
+    private static List<Resource<GeneratorAttributes>> toGenerators(Iterable<Row> rows) {
+        List<Resource<GeneratorAttributes>> resources = new ArrayList<>();
+        for (Row row : rows) {
+            MinMaxReactiveLimitsAttributes minMaxReactiveLimitsAttributes = row.get(16, MinMaxReactiveLimitsAttributes.class);
+            ReactiveCapabilityCurveAttributes reactiveCapabilityCurveAttributes = row.get(17, ReactiveCapabilityCurveAttributes.class);
+            resources.add(Resource.generatorBuilder()
+                    .id(row.getString(0))
                     .attributes(GeneratorAttributes.builder()
                             .voltageLevelId(row.getString(1))
                             .name(row.getString(2))
@@ -1228,184 +2710,85 @@ public class NetworkStoreRepository {
         return resources;
     }
 
+    public List<Resource<GeneratorAttributes>> getGenerators(UUID networkUuid) {
+        return toGenerators(selectAllBuckets(psSelectGenerators, networkUuid));
+    }
+
+    public ResourcePage<GeneratorAttributes> getGenerators(UUID networkUuid, int limit, String page) {
+        return getPage(ResourceType.GENERATOR, networkUuid, psSelectGenerators, limit, page, NetworkStoreRepository::toGenerators);
+    }
+
     public List<Resource<GeneratorAttributes>> getVoltageLevelGenerators(UUID networkUuid, String voltageLevelId) {
-        ResultSet resultSet = session.execute(select("id",
-                                                     "name",
-                                                     "properties",
-                                                     "node",
-                                                     "energySource",
-                                                     "minP",
-                                                     "maxP",
-                                                     "voltageRegulatorOn",
-                                                     "targetP",
-                                                     "targetQ",
-                                                     "targetV",
-                                                     "ratedS",
-                                                     "p",
-                                                     "q",
-                                                     "position",
-                                                     "minMaxReactiveLimits",
-                                                     "reactiveCapabilityCurve",
-                                                     "bus",
-                                                     CONNECTABLE_BUS,
-                                                     "activePowerControl",
-                                                     REGULATING_TERMINAL,
-                                                     "coordinatedReactiveControl")
-                .from(KEYSPACE_IIDM, "generatorByVoltageLevel")
-                .where(eq("networkUuid", networkUuid)).and(eq("voltageLevelId", voltageLevelId)));
-        List<Resource<GeneratorAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            MinMaxReactiveLimitsAttributes minMaxReactiveLimitsAttributes = row.get(15, MinMaxReactiveLimitsAttributes.class);
-            ReactiveCapabilityCurveAttributes reactiveCapabilityCurveAttributes = row.get(16, ReactiveCapabilityCurveAttributes.class);
-            resources.add(Resource.generatorBuilder()
-                    .id(row.getString(0))
-                    .attributes(GeneratorAttributes.builder()
-                            .voltageLevelId(voltageLevelId)
-                            .name(row.getString(1))
-                            .properties(row.getMap(2, String.class, String.class))
-                            .node(row.get(3, Integer.class))
-                            .energySource(EnergySource.valueOf(row.getString(4)))
-                            .minP(row.getDouble(5))
-                            .maxP(row.getDouble(6))
-                            .voltageRegulatorOn(row.getBool(7))
-                            .targetP(row.getDouble(8))
-                            .targetQ(row.getDouble(9))
-                            .targetV(row.getDouble(10))
-                            .ratedS(row.getDouble(11))
-                            .p(row.getDouble(12))
-                            .q(row.getDouble(13))
-                            .position(row.get(14, ConnectablePositionAttributes.class))
-                            .reactiveLimits(minMaxReactiveLimitsAttributes != null ? minMaxReactiveLimitsAttributes : reactiveCapabilityCurveAttributes)
-                            .bus(row.getString(17))
-                            .connectableBus(row.getString(18))
-                            .activePowerControl(row.get(19, ActivePowerControlAttributes.class))
-                            .regulatingTerminal(row.get(20, TerminalRefAttributes.class))
-                            .coordinatedReactiveControl(row.get(21, CoordinatedReactiveControlAttributes.class))
-                            .build())
-                    .build());
-        }
-        return resources;
+        return toGenerators(session.execute(psSelectGeneratorsByVoltageLevel.bind(networkUuid, voltageLevelId)));
     }
 
     public void updateGenerators(UUID networkUuid, List<Resource<GeneratorAttributes>> resources) {
-        for (List<Resource<GeneratorAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
-            BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
-            for (Resource<GeneratorAttributes> resource : subresources) {
-                ReactiveLimitsAttributes reactiveLimits = resource.getAttributes().getReactiveLimits();
-                batch.add(unsetNullValues(psUpdateGenerator.bind(
-                        resource.getAttributes().getName(),
-                        resource.getAttributes().getProperties(),
-                        resource.getAttributes().getNode(),
-                        resource.getAttributes().getEnergySource().toString(),
-                        resource.getAttributes().getMinP(),
-                        resource.getAttributes().getMaxP(),
-                        resource.getAttributes().isVoltageRegulatorOn(),
-                        resource.getAttributes().getTargetP(),
-                        resource.getAttributes().getTargetQ(),
-                        resource.getAttributes().getTargetV(),
-                        resource.getAttributes().getRatedS(),
-                        resource.getAttributes().getP(),
-                        resource.getAttributes().getQ(),
-                        resource.getAttributes().getPosition(),
-                        reactiveLimits.getKind() == ReactiveLimitsKind.MIN_MAX ? reactiveLimits : null,
-                        reactiveLimits.getKind() == ReactiveLimitsKind.CURVE ? reactiveLimits : null,
-                        resource.getAttributes().getBus(),
-                        resource.getAttributes().getConnectableBus(),
-                        resource.getAttributes().getActivePowerControl(),
-                        resource.getAttributes().getRegulatingTerminal(),
-                        resource.getAttributes().getCoordinatedReactiveControl(),
-                        networkUuid,
-                        resource.getId(),
-                        resource.getAttributes().getVoltageLevelId())
-                ));
-            }
-            session.execute(batch);
+        List<BoundStatement> statements = new ArrayList<>(resources.size());
+        for (Resource<GeneratorAttributes> resource : resources) {
+            ReactiveLimitsAttributes reactiveLimits = resource.getAttributes().getReactiveLimits();
+            statements.add(unsetNullValues(psUpdateGenerator.bind(
+                    resource.getAttributes().getName(),
+                    resource.getAttributes().getProperties(),
+                    resource.getAttributes().getNode(),
+                    resource.getAttributes().getEnergySource().toString(),
+                    resource.getAttributes().getMinP(),
+                    resource.getAttributes().getMaxP(),
+                    resource.getAttributes().isVoltageRegulatorOn(),
+                    resource.getAttributes().getTargetP(),
+                    resource.getAttributes().getTargetQ(),
+                    resource.getAttributes().getTargetV(),
+                    resource.getAttributes().getRatedS(),
+                    resource.getAttributes().getP(),
+                    resource.getAttributes().getQ(),
+                    resource.getAttributes().getPosition(),
+                    reactiveLimits.getKind() == ReactiveLimitsKind.MIN_MAX ? reactiveLimits : null,
+                    reactiveLimits.getKind() == ReactiveLimitsKind.CURVE ? reactiveLimits : null,
+                    resource.getAttributes().getBus(),
+                    resource.getAttributes().getConnectableBus(),
+                    resource.getAttributes().getActivePowerControl(),
+                    resource.getAttributes().getRegulatingTerminal(),
+                    resource.getAttributes().getCoordinatedReactiveControl(),
+                    networkUuid,
+                    resource.getId(),
+                    resource.getAttributes().getVoltageLevelId())
+            ));
         }
+        write("generator", restrictToUpdatedAttributes("generator", resources, statements));
     }
 
     // load
 
     public void createLoads(UUID networkUuid, List<Resource<LoadAttributes>> resources) {
-        for (List<Resource<LoadAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
-            BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
-            for (Resource<LoadAttributes> resource : subresources) {
-                batch.add(unsetNullValues(psInsertLoad.bind(
-                        networkUuid,
-                        resource.getId(),
-                        resource.getAttributes().getVoltageLevelId(),
-                        resource.getAttributes().getName(),
-                        resource.getAttributes().getProperties(),
-                        resource.getAttributes().getNode(),
-                        resource.getAttributes().getLoadType().toString(),
-                        resource.getAttributes().getP0(),
-                        resource.getAttributes().getQ0(),
-                        resource.getAttributes().getP(),
-                        resource.getAttributes().getQ(),
-                        resource.getAttributes().getPosition(),
-                        resource.getAttributes().getBus(),
-                        resource.getAttributes().getConnectableBus()
-                        )));
-            }
-            session.execute(batch);
+        List<BoundStatement> statements = new ArrayList<>(resources.size());
+        for (Resource<LoadAttributes> resource : resources) {
+            statements.add(unsetNullValues(psInsertLoad.bind(
+                    networkUuid,
+                    resource.getId(),
+                    resource.getAttributes().getVoltageLevelId(),
+                    resource.getAttributes().getName(),
+                    resource.getAttributes().getProperties(),
+                    resource.getAttributes().getNode(),
+                    resource.getAttributes().getLoadType().toString(),
+                    resource.getAttributes().getP0(),
+                    resource.getAttributes().getQ0(),
+                    resource.getAttributes().getP(),
+                    resource.getAttributes().getQ(),
+                    resource.getAttributes().getPosition(),
+                    resource.getAttributes().getBus(),
+                    resource.getAttributes().getConnectableBus()
+                    )));
         }
+        write("load", statements);
+        indexIdentifiables(networkUuid, ResourceType.LOAD, resources);
     }
 
     public Optional<Resource<LoadAttributes>> getLoad(UUID networkUuid, String loadId) {
-        ResultSet resultSet = session.execute(select("voltageLevelId",
-                                                     "name",
-                                                     "properties",
-                                                     "node",
-                                                     "loadType",
-                                                     "p0",
-                                                     "q0",
-                                                     "p",
-                                                     "q",
-                                                     "position",
-                                                     "bus",
-                                                     CONNECTABLE_BUS)
-                .from(KEYSPACE_IIDM, "load")
-                .where(eq("networkUuid", networkUuid)).and(eq("id", loadId)));
-        Row one = resultSet.one();
-        if (one != null) {
-            return Optional.of(Resource.loadBuilder()
-                    .id(loadId)
-                    .attributes(LoadAttributes.builder()
-                            .voltageLevelId(one.getString(0))
-                            .name(one.getString(1))
-                            .properties(one.getMap(2, String.class, String.class))
-                            .node(one.get(3, Integer.class))
-                            .loadType(LoadType.valueOf(one.getString(4)))
-                            .p0(one.getDouble(5))
-                            .q0(one.getDouble(6))
-                            .p(one.getDouble(7))
-                            .q(one.getDouble(8))
-                            .position(one.get(9, ConnectablePositionAttributes.class))
-                            .bus(one.getString(10))
-                            .connectableBus(one.getString(11))
-                            .build())
-                    .build());
-        }
-        return Optional.empty();
+        return toLoads(session.execute(bindById(psSelectLoad, networkUuid, loadId))).stream().findFirst();
     }
 
-    public List<Resource<LoadAttributes>> getLoads(UUID networkUuid) {
-        ResultSet resultSet = session.execute(select("id",
-                                                     "voltageLevelId",
-                                                     "name",
-                                                     "properties",
-                                                     "node",
-                                                     "loadType",
-                                                     "p0",
-                                                     "q0",
-                                                     "p",
-                                                     "q",
-                                                     "position",
-                                                     "bus",
-                                                     CONNECTABLE_BUS)
-                .from(KEYSPACE_IIDM, "load")
-                .where(eq("networkUuid", networkUuid)));
+    private static List<Resource<LoadAttributes>> toLoads(Iterable<Row> rows) {
         List<Resource<LoadAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
+        for (Row row : rows) {
             resources.add(Resource.loadBuilder()
                     .id(row.getString(0))
                     .attributes(LoadAttributes.builder()
@@ -1427,170 +2810,79 @@ public class NetworkStoreRepository {
         return resources;
     }
 
+    public List<Resource<LoadAttributes>> getLoads(UUID networkUuid) {
+        return toLoads(selectAllBuckets(psSelectLoads, networkUuid));
+    }
+
+    public ResourcePage<LoadAttributes> getLoads(UUID networkUuid, int limit, String page) {
+        return getPage(ResourceType.LOAD, networkUuid, psSelectLoads, limit, page, NetworkStoreRepository::toLoads);
+    }
+
     public List<Resource<LoadAttributes>> getVoltageLevelLoads(UUID networkUuid, String voltageLevelId) {
-        ResultSet resultSet = session.execute(select("id",
-                                                     "name",
-                                                     "properties",
-                                                     "node",
-                                                     "loadType",
-                                                     "p0",
-                                                     "q0",
-                                                     "p",
-                                                     "q",
-                                                     "position",
-                                                     "bus",
-                                                     CONNECTABLE_BUS)
-                .from(KEYSPACE_IIDM, "loadByVoltageLevel")
-                .where(eq("networkUuid", networkUuid)).and(eq("voltageLevelId", voltageLevelId)));
-        List<Resource<LoadAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            resources.add(Resource.loadBuilder()
-                    .id(row.getString(0))
-                    .attributes(LoadAttributes.builder()
-                            .voltageLevelId(voltageLevelId)
-                            .name(row.getString(1))
-                            .properties(row.getMap(2, String.class, String.class))
-                            .node(row.get(3, Integer.class))
-                            .loadType(LoadType.valueOf(row.getString(4)))
-                            .p0(row.getDouble(5))
-                            .q0(row.getDouble(6))
-                            .p(row.getDouble(7))
-                            .q(row.getDouble(8))
-                            .position(row.get(9, ConnectablePositionAttributes.class))
-                            .bus(row.getString(10))
-                            .connectableBus(row.getString(11))
-                            .build())
-                    .build());
-        }
-        return resources;
+        return toLoads(session.execute(psSelectLoadsByVoltageLevel.bind(networkUuid, voltageLevelId)));
     }
 
     public void updateLoads(UUID networkUuid, List<Resource<LoadAttributes>> resources) {
-        for (List<Resource<LoadAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
-            BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
-            for (Resource<LoadAttributes> resource : subresources) {
-                batch.add(unsetNullValues(psUpdateLoad.bind(
-                        resource.getAttributes().getName(),
-                        resource.getAttributes().getProperties(),
-                        resource.getAttributes().getNode(),
-                        resource.getAttributes().getLoadType().toString(),
-                        resource.getAttributes().getP0(),
-                        resource.getAttributes().getQ0(),
-                        resource.getAttributes().getP(),
-                        resource.getAttributes().getQ(),
-                        resource.getAttributes().getPosition(),
-                        resource.getAttributes().getBus(),
-                        resource.getAttributes().getConnectableBus(),
-                        networkUuid,
-                        resource.getId(),
-                        resource.getAttributes().getVoltageLevelId())
-                ));
-            }
-            session.execute(batch);
+        List<BoundStatement> statements = new ArrayList<>(resources.size());
+        for (Resource<LoadAttributes> resource : resources) {
+            statements.add(unsetNullValues(psUpdateLoad.bind(
+                    resource.getAttributes().getName(),
+                    resource.getAttributes().getProperties(),
+                    resource.getAttributes().getNode(),
+                    resource.getAttributes().getLoadType().toString(),
+                    resource.getAttributes().getP0(),
+                    resource.getAttributes().getQ0(),
+                    resource.getAttributes().getP(),
+                    resource.getAttributes().getQ(),
+                    resource.getAttributes().getPosition(),
+                    resource.getAttributes().getBus(),
+                    resource.getAttributes().getConnectableBus(),
+                    networkUuid,
+                    resource.getId(),
+                    resource.getAttributes().getVoltageLevelId())
+            ));
         }
+        write("load", restrictToUpdatedAttributes("load", resources, statements));
     }
 
     // shunt compensator
 
     public void createShuntCompensators(UUID networkUuid, List<Resource<ShuntCompensatorAttributes>> resources) {
-        for (List<Resource<ShuntCompensatorAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
-            BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
-            for (Resource<ShuntCompensatorAttributes> resource : subresources) {
-                ShuntCompensatorModelAttributes shuntCompensatorModel = resource.getAttributes().getModel();
-                batch.add(unsetNullValues(psInsertShuntCompensator.bind(
-                        networkUuid,
-                        resource.getId(),
-                        resource.getAttributes().getVoltageLevelId(),
-                        resource.getAttributes().getName(),
-                        resource.getAttributes().getProperties(),
-                        resource.getAttributes().getNode(),
-                        shuntCompensatorModel.getType() == ShuntCompensatorModelType.LINEAR ? shuntCompensatorModel : null,
-                        shuntCompensatorModel.getType() == ShuntCompensatorModelType.NON_LINEAR ? shuntCompensatorModel : null,
-                        resource.getAttributes().getSectionCount(),
-                        resource.getAttributes().getP(),
-                        resource.getAttributes().getQ(),
-                        resource.getAttributes().getPosition(),
-                        resource.getAttributes().getBus(),
-                        resource.getAttributes().getConnectableBus(),
-                        resource.getAttributes().getRegulatingTerminal(),
-                        resource.getAttributes().isVoltageRegulatorOn(),
-                        resource.getAttributes().getTargetV(),
-                        resource.getAttributes().getTargetDeadband()
-                        )));
-            }
-            session.execute(batch);
+        List<BoundStatement> statements = new ArrayList<>(resources.size());
+        for (Resource<ShuntCompensatorAttributes> resource : resources) {
+            ShuntCompensatorModelAttributes shuntCompensatorModel = resource.getAttributes().getModel();
+            statements.add(unsetNullValues(psInsertShuntCompensator.bind(
+                    networkUuid,
+                    resource.getId(),
+                    resource.getAttributes().getVoltageLevelId(),
+                    resource.getAttributes().getName(),
+                    resource.getAttributes().getProperties(),
+                    resource.getAttributes().getNode(),
+                    shuntCompensatorModel.getType() == ShuntCompensatorModelType.LINEAR ? shuntCompensatorModel : null,
+                    shuntCompensatorModel.getType() == ShuntCompensatorModelType.NON_LINEAR ? shuntCompensatorModel : null,
+                    resource.getAttributes().getSectionCount(),
+                    resource.getAttributes().getP(),
+                    resource.getAttributes().getQ(),
+                    resource.getAttributes().getPosition(),
+                    resource.getAttributes().getBus(),
+                    resource.getAttributes().getConnectableBus(),
+                    resource.getAttributes().getRegulatingTerminal(),
+                    resource.getAttributes().isVoltageRegulatorOn(),
+                    resource.getAttributes().getTargetV(),
+                    resource.getAttributes().getTargetDeadband()
+                    )));
         }
+        write("shuntCompensator", statements);
+        indexIdentifiables(networkUuid, ResourceType.SHUNT_COMPENSATOR, resources);
     }
 
     public Optional<Resource<ShuntCompensatorAttributes>> getShuntCompensator(UUID networkUuid, String shuntCompensatorId) {
-        ResultSet resultSet = session.execute(select("voltageLevelId",
-                                                     "name",
-                                                     "properties",
-                                                     "node",
-                                                     LINEAR_MODEL,
-                                                     NON_LINEAR_MODEL,
-                                                     SECTION_COUNT,
-                                                     "p",
-                                                     "q",
-                                                     "position",
-                                                     "bus",
-                                                     CONNECTABLE_BUS,
-                                                     REGULATING_TERMINAL,
-                                                     "voltageRegulatorOn",
-                                                     "targetV",
-                                                     "targetDeadband")
-                .from(KEYSPACE_IIDM, "shuntCompensator")
-                .where(eq("networkUuid", networkUuid)).and(eq("id", shuntCompensatorId)));
-        Row row = resultSet.one();
-        if (row != null) {
-            ShuntCompensatorLinearModelAttributes shuntCompensatorLinearModelAttributes = row.get(4, ShuntCompensatorLinearModelAttributes.class);
-            ShuntCompensatorNonLinearModelAttributes shuntCompensatorNonLinearModelAttributes = row.get(5, ShuntCompensatorNonLinearModelAttributes.class);
-            return Optional.of(Resource.shuntCompensatorBuilder()
-                    .id(shuntCompensatorId)
-                    .attributes(ShuntCompensatorAttributes.builder()
-                            .voltageLevelId(row.getString(0))
-                            .name(row.getString(1))
-                            .properties(row.getMap(2, String.class, String.class))
-                            .node(row.get(3, Integer.class))
-                            .model(shuntCompensatorLinearModelAttributes != null ? shuntCompensatorLinearModelAttributes : shuntCompensatorNonLinearModelAttributes)
-                            .sectionCount(row.getInt(6))
-                            .p(row.getDouble(7))
-                            .q(row.getDouble(8))
-                            .position(row.get(9, ConnectablePositionAttributes.class))
-                            .bus(row.getString(10))
-                            .connectableBus(row.getString(11))
-                            .regulatingTerminal(row.get(12, TerminalRefAttributes.class))
-                            .voltageRegulatorOn(row.getBool(13))
-                            .targetV(row.getDouble(14))
-                            .targetDeadband(row.getDouble(15))
-                            .build())
-                    .build());
-        }
-        return Optional.empty();
+        return toShuntCompensators(session.execute(bindById(psSelectShuntCompensator, networkUuid, shuntCompensatorId))).stream().findFirst();
     }
 
-    public List<Resource<ShuntCompensatorAttributes>> getShuntCompensators(UUID networkUuid) {
-        ResultSet resultSet = session.execute(select("id",
-                                                     "voltageLevelId",
-                                                     "name",
-                                                     "properties",
-                                                     "node",
-                                                     LINEAR_MODEL,
-                                                     NON_LINEAR_MODEL,
-                                                     SECTION_COUNT,
-                                                     "p",
-                                                     "q",
-                                                     "position",
-                                                     "bus",
-                                                     CONNECTABLE_BUS,
-                                                     REGULATING_TERMINAL,
-                                                     "voltageRegulatorOn",
-                                                     "targetV",
-                                                     "targetDeadband")
-                .from(KEYSPACE_IIDM, "shuntCompensator")
-                .where(eq("networkUuid", networkUuid)));
+    private static List<Resource<ShuntCompensatorAttributes>> toShuntCompensators(Iterable<Row> rows) {
         List<Resource<ShuntCompensatorAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
+        for (Row row : rows) {
             ShuntCompensatorLinearModelAttributes shuntCompensatorLinearModelAttributes = row.get(5, ShuntCompensatorLinearModelAttributes.class);
             ShuntCompensatorNonLinearModelAttributes shuntCompensatorNonLinearModelAttributes = row.get(6, ShuntCompensatorNonLinearModelAttributes.class);
             resources.add(Resource.shuntCompensatorBuilder()
@@ -1617,180 +2909,83 @@ public class NetworkStoreRepository {
         return resources;
     }
 
+    public List<Resource<ShuntCompensatorAttributes>> getShuntCompensators(UUID networkUuid) {
+        return toShuntCompensators(selectAllBuckets(psSelectShuntCompensators, networkUuid));
+    }
+
+    public ResourcePage<ShuntCompensatorAttributes> getShuntCompensators(UUID networkUuid, int limit, String page) {
+        return getPage(ResourceType.SHUNT_COMPENSATOR, networkUuid, psSelectShuntCompensators, limit, page, NetworkStoreRepository::toShuntCompensators);
+    }
+
     public List<Resource<ShuntCompensatorAttributes>> getVoltageLevelShuntCompensators(UUID networkUuid, String voltageLevelId) {
-        ResultSet resultSet = session.execute(select("id",
-                                                     "name",
-                                                     "properties",
-                                                     "node",
-                                                     LINEAR_MODEL,
-                                                     NON_LINEAR_MODEL,
-                                                     SECTION_COUNT,
-                                                     "p",
-                                                     "q",
-                                                     "position",
-                                                     "bus",
-                                                     CONNECTABLE_BUS,
-                                                     REGULATING_TERMINAL,
-                                                     "voltageRegulatorOn",
-                                                     "targetV",
-                                                     "targetDeadband")
-                .from(KEYSPACE_IIDM, "shuntCompensatorByVoltageLevel")
-                .where(eq("networkUuid", networkUuid)).and(eq("voltageLevelId", voltageLevelId)));
-        List<Resource<ShuntCompensatorAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            ShuntCompensatorLinearModelAttributes shuntCompensatorLinearModelAttributes = row.get(4, ShuntCompensatorLinearModelAttributes.class);
-            ShuntCompensatorNonLinearModelAttributes shuntCompensatorNonLinearModelAttributes = row.get(5, ShuntCompensatorNonLinearModelAttributes.class);
-            resources.add(Resource.shuntCompensatorBuilder()
-                    .id(row.getString(0))
-                    .attributes(ShuntCompensatorAttributes.builder()
-                            .voltageLevelId(voltageLevelId)
-                            .name(row.getString(1))
-                            .properties(row.getMap(2, String.class, String.class))
-                            .node(row.get(3, Integer.class))
-                            .model(shuntCompensatorLinearModelAttributes != null ? shuntCompensatorLinearModelAttributes : shuntCompensatorNonLinearModelAttributes)
-                            .sectionCount(row.getInt(6))
-                            .p(row.getDouble(7))
-                            .q(row.getDouble(8))
-                            .position(row.get(9, ConnectablePositionAttributes.class))
-                            .bus(row.getString(10))
-                            .connectableBus(row.getString(11))
-                            .regulatingTerminal(row.get(12, TerminalRefAttributes.class))
-                            .voltageRegulatorOn(row.getBool(13))
-                            .targetV(row.getDouble(14))
-                            .targetDeadband(row.getDouble(15))
-                            .build())
-                    .build());
-        }
-        return resources;
+        return toShuntCompensators(session.execute(psSelectShuntCompensatorsByVoltageLevel.bind(networkUuid, voltageLevelId)));
     }
 
     public void updateShuntCompensators(UUID networkUuid, List<Resource<ShuntCompensatorAttributes>> resources) {
-        for (List<Resource<ShuntCompensatorAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
-            BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
-            for (Resource<ShuntCompensatorAttributes> resource : subresources) {
-                ShuntCompensatorModelAttributes shuntCompensatorModel = resource.getAttributes().getModel();
-                batch.add(unsetNullValues(psUpdateShuntCompensator.bind(
-                        resource.getAttributes().getName(),
-                        resource.getAttributes().getProperties(),
-                        resource.getAttributes().getNode(),
-                        shuntCompensatorModel.getType() == ShuntCompensatorModelType.LINEAR ? shuntCompensatorModel : null,
-                        shuntCompensatorModel.getType() == ShuntCompensatorModelType.NON_LINEAR ? shuntCompensatorModel : null,
-                        resource.getAttributes().getSectionCount(),
-                        resource.getAttributes().getP(),
-                        resource.getAttributes().getQ(),
-                        resource.getAttributes().getPosition(),
-                        resource.getAttributes().getBus(),
-                        resource.getAttributes().getConnectableBus(),
-                        resource.getAttributes().getRegulatingTerminal(),
-                        resource.getAttributes().isVoltageRegulatorOn(),
-                        resource.getAttributes().getTargetV(),
-                        resource.getAttributes().getTargetDeadband(),
-                        networkUuid,
-                        resource.getId(),
-                        resource.getAttributes().getVoltageLevelId())
-                ));
-            }
-            session.execute(batch);
+        List<BoundStatement> statements = new ArrayList<>(resources.size());
+        for (Resource<ShuntCompensatorAttributes> resource : resources) {
+            ShuntCompensatorModelAttributes shuntCompensatorModel = resource.getAttributes().getModel();
+            statements.add(unsetNullValues(psUpdateShuntCompensator.bind(
+                    resource.getAttributes().getName(),
+                    resource.getAttributes().getProperties(),
+                    resource.getAttributes().getNode(),
+                    shuntCompensatorModel.getType() == ShuntCompensatorModelType.LINEAR ? shuntCompensatorModel : null,
+                    shuntCompensatorModel.getType() == ShuntCompensatorModelType.NON_LINEAR ? shuntCompensatorModel : null,
+                    resource.getAttributes().getSectionCount(),
+                    resource.getAttributes().getP(),
+                    resource.getAttributes().getQ(),
+                    resource.getAttributes().getPosition(),
+                    resource.getAttributes().getBus(),
+                    resource.getAttributes().getConnectableBus(),
+                    resource.getAttributes().getRegulatingTerminal(),
+                    resource.getAttributes().isVoltageRegulatorOn(),
+                    resource.getAttributes().getTargetV(),
+                    resource.getAttributes().getTargetDeadband(),
+                    networkUuid,
+                    resource.getId(),
+                    resource.getAttributes().getVoltageLevelId())
+            ));
         }
+        write("shuntCompensator", restrictToUpdatedAttributes("shuntCompensator", resources, statements));
     }
 
     // VSC converter station
 
     public void createVscConverterStations(UUID networkUuid, List<Resource<VscConverterStationAttributes>> resources) {
-        for (List<Resource<VscConverterStationAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
-            BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
-            for (Resource<VscConverterStationAttributes> resource : subresources) {
-                ReactiveLimitsAttributes reactiveLimits = resource.getAttributes().getReactiveLimits();
-                batch.add(unsetNullValues(psInsertVscConverterStation.bind(
-                        networkUuid,
-                        resource.getId(),
-                        resource.getAttributes().getVoltageLevelId(),
-                        resource.getAttributes().getName(),
-                        resource.getAttributes().getProperties(),
-                        resource.getAttributes().getNode(),
-                        resource.getAttributes().getLossFactor(),
-                        resource.getAttributes().getVoltageRegulatorOn(),
-                        resource.getAttributes().getReactivePowerSetPoint(),
-                        resource.getAttributes().getVoltageSetPoint(),
-                        reactiveLimits.getKind() == ReactiveLimitsKind.MIN_MAX ? reactiveLimits : null,
-                        reactiveLimits.getKind() == ReactiveLimitsKind.CURVE ? reactiveLimits : null,
-                        resource.getAttributes().getP(),
-                        resource.getAttributes().getQ(),
-                        resource.getAttributes().getPosition(),
-                        resource.getAttributes().getBus(),
-                        resource.getAttributes().getConnectableBus()
-                )));
-            }
-            session.execute(batch);
+        List<BoundStatement> statements = new ArrayList<>(resources.size());
+        for (Resource<VscConverterStationAttributes> resource : resources) {
+            ReactiveLimitsAttributes reactiveLimits = resource.getAttributes().getReactiveLimits();
+            statements.add(unsetNullValues(psInsertVscConverterStation.bind(
+                    networkUuid,
+                    resource.getId(),
+                    resource.getAttributes().getVoltageLevelId(),
+                    resource.getAttributes().getName(),
+                    resource.getAttributes().getProperties(),
+                    resource.getAttributes().getNode(),
+                    resource.getAttributes().getLossFactor(),
+                    resource.getAttributes().getVoltageRegulatorOn(),
+                    resource.getAttributes().getReactivePowerSetPoint(),
+                    resource.getAttributes().getVoltageSetPoint(),
+                    reactiveLimits.getKind() == ReactiveLimitsKind.MIN_MAX ? reactiveLimits : null,
+                    reactiveLimits.getKind() == ReactiveLimitsKind.CURVE ? reactiveLimits : null,
+                    resource.getAttributes().getP(),
+                    resource.getAttributes().getQ(),
+                    resource.getAttributes().getPosition(),
+                    resource.getAttributes().getBus(),
+                    resource.getAttributes().getConnectableBus()
+            )));
         }
+        write("vscConverterStation", statements);
+        indexIdentifiables(networkUuid, ResourceType.VSC_CONVERTER_STATION, resources);
     }
 
     public Optional<Resource<VscConverterStationAttributes>> getVscConverterStation(UUID networkUuid, String vscConverterStationId) {
-        ResultSet resultSet = session.execute(select("voltageLevelId",
-                "name",
-                "properties",
-                "node",
-                "lossFactor",
-                "voltageRegulatorOn",
-                "reactivePowerSetPoint",
-                "voltageSetPoint",
-                "minMaxReactiveLimits",
-                "reactiveCapabilityCurve",
-                "p",
-                "q",
-                "position",
-                "bus",
-                CONNECTABLE_BUS)
-                .from(KEYSPACE_IIDM, "vscConverterStation")
-                .where(eq("networkUuid", networkUuid)).and(eq("id", vscConverterStationId)));
-        Row row = resultSet.one();
-        if (row != null) {
-            MinMaxReactiveLimitsAttributes minMaxReactiveLimitsAttributes = row.get(8, MinMaxReactiveLimitsAttributes.class);
-            ReactiveCapabilityCurveAttributes reactiveCapabilityCurveAttributes = row.get(9, ReactiveCapabilityCurveAttributes.class);
-            return Optional.of(Resource.vscConverterStationBuilder()
-                    .id(vscConverterStationId)
-                    .attributes(VscConverterStationAttributes.builder()
-                            .voltageLevelId(row.getString(0))
-                            .name(row.getString(1))
-                            .properties(row.getMap(2, String.class, String.class))
-                            .node(row.get(3, Integer.class))
-                            .lossFactor(row.getFloat(4))
-                            .voltageRegulatorOn(row.getBool(5))
-                            .reactivePowerSetPoint(row.getDouble(6))
-                            .voltageSetPoint(row.getDouble(7))
-                            .reactiveLimits(minMaxReactiveLimitsAttributes != null ? minMaxReactiveLimitsAttributes : reactiveCapabilityCurveAttributes)
-                            .p(row.getDouble(10))
-                            .q(row.getDouble(11))
-                            .position(row.get(12, ConnectablePositionAttributes.class))
-                            .bus(row.getString(13))
-                            .connectableBus(row.getString(14))
-                            .build())
-                    .build());
-        }
-        return Optional.empty();
+        return toVscConverterStations(session.execute(bindById(psSelectVscConverterStation, networkUuid, vscConverterStationId))).stream().findFirst();
     }
 
-    public List<Resource<VscConverterStationAttributes>> getVscConverterStations(UUID networkUuid) {
-        ResultSet resultSet = session.execute(select("id",
-                "voltageLevelId",
-                "name",
-                "properties",
-                "node",
-                "lossFactor",
-                "voltageRegulatorOn",
-                "reactivePowerSetPoint",
-                "voltageSetPoint",
-                "minMaxReactiveLimits",
-                "reactiveCapabilityCurve",
-                "p",
-                "q",
-                "position",
-                "bus",
-                CONNECTABLE_BUS)
-                .from(KEYSPACE_IIDM, "vscConverterStation")
-                .where(eq("networkUuid", networkUuid)));
+    private static List<Resource<VscConverterStationAttributes>> toVscConverterStations(Iterable<Row> rows) {
         List<Resource<VscConverterStationAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
+        for (Row row : rows) {
             MinMaxReactiveLimitsAttributes minMaxReactiveLimitsAttributes = row.get(9, MinMaxReactiveLimitsAttributes.class);
             ReactiveCapabilityCurveAttributes reactiveCapabilityCurveAttributes = row.get(10, ReactiveCapabilityCurveAttributes.class);
             resources.add(Resource.vscConverterStationBuilder()
@@ -1816,159 +3011,77 @@ public class NetworkStoreRepository {
         return resources;
     }
 
+    public List<Resource<VscConverterStationAttributes>> getVscConverterStations(UUID networkUuid) {
+        return toVscConverterStations(selectAllBuckets(psSelectVscConverterStations, networkUuid));
+    }
+
+    public ResourcePage<VscConverterStationAttributes> getVscConverterStations(UUID networkUuid, int limit, String page) {
+        return getPage(ResourceType.VSC_CONVERTER_STATION, networkUuid, psSelectVscConverterStations, limit, page, NetworkStoreRepository::toVscConverterStations);
+    }
+
     public List<Resource<VscConverterStationAttributes>> getVoltageLevelVscConverterStations(UUID networkUuid, String voltageLevelId) {
-        ResultSet resultSet = session.execute(select("id",
-                "name",
-                "properties",
-                "node",
-                "lossFactor",
-                "voltageRegulatorOn",
-                "reactivePowerSetPoint",
-                "voltageSetPoint",
-                "minMaxReactiveLimits",
-                "reactiveCapabilityCurve",
-                "p",
-                "q",
-                "position",
-                "bus",
-                CONNECTABLE_BUS)
-                .from(KEYSPACE_IIDM, "vscConverterStationByVoltageLevel")
-                .where(eq("networkUuid", networkUuid)).and(eq("voltageLevelId", voltageLevelId)));
-        List<Resource<VscConverterStationAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            MinMaxReactiveLimitsAttributes minMaxReactiveLimitsAttributes = row.get(8, MinMaxReactiveLimitsAttributes.class);
-            ReactiveCapabilityCurveAttributes reactiveCapabilityCurveAttributes = row.get(9, ReactiveCapabilityCurveAttributes.class);
-            resources.add(Resource.vscConverterStationBuilder()
-                    .id(row.getString(0))
-                    .attributes(VscConverterStationAttributes.builder()
-                            .voltageLevelId(voltageLevelId)
-                            .name(row.getString(1))
-                            .properties(row.getMap(2, String.class, String.class))
-                            .node(row.get(3, Integer.class))
-                            .lossFactor(row.getFloat(4))
-                            .voltageRegulatorOn(row.getBool(5))
-                            .reactivePowerSetPoint(row.getDouble(6))
-                            .voltageSetPoint(row.getDouble(7))
-                            .reactiveLimits(minMaxReactiveLimitsAttributes != null ? minMaxReactiveLimitsAttributes : reactiveCapabilityCurveAttributes)
-                            .p(row.getDouble(10))
-                            .q(row.getDouble(11))
-                            .position(row.get(12, ConnectablePositionAttributes.class))
-                            .bus(row.getString(13))
-                            .connectableBus(row.getString(14))
-                            .build())
-                    .build());
-        }
-        return resources;
+        return toVscConverterStations(session.execute(psSelectVscConverterStationsByVoltageLevel.bind(networkUuid, voltageLevelId)));
     }
 
     public void updateVscConverterStations(UUID networkUuid, List<Resource<VscConverterStationAttributes>> resources) {
-        for (List<Resource<VscConverterStationAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
-            BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
-            for (Resource<VscConverterStationAttributes> resource : subresources) {
-                ReactiveLimitsAttributes reactiveLimits = resource.getAttributes().getReactiveLimits();
-                batch.add(unsetNullValues(psUpdateVscConverterStation.bind(
-                        resource.getAttributes().getName(),
-                        resource.getAttributes().getProperties(),
-                        resource.getAttributes().getNode(),
-                        resource.getAttributes().getLossFactor(),
-                        resource.getAttributes().getVoltageRegulatorOn(),
-                        resource.getAttributes().getReactivePowerSetPoint(),
-                        resource.getAttributes().getVoltageSetPoint(),
-                        reactiveLimits.getKind() == ReactiveLimitsKind.MIN_MAX ? reactiveLimits : null,
-                        reactiveLimits.getKind() == ReactiveLimitsKind.CURVE ? reactiveLimits : null,
-                        resource.getAttributes().getP(),
-                        resource.getAttributes().getQ(),
-                        resource.getAttributes().getPosition(),
-                        resource.getAttributes().getBus(),
-                        resource.getAttributes().getConnectableBus(),
-                        networkUuid,
-                        resource.getId(),
-                        resource.getAttributes().getVoltageLevelId())
-                ));
-            }
-            session.execute(batch);
+        List<BoundStatement> statements = new ArrayList<>(resources.size());
+        for (Resource<VscConverterStationAttributes> resource : resources) {
+            ReactiveLimitsAttributes reactiveLimits = resource.getAttributes().getReactiveLimits();
+            statements.add(unsetNullValues(psUpdateVscConverterStation.bind(
+                    resource.getAttributes().getName(),
+                    resource.getAttributes().getProperties(),
+                    resource.getAttributes().getNode(),
+                    resource.getAttributes().getLossFactor(),
+                    resource.getAttributes().getVoltageRegulatorOn(),
+                    resource.getAttributes().getReactivePowerSetPoint(),
+                    resource.getAttributes().getVoltageSetPoint(),
+                    reactiveLimits.getKind() == ReactiveLimitsKind.MIN_MAX ? reactiveLimits : null,
+                    reactiveLimits.getKind() == ReactiveLimitsKind.CURVE ? reactiveLimits : null,
+                    resource.getAttributes().getP(),
+                    resource.getAttributes().getQ(),
+                    resource.getAttributes().getPosition(),
+                    resource.getAttributes().getBus(),
+                    resource.getAttributes().getConnectableBus(),
+                    networkUuid,
+                    resource.getId(),
+                    resource.getAttributes().getVoltageLevelId())
+            ));
         }
+        write("vscConverterStation", restrictToUpdatedAttributes("vscConverterStation", resources, statements));
     }
 
     // LCC converter station
 
     public void createLccConverterStations(UUID networkUuid, List<Resource<LccConverterStationAttributes>> resources) {
-        for (List<Resource<LccConverterStationAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
-            BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
-            for (Resource<LccConverterStationAttributes> resource : subresources) {
-                batch.add(unsetNullValues(psInsertLccConverterStation.bind(
-                        networkUuid,
-                        resource.getId(),
-                        resource.getAttributes().getVoltageLevelId(),
-                        resource.getAttributes().getName(),
-                        resource.getAttributes().getProperties(),
-                        resource.getAttributes().getNode(),
-                        resource.getAttributes().getPowerFactor(),
-                        resource.getAttributes().getLossFactor(),
-                        resource.getAttributes().getP(),
-                        resource.getAttributes().getQ(),
-                        resource.getAttributes().getPosition(),
-                        resource.getAttributes().getBus(),
-                        resource.getAttributes().getConnectableBus()
-                )));
-            }
-            session.execute(batch);
+        List<BoundStatement> statements = new ArrayList<>(resources.size());
+        for (Resource<LccConverterStationAttributes> resource : resources) {
+            statements.add(unsetNullValues(psInsertLccConverterStation.bind(
+                    networkUuid,
+                    resource.getId(),
+                    resource.getAttributes().getVoltageLevelId(),
+                    resource.getAttributes().getName(),
+                    resource.getAttributes().getProperties(),
+                    resource.getAttributes().getNode(),
+                    resource.getAttributes().getPowerFactor(),
+                    resource.getAttributes().getLossFactor(),
+                    resource.getAttributes().getP(),
+                    resource.getAttributes().getQ(),
+                    resource.getAttributes().getPosition(),
+                    resource.getAttributes().getBus(),
+                    resource.getAttributes().getConnectableBus()
+            )));
         }
+        write("lccConverterStation", statements);
+        indexIdentifiables(networkUuid, ResourceType.LCC_CONVERTER_STATION, resources);
     }
 
     public Optional<Resource<LccConverterStationAttributes>> getLccConverterStation(UUID networkUuid, String lccConverterStationId) {
-        ResultSet resultSet = session.execute(select("voltageLevelId",
-                "name",
-                "properties",
-                "node",
-                "powerFactor",
-                "lossFactor",
-                "p",
-                "q",
-                "position",
-                "bus",
-                CONNECTABLE_BUS)
-                .from(KEYSPACE_IIDM, "lccConverterStation")
-                .where(eq("networkUuid", networkUuid)).and(eq("id", lccConverterStationId)));
-        Row row = resultSet.one();
-        if (row != null) {
-            return Optional.of(Resource.lccConverterStationBuilder()
-                    .id(lccConverterStationId)
-                    .attributes(LccConverterStationAttributes.builder()
-                            .voltageLevelId(row.getString(0))
-                            .name(row.getString(1))
-                            .properties(row.getMap(2, String.class, String.class))
-                            .node(row.get(3, Integer.class))
-                            .powerFactor(row.getFloat(4))
-                            .lossFactor(row.getFloat(5))
-                            .p(row.getDouble(6))
-                            .q(row.getDouble(7))
-                            .position(row.get(8, ConnectablePositionAttributes.class))
-                            .bus(row.getString(9))
-                            .connectableBus(row.getString(10))
-                            .build())
-                    .build());
-        }
-        return Optional.empty();
+        return toLccConverterStations(session.execute(bindById(psSelectLccConverterStation, networkUuid, lccConverterStationId))).stream().findFirst();
     }
 
-    public List<Resource<LccConverterStationAttributes>> getLccConverterStations(UUID networkUuid) {
-        ResultSet resultSet = session.execute(select("id",
-                "voltageLevelId",
-                "name",
-                "properties",
-                "node",
-                "powerFactor",
-                "lossFactor",
-                "p",
-                "q",
-                "position",
-                "bus",
-                CONNECTABLE_BUS)
-                .from(KEYSPACE_IIDM, "lccConverterStation")
-                .where(eq("networkUuid", networkUuid)));
+    private static List<Resource<LccConverterStationAttributes>> toLccConverterStations(Iterable<Row> rows) {
         List<Resource<LccConverterStationAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
+        for (Row row : rows) {
             resources.add(Resource.lccConverterStationBuilder()
                     .id(row.getString(0))
                     .attributes(LccConverterStationAttributes.builder()
@@ -1989,165 +3102,77 @@ public class NetworkStoreRepository {
         return resources;
     }
 
+    public List<Resource<LccConverterStationAttributes>> getLccConverterStations(UUID networkUuid) {
+        return toLccConverterStations(selectAllBuckets(psSelectLccConverterStations, networkUuid));
+    }
+
+    public ResourcePage<LccConverterStationAttributes> getLccConverterStations(UUID networkUuid, int limit, String page) {
+        return getPage(ResourceType.LCC_CONVERTER_STATION, networkUuid, psSelectLccConverterStations, limit, page, NetworkStoreRepository::toLccConverterStations);
+    }
+
     public List<Resource<LccConverterStationAttributes>> getVoltageLevelLccConverterStations(UUID networkUuid, String voltageLevelId) {
-        ResultSet resultSet = session.execute(select("id",
-                "name",
-                "properties",
-                "node",
-                "powerFactor",
-                "lossFactor",
-                "p",
-                "q",
-                "position",
-                "bus",
-                CONNECTABLE_BUS)
-                .from(KEYSPACE_IIDM, "lccConverterStationByVoltageLevel")
-                .where(eq("networkUuid", networkUuid)).and(eq("voltageLevelId", voltageLevelId)));
-        List<Resource<LccConverterStationAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            resources.add(Resource.lccConverterStationBuilder()
-                    .id(row.getString(0))
-                    .attributes(LccConverterStationAttributes.builder()
-                            .voltageLevelId(voltageLevelId)
-                            .name(row.getString(1))
-                            .properties(row.getMap(2, String.class, String.class))
-                            .node(row.get(3, Integer.class))
-                            .powerFactor(row.getFloat(4))
-                            .lossFactor(row.getFloat(5))
-                            .p(row.getDouble(6))
-                            .q(row.getDouble(7))
-                            .position(row.get(8, ConnectablePositionAttributes.class))
-                            .bus(row.getString(9))
-                            .connectableBus(row.getString(10))
-                            .build())
-                    .build());
-        }
-        return resources;
+        return toLccConverterStations(session.execute(psSelectLccConverterStationsByVoltageLevel.bind(networkUuid, voltageLevelId)));
     }
 
     public void updateLccConverterStations(UUID networkUuid, List<Resource<LccConverterStationAttributes>> resources) {
-        for (List<Resource<LccConverterStationAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
-            BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
-            for (Resource<LccConverterStationAttributes> resource : subresources) {
-                batch.add(unsetNullValues(psUpdateLccConverterStation.bind(
-                        resource.getAttributes().getName(),
-                        resource.getAttributes().getProperties(),
-                        resource.getAttributes().getNode(),
-                        resource.getAttributes().getPowerFactor(),
-                        resource.getAttributes().getLossFactor(),
-                        resource.getAttributes().getP(),
-                        resource.getAttributes().getQ(),
-                        resource.getAttributes().getPosition(),
-                        resource.getAttributes().getBus(),
-                        resource.getAttributes().getConnectableBus(),
-                        networkUuid,
-                        resource.getId(),
-                        resource.getAttributes().getVoltageLevelId())
-                ));
-            }
-            session.execute(batch);
+        List<BoundStatement> statements = new ArrayList<>(resources.size());
+        for (Resource<LccConverterStationAttributes> resource : resources) {
+            statements.add(unsetNullValues(psUpdateLccConverterStation.bind(
+                    resource.getAttributes().getName(),
+                    resource.getAttributes().getProperties(),
+                    resource.getAttributes().getNode(),
+                    resource.getAttributes().getPowerFactor(),
+                    resource.getAttributes().getLossFactor(),
+                    resource.getAttributes().getP(),
+                    resource.getAttributes().getQ(),
+                    resource.getAttributes().getPosition(),
+                    resource.getAttributes().getBus(),
+                    resource.getAttributes().getConnectableBus(),
+                    networkUuid,
+                    resource.getId(),
+                    resource.getAttributes().getVoltageLevelId())
+            ));
         }
+        write("lccConverterStation", restrictToUpdatedAttributes("lccConverterStation", resources, statements));
     }
 
     // static var compensators
 
     public void createStaticVarCompensators(UUID networkUuid, List<Resource<StaticVarCompensatorAttributes>> resources) {
-        for (List<Resource<StaticVarCompensatorAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
-            BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
-            for (Resource<StaticVarCompensatorAttributes> resource : subresources) {
-                batch.add(unsetNullValues(psInsertStaticVarCompensator.bind(
-                        networkUuid,
-                        resource.getId(),
-                        resource.getAttributes().getVoltageLevelId(),
-                        resource.getAttributes().getName(),
-                        resource.getAttributes().getProperties(),
-                        resource.getAttributes().getNode(),
-                        resource.getAttributes().getBmin(),
-                        resource.getAttributes().getBmax(),
-                        resource.getAttributes().getVoltageSetPoint(),
-                        resource.getAttributes().getReactivePowerSetPoint(),
-                        resource.getAttributes().getRegulationMode().toString(),
-                        resource.getAttributes().getP(),
-                        resource.getAttributes().getQ(),
-                        resource.getAttributes().getPosition(),
-                        resource.getAttributes().getBus(),
-                        resource.getAttributes().getConnectableBus(),
-                        resource.getAttributes().getRegulatingTerminal(),
-                        resource.getAttributes().getVoltagePerReactiveControl()
-                )));
-            }
-            session.execute(batch);
+        List<BoundStatement> statements = new ArrayList<>(resources.size());
+        for (Resource<StaticVarCompensatorAttributes> resource : resources) {
+            statements.add(unsetNullValues(psInsertStaticVarCompensator.bind(
+                    networkUuid,
+                    resource.getId(),
+                    resource.getAttributes().getVoltageLevelId(),
+                    resource.getAttributes().getName(),
+                    resource.getAttributes().getProperties(),
+                    resource.getAttributes().getNode(),
+                    resource.getAttributes().getBmin(),
+                    resource.getAttributes().getBmax(),
+                    resource.getAttributes().getVoltageSetPoint(),
+                    resource.getAttributes().getReactivePowerSetPoint(),
+                    resource.getAttributes().getRegulationMode().toString(),
+                    resource.getAttributes().getP(),
+                    resource.getAttributes().getQ(),
+                    resource.getAttributes().getPosition(),
+                    resource.getAttributes().getBus(),
+                    resource.getAttributes().getConnectableBus(),
+                    resource.getAttributes().getRegulatingTerminal(),
+                    resource.getAttributes().getVoltagePerReactiveControl()
+            )));
         }
+        write("staticVarCompensator", statements);
+        indexIdentifiables(networkUuid, ResourceType.STATIC_VAR_COMPENSATOR, resources);
     }
 
     public Optional<Resource<StaticVarCompensatorAttributes>> getStaticVarCompensator(UUID networkUuid, String staticVarCompensatorId) {
-        ResultSet resultSet = session.execute(select("voltageLevelId",
-                "name",
-                "properties",
-                "node",
-                "bMin",
-                "bMax",
-                "voltageSetPoint",
-                "reactivePowerSetPoint",
-                "regulationMode",
-                "p",
-                "q",
-                "position",
-                "bus",
-                CONNECTABLE_BUS,
-                REGULATING_TERMINAL,
-                "voltagePerReactivePowerControl")
-                .from(KEYSPACE_IIDM, "staticVarCompensator")
-                .where(eq("networkUuid", networkUuid)).and(eq("id", staticVarCompensatorId)));
-        Row row = resultSet.one();
-        if (row != null) {
-            return Optional.of(Resource.staticVarCompensatorBuilder()
-                    .id(staticVarCompensatorId)
-                    .attributes(StaticVarCompensatorAttributes.builder()
-                            .voltageLevelId(row.getString(0))
-                            .name(row.getString(1))
-                            .properties(row.getMap(2, String.class, String.class))
-                            .node(row.get(3, Integer.class))
-                            .bmin(row.getDouble(4))
-                            .bmax(row.getDouble(5))
-                            .voltageSetPoint(row.getDouble(6))
-                            .reactivePowerSetPoint(row.getDouble(7))
-                            .regulationMode(StaticVarCompensator.RegulationMode.valueOf(row.getString(8)))
-                            .p(row.getDouble(9))
-                            .q(row.getDouble(10))
-                            .position(row.get(11, ConnectablePositionAttributes.class))
-                            .bus(row.getString(12))
-                            .connectableBus(row.getString(13))
-                            .regulatingTerminal(row.get(14, TerminalRefAttributes.class))
-                            .voltagePerReactiveControl(row.get(15, VoltagePerReactivePowerControlAttributes.class))
-                            .build())
-                    .build());
-        }
-        return Optional.empty();
+        return toStaticVarCompensators(session.execute(bindById(psSelectStaticVarCompensator, networkUuid, staticVarCompensatorId))).stream().findFirst();
     }
 
-    public List<Resource<StaticVarCompensatorAttributes>> getStaticVarCompensators(UUID networkUuid) {
-        ResultSet resultSet = session.execute(select("id",
-                "voltageLevelId",
-                "name",
-                "properties",
-                "node",
-                "bMin",
-                "bMax",
-                "voltageSetPoint",
-                "reactivePowerSetPoint",
-                "regulationMode",
-                "p",
-                "q",
-                "position",
-                "bus",
-                CONNECTABLE_BUS,
-                REGULATING_TERMINAL,
-                "voltagePerReactivePowerControl")
-                .from(KEYSPACE_IIDM, "staticVarCompensator")
-                .where(eq("networkUuid", networkUuid)));
+    private static List<Resource<StaticVarCompensatorAttributes>> toStaticVarCompensators(Iterable<Row> rows) {
         List<Resource<StaticVarCompensatorAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
+        for (Row row : rows) {
             resources.add(Resource.staticVarCompensatorBuilder()
                     .id(row.getString(0))
                     .attributes(StaticVarCompensatorAttributes.builder()
@@ -2173,136 +3198,71 @@ public class NetworkStoreRepository {
         return resources;
     }
 
+    public List<Resource<StaticVarCompensatorAttributes>> getStaticVarCompensators(UUID networkUuid) {
+        return toStaticVarCompensators(selectAllBuckets(psSelectStaticVarCompensators, networkUuid));
+    }
+
+    public ResourcePage<StaticVarCompensatorAttributes> getStaticVarCompensators(UUID networkUuid, int limit, String page) {
+        return getPage(ResourceType.STATIC_VAR_COMPENSATOR, networkUuid, psSelectStaticVarCompensators, limit, page, NetworkStoreRepository::toStaticVarCompensators);
+    }
+
     public List<Resource<StaticVarCompensatorAttributes>> getVoltageLevelStaticVarCompensators(UUID networkUuid, String voltageLevelId) {
-        ResultSet resultSet = session.execute(select("id",
-                "name",
-                "properties",
-                "node",
-                "bMin",
-                "bMax",
-                "voltageSetPoint",
-                "reactivePowerSetPoint",
-                "regulationMode",
-                "p",
-                "q",
-                "position",
-                "bus",
-                CONNECTABLE_BUS,
-                REGULATING_TERMINAL,
-                "voltagePerReactivePowerControl")
-                .from(KEYSPACE_IIDM, "staticVarCompensatorByVoltageLevel")
-                .where(eq("networkUuid", networkUuid)).and(eq("voltageLevelId", voltageLevelId)));
-        List<Resource<StaticVarCompensatorAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            resources.add(Resource.staticVarCompensatorBuilder()
-                    .id(row.getString(0))
-                    .attributes(StaticVarCompensatorAttributes.builder()
-                            .voltageLevelId(voltageLevelId)
-                            .name(row.getString(1))
-                            .properties(row.getMap(2, String.class, String.class))
-                            .node(row.get(3, Integer.class))
-                            .bmin(row.getDouble(4))
-                            .bmax(row.getDouble(5))
-                            .voltageSetPoint(row.getDouble(6))
-                            .reactivePowerSetPoint(row.getDouble(7))
-                            .regulationMode(StaticVarCompensator.RegulationMode.valueOf(row.getString(8)))
-                            .p(row.getDouble(9))
-                            .q(row.getDouble(10))
-                            .position(row.get(11, ConnectablePositionAttributes.class))
-                            .bus(row.getString(12))
-                            .connectableBus(row.getString(13))
-                            .regulatingTerminal(row.get(14, TerminalRefAttributes.class))
-                            .voltagePerReactiveControl(row.get(15, VoltagePerReactivePowerControlAttributes.class))
-                            .build())
-                    .build());
-        }
-        return resources;
+        return toStaticVarCompensators(session.execute(psSelectStaticVarCompensatorsByVoltageLevel.bind(networkUuid, voltageLevelId)));
     }
 
     public void updateStaticVarCompensators(UUID networkUuid, List<Resource<StaticVarCompensatorAttributes>> resources) {
-        for (List<Resource<StaticVarCompensatorAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
-            BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
-            for (Resource<StaticVarCompensatorAttributes> resource : subresources) {
-                batch.add(unsetNullValues(psUpdateStaticVarCompensator.bind(
-                        resource.getAttributes().getName(),
-                        resource.getAttributes().getProperties(),
-                        resource.getAttributes().getNode(),
-                        resource.getAttributes().getBmin(),
-                        resource.getAttributes().getBmax(),
-                        resource.getAttributes().getVoltageSetPoint(),
-                        resource.getAttributes().getReactivePowerSetPoint(),
-                        resource.getAttributes().getRegulationMode().toString(),
-                        resource.getAttributes().getP(),
-                        resource.getAttributes().getQ(),
-                        resource.getAttributes().getPosition(),
-                        resource.getAttributes().getBus(),
-                        resource.getAttributes().getConnectableBus(),
-                        resource.getAttributes().getRegulatingTerminal(),
-                        resource.getAttributes().getVoltagePerReactiveControl(),
-                        networkUuid,
-                        resource.getId(),
-                        resource.getAttributes().getVoltageLevelId())
-                ));
-            }
-            session.execute(batch);
+        List<BoundStatement> statements = new ArrayList<>(resources.size());
+        for (Resource<StaticVarCompensatorAttributes> resource : resources) {
+            statements.add(unsetNullValues(psUpdateStaticVarCompensator.bind(
+                    resource.getAttributes().getName(),
+                    resource.getAttributes().getProperties(),
+                    resource.getAttributes().getNode(),
+                    resource.getAttributes().getBmin(),
+                    resource.getAttributes().getBmax(),
+                    resource.getAttributes().getVoltageSetPoint(),
+                    resource.getAttributes().getReactivePowerSetPoint(),
+                    resource.getAttributes().getRegulationMode().toString(),
+                    resource.getAttributes().getP(),
+                    resource.getAttributes().getQ(),
+                    resource.getAttributes().getPosition(),
+                    resource.getAttributes().getBus(),
+                    resource.getAttributes().getConnectableBus(),
+                    resource.getAttributes().getRegulatingTerminal(),
+                    resource.getAttributes().getVoltagePerReactiveControl(),
+                    networkUuid,
+                    resource.getId(),
+                    resource.getAttributes().getVoltageLevelId())
+            ));
         }
+        write("staticVarCompensator", restrictToUpdatedAttributes("staticVarCompensator", resources, statements));
     }
 
     // busbar section
 
     public void createBusbarSections(UUID networkUuid, List<Resource<BusbarSectionAttributes>> resources) {
-        for (List<Resource<BusbarSectionAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
-            BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
-            for (Resource<BusbarSectionAttributes> resource : subresources) {
-                batch.add(unsetNullValues(psInsertBusbarSection.bind(
-                        networkUuid,
-                        resource.getId(),
-                        resource.getAttributes().getVoltageLevelId(),
-                        resource.getAttributes().getName(),
-                        resource.getAttributes().getProperties(),
-                        resource.getAttributes().getNode(),
-                        resource.getAttributes().getPosition()
-                        )));
-            }
-            session.execute(batch);
+        List<BoundStatement> statements = new ArrayList<>(resources.size());
+        for (Resource<BusbarSectionAttributes> resource : resources) {
+            statements.add(unsetNullValues(psInsertBusbarSection.bind(
+                    networkUuid,
+                    resource.getId(),
+                    resource.getAttributes().getVoltageLevelId(),
+                    resource.getAttributes().getName(),
+                    resource.getAttributes().getProperties(),
+                    resource.getAttributes().getNode(),
+                    resource.getAttributes().getPosition()
+                    )));
         }
+        write("busbarSection", statements);
+        indexIdentifiables(networkUuid, ResourceType.BUSBAR_SECTION, resources);
     }
 
     public Optional<Resource<BusbarSectionAttributes>> getBusbarSection(UUID networkUuid, String busbarSectionId) {
-        ResultSet resultSet = session.execute(select("voltageLevelId",
-                                                     "name",
-                                                     "properties",
-                                                     "node",
-                                                     "position")
-                .from(KEYSPACE_IIDM, "busbarSection")
-                .where(eq("networkUuid", networkUuid)).and(eq("id", busbarSectionId)));
-        Row row = resultSet.one();
-        if (row != null) {
-            return Optional.of(Resource.busbarSectionBuilder()
-                    .id(busbarSectionId)
-                    .attributes(BusbarSectionAttributes.builder()
-                            .voltageLevelId(row.getString(0))
-                            .name(row.getString(1))
-                            .properties(row.getMap(2, String.class, String.class))
-                            .node(row.getInt(3))
-                            .position(row.get(4, BusbarSectionPositionAttributes.class))
-                            .build())
-                    .build());
-        }
-        return Optional.empty();
+        return toBusbarSections(session.execute(bindById(psSelectBusbarSection, networkUuid, busbarSectionId))).stream().findFirst();
     }
 
-    public List<Resource<BusbarSectionAttributes>> getBusbarSections(UUID networkUuid) {
-        ResultSet resultSet = session.execute(select("id",
-                                                     "voltageLevelId",
-                                                     "name",
-                                                     "properties",
-                                                     "node",
-                                                     "position")
-                .from(KEYSPACE_IIDM, "busbarSection")
-                .where(eq("networkUuid", networkUuid)));
+    private static List<Resource<BusbarSectionAttributes>> toBusbarSections(Iterable<Row> rows) {
         List<Resource<BusbarSectionAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
+        for (Row row : rows) {
             resources.add(Resource.busbarSectionBuilder()
                     .id(row.getString(0))
                     .attributes(BusbarSectionAttributes.builder()
@@ -2317,110 +3277,51 @@ public class NetworkStoreRepository {
         return resources;
     }
 
-    public List<Resource<BusbarSectionAttributes>> getVoltageLevelBusbarSections(UUID networkUuid, String voltageLevelId) {
-        ResultSet resultSet = session.execute(select("id",
-                                                     "name",
-                                                     "properties",
-                                                     "node",
-                                                     "position")
-                .from(KEYSPACE_IIDM, "busbarSectionByVoltageLevel")
-                .where(eq("networkUuid", networkUuid)).and(eq("voltageLevelId", voltageLevelId)));
-        List<Resource<BusbarSectionAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            resources.add(Resource.busbarSectionBuilder()
-                    .id(row.getString(0))
-                    .attributes(BusbarSectionAttributes.builder()
-                            .voltageLevelId(voltageLevelId)
-                            .name(row.getString(1))
-                            .properties(row.getMap(2, String.class, String.class))
-                            .node(row.getInt(3))
-                            .position(row.get(4, BusbarSectionPositionAttributes.class))
-                            .build())
-                    .build());
-        }
-        return resources;
+    public List<Resource<BusbarSectionAttributes>> getBusbarSections(UUID networkUuid) {
+        return toBusbarSections(selectAllBuckets(psSelectBusbarSections, networkUuid));
     }
 
-    // switch
+    public ResourcePage<BusbarSectionAttributes> getBusbarSections(UUID networkUuid, int limit, String page) {
+        return getPage(ResourceType.BUSBAR_SECTION, networkUuid, psSelectBusbarSections, limit, page, NetworkStoreRepository::toBusbarSections);
+    }
 
-    public void createSwitches(UUID networkUuid, List<Resource<SwitchAttributes>> resources) {
-        for (List<Resource<SwitchAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
-            BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
-            for (Resource<SwitchAttributes> resource : subresources) {
-                String kind = resource.getAttributes().getKind() != null ? resource.getAttributes().getKind().toString() : null;
-                batch.add(unsetNullValues(psInsertSwitch.bind(
-                        networkUuid,
-                        resource.getId(),
-                        resource.getAttributes().getVoltageLevelId(),
-                        resource.getAttributes().getName(),
-                        resource.getAttributes().getProperties(),
-                        resource.getAttributes().getNode1(),
-                        resource.getAttributes().getNode2(),
-                        resource.getAttributes().isOpen(),
-                        resource.getAttributes().isRetained(),
-                        resource.getAttributes().isFictitious(),
-                        kind,
-                        resource.getAttributes().getBus1(),
-                        resource.getAttributes().getBus2()
-                )));
-            }
-            session.execute(batch);
-        }
+    public List<Resource<BusbarSectionAttributes>> getVoltageLevelBusbarSections(UUID networkUuid, String voltageLevelId) {
+        return toBusbarSections(session.execute(psSelectBusbarSectionsByVoltageLevel.bind(networkUuid, voltageLevelId)));
     }
 
-    public Optional<Resource<SwitchAttributes>> getSwitch(UUID networkUuid, String switchId) {
-        ResultSet resultSet = session.execute(select("voltageLevelId",
-                                                     "name",
-                                                     "properties",
-                                                     "kind",
-                                                     "node1",
-                                                     "node2",
-                                                     "open",
-                                                     "retained",
-                                                     "fictitious",
-                                                     "bus1",
-                                                     "bus2")
-                .from(KEYSPACE_IIDM, "switch")
-                .where(eq("networkUuid", networkUuid)).and(eq("id", switchId)));
-        Row row = resultSet.one();
-        if (row != null) {
-            return Optional.of(Resource.switchBuilder()
-                    .id(switchId)
-                    .attributes(SwitchAttributes.builder()
-                            .voltageLevelId(row.getString(0))
-                            .name(row.getString(1))
-                            .properties(row.getMap(2, String.class, String.class))
-                            .kind(SwitchKind.valueOf(row.getString(3)))
-                            .node1(row.get(4, Integer.class))
-                            .node2(row.get(5, Integer.class))
-                            .open(row.getBool(6))
-                            .retained(row.getBool(7))
-                            .fictitious(row.getBool(8))
-                            .bus1(row.getString(9))
-                            .bus2(row.getString(10))
-                            .build())
-                    .build());
+    // switch
+
+    public void createSwitches(UUID networkUuid, List<Resource<SwitchAttributes>> resources) {
+        List<BoundStatement> statements = new ArrayList<>(resources.size());
+        for (Resource<SwitchAttributes> resource : resources) {
+            String kind = resource.getAttributes().getKind() != null ? resource.getAttributes().getKind().toString() : null;
+            statements.add(unsetNullValues(psInsertSwitch.bind(
+                    networkUuid,
+                    resource.getId(),
+                    resource.getAttributes().getVoltageLevelId(),
+                    resource.getAttributes().getName(),
+                    resource.getAttributes().getProperties(),
+                    resource.getAttributes().getNode1(),
+                    resource.getAttributes().getNode2(),
+                    resource.getAttributes().isOpen(),
+                    resource.getAttributes().isRetained(),
+                    resource.getAttributes().isFictitious(),
+                    kind,
+                    resource.getAttributes().getBus1(),
+                    resource.getAttributes().getBus2()
+            )));
         }
-        return Optional.empty();
+        write("switch", statements);
+        indexIdentifiables(networkUuid, ResourceType.SWITCH, resources);
     }
 
-    public List<Resource<SwitchAttributes>> getSwitches(UUID networkUuid) {
-        ResultSet resultSet = session.execute(select("id",
-                                                     "voltageLevelId",
-                                                     "name",
-                                                     "properties",
-                                                     "kind",
-                                                     "node1",
-                                                     "node2",
-                                                     "open",
-                                                     "retained",
-                                                     "fictitious",
-                                                     "bus1",
-                                                     "bus2")
-                .from(KEYSPACE_IIDM, "switch")
-                .where(eq("networkUuid", networkUuid)));
+    public Optional<Resource<SwitchAttributes>> getSwitch(UUID networkUuid, String switchId) {
+        return toSwitches(session.execute(bindById(psSelectSwitch, networkUuid, switchId))).stream().findFirst();
+    }
+
+    private static List<Resource<SwitchAttributes>> toSwitches(Iterable<Row> rows) {
         List<Resource<SwitchAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
+        for (Row row : rows) {
             resources.add(Resource.switchBuilder()
                     .id(row.getString(0))
                     .attributes(SwitchAttributes.builder()
@@ -2441,206 +3342,89 @@ public class NetworkStoreRepository {
         return resources;
     }
 
+    public List<Resource<SwitchAttributes>> getSwitches(UUID networkUuid) {
+        return toSwitches(selectAllBuckets(psSelectSwitches, networkUuid));
+    }
+
+    public ResourcePage<SwitchAttributes> getSwitches(UUID networkUuid, int limit, String page) {
+        return getPage(ResourceType.SWITCH, networkUuid, psSelectSwitches, limit, page, NetworkStoreRepository::toSwitches);
+    }
+
     public List<Resource<SwitchAttributes>> getVoltageLevelSwitches(UUID networkUuid, String voltageLevelId) {
-        ResultSet resultSet = session.execute(select("id",
-                                                     "name",
-                                                     "properties",
-                                                     "kind",
-                                                     "node1",
-                                                     "node2",
-                                                     "open",
-                                                     "retained",
-                                                     "fictitious",
-                                                     "bus1",
-                                                     "bus2")
-                .from(KEYSPACE_IIDM, "switchByVoltageLevel")
-                .where(eq("networkUuid", networkUuid)).and(eq("voltageLevelId", voltageLevelId)));
-        List<Resource<SwitchAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            resources.add(Resource.switchBuilder()
-                    .id(row.getString(0))
-                    .attributes(SwitchAttributes.builder()
-                            .voltageLevelId(voltageLevelId)
-                            .name(row.getString(1))
-                            .properties(row.getMap(2, String.class, String.class))
-                            .kind(SwitchKind.valueOf(row.getString(3)))
-                            .node1(row.get(4, Integer.class))
-                            .node2(row.get(5, Integer.class))
-                            .open(row.getBool(6))
-                            .retained(row.getBool(7))
-                            .fictitious(row.getBool(8))
-                            .bus1(row.getString(9))
-                            .bus2(row.getString(10))
-                            .build())
-                    .build());
-        }
-        return resources;
+        return toSwitches(session.execute(psSelectSwitchesByVoltageLevel.bind(networkUuid, voltageLevelId)));
     }
 
     public void updateSwitches(UUID networkUuid, List<Resource<SwitchAttributes>> resources) {
-        for (List<Resource<SwitchAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
-            BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
-            for (Resource<SwitchAttributes> resource : subresources) {
-                String kind = resource.getAttributes().getKind() != null ? resource.getAttributes().getKind().toString() : null;
-                batch.add(unsetNullValues(psUpdateSwitch.bind(
-                        resource.getAttributes().getName(),
-                        resource.getAttributes().getProperties(),
-                        resource.getAttributes().getNode1(),
-                        resource.getAttributes().getNode2(),
-                        resource.getAttributes().isOpen(),
-                        resource.getAttributes().isRetained(),
-                        resource.getAttributes().isFictitious(),
-                        kind,
-                        resource.getAttributes().getBus1(),
-                        resource.getAttributes().getBus2(),
-                        networkUuid,
-                        resource.getId(),
-                        resource.getAttributes().getVoltageLevelId())
-                ));
-            }
-            session.execute(batch);
+        List<BoundStatement> statements = new ArrayList<>(resources.size());
+        for (Resource<SwitchAttributes> resource : resources) {
+            String kind = resource.getAttributes().getKind() != null ? resource.getAttributes().getKind().toString() : null;
+            statements.add(unsetNullValues(psUpdateSwitch.bind(
+                    resource.getAttributes().getName(),
+                    resource.getAttributes().getProperties(),
+                    resource.getAttributes().getNode1(),
+                    resource.getAttributes().getNode2(),
+                    resource.getAttributes().isOpen(),
+                    resource.getAttributes().isRetained(),
+                    resource.getAttributes().isFictitious(),
+                    kind,
+                    resource.getAttributes().getBus1(),
+                    resource.getAttributes().getBus2(),
+                    networkUuid,
+                    resource.getId(),
+                    resource.getAttributes().getVoltageLevelId())
+            ));
         }
+        write("switch", restrictToUpdatedAttributes("switch", resources, statements));
     }
 
     // 2 windings transformer
 
     public void createTwoWindingsTransformers(UUID networkUuid, List<Resource<TwoWindingsTransformerAttributes>> resources) {
-        for (List<Resource<TwoWindingsTransformerAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
-            BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
-            for (Resource<TwoWindingsTransformerAttributes> resource : subresources) {
-                batch.add(unsetNullValues(psInsertTwoWindingsTransformer.bind(
-                        networkUuid,
-                        resource.getId(),
-                        resource.getAttributes().getVoltageLevelId1(),
-                        resource.getAttributes().getVoltageLevelId2(),
-                        resource.getAttributes().getName(),
-                        resource.getAttributes().getProperties(),
-                        resource.getAttributes().getNode1(),
-                        resource.getAttributes().getNode2(),
-                        resource.getAttributes().getR(),
-                        resource.getAttributes().getX(),
-                        resource.getAttributes().getG(),
-                        resource.getAttributes().getB(),
-                        resource.getAttributes().getRatedU1(),
-                        resource.getAttributes().getRatedU2(),
-                        resource.getAttributes().getP1(),
-                        resource.getAttributes().getQ1(),
-                        resource.getAttributes().getP2(),
-                        resource.getAttributes().getQ2(),
-                        resource.getAttributes().getPosition1(),
-                        resource.getAttributes().getPosition2(),
-                        resource.getAttributes().getPhaseTapChangerAttributes(),
-                        resource.getAttributes().getRatioTapChangerAttributes(),
-                        resource.getAttributes().getBus1(),
-                        resource.getAttributes().getBus2(),
-                        resource.getAttributes().getConnectableBus1(),
-                        resource.getAttributes().getConnectableBus2(),
-                        resource.getAttributes().getCurrentLimits1(),
-                        resource.getAttributes().getCurrentLimits2()
-                        )));
-            }
-            session.execute(batch);
+        List<BoundStatement> statements = new ArrayList<>(resources.size());
+        for (Resource<TwoWindingsTransformerAttributes> resource : resources) {
+            statements.add(unsetNullValues(psInsertTwoWindingsTransformer.bind(
+                    networkUuid,
+                    resource.getId(),
+                    resource.getAttributes().getVoltageLevelId1(),
+                    resource.getAttributes().getVoltageLevelId2(),
+                    resource.getAttributes().getName(),
+                    resource.getAttributes().getProperties(),
+                    resource.getAttributes().getNode1(),
+                    resource.getAttributes().getNode2(),
+                    resource.getAttributes().getR(),
+                    resource.getAttributes().getX(),
+                    resource.getAttributes().getG(),
+                    resource.getAttributes().getB(),
+                    resource.getAttributes().getRatedU1(),
+                    resource.getAttributes().getRatedU2(),
+                    resource.getAttributes().getP1(),
+                    resource.getAttributes().getQ1(),
+                    resource.getAttributes().getP2(),
+                    resource.getAttributes().getQ2(),
+                    resource.getAttributes().getPosition1(),
+                    resource.getAttributes().getPosition2(),
+                    resource.getAttributes().getPhaseTapChangerAttributes(),
+                    resource.getAttributes().getRatioTapChangerAttributes(),
+                    resource.getAttributes().getBus1(),
+                    resource.getAttributes().getBus2(),
+                    resource.getAttributes().getConnectableBus1(),
+                    resource.getAttributes().getConnectableBus2(),
+                    resource.getAttributes().getCurrentLimits1(),
+                    resource.getAttributes().getCurrentLimits2()
+                    )));
         }
+        write("twoWindingsTransformer", statements);
+        indexIdentifiables(networkUuid, ResourceType.TWO_WINDINGS_TRANSFORMER, resources);
+        indexBranches(networkUuid, resources);
     }
 
     public Optional<Resource<TwoWindingsTransformerAttributes>> getTwoWindingsTransformer(UUID networkUuid, String twoWindingsTransformerId) {
-        ResultSet resultSet = session.execute(select("voltageLevelId1",
-                                                     "voltageLevelId2",
-                                                     "name",
-                                                     "properties",
-                                                     "node1",
-                                                     "node2",
-                                                     "r",
-                                                     "x",
-                                                     "g",
-                                                     "b",
-                                                     "ratedU1",
-                                                     "ratedU2",
-                                                     "p1",
-                                                     "q1",
-                                                     "p2",
-                                                     "q2",
-                                                     "position1",
-                                                     "position2",
-                                                     "phaseTapChanger",
-                                                     "ratioTapChanger",
-                                                     "bus1",
-                                                     "bus2",
-                                                     "connectableBus1",
-                                                     "connectableBus2",
-                                                     "currentLimits1",
-                                                     "currentLimits2")
-                .from(KEYSPACE_IIDM, "twoWindingsTransformer")
-                .where(eq("networkUuid", networkUuid)).and(eq("id", twoWindingsTransformerId)));
-        Row one = resultSet.one();
-        if (one != null) {
-            return Optional.of(Resource.twoWindingsTransformerBuilder()
-                    .id(twoWindingsTransformerId)
-                    .attributes(TwoWindingsTransformerAttributes.builder()
-                            .voltageLevelId1(one.getString(0))
-                            .voltageLevelId2(one.getString(1))
-                            .name(one.getString(2))
-                            .properties(one.getMap(3, String.class, String.class))
-                            .node1(one.get(4, Integer.class))
-                            .node2(one.get(5, Integer.class))
-                            .r(one.getDouble(6))
-                            .x(one.getDouble(7))
-                            .g(one.getDouble(8))
-                            .b(one.getDouble(9))
-                            .ratedU1(one.getDouble(10))
-                            .ratedU2(one.getDouble(11))
-                            .p1(one.getDouble(12))
-                            .q1(one.getDouble(13))
-                            .p2(one.getDouble(14))
-                            .q2(one.getDouble(15))
-                            .position1(one.get(16, ConnectablePositionAttributes.class))
-                            .position2(one.get(17, ConnectablePositionAttributes.class))
-                            .phaseTapChangerAttributes(one.get(18, PhaseTapChangerAttributes.class))
-                            .ratioTapChangerAttributes(one.get(19, RatioTapChangerAttributes.class))
-                            .bus1(one.getString(20))
-                            .bus2(one.getString(21))
-                            .connectableBus1(one.getString(22))
-                            .connectableBus2(one.getString(23))
-                            .currentLimits1(one.get(24, CurrentLimitsAttributes.class))
-                            .currentLimits2(one.get(25, CurrentLimitsAttributes.class))
-                            .build())
-                    .build());
-        }
-        return Optional.empty();
+        return toTwoWindingsTransformers(session.execute(bindById(psSelectTwoWindingsTransformer, networkUuid, twoWindingsTransformerId))).stream().findFirst();
     }
 
-    public List<Resource<TwoWindingsTransformerAttributes>> getTwoWindingsTransformers(UUID networkUuid) {
-        ResultSet resultSet = session.execute(select("id",
-                                                     "voltageLevelId1",
-                                                     "voltageLevelId2",
-                                                     "name",
-                                                     "properties",
-                                                     "node1",
-                                                     "node2",
-                                                     "r",
-                                                     "x",
-                                                     "g",
-                                                     "b",
-                                                     "ratedU1",
-                                                     "ratedU2",
-                                                     "p1",
-                                                     "q1",
-                                                     "p2",
-                                                     "q2",
-                                                     "position1",
-                                                     "position2",
-                                                     "phaseTapChanger",
-                                                     "ratioTapChanger",
-                                                     "bus1",
-                                                     "bus2",
-                                                     "connectableBus1",
-                                                     "connectableBus2",
-                                                     "currentLimits1",
-                                                     "currentLimits2")
-                .from(KEYSPACE_IIDM, "twoWindingsTransformer")
-                .where(eq("networkUuid", networkUuid)));
+    private static List<Resource<TwoWindingsTransformerAttributes>> toTwoWindingsTransformers(Iterable<Row> rows) {
         List<Resource<TwoWindingsTransformerAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
+        for (Row row : rows) {
             resources.add(Resource.twoWindingsTransformerBuilder()
                     .id(row.getString(0))
                     .attributes(TwoWindingsTransformerAttributes.builder()
@@ -2676,368 +3460,129 @@ public class NetworkStoreRepository {
         return resources;
     }
 
-    private List<Resource<TwoWindingsTransformerAttributes>> getVoltageLevelTwoWindingsTransformers(UUID networkUuid, Branch.Side side, String voltageLevelId) {
-        ResultSet resultSet = session.execute(select("id",
-                                                     "voltageLevelId" + (side == Branch.Side.ONE ? 2 : 1),
-                                                     "name",
-                                                     "properties",
-                                                     "node1",
-                                                     "node2",
-                                                     "r",
-                                                     "x",
-                                                     "g",
-                                                     "b",
-                                                     "ratedU1",
-                                                     "ratedU2",
-                                                     "p1",
-                                                     "q1",
-                                                     "p2",
-                                                     "q2",
-                                                     "position1",
-                                                     "position2",
-                                                     "phaseTapChanger",
-                                                     "ratioTapChanger",
-                                                     "bus1",
-                                                     "bus2",
-                                                     "connectableBus1",
-                                                     "connectableBus2",
-                                                     "currentLimits1",
-                                                     "currentLimits2")
-                .from(KEYSPACE_IIDM, "twoWindingsTransformerByVoltageLevel" + (side == Branch.Side.ONE ? 1 : 2))
-                .where(eq("networkUuid", networkUuid)).and(eq("voltageLevelId" + (side == Branch.Side.ONE ? 1 : 2), voltageLevelId)));
-        List<Resource<TwoWindingsTransformerAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            resources.add(Resource.twoWindingsTransformerBuilder()
-                    .id(row.getString(0))
-                    .attributes(TwoWindingsTransformerAttributes.builder()
-                            .voltageLevelId1(side == Branch.Side.ONE ? voltageLevelId : row.getString(1))
-                            .voltageLevelId2(side == Branch.Side.TWO ? voltageLevelId : row.getString(1))
-                            .name(row.getString(2))
-                            .properties(row.getMap(3, String.class, String.class))
-                            .node1(row.get(4, Integer.class))
-                            .node2(row.get(5, Integer.class))
-                            .r(row.getDouble(6))
-                            .x(row.getDouble(7))
-                            .g(row.getDouble(8))
-                            .b(row.getDouble(9))
-                            .ratedU1(row.getDouble(10))
-                            .ratedU2(row.getDouble(11))
-                            .p1(row.getDouble(12))
-                            .q1(row.getDouble(13))
-                            .p2(row.getDouble(14))
-                            .q2(row.getDouble(15))
-                            .position1(row.get(16, ConnectablePositionAttributes.class))
-                            .position2(row.get(17, ConnectablePositionAttributes.class))
-                            .phaseTapChangerAttributes(row.get(18, PhaseTapChangerAttributes.class))
-                            .ratioTapChangerAttributes(row.get(19, RatioTapChangerAttributes.class))
-                            .bus1(row.getString(20))
-                            .bus2(row.getString(21))
-                            .connectableBus1(row.getString(22))
-                            .connectableBus2(row.getString(23))
-                            .currentLimits1(row.get(24, CurrentLimitsAttributes.class))
-                            .currentLimits2(row.get(25, CurrentLimitsAttributes.class))
-                            .build())
-                    .build());
-        }
-        return resources;
+    public List<Resource<TwoWindingsTransformerAttributes>> getTwoWindingsTransformers(UUID networkUuid) {
+        return toTwoWindingsTransformers(selectAllBuckets(psSelectTwoWindingsTransformers, networkUuid));
+    }
+
+    public ResourcePage<TwoWindingsTransformerAttributes> getTwoWindingsTransformers(UUID networkUuid, int limit, String page) {
+        return getPage(ResourceType.TWO_WINDINGS_TRANSFORMER, networkUuid, psSelectTwoWindingsTransformers, limit, page, NetworkStoreRepository::toTwoWindingsTransformers);
     }
 
     public List<Resource<TwoWindingsTransformerAttributes>> getVoltageLevelTwoWindingsTransformers(UUID networkUuid, String voltageLevelId) {
-        return ImmutableList.<Resource<TwoWindingsTransformerAttributes>>builder().addAll(
-                ImmutableSet.<Resource<TwoWindingsTransformerAttributes>>builder()
-                        .addAll(getVoltageLevelTwoWindingsTransformers(networkUuid, Branch.Side.ONE, voltageLevelId))
-                        .addAll(getVoltageLevelTwoWindingsTransformers(networkUuid, Branch.Side.TWO, voltageLevelId))
-                        .build())
-                .build();
+        return getVoltageLevelBranches(networkUuid, voltageLevelId, ResourceType.TWO_WINDINGS_TRANSFORMER);
     }
 
     public void updateTwoWindingsTransformers(UUID networkUuid, List<Resource<TwoWindingsTransformerAttributes>> resources) {
-        for (List<Resource<TwoWindingsTransformerAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
-            BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
-            for (Resource<TwoWindingsTransformerAttributes> resource : subresources) {
-                batch.add(unsetNullValues(psUpdateTwoWindingsTransformer.bind(
-                        resource.getAttributes().getVoltageLevelId1(),
-                        resource.getAttributes().getVoltageLevelId2(),
-                        resource.getAttributes().getName(),
-                        resource.getAttributes().getProperties(),
-                        resource.getAttributes().getNode1(),
-                        resource.getAttributes().getNode2(),
-                        resource.getAttributes().getR(),
-                        resource.getAttributes().getX(),
-                        resource.getAttributes().getG(),
-                        resource.getAttributes().getB(),
-                        resource.getAttributes().getRatedU1(),
-                        resource.getAttributes().getRatedU2(),
-                        resource.getAttributes().getP1(),
-                        resource.getAttributes().getQ1(),
-                        resource.getAttributes().getP2(),
-                        resource.getAttributes().getQ2(),
-                        resource.getAttributes().getPosition1(),
-                        resource.getAttributes().getPosition2(),
-                        resource.getAttributes().getPhaseTapChangerAttributes(),
-                        resource.getAttributes().getRatioTapChangerAttributes(),
-                        resource.getAttributes().getBus1(),
-                        resource.getAttributes().getBus2(),
-                        resource.getAttributes().getConnectableBus1(),
-                        resource.getAttributes().getConnectableBus2(),
-                        resource.getAttributes().getCurrentLimits1(),
-                        resource.getAttributes().getCurrentLimits2(),
-                        networkUuid,
-                        resource.getId())
-                ));
-            }
-            session.execute(batch);
+        List<BoundStatement> statements = new ArrayList<>(resources.size());
+        for (Resource<TwoWindingsTransformerAttributes> resource : resources) {
+            statements.add(unsetNullValues(psUpdateTwoWindingsTransformer.bind(
+                    resource.getAttributes().getVoltageLevelId1(),
+                    resource.getAttributes().getVoltageLevelId2(),
+                    resource.getAttributes().getName(),
+                    resource.getAttributes().getProperties(),
+                    resource.getAttributes().getNode1(),
+                    resource.getAttributes().getNode2(),
+                    resource.getAttributes().getR(),
+                    resource.getAttributes().getX(),
+                    resource.getAttributes().getG(),
+                    resource.getAttributes().getB(),
+                    resource.getAttributes().getRatedU1(),
+                    resource.getAttributes().getRatedU2(),
+                    resource.getAttributes().getP1(),
+                    resource.getAttributes().getQ1(),
+                    resource.getAttributes().getP2(),
+                    resource.getAttributes().getQ2(),
+                    resource.getAttributes().getPosition1(),
+                    resource.getAttributes().getPosition2(),
+                    resource.getAttributes().getPhaseTapChangerAttributes(),
+                    resource.getAttributes().getRatioTapChangerAttributes(),
+                    resource.getAttributes().getBus1(),
+                    resource.getAttributes().getBus2(),
+                    resource.getAttributes().getConnectableBus1(),
+                    resource.getAttributes().getConnectableBus2(),
+                    resource.getAttributes().getCurrentLimits1(),
+                    resource.getAttributes().getCurrentLimits2(),
+                    networkUuid,
+                    resource.getId())
+            ));
         }
+        write("twoWindingsTransformer", restrictToUpdatedAttributes("twoWindingsTransformer", resources, statements));
+        indexBranches(networkUuid, resources);
     }
 
     // 3 windings transformer
 
     public void createThreeWindingsTransformers(UUID networkUuid, List<Resource<ThreeWindingsTransformerAttributes>> resources) {
-        for (List<Resource<ThreeWindingsTransformerAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
-            BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
-            for (Resource<ThreeWindingsTransformerAttributes> resource : subresources) {
-                batch.add(unsetNullValues(psInsertThreeWindingsTransformer.bind(
-                        networkUuid,
-                        resource.getId(),
-                        resource.getAttributes().getLeg1().getVoltageLevelId(),
-                        resource.getAttributes().getLeg2().getVoltageLevelId(),
-                        resource.getAttributes().getLeg3().getVoltageLevelId(),
-                        resource.getAttributes().getName(),
-                        resource.getAttributes().getProperties(),
-                        resource.getAttributes().getLeg1().getNode(),
-                        resource.getAttributes().getLeg2().getNode(),
-                        resource.getAttributes().getLeg3().getNode(),
-                        resource.getAttributes().getRatedU0(),
-                        resource.getAttributes().getP1(),
-                        resource.getAttributes().getQ1(),
-                        resource.getAttributes().getLeg1().getR(),
-                        resource.getAttributes().getLeg1().getX(),
-                        resource.getAttributes().getLeg1().getG(),
-                        resource.getAttributes().getLeg1().getB(),
-                        resource.getAttributes().getLeg1().getRatedU(),
-                        resource.getAttributes().getLeg1().getRatedS(),
-                        resource.getAttributes().getLeg1().getPhaseTapChangerAttributes(),
-                        resource.getAttributes().getLeg1().getRatioTapChangerAttributes(),
-                        resource.getAttributes().getP2(),
-                        resource.getAttributes().getQ2(),
-                        resource.getAttributes().getLeg2().getR(),
-                        resource.getAttributes().getLeg2().getX(),
-                        resource.getAttributes().getLeg2().getG(),
-                        resource.getAttributes().getLeg2().getB(),
-                        resource.getAttributes().getLeg2().getRatedU(),
-                        resource.getAttributes().getLeg2().getRatedS(),
-                        resource.getAttributes().getLeg2().getPhaseTapChangerAttributes(),
-                        resource.getAttributes().getLeg2().getRatioTapChangerAttributes(),
-                        resource.getAttributes().getP3(),
-                        resource.getAttributes().getQ3(),
-                        resource.getAttributes().getLeg3().getR(),
-                        resource.getAttributes().getLeg3().getX(),
-                        resource.getAttributes().getLeg3().getG(),
-                        resource.getAttributes().getLeg3().getB(),
-                        resource.getAttributes().getLeg3().getRatedU(),
-                        resource.getAttributes().getLeg3().getRatedS(),
-                        resource.getAttributes().getLeg3().getPhaseTapChangerAttributes(),
-                        resource.getAttributes().getLeg3().getRatioTapChangerAttributes(),
-                        resource.getAttributes().getPosition1(),
-                        resource.getAttributes().getPosition2(),
-                        resource.getAttributes().getPosition3(),
-                        resource.getAttributes().getLeg1().getCurrentLimitsAttributes(),
-                        resource.getAttributes().getLeg2().getCurrentLimitsAttributes(),
-                        resource.getAttributes().getLeg3().getCurrentLimitsAttributes(),
-                        resource.getAttributes().getLeg1().getBus(),
-                        resource.getAttributes().getLeg1().getConnectableBus(),
-                        resource.getAttributes().getLeg2().getBus(),
-                        resource.getAttributes().getLeg2().getConnectableBus(),
-                        resource.getAttributes().getLeg3().getBus(),
-                        resource.getAttributes().getLeg3().getConnectableBus()
-                )));
-            }
-            session.execute(batch);
+        List<BoundStatement> statements = new ArrayList<>(resources.size());
+        for (Resource<ThreeWindingsTransformerAttributes> resource : resources) {
+            statements.add(unsetNullValues(psInsertThreeWindingsTransformer.bind(
+                    networkUuid,
+                    resource.getId(),
+                    resource.getAttributes().getLeg1().getVoltageLevelId(),
+                    resource.getAttributes().getLeg2().getVoltageLevelId(),
+                    resource.getAttributes().getLeg3().getVoltageLevelId(),
+                    resource.getAttributes().getName(),
+                    resource.getAttributes().getProperties(),
+                    resource.getAttributes().getLeg1().getNode(),
+                    resource.getAttributes().getLeg2().getNode(),
+                    resource.getAttributes().getLeg3().getNode(),
+                    resource.getAttributes().getRatedU0(),
+                    resource.getAttributes().getP1(),
+                    resource.getAttributes().getQ1(),
+                    resource.getAttributes().getLeg1().getR(),
+                    resource.getAttributes().getLeg1().getX(),
+                    resource.getAttributes().getLeg1().getG(),
+                    resource.getAttributes().getLeg1().getB(),
+                    resource.getAttributes().getLeg1().getRatedU(),
+                    resource.getAttributes().getLeg1().getRatedS(),
+                    resource.getAttributes().getLeg1().getPhaseTapChangerAttributes(),
+                    resource.getAttributes().getLeg1().getRatioTapChangerAttributes(),
+                    resource.getAttributes().getP2(),
+                    resource.getAttributes().getQ2(),
+                    resource.getAttributes().getLeg2().getR(),
+                    resource.getAttributes().getLeg2().getX(),
+                    resource.getAttributes().getLeg2().getG(),
+                    resource.getAttributes().getLeg2().getB(),
+                    resource.getAttributes().getLeg2().getRatedU(),
+                    resource.getAttributes().getLeg2().getRatedS(),
+                    resource.getAttributes().getLeg2().getPhaseTapChangerAttributes(),
+                    resource.getAttributes().getLeg2().getRatioTapChangerAttributes(),
+                    resource.getAttributes().getP3(),
+                    resource.getAttributes().getQ3(),
+                    resource.getAttributes().getLeg3().getR(),
+                    resource.getAttributes().getLeg3().getX(),
+                    resource.getAttributes().getLeg3().getG(),
+                    resource.getAttributes().getLeg3().getB(),
+                    resource.getAttributes().getLeg3().getRatedU(),
+                    resource.getAttributes().getLeg3().getRatedS(),
+                    resource.getAttributes().getLeg3().getPhaseTapChangerAttributes(),
+                    resource.getAttributes().getLeg3().getRatioTapChangerAttributes(),
+                    resource.getAttributes().getPosition1(),
+                    resource.getAttributes().getPosition2(),
+                    resource.getAttributes().getPosition3(),
+                    resource.getAttributes().getLeg1().getCurrentLimitsAttributes(),
+                    resource.getAttributes().getLeg2().getCurrentLimitsAttributes(),
+                    resource.getAttributes().getLeg3().getCurrentLimitsAttributes(),
+                    resource.getAttributes().getLeg1().getBus(),
+                    resource.getAttributes().getLeg1().getConnectableBus(),
+                    resource.getAttributes().getLeg2().getBus(),
+                    resource.getAttributes().getLeg2().getConnectableBus(),
+                    resource.getAttributes().getLeg3().getBus(),
+                    resource.getAttributes().getLeg3().getConnectableBus()
+            )));
         }
+        write("threeWindingsTransformer", statements);
+        indexIdentifiables(networkUuid, ResourceType.THREE_WINDINGS_TRANSFORMER, resources);
+        indexBranches(networkUuid, resources);
     }
 
     public Optional<Resource<ThreeWindingsTransformerAttributes>> getThreeWindingsTransformer(UUID networkUuid, String threeWindingsTransformerId) {
-        ResultSet resultSet = session.execute(select("name",
-                "properties",
-                "ratedU0",
-                "voltageLevelId1",
-                "node1",
-                "r1",
-                "x1",
-                "g1",
-                "b1",
-                "ratedU1",
-                "p1",
-                "q1",
-                "phaseTapChanger1",
-                "ratioTapChanger1",
-                "voltageLevelId2",
-                "node2",
-                "r2",
-                "x2",
-                "g2",
-                "b2",
-                "ratedU2",
-                "p2",
-                "q2",
-                "phaseTapChanger1",
-                "ratioTapChanger1",
-                "voltageLevelId3",
-                "node3",
-                "r3",
-                "x3",
-                "g3",
-                "b3",
-                "ratedU3",
-                "p3",
-                "q3",
-                "phaseTapChanger1",
-                "ratioTapChanger1",
-                "position1",
-                "position2",
-                "position3",
-                "currentLimits1",
-                "currentLimits2",
-                "currentLimits3",
-                "bus1",
-                "connectableBus1",
-                "bus2",
-                "connectableBus2",
-                "bus3",
-                "connectableBus3",
-                "ratedS1",
-                "ratedS2",
-                "ratedS3")
-                .from(KEYSPACE_IIDM, "threeWindingsTransformer")
-                .where(eq("networkUuid", networkUuid)).and(eq("id", threeWindingsTransformerId)));
-        Row one = resultSet.one();
-        if (one != null) {
-            return Optional.of(Resource.threeWindingsTransformerBuilder()
-                    .id(threeWindingsTransformerId)
-                    .attributes(ThreeWindingsTransformerAttributes.builder()
-                            .name(one.getString(0))
-                            .properties(one.getMap(1, String.class, String.class))
-                            .ratedU0(one.getDouble(2))
-                            .leg1(LegAttributes.builder()
-                                    .legNumber(1)
-                                    .voltageLevelId(one.getString(3))
-                                    .node(one.get(4, Integer.class))
-                                    .r(one.getDouble(5))
-                                    .x(one.getDouble(6))
-                                    .g(one.getDouble(7))
-                                    .b(one.getDouble(8))
-                                    .ratedU(one.getDouble(9))
-                                    .ratedS(one.getDouble(48))
-                                    .phaseTapChangerAttributes(one.get(12, PhaseTapChangerAttributes.class))
-                                    .ratioTapChangerAttributes(one.get(13, RatioTapChangerAttributes.class))
-                                    .currentLimitsAttributes(one.get(39, CurrentLimitsAttributes.class))
-                                    .bus(one.getString(42))
-                                    .connectableBus(one.getString(43))
-                                    .build())
-                            .p1(one.getDouble(10))
-                            .q1(one.getDouble(11))
-                            .leg2(LegAttributes.builder()
-                                    .legNumber(2)
-                                    .voltageLevelId(one.getString(14))
-                                    .node(one.get(15, Integer.class))
-                                    .r(one.getDouble(16))
-                                    .x(one.getDouble(17))
-                                    .g(one.getDouble(18))
-                                    .b(one.getDouble(19))
-                                    .ratedU(one.getDouble(20))
-                                    .ratedS(one.getDouble(49))
-                                    .phaseTapChangerAttributes(one.get(23, PhaseTapChangerAttributes.class))
-                                    .ratioTapChangerAttributes(one.get(24, RatioTapChangerAttributes.class))
-                                    .currentLimitsAttributes(one.get(40, CurrentLimitsAttributes.class))
-                                    .bus(one.getString(44))
-                                    .connectableBus(one.getString(45))
-                                    .build())
-                            .p2(one.getDouble(21))
-                            .q2(one.getDouble(22))
-                            .leg3(LegAttributes.builder()
-                                    .legNumber(3)
-                                    .voltageLevelId(one.getString(25))
-                                    .node(one.get(26, Integer.class))
-                                    .r(one.getDouble(27))
-                                    .x(one.getDouble(28))
-                                    .g(one.getDouble(29))
-                                    .b(one.getDouble(30))
-                                    .ratedU(one.getDouble(31))
-                                    .ratedS(one.getDouble(50))
-                                    .phaseTapChangerAttributes(one.get(34, PhaseTapChangerAttributes.class))
-                                    .ratioTapChangerAttributes(one.get(35, RatioTapChangerAttributes.class))
-                                    .currentLimitsAttributes(one.get(41, CurrentLimitsAttributes.class))
-                                    .bus(one.getString(46))
-                                    .connectableBus(one.getString(47))
-                                    .build())
-                            .p3(one.getDouble(32))
-                            .q3(one.getDouble(33))
-                            .position1(one.get(36, ConnectablePositionAttributes.class))
-                            .position2(one.get(37, ConnectablePositionAttributes.class))
-                            .position3(one.get(38, ConnectablePositionAttributes.class))
-                            .build())
-                    .build());
-        }
-        return Optional.empty();
+        return toThreeWindingsTransformers(session.execute(bindById(psSelectThreeWindingsTransformer, networkUuid, threeWindingsTransformerId))).stream().findFirst();
     }
 
-    public List<Resource<ThreeWindingsTransformerAttributes>> getThreeWindingsTransformers(UUID networkUuid) {
-        ResultSet resultSet = session.execute(select("id",
-                "name",
-                "properties",
-                "ratedU0",
-                "voltageLevelId1",
-                "node1",
-                "r1",
-                "x1",
-                "g1",
-                "b1",
-                "ratedU1",
-                "p1",
-                "q1",
-                "phaseTapChanger1",
-                "ratioTapChanger1",
-                "voltageLevelId2",
-                "node2",
-                "r2",
-                "x2",
-                "g2",
-                "b2",
-                "ratedU2",
-                "p2",
-                "q2",
-                "phaseTapChanger2",
-                "ratioTapChanger2",
-                "voltageLevelId3",
-                "node3",
-                "r3",
-                "x3",
-                "g3",
-                "b3",
-                "ratedU3",
-                "p3",
-                "q3",
-                "phaseTapChanger3",
-                "ratioTapChanger3",
-                "position1",
-                "position2",
-                "position3",
-                "currentLimits1",
-                "currentLimits2",
-                "currentLimits3",
-                "bus1",
-                "connectableBus1",
-                "bus2",
-                "connectableBus2",
-                "bus3",
-                "connectableBus3",
-                "ratedS1",
-                "ratedS2",
-                "ratedS3")
-                .from(KEYSPACE_IIDM, "threeWindingsTransformer")
-                .where(eq("networkUuid", networkUuid)));
+    private static List<Resource<ThreeWindingsTransformerAttributes>> toThreeWindingsTransformers(Iterable<Row> rows) {
         List<Resource<ThreeWindingsTransformerAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
+        for (Row row : rows) {
             resources.add(Resource.threeWindingsTransformerBuilder()
                     .id(row.getString(0))
                     .attributes(ThreeWindingsTransformerAttributes.builder()
@@ -3107,340 +3652,128 @@ public class NetworkStoreRepository {
         return resources;
     }
 
-    private List<Resource<ThreeWindingsTransformerAttributes>> getVoltageLevelThreeWindingsTransformers(UUID networkUuid, ThreeWindingsTransformer.Side side, String voltageLevelId) {
-        ResultSet resultSet = session.execute(select("id",
-                "voltageLevelId" + (side == ThreeWindingsTransformer.Side.ONE ? 2 : 1),
-                "voltageLevelId" + (side == ThreeWindingsTransformer.Side.ONE ? 3 : (side == ThreeWindingsTransformer.Side.TWO ? 3 : 2)),
-                "name",
-                "properties",
-                "ratedU0",
-                "node1",
-                "r1",
-                "x1",
-                "g1",
-                "b1",
-                "ratedU1",
-                "p1",
-                "q1",
-                "phaseTapChanger1",
-                "ratioTapChanger1",
-                "node2",
-                "r2",
-                "x2",
-                "g2",
-                "b2",
-                "ratedU2",
-                "p2",
-                "q2",
-                "phaseTapChanger2",
-                "ratioTapChanger2",
-                "node3",
-                "r3",
-                "x3",
-                "g3",
-                "b3",
-                "ratedU3",
-                "p3",
-                "q3",
-                "phaseTapChanger3",
-                "ratioTapChanger3",
-                "position1",
-                "position2",
-                "position3",
-                "currentLimits1",
-                "currentLimits2",
-                "currentLimits3",
-                "bus1",
-                "connectableBus1",
-                "bus2",
-                "connectableBus2",
-                "bus3",
-                "connectableBus3",
-                "ratedS1",
-                "ratedS2",
-                "ratedS3")
-                .from(KEYSPACE_IIDM, "threeWindingsTransformerByVoltageLevel" + (side == ThreeWindingsTransformer.Side.ONE ? 1 : (side == ThreeWindingsTransformer.Side.TWO ? 2 : 3)))
-                .where(eq("networkUuid", networkUuid)).and(eq("voltageLevelId" + (side == ThreeWindingsTransformer.Side.ONE ? 1 : (side == ThreeWindingsTransformer.Side.TWO ? 2 : 3)), voltageLevelId)));
-        List<Resource<ThreeWindingsTransformerAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            resources.add(Resource.threeWindingsTransformerBuilder()
-                    .id(row.getString(0))
-                    .attributes(ThreeWindingsTransformerAttributes.builder()
-                            .name(row.getString(3))
-                            .properties(row.getMap(4, String.class, String.class))
-                            .ratedU0(row.getDouble(5))
-                            .leg1(LegAttributes.builder()
-                                    .legNumber(1)
-                                    .voltageLevelId(side == ThreeWindingsTransformer.Side.ONE ? voltageLevelId : row.getString(1))
-                                    .node(row.get(6, Integer.class))
-                                    .r(row.getDouble(7))
-                                    .x(row.getDouble(8))
-                                    .g(row.getDouble(9))
-                                    .b(row.getDouble(10))
-                                    .ratedU(row.getDouble(11))
-                                    .ratedS(row.getDouble(48))
-                                    .phaseTapChangerAttributes(row.get(14, PhaseTapChangerAttributes.class))
-                                    .ratioTapChangerAttributes(row.get(15, RatioTapChangerAttributes.class))
-                                    .currentLimitsAttributes(row.get(39, CurrentLimitsAttributes.class))
-                                    .bus(row.getString(42))
-                                    .connectableBus(row.getString(43))
-                                    .build())
-                            .p1(row.getDouble(12))
-                            .q1(row.getDouble(13))
-                            .leg2(LegAttributes.builder()
-                                    .legNumber(2)
-                                    .voltageLevelId(side == ThreeWindingsTransformer.Side.TWO ? voltageLevelId : (side == ThreeWindingsTransformer.Side.ONE ? row.getString(1) : row.getString(2)))
-                                    .node(row.get(16, Integer.class))
-                                    .r(row.getDouble(17))
-                                    .x(row.getDouble(18))
-                                    .g(row.getDouble(19))
-                                    .b(row.getDouble(20))
-                                    .ratedU(row.getDouble(21))
-                                    .ratedS(row.getDouble(49))
-                                    .phaseTapChangerAttributes(row.get(24, PhaseTapChangerAttributes.class))
-                                    .ratioTapChangerAttributes(row.get(25, RatioTapChangerAttributes.class))
-                                    .currentLimitsAttributes(row.get(40, CurrentLimitsAttributes.class))
-                                    .bus(row.getString(44))
-                                    .connectableBus(row.getString(45))
-                                    .build())
-                            .p2(row.getDouble(22))
-                            .q2(row.getDouble(23))
-                            .leg3(LegAttributes.builder()
-                                    .legNumber(3)
-                                    .voltageLevelId(side == ThreeWindingsTransformer.Side.THREE ? voltageLevelId : row.getString(2))
-                                    .node(row.get(26, Integer.class))
-                                    .r(row.getDouble(27))
-                                    .x(row.getDouble(28))
-                                    .g(row.getDouble(29))
-                                    .b(row.getDouble(30))
-                                    .ratedU(row.getDouble(31))
-                                    .ratedS(row.getDouble(50))
-                                    .phaseTapChangerAttributes(row.get(34, PhaseTapChangerAttributes.class))
-                                    .ratioTapChangerAttributes(row.get(35, RatioTapChangerAttributes.class))
-                                    .currentLimitsAttributes(row.get(41, CurrentLimitsAttributes.class))
-                                    .bus(row.getString(46))
-                                    .connectableBus(row.getString(47))
-                                    .build())
-                            .p3(row.getDouble(32))
-                            .q3(row.getDouble(33))
-                            .position1(row.get(36, ConnectablePositionAttributes.class))
-                            .position2(row.get(37, ConnectablePositionAttributes.class))
-                            .position3(row.get(38, ConnectablePositionAttributes.class))
-                            .build())
-                    .build());
-        }
-        return resources;
+    public List<Resource<ThreeWindingsTransformerAttributes>> getThreeWindingsTransformers(UUID networkUuid) {
+        return toThreeWindingsTransformers(selectAllBuckets(psSelectThreeWindingsTransformers, networkUuid));
+    }
+
+    public ResourcePage<ThreeWindingsTransformerAttributes> getThreeWindingsTransformers(UUID networkUuid, int limit, String page) {
+        return getPage(ResourceType.THREE_WINDINGS_TRANSFORMER, networkUuid, psSelectThreeWindingsTransformers, limit, page, NetworkStoreRepository::toThreeWindingsTransformers);
     }
 
     public List<Resource<ThreeWindingsTransformerAttributes>> getVoltageLevelThreeWindingsTransformers(UUID networkUuid, String voltageLevelId) {
-        return ImmutableList.<Resource<ThreeWindingsTransformerAttributes>>builder().addAll(
-                ImmutableSet.<Resource<ThreeWindingsTransformerAttributes>>builder()
-                        .addAll(getVoltageLevelThreeWindingsTransformers(networkUuid, ThreeWindingsTransformer.Side.ONE, voltageLevelId))
-                        .addAll(getVoltageLevelThreeWindingsTransformers(networkUuid, ThreeWindingsTransformer.Side.TWO, voltageLevelId))
-                        .addAll(getVoltageLevelThreeWindingsTransformers(networkUuid, ThreeWindingsTransformer.Side.THREE, voltageLevelId))
-                        .build())
-                .build();
+        return getVoltageLevelBranches(networkUuid, voltageLevelId, ResourceType.THREE_WINDINGS_TRANSFORMER);
     }
 
     public void updateThreeWindingsTransformers(UUID networkUuid, List<Resource<ThreeWindingsTransformerAttributes>> resources) {
-        for (List<Resource<ThreeWindingsTransformerAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
-            BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
-            for (Resource<ThreeWindingsTransformerAttributes> resource : subresources) {
-                batch.add(unsetNullValues(psUpdateThreeWindingsTransformer.bind(
-                        resource.getAttributes().getLeg1().getVoltageLevelId(),
-                        resource.getAttributes().getLeg2().getVoltageLevelId(),
-                        resource.getAttributes().getLeg3().getVoltageLevelId(),
-                        resource.getAttributes().getName(),
-                        resource.getAttributes().getProperties(),
-                        resource.getAttributes().getLeg1().getNode(),
-                        resource.getAttributes().getLeg2().getNode(),
-                        resource.getAttributes().getLeg3().getNode(),
-                        resource.getAttributes().getRatedU0(),
-                        resource.getAttributes().getP1(),
-                        resource.getAttributes().getQ1(),
-                        resource.getAttributes().getLeg1().getR(),
-                        resource.getAttributes().getLeg1().getX(),
-                        resource.getAttributes().getLeg1().getG(),
-                        resource.getAttributes().getLeg1().getB(),
-                        resource.getAttributes().getLeg1().getRatedU(),
-                        resource.getAttributes().getLeg1().getRatedS(),
-                        resource.getAttributes().getLeg1().getPhaseTapChangerAttributes(),
-                        resource.getAttributes().getLeg1().getRatioTapChangerAttributes(),
-                        resource.getAttributes().getP2(),
-                        resource.getAttributes().getQ2(),
-                        resource.getAttributes().getLeg2().getR(),
-                        resource.getAttributes().getLeg2().getX(),
-                        resource.getAttributes().getLeg2().getG(),
-                        resource.getAttributes().getLeg2().getB(),
-                        resource.getAttributes().getLeg2().getRatedU(),
-                        resource.getAttributes().getLeg2().getRatedS(),
-                        resource.getAttributes().getLeg2().getPhaseTapChangerAttributes(),
-                        resource.getAttributes().getLeg2().getRatioTapChangerAttributes(),
-                        resource.getAttributes().getP3(),
-                        resource.getAttributes().getQ3(),
-                        resource.getAttributes().getLeg3().getR(),
-                        resource.getAttributes().getLeg3().getX(),
-                        resource.getAttributes().getLeg3().getG(),
-                        resource.getAttributes().getLeg3().getB(),
-                        resource.getAttributes().getLeg3().getRatedU(),
-                        resource.getAttributes().getLeg3().getRatedS(),
-                        resource.getAttributes().getLeg3().getPhaseTapChangerAttributes(),
-                        resource.getAttributes().getLeg3().getRatioTapChangerAttributes(),
-                        resource.getAttributes().getPosition1(),
-                        resource.getAttributes().getPosition2(),
-                        resource.getAttributes().getPosition3(),
-                        resource.getAttributes().getLeg1().getCurrentLimitsAttributes(),
-                        resource.getAttributes().getLeg2().getCurrentLimitsAttributes(),
-                        resource.getAttributes().getLeg3().getCurrentLimitsAttributes(),
-                        resource.getAttributes().getLeg1().getBus(),
-                        resource.getAttributes().getLeg1().getConnectableBus(),
-                        resource.getAttributes().getLeg2().getBus(),
-                        resource.getAttributes().getLeg2().getConnectableBus(),
-                        resource.getAttributes().getLeg3().getBus(),
-                        resource.getAttributes().getLeg3().getConnectableBus(),
-                        networkUuid,
-                        resource.getId())
-                ));
-            }
-            session.execute(batch);
+        List<BoundStatement> statements = new ArrayList<>(resources.size());
+        for (Resource<ThreeWindingsTransformerAttributes> resource : resources) {
+            statements.add(unsetNullValues(psUpdateThreeWindingsTransformer.bind(
+                    resource.getAttributes().getLeg1().getVoltageLevelId(),
+                    resource.getAttributes().getLeg2().getVoltageLevelId(),
+                    resource.getAttributes().getLeg3().getVoltageLevelId(),
+                    resource.getAttributes().getName(),
+                    resource.getAttributes().getProperties(),
+                    resource.getAttributes().getLeg1().getNode(),
+                    resource.getAttributes().getLeg2().getNode(),
+                    resource.getAttributes().getLeg3().getNode(),
+                    resource.getAttributes().getRatedU0(),
+                    resource.getAttributes().getP1(),
+                    resource.getAttributes().getQ1(),
+                    resource.getAttributes().getLeg1().getR(),
+                    resource.getAttributes().getLeg1().getX(),
+                    resource.getAttributes().getLeg1().getG(),
+                    resource.getAttributes().getLeg1().getB(),
+                    resource.getAttributes().getLeg1().getRatedU(),
+                    resource.getAttributes().getLeg1().getRatedS(),
+                    resource.getAttributes().getLeg1().getPhaseTapChangerAttributes(),
+                    resource.getAttributes().getLeg1().getRatioTapChangerAttributes(),
+                    resource.getAttributes().getP2(),
+                    resource.getAttributes().getQ2(),
+                    resource.getAttributes().getLeg2().getR(),
+                    resource.getAttributes().getLeg2().getX(),
+                    resource.getAttributes().getLeg2().getG(),
+                    resource.getAttributes().getLeg2().getB(),
+                    resource.getAttributes().getLeg2().getRatedU(),
+                    resource.getAttributes().getLeg2().getRatedS(),
+                    resource.getAttributes().getLeg2().getPhaseTapChangerAttributes(),
+                    resource.getAttributes().getLeg2().getRatioTapChangerAttributes(),
+                    resource.getAttributes().getP3(),
+                    resource.getAttributes().getQ3(),
+                    resource.getAttributes().getLeg3().getR(),
+                    resource.getAttributes().getLeg3().getX(),
+                    resource.getAttributes().getLeg3().getG(),
+                    resource.getAttributes().getLeg3().getB(),
+                    resource.getAttributes().getLeg3().getRatedU(),
+                    resource.getAttributes().getLeg3().getRatedS(),
+                    resource.getAttributes().getLeg3().getPhaseTapChangerAttributes(),
+                    resource.getAttributes().getLeg3().getRatioTapChangerAttributes(),
+                    resource.getAttributes().getPosition1(),
+                    resource.getAttributes().getPosition2(),
+                    resource.getAttributes().getPosition3(),
+                    resource.getAttributes().getLeg1().getCurrentLimitsAttributes(),
+                    resource.getAttributes().getLeg2().getCurrentLimitsAttributes(),
+                    resource.getAttributes().getLeg3().getCurrentLimitsAttributes(),
+                    resource.getAttributes().getLeg1().getBus(),
+                    resource.getAttributes().getLeg1().getConnectableBus(),
+                    resource.getAttributes().getLeg2().getBus(),
+                    resource.getAttributes().getLeg2().getConnectableBus(),
+                    resource.getAttributes().getLeg3().getBus(),
+                    resource.getAttributes().getLeg3().getConnectableBus(),
+                    networkUuid,
+                    resource.getId())
+            ));
         }
+        write("threeWindingsTransformer", restrictToUpdatedAttributes("threeWindingsTransformer", resources, statements));
+        indexBranches(networkUuid, resources);
     }
 
     // line
 
     public void createLines(UUID networkUuid, List<Resource<LineAttributes>> resources) {
-        for (List<Resource<LineAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
-            BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
-            for (Resource<LineAttributes> resource : subresources) {
-                batch.add(unsetNullValues(psInsertLine.bind(
-                        networkUuid,
-                        resource.getId(),
-                        resource.getAttributes().getVoltageLevelId1(),
-                        resource.getAttributes().getVoltageLevelId2(),
-                        resource.getAttributes().getName(),
-                        resource.getAttributes().getProperties(),
-                        resource.getAttributes().getNode1(),
-                        resource.getAttributes().getNode2(),
-                        resource.getAttributes().getR(),
-                        resource.getAttributes().getX(),
-                        resource.getAttributes().getG1(),
-                        resource.getAttributes().getB1(),
-                        resource.getAttributes().getG2(),
-                        resource.getAttributes().getB2(),
-                        resource.getAttributes().getP1(),
-                        resource.getAttributes().getQ1(),
-                        resource.getAttributes().getP2(),
-                        resource.getAttributes().getQ2(),
-                        resource.getAttributes().getPosition1(),
-                        resource.getAttributes().getPosition2(),
-                        resource.getAttributes().getBus1(),
-                        resource.getAttributes().getBus2(),
-                        resource.getAttributes().getConnectableBus1(),
-                        resource.getAttributes().getConnectableBus2(),
-                        resource.getAttributes().getMergedXnode(),
-                        resource.getAttributes().getCurrentLimits1(),
-                        resource.getAttributes().getCurrentLimits2()
-                )));
-            }
-            session.execute(batch);
+        List<BoundStatement> statements = new ArrayList<>(resources.size());
+        for (Resource<LineAttributes> resource : resources) {
+            statements.add(unsetNullValues(psInsertLine.bind(
+                    networkUuid,
+                    resource.getId(),
+                    resource.getAttributes().getVoltageLevelId1(),
+                    resource.getAttributes().getVoltageLevelId2(),
+                    resource.getAttributes().getName(),
+                    resource.getAttributes().getProperties(),
+                    resource.getAttributes().getNode1(),
+                    resource.getAttributes().getNode2(),
+                    resource.getAttributes().getR(),
+                    resource.getAttributes().getX(),
+                    resource.getAttributes().getG1(),
+                    resource.getAttributes().getB1(),
+                    resource.getAttributes().getG2(),
+                    resource.getAttributes().getB2(),
+                    resource.getAttributes().getP1(),
+                    resource.getAttributes().getQ1(),
+                    resource.getAttributes().getP2(),
+                    resource.getAttributes().getQ2(),
+                    resource.getAttributes().getPosition1(),
+                    resource.getAttributes().getPosition2(),
+                    resource.getAttributes().getBus1(),
+                    resource.getAttributes().getBus2(),
+                    resource.getAttributes().getConnectableBus1(),
+                    resource.getAttributes().getConnectableBus2(),
+                    resource.getAttributes().getMergedXnode(),
+                    resource.getAttributes().getCurrentLimits1(),
+                    resource.getAttributes().getCurrentLimits2()
+            )));
         }
+        write("line", statements);
+        indexIdentifiables(networkUuid, ResourceType.LINE, resources);
+        indexBranches(networkUuid, resources);
     }
 
     public Optional<Resource<LineAttributes>> getLine(UUID networkUuid, String lineId) {
-        ResultSet resultSet = session.execute(select("voltageLevelId1",
-                                                     "voltageLevelId2",
-                                                     "name",
-                                                     "properties",
-                                                     "node1",
-                                                     "node2",
-                                                     "r",
-                                                     "x",
-                                                     "g1",
-                                                     "b1",
-                                                     "g2",
-                                                     "b2",
-                                                     "p1",
-                                                     "q1",
-                                                     "p2",
-                                                     "q2",
-                                                     "position1",
-                                                     "position2",
-                                                     "bus1",
-                                                     "bus2",
-                                                     "connectableBus1",
-                                                     "connectableBus2",
-                                                     "mergedXnode",
-                                                     "currentLimits1",
-                                                     "currentLimits2")
-                .from(KEYSPACE_IIDM, "line")
-                .where(eq("networkUuid", networkUuid)).and(eq("id", lineId)));
-        Row one = resultSet.one();
-        if (one != null) {
-            return Optional.of(Resource.lineBuilder()
-                    .id(lineId)
-                    .attributes(LineAttributes.builder()
-                            .voltageLevelId1(one.getString(0))
-                            .voltageLevelId2(one.getString(1))
-                            .name(one.getString(2))
-                            .properties(one.getMap(3, String.class, String.class))
-                            .node1(one.get(4, Integer.class))
-                            .node2(one.get(5, Integer.class))
-                            .r(one.getDouble(6))
-                            .x(one.getDouble(7))
-                            .g1(one.getDouble(8))
-                            .b1(one.getDouble(9))
-                            .g2(one.getDouble(10))
-                            .b2(one.getDouble(11))
-                            .p1(one.getDouble(12))
-                            .q1(one.getDouble(13))
-                            .p2(one.getDouble(14))
-                            .q2(one.getDouble(15))
-                            .position1(one.get(16, ConnectablePositionAttributes.class))
-                            .position2(one.get(17, ConnectablePositionAttributes.class))
-                            .bus1(one.getString(18))
-                            .bus2(one.getString(19))
-                            .connectableBus1(one.getString(20))
-                            .connectableBus2(one.getString(21))
-                            .mergedXnode(one.get(22, MergedXnodeAttributes.class))
-                            .currentLimits1(one.get(23, CurrentLimitsAttributes.class))
-                            .currentLimits2(one.get(24, CurrentLimitsAttributes.class))
-                            .build())
-                    .build());
-        }
-        return Optional.empty();
+        return toLines(session.execute(bindById(psSelectLine, networkUuid, lineId))).stream().findFirst();
     }
 
-    public List<Resource<LineAttributes>> getLines(UUID networkUuid) {
-        ResultSet resultSet = session.execute(select("id",
-                                                     "voltageLevelId1",
-                                                     "voltageLevelId2",
-                                                     "name",
-                                                     "properties",
-                                                     "node1",
-                                                     "node2",
-                                                     "r",
-                                                     "x",
-                                                     "g1",
-                                                     "b1",
-                                                     "g2",
-                                                     "b2",
-                                                     "p1",
-                                                     "q1",
-                                                     "p2",
-                                                     "q2",
-                                                     "position1",
-                                                     "position2",
-                                                     "bus1",
-                                                     "bus2",
-                                                     "connectableBus1",
-                                                     "connectableBus2",
-                                                     "mergedXnode",
-                                                     "currentLimits1",
-                                                     "currentLimits2")
-                .from(KEYSPACE_IIDM, "line")
-                .where(eq("networkUuid", networkUuid)));
+    private static List<Resource<LineAttributes>> toLines(Iterable<Row> rows) {
         List<Resource<LineAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
+        for (Row row : rows) {
             resources.add(Resource.lineBuilder()
                     .id(row.getString(0))
                     .attributes(LineAttributes.builder()
@@ -3475,134 +3808,60 @@ public class NetworkStoreRepository {
         return resources;
     }
 
-    private List<Resource<LineAttributes>> getVoltageLevelLines(UUID networkUuid, Branch.Side side, String voltageLevelId) {
-        ResultSet resultSet = session.execute(select("id",
-                                                     "voltageLevelId" + (side == Branch.Side.ONE ? 2 : 1),
-                                                     "name",
-                                                     "properties",
-                                                     "node1",
-                                                     "node2",
-                                                     "r",
-                                                     "x",
-                                                     "g1",
-                                                     "b1",
-                                                     "g2",
-                                                     "b2",
-                                                     "p1",
-                                                     "q1",
-                                                     "p2",
-                                                     "q2",
-                                                     "position1",
-                                                     "position2",
-                                                     "bus1",
-                                                     "bus2",
-                                                     "connectableBus1",
-                                                     "connectableBus2",
-                                                     "mergedXnode",
-                                                     "currentLimits1",
-                                                     "currentLimits2")
-                .from(KEYSPACE_IIDM, "lineByVoltageLevel" + (side == Branch.Side.ONE ? 1 : 2))
-                .where(eq("networkUuid", networkUuid)).and(eq("voltageLevelId" + (side == Branch.Side.ONE ? 1 : 2), voltageLevelId)));
-        List<Resource<LineAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            resources.add(Resource.lineBuilder()
-                    .id(row.getString(0))
-                    .attributes(LineAttributes.builder()
-                            .voltageLevelId1(side == Branch.Side.ONE ? voltageLevelId : row.getString(1))
-                            .voltageLevelId2(side == Branch.Side.TWO ? voltageLevelId : row.getString(1))
-                            .name(row.getString(2))
-                            .properties(row.getMap(3, String.class, String.class))
-                            .node1(row.get(4, Integer.class))
-                            .node2(row.get(5, Integer.class))
-                            .r(row.getDouble(6))
-                            .x(row.getDouble(7))
-                            .g1(row.getDouble(8))
-                            .b1(row.getDouble(9))
-                            .g2(row.getDouble(10))
-                            .b2(row.getDouble(11))
-                            .p1(row.getDouble(12))
-                            .q1(row.getDouble(13))
-                            .p2(row.getDouble(14))
-                            .q2(row.getDouble(15))
-                            .position1(row.get(16, ConnectablePositionAttributes.class))
-                            .position2(row.get(17, ConnectablePositionAttributes.class))
-                            .bus1(row.getString(18))
-                            .bus2(row.getString(19))
-                            .connectableBus1(row.getString(20))
-                            .connectableBus2(row.getString(21))
-                            .mergedXnode(row.get(22, MergedXnodeAttributes.class))
-                            .currentLimits1(row.get(23, CurrentLimitsAttributes.class))
-                            .currentLimits2(row.get(24, CurrentLimitsAttributes.class))
-                            .build())
-                    .build());
-        }
-        return resources;
+    public List<Resource<LineAttributes>> getLines(UUID networkUuid) {
+        return toLines(selectAllBuckets(psSelectLines, networkUuid));
+    }
+
+    public ResourcePage<LineAttributes> getLines(UUID networkUuid, int limit, String page) {
+        return getPage(ResourceType.LINE, networkUuid, psSelectLines, limit, page, NetworkStoreRepository::toLines);
     }
 
     public List<Resource<LineAttributes>> getVoltageLevelLines(UUID networkUuid, String voltageLevelId) {
-        return ImmutableList.<Resource<LineAttributes>>builder().addAll(
-                ImmutableSet.<Resource<LineAttributes>>builder()
-                .addAll(getVoltageLevelLines(networkUuid, Branch.Side.ONE, voltageLevelId))
-                .addAll(getVoltageLevelLines(networkUuid, Branch.Side.TWO, voltageLevelId))
-                .build())
-                .build();
+        return getVoltageLevelBranches(networkUuid, voltageLevelId, ResourceType.LINE);
     }
 
     public void updateLines(UUID networkUuid, List<Resource<LineAttributes>> resources) {
-        for (List<Resource<LineAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
-            BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
-            for (Resource<LineAttributes> resource : subresources) {
-                batch.add(unsetNullValues(psUpdateLines.bind(
-                        resource.getAttributes().getVoltageLevelId1(),
-                        resource.getAttributes().getVoltageLevelId2(),
-                        resource.getAttributes().getName(),
-                        resource.getAttributes().getProperties(),
-                        resource.getAttributes().getNode1(),
-                        resource.getAttributes().getNode2(),
-                        resource.getAttributes().getR(),
-                        resource.getAttributes().getX(),
-                        resource.getAttributes().getG1(),
-                        resource.getAttributes().getB1(),
-                        resource.getAttributes().getG2(),
-                        resource.getAttributes().getB2(),
-                        resource.getAttributes().getP1(),
-                        resource.getAttributes().getQ1(),
-                        resource.getAttributes().getP2(),
-                        resource.getAttributes().getQ2(),
-                        resource.getAttributes().getPosition1(),
-                        resource.getAttributes().getPosition2(),
-                        resource.getAttributes().getBus1(),
-                        resource.getAttributes().getBus2(),
-                        resource.getAttributes().getConnectableBus1(),
-                        resource.getAttributes().getConnectableBus2(),
-                        resource.getAttributes().getMergedXnode(),
-                        resource.getAttributes().getCurrentLimits1(),
-                        resource.getAttributes().getCurrentLimits2(),
-                        networkUuid,
-                        resource.getId())
-                ));
-            }
-            session.execute(batch);
+        List<BoundStatement> statements = new ArrayList<>(resources.size());
+        for (Resource<LineAttributes> resource : resources) {
+            statements.add(unsetNullValues(psUpdateLines.bind(
+                    resource.getAttributes().getVoltageLevelId1(),
+                    resource.getAttributes().getVoltageLevelId2(),
+                    resource.getAttributes().getName(),
+                    resource.getAttributes().getProperties(),
+                    resource.getAttributes().getNode1(),
+                    resource.getAttributes().getNode2(),
+                    resource.getAttributes().getR(),
+                    resource.getAttributes().getX(),
+                    resource.getAttributes().getG1(),
+                    resource.getAttributes().getB1(),
+                    resource.getAttributes().getG2(),
+                    resource.getAttributes().getB2(),
+                    resource.getAttributes().getP1(),
+                    resource.getAttributes().getQ1(),
+                    resource.getAttributes().getP2(),
+                    resource.getAttributes().getQ2(),
+                    resource.getAttributes().getPosition1(),
+                    resource.getAttributes().getPosition2(),
+                    resource.getAttributes().getBus1(),
+                    resource.getAttributes().getBus2(),
+                    resource.getAttributes().getConnectableBus1(),
+                    resource.getAttributes().getConnectableBus2(),
+                    resource.getAttributes().getMergedXnode(),
+                    resource.getAttributes().getCurrentLimits1(),
+                    resource.getAttributes().getCurrentLimits2(),
+                    networkUuid,
+                    resource.getId())
+            ));
         }
+        write("line", restrictToUpdatedAttributes("line", resources, statements));
+        indexBranches(networkUuid, resources);
     }
 
     // Hvdc line
 
-    public List<Resource<HvdcLineAttributes>> getHvdcLines(UUID networkUuid) {
-        ResultSet resultSet = session.execute(select("id",
-                "name",
-                "properties",
-                "r",
-                "convertersMode",
-                "nominalV",
-                "activePowerSetpoint",
-                "maxP",
-                "converterStationId1",
-                "converterStationId2")
-                .from(KEYSPACE_IIDM, "hvdcLine")
-                .where(eq("networkUuid", networkUuid)));
+    private static List<Resource<HvdcLineAttributes>> toHvdcLines(Iterable<Row> rows) {
         List<Resource<HvdcLineAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
+        for (Row row : rows) {
             resources.add(Resource.hvdcLineBuilder()
                     .id(row.getString(0))
                     .attributes(HvdcLineAttributes.builder()
@@ -3621,108 +3880,64 @@ public class NetworkStoreRepository {
         return resources;
     }
 
+    public List<Resource<HvdcLineAttributes>> getHvdcLines(UUID networkUuid) {
+        return toHvdcLines(selectAllBuckets(psSelectHvdcLines, networkUuid));
+    }
+
+    public ResourcePage<HvdcLineAttributes> getHvdcLines(UUID networkUuid, int limit, String page) {
+        return getPage(ResourceType.HVDC_LINE, networkUuid, psSelectHvdcLines, limit, page, NetworkStoreRepository::toHvdcLines);
+    }
+
     public Optional<Resource<HvdcLineAttributes>> getHvdcLine(UUID networkUuid, String hvdcLineId) {
-        ResultSet resultSet = session.execute(select("name",
-                "properties",
-                "r",
-                "convertersMode",
-                "nominalV",
-                "activePowerSetpoint",
-                "maxP",
-                "converterStationId1",
-                "converterStationId2")
-                .from(KEYSPACE_IIDM, "hvdcLine")
-                .where(eq("networkUuid", networkUuid)).and(eq("id", hvdcLineId)));
-        Row one = resultSet.one();
-        if (one != null) {
-            return Optional.of(Resource.hvdcLineBuilder()
-                    .id(hvdcLineId)
-                    .attributes(HvdcLineAttributes.builder()
-                            .name(one.getString(0))
-                            .properties(one.getMap(1, String.class, String.class))
-                            .r(one.getDouble(2))
-                            .convertersMode(HvdcLine.ConvertersMode.valueOf(one.getString(3)))
-                            .nominalV(one.getDouble(4))
-                            .activePowerSetpoint(one.getDouble(5))
-                            .maxP(one.getDouble(6))
-                            .converterStationId1(one.getString(7))
-                            .converterStationId2(one.getString(8))
-                            .build())
-                    .build());
-        }
-        return Optional.empty();
+        return toHvdcLines(session.execute(bindById(psSelectHvdcLine, networkUuid, hvdcLineId))).stream().findFirst();
     }
 
     public void createHvdcLines(UUID networkUuid, List<Resource<HvdcLineAttributes>> resources) {
-        for (List<Resource<HvdcLineAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
-            BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
-            for (Resource<HvdcLineAttributes> resource : subresources) {
-                batch.add(unsetNullValues(psInsertHvdcLine.bind(
-                        networkUuid,
-                        resource.getId(),
-                        resource.getAttributes().getName(),
-                        resource.getAttributes().getProperties(),
-                        resource.getAttributes().getR(),
-                        resource.getAttributes().getConvertersMode().toString(),
-                        resource.getAttributes().getNominalV(),
-                        resource.getAttributes().getActivePowerSetpoint(),
-                        resource.getAttributes().getMaxP(),
-                        resource.getAttributes().getConverterStationId1(),
-                        resource.getAttributes().getConverterStationId2()
-                )));
-            }
-            session.execute(batch);
+        List<BoundStatement> statements = new ArrayList<>(resources.size());
+        for (Resource<HvdcLineAttributes> resource : resources) {
+            statements.add(unsetNullValues(psInsertHvdcLine.bind(
+                    networkUuid,
+                    resource.getId(),
+                    resource.getAttributes().getName(),
+                    resource.getAttributes().getProperties(),
+                    resource.getAttributes().getR(),
+                    resource.getAttributes().getConvertersMode().toString(),
+                    resource.getAttributes().getNominalV(),
+                    resource.getAttributes().getActivePowerSetpoint(),
+                    resource.getAttributes().getMaxP(),
+                    resource.getAttributes().getConverterStationId1(),
+                    resource.getAttributes().getConverterStationId2()
+            )));
         }
+        write("hvdcLine", statements);
+        indexIdentifiables(networkUuid, ResourceType.HVDC_LINE, resources);
     }
 
     public void updateHvdcLines(UUID networkUuid, List<Resource<HvdcLineAttributes>> resources) {
-        for (List<Resource<HvdcLineAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
-            BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
-            for (Resource<HvdcLineAttributes> resource : subresources) {
-                batch.add(unsetNullValues(psUpdateHvdcLine.bind(
-                        resource.getAttributes().getName(),
-                        resource.getAttributes().getProperties(),
-                        resource.getAttributes().getR(),
-                        resource.getAttributes().getConvertersMode().toString(),
-                        resource.getAttributes().getNominalV(),
-                        resource.getAttributes().getActivePowerSetpoint(),
-                        resource.getAttributes().getMaxP(),
-                        resource.getAttributes().getConverterStationId1(),
-                        resource.getAttributes().getConverterStationId2(),
-                        networkUuid,
-                        resource.getId())
-                ));
-            }
-            session.execute(batch);
+        List<BoundStatement> statements = new ArrayList<>(resources.size());
+        for (Resource<HvdcLineAttributes> resource : resources) {
+            statements.add(unsetNullValues(psUpdateHvdcLine.bind(
+                    resource.getAttributes().getName(),
+                    resource.getAttributes().getProperties(),
+                    resource.getAttributes().getR(),
+                    resource.getAttributes().getConvertersMode().toString(),
+                    resource.getAttributes().getNominalV(),
+                    resource.getAttributes().getActivePowerSetpoint(),
+                    resource.getAttributes().getMaxP(),
+                    resource.getAttributes().getConverterStationId1(),
+                    resource.getAttributes().getConverterStationId2(),
+                    networkUuid,
+                    resource.getId())
+            ));
         }
+        write("hvdcLine", restrictToUpdatedAttributes("hvdcLine", resources, statements));
     }
 
     // Dangling line
 
-    public List<Resource<DanglingLineAttributes>> getDanglingLines(UUID networkUuid) {
-        ResultSet resultSet = session.execute(select("id",
-                "voltageLevelId",
-                "name",
-                "properties",
-                "node",
-                "p0",
-                "q0",
-                "r",
-                "x",
-                "g",
-                "b",
-                GENERATION,
-                "ucteXNodeCode",
-                "currentLimits",
-                "p",
-                "q",
-                "position",
-                "bus",
-                CONNECTABLE_BUS)
-                .from(KEYSPACE_IIDM, "danglingLine")
-                .where(eq("networkUuid", networkUuid)));
+    private static List<Resource<DanglingLineAttributes>> toDanglingLines(Iterable<Row> rows) {
         List<Resource<DanglingLineAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
+        for (Row row : rows) {
             resources.add(Resource.danglingLineBuilder()
                     .id(row.getString(0))
                     .attributes(DanglingLineAttributes.builder()
@@ -3750,227 +3965,116 @@ public class NetworkStoreRepository {
         return resources;
     }
 
+    public List<Resource<DanglingLineAttributes>> getDanglingLines(UUID networkUuid) {
+        return toDanglingLines(selectAllBuckets(psSelectDanglingLines, networkUuid));
+    }
+
+    public ResourcePage<DanglingLineAttributes> getDanglingLines(UUID networkUuid, int limit, String page) {
+        return getPage(ResourceType.DANGLING_LINE, networkUuid, psSelectDanglingLines, limit, page, NetworkStoreRepository::toDanglingLines);
+    }
+
     public Optional<Resource<DanglingLineAttributes>> getDanglingLine(UUID networkUuid, String danglingLineId) {
-        ResultSet resultSet = session.execute(select("voltageLevelId",
-                "name",
-                "properties",
-                "node",
-                "p0",
-                "q0",
-                "r",
-                "x",
-                "g",
-                "b",
-                GENERATION,
-                "ucteXNodeCode",
-                "currentLimits",
-                "p",
-                "q",
-                "position",
-                "bus",
-                CONNECTABLE_BUS)
-                .from(KEYSPACE_IIDM, "danglingLine")
-                .where(eq("networkUuid", networkUuid)).and(eq("id", danglingLineId)));
-        Row one = resultSet.one();
-        if (one != null) {
-            return Optional.of(Resource.danglingLineBuilder()
-                    .id(danglingLineId)
-                    .attributes(DanglingLineAttributes.builder()
-                            .voltageLevelId(one.getString(0))
-                            .name(one.getString(1))
-                            .properties(one.getMap(2, String.class, String.class))
-                            .node(one.get(3, Integer.class))
-                            .p0(one.getDouble(4))
-                            .q0(one.getDouble(5))
-                            .r(one.getDouble(6))
-                            .x(one.getDouble(7))
-                            .g(one.getDouble(8))
-                            .b(one.getDouble(9))
-                            .generation(one.get(10, DanglingLineGenerationAttributes.class))
-                            .ucteXnodeCode(one.getString(11))
-                            .currentLimits(one.get(12, CurrentLimitsAttributes.class))
-                            .p(one.getDouble(13))
-                            .q(one.getDouble(14))
-                            .position(one.get(15, ConnectablePositionAttributes.class))
-                            .bus(one.getString(16))
-                            .connectableBus(one.getString(17))
-                            .build())
-                    .build());
-        }
-        return Optional.empty();
+        return toDanglingLines(session.execute(bindById(psSelectDanglingLine, networkUuid, danglingLineId))).stream().findFirst();
     }
 
     public List<Resource<DanglingLineAttributes>> getVoltageLevelDanglingLines(UUID networkUuid, String voltageLevelId) {
-        ResultSet resultSet = session.execute(select("id",
-                "name",
-                "properties",
-                "node",
-                "p0",
-                "q0",
-                "r",
-                "x",
-                "g",
-                "b",
-                GENERATION,
-                "ucteXNodeCode",
-                "currentLimits",
-                "p",
-                "q",
-                "position",
-                "bus",
-                CONNECTABLE_BUS)
-                .from(KEYSPACE_IIDM, "danglingLineByVoltageLevel")
-                .where(eq("networkUuid", networkUuid)).and(eq("voltageLevelId", voltageLevelId)));
-        List<Resource<DanglingLineAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            resources.add(Resource.danglingLineBuilder()
-                    .id(row.getString(0))
-                    .attributes(DanglingLineAttributes.builder()
-                            .voltageLevelId(voltageLevelId)
-                            .name(row.getString(1))
-                            .properties(row.getMap(2, String.class, String.class))
-                            .node(row.get(3, Integer.class))
-                            .p0(row.getDouble(4))
-                            .q0(row.getDouble(5))
-                            .r(row.getDouble(6))
-                            .x(row.getDouble(7))
-                            .g(row.getDouble(8))
-                            .b(row.getDouble(9))
-                            .generation(row.get(10, DanglingLineGenerationAttributes.class))
-                            .ucteXnodeCode(row.getString(11))
-                            .currentLimits(row.get(12, CurrentLimitsAttributes.class))
-                            .p(row.getDouble(13))
-                            .q(row.getDouble(14))
-                            .position(row.get(15, ConnectablePositionAttributes.class))
-                            .bus(row.getString(16))
-                            .connectableBus(row.getString(17))
-                            .build())
-                    .build());
-        }
-        return resources;
+        return toDanglingLines(session.execute(psSelectDanglingLinesByVoltageLevel.bind(networkUuid, voltageLevelId)));
     }
 
     public void createDanglingLines(UUID networkUuid, List<Resource<DanglingLineAttributes>> resources) {
-        for (List<Resource<DanglingLineAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
-            BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
-            for (Resource<DanglingLineAttributes> resource : subresources) {
-                batch.add(unsetNullValues(psInsertDanglingLine.bind(
-                        networkUuid,
-                        resource.getId(),
-                        resource.getAttributes().getVoltageLevelId(),
-                        resource.getAttributes().getName(),
-                        resource.getAttributes().getProperties(),
-                        resource.getAttributes().getNode(),
-                        resource.getAttributes().getP0(),
-                        resource.getAttributes().getQ0(),
-                        resource.getAttributes().getR(),
-                        resource.getAttributes().getX(),
-                        resource.getAttributes().getG(),
-                        resource.getAttributes().getB(),
-                        resource.getAttributes().getGeneration(),
-                        resource.getAttributes().getUcteXnodeCode(),
-                        resource.getAttributes().getCurrentLimits(),
-                        resource.getAttributes().getP(),
-                        resource.getAttributes().getQ(),
-                        resource.getAttributes().getPosition(),
-                        resource.getAttributes().getBus(),
-                        resource.getAttributes().getConnectableBus()
-                )));
-            }
-            session.execute(batch);
+        List<BoundStatement> statements = new ArrayList<>(resources.size());
+        for (Resource<DanglingLineAttributes> resource : resources) {
+            statements.add(unsetNullValues(psInsertDanglingLine.bind(
+                    networkUuid,
+                    resource.getId(),
+                    resource.getAttributes().getVoltageLevelId(),
+                    resource.getAttributes().getName(),
+                    resource.getAttributes().getProperties(),
+                    resource.getAttributes().getNode(),
+                    resource.getAttributes().getP0(),
+                    resource.getAttributes().getQ0(),
+                    resource.getAttributes().getR(),
+                    resource.getAttributes().getX(),
+                    resource.getAttributes().getG(),
+                    resource.getAttributes().getB(),
+                    resource.getAttributes().getGeneration(),
+                    resource.getAttributes().getUcteXnodeCode(),
+                    resource.getAttributes().getCurrentLimits(),
+                    resource.getAttributes().getP(),
+                    resource.getAttributes().getQ(),
+                    resource.getAttributes().getPosition(),
+                    resource.getAttributes().getBus(),
+                    resource.getAttributes().getConnectableBus()
+            )));
         }
+        write("danglingLine", statements);
+        indexIdentifiables(networkUuid, ResourceType.DANGLING_LINE, resources);
     }
 
     public void deleteDanglingLine(UUID networkUuid, String danglingLineId) {
-        session.execute(delete().from("danglingLine").where(eq("networkUuid", networkUuid)).and(eq("id", danglingLineId)));
+        int bucket = getBucket(networkUuid, danglingLineId);
+        session.execute(delete().from("danglingLine").where(eq("networkUuid", networkUuid)).and(eq(BUCKET, bucket)).and(eq("id", danglingLineId)));
+        // like for creation, only a dangling line removed from the index is counted
+        if (session.execute(delete().from(IDENTIFIABLE).where(eq("networkUuid", networkUuid)).and(eq(BUCKET, bucket)).and(eq("id", danglingLineId)).ifExists()).wasApplied()) {
+            incrementResourceCount(networkUuid, ResourceType.DANGLING_LINE, -1);
+        }
     }
 
     public void updateDanglingLines(UUID networkUuid, List<Resource<DanglingLineAttributes>> resources) {
-        for (List<Resource<DanglingLineAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
-            BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
-            for (Resource<DanglingLineAttributes> resource : subresources) {
-                batch.add(unsetNullValues(psUpdateDanglingLine.bind(
-                        resource.getAttributes().getName(),
-                        resource.getAttributes().getProperties(),
-                        resource.getAttributes().getNode(),
-                        resource.getAttributes().getP0(),
-                        resource.getAttributes().getQ0(),
-                        resource.getAttributes().getR(),
-                        resource.getAttributes().getX(),
-                        resource.getAttributes().getG(),
-                        resource.getAttributes().getB(),
-                        resource.getAttributes().getGeneration(),
-                        resource.getAttributes().getUcteXnodeCode(),
-                        resource.getAttributes().getCurrentLimits(),
-                        resource.getAttributes().getP(),
-                        resource.getAttributes().getQ(),
-                        resource.getAttributes().getPosition(),
-                        resource.getAttributes().getBus(),
-                        resource.getAttributes().getConnectableBus(),
-                        networkUuid,
-                        resource.getId(),
-                        resource.getAttributes().getVoltageLevelId())
-                ));
-            }
-            session.execute(batch);
+        List<BoundStatement> statements = new ArrayList<>(resources.size());
+        for (Resource<DanglingLineAttributes> resource : resources) {
+            statements.add(unsetNullValues(psUpdateDanglingLine.bind(
+                    resource.getAttributes().getName(),
+                    resource.getAttributes().getProperties(),
+                    resource.getAttributes().getNode(),
+                    resource.getAttributes().getP0(),
+                    resource.getAttributes().getQ0(),
+                    resource.getAttributes().getR(),
+                    resource.getAttributes().getX(),
+                    resource.getAttributes().getG(),
+                    resource.getAttributes().getB(),
+                    resource.getAttributes().getGeneration(),
+                    resource.getAttributes().getUcteXnodeCode(),
+                    resource.getAttributes().getCurrentLimits(),
+                    resource.getAttributes().getP(),
+                    resource.getAttributes().getQ(),
+                    resource.getAttributes().getPosition(),
+                    resource.getAttributes().getBus(),
+                    resource.getAttributes().getConnectableBus(),
+                    networkUuid,
+                    resource.getId(),
+                    resource.getAttributes().getVoltageLevelId())
+            ));
         }
+        write("danglingLine", restrictToUpdatedAttributes("danglingLine", resources, statements));
     }
 
     //Buses
 
     public void createBuses(UUID networkUuid, List<Resource<ConfiguredBusAttributes>> resources) {
-        for (List<Resource<ConfiguredBusAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
-            BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
-            for (Resource<ConfiguredBusAttributes> resource : subresources) {
-                batch.add(unsetNullValues(psInsertConfiguredBus.bind(
-                        networkUuid,
-                        resource.getId(),
-                        resource.getAttributes().getVoltageLevelId(),
-                        resource.getAttributes().getName(),
-                        resource.getAttributes().getProperties(),
-                        resource.getAttributes().getV(),
-                        resource.getAttributes().getAngle()
-                )));
-            }
-            session.execute(batch);
+        List<BoundStatement> statements = new ArrayList<>(resources.size());
+        for (Resource<ConfiguredBusAttributes> resource : resources) {
+            statements.add(unsetNullValues(psInsertConfiguredBus.bind(
+                    networkUuid,
+                    resource.getId(),
+                    resource.getAttributes().getVoltageLevelId(),
+                    resource.getAttributes().getName(),
+                    resource.getAttributes().getProperties(),
+                    resource.getAttributes().getV(),
+                    resource.getAttributes().getAngle()
+            )));
         }
+        write("configuredBus", statements);
+        indexIdentifiables(networkUuid, ResourceType.CONFIGURED_BUS, resources);
     }
 
     public Optional<Resource<ConfiguredBusAttributes>> getConfiguredBus(UUID networkUuid, String busId) {
-        ResultSet resultSet = session.execute(select("voltageLevelId",
-                "name",
-                "properties",
-                "v",
-                "angle")
-                .from(KEYSPACE_IIDM, "configuredBus")
-                .where(eq("networkUuid", networkUuid)).and(eq("id", busId)));
-        Row row = resultSet.one();
-        if (row != null) {
-            return Optional.of(Resource.configuredBusBuilder()
-                    .id(busId)
-                    .attributes(ConfiguredBusAttributes.builder()
-                            .voltageLevelId(row.getString(0))
-                            .name(row.getString(1))
-                            .properties(row.getMap(2, String.class, String.class))
-                            .v(row.getDouble(3))
-                            .angle(row.getDouble(4))
-                            .build())
-                    .build());
-        }
-        return Optional.empty();
+        return toConfiguredBuses(session.execute(bindById(psSelectConfiguredBus, networkUuid, busId))).stream().findFirst();
     }
 
-    public List<Resource<ConfiguredBusAttributes>> getConfiguredBuses(UUID networkUuid) {
-        ResultSet resultSet = session.execute(select("id",
-                "name",
-                "voltageLevelId",
-                "v",
-                "angle",
-                "properties")
-                .from(KEYSPACE_IIDM, "configuredBus")
-                .where(eq("networkUuid", networkUuid)));
+    private static List<Resource<ConfiguredBusAttributes>> toConfiguredBuses(Iterable<Row> rows) {
         List<Resource<ConfiguredBusAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
+        for (Row row : rows) {
             resources.add(Resource.configuredBusBuilder()
                     .id(row.getString(0))
                     .attributes(ConfiguredBusAttributes.builder()
@@ -3986,46 +4090,31 @@ public class NetworkStoreRepository {
         return resources;
     }
 
+    public List<Resource<ConfiguredBusAttributes>> getConfiguredBuses(UUID networkUuid) {
+        return toConfiguredBuses(selectAllBuckets(psSelectConfiguredBuses, networkUuid));
+    }
+
+    public ResourcePage<ConfiguredBusAttributes> getConfiguredBuses(UUID networkUuid, int limit, String page) {
+        return getPage(ResourceType.CONFIGURED_BUS, networkUuid, psSelectConfiguredBuses, limit, page, NetworkStoreRepository::toConfiguredBuses);
+    }
+
     public List<Resource<ConfiguredBusAttributes>> getVoltageLevelBuses(UUID networkUuid, String voltageLevelId) {
-        ResultSet resultSet = session.execute(select("id",
-                "name",
-                "v",
-                "angle",
-                "properties")
-                .from(KEYSPACE_IIDM, "configuredBusByVoltageLevel")
-                .where(eq("networkUuid", networkUuid)).and(eq("voltageLevelId", voltageLevelId)));
-        List<Resource<ConfiguredBusAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            resources.add(Resource.configuredBusBuilder()
-                    .id(row.getString(0))
-                    .attributes(ConfiguredBusAttributes.builder()
-                            .id(row.getString(0))
-                            .name(row.getString(1))
-                            .voltageLevelId(voltageLevelId)
-                            .v(row.getDouble(2))
-                            .angle(row.getDouble(3))
-                            .properties(row.getMap(4, String.class, String.class))
-                            .build())
-                    .build());
-        }
-        return resources;
+        return toConfiguredBuses(session.execute(psSelectConfiguredBusesByVoltageLevel.bind(networkUuid, voltageLevelId)));
     }
 
     public void updateBuses(UUID networkUuid, List<Resource<ConfiguredBusAttributes>> resources) {
-        for (List<Resource<ConfiguredBusAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
-            BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
-            for (Resource<ConfiguredBusAttributes> resource : subresources) {
-                batch.add(unsetNullValues(psUpdateConfiguredBus.bind(
-                        resource.getAttributes().getName(),
-                        resource.getAttributes().getProperties(),
-                        resource.getAttributes().getV(),
-                        resource.getAttributes().getAngle(),
-                        networkUuid,
-                        resource.getId(),
-                        resource.getAttributes().getVoltageLevelId())
-                ));
-            }
-            session.execute(batch);
+        List<BoundStatement> statements = new ArrayList<>(resources.size());
+        for (Resource<ConfiguredBusAttributes> resource : resources) {
+            statements.add(unsetNullValues(psUpdateConfiguredBus.bind(
+                    resource.getAttributes().getName(),
+                    resource.getAttributes().getProperties(),
+                    resource.getAttributes().getV(),
+                    resource.getAttributes().getAngle(),
+                    networkUuid,
+                    resource.getId(),
+                    resource.getAttributes().getVoltageLevelId())
+            ));
         }
+        write("configuredBus", restrictToUpdatedAttributes("configuredBus", resources, statements));
     }
 }
@@ -0,0 +1,52 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.server;
+
+import com.powsybl.network.store.model.IdentifiableAttributes;
+import com.powsybl.network.store.model.Resource;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A page of a resource collection.
+ *
+ * @author agent <agent at local>
+ */
+public class ResourcePage<T extends IdentifiableAttributes> {
+
+    private final List<Resource<T>> resources;
+
+    private final String nextPage;
+
+    private final Long totalCount;
+
+    public ResourcePage(List<Resource<T>> resources, String nextPage, Long totalCount) {
+        this.resources = Objects.requireNonNull(resources);
+        this.nextPage = nextPage;
+        this.totalCount = totalCount;
+    }
+
+    public List<Resource<T>> getResources() {
+        return resources;
+    }
+
+    /**
+     * Cursor to get the next page, empty if this page is the last one.
+     */
+    public Optional<String> getNextPage() {
+        return Optional.ofNullable(nextPage);
+    }
+
+    /**
+     * Total number of resources of the collection, only available on first page.
+     */
+    public Optional<Long> getTotalCount() {
+        return Optional.ofNullable(totalCount);
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.server;
+
+import com.datastax.driver.core.ProtocolVersion;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.powsybl.iidm.network.ConnectableType;
+import com.powsybl.network.store.model.CalculatedBusAttributes;
+import com.powsybl.network.store.model.PhaseTapChangerStepAttributes;
+import com.powsybl.network.store.model.Vertex;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent <agent at local>
+ */
+public class BlobCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper(new SmileFactory());
+
+    private static List<PhaseTapChangerStepAttributes> createSteps() {
+        List<PhaseTapChangerStepAttributes> steps = new ArrayList<>();
+        for (int i = 0; i < 33; i++) {
+            steps.add(new PhaseTapChangerStepAttributes(1, 0, 0, 0, 0, -16 + i));
+        }
+        return steps;
+    }
+
+    @Test
+    public void testTapChangerSteps() {
+        BlobCodec<List<PhaseTapChangerStepAttributes>> codec = new BlobCodec<>(CassandraConstants.PHASE_TAP_CHANGER_STEPS, objectMapper, BlobCodec.Compression.NONE);
+        BlobCodec<List<PhaseTapChangerStepAttributes>> lz4Codec = new BlobCodec<>(CassandraConstants.PHASE_TAP_CHANGER_STEPS, objectMapper, BlobCodec.Compression.LZ4);
+        List<PhaseTapChangerStepAttributes> steps = createSteps();
+
+        ByteBuffer bytes = codec.serialize(steps, ProtocolVersion.NEWEST_SUPPORTED);
+        ByteBuffer lz4Bytes = lz4Codec.serialize(steps, ProtocolVersion.NEWEST_SUPPORTED);
+        assertTrue(lz4Bytes.remaining() < bytes.remaining());
+
+        // both encodings can be read whatever the compression of the codec
+        assertEquals(steps, codec.deserialize(bytes, ProtocolVersion.NEWEST_SUPPORTED));
+        assertEquals(steps, codec.deserialize(lz4Bytes, ProtocolVersion.NEWEST_SUPPORTED));
+        assertEquals(steps, lz4Codec.deserialize(bytes, ProtocolVersion.NEWEST_SUPPORTED));
+        assertEquals(steps, lz4Codec.deserialize(lz4Bytes, ProtocolVersion.NEWEST_SUPPORTED));
+
+        assertEquals(steps, codec.parse(codec.format(steps)));
+    }
+
+    @Test
+    public void testCalculatedBuses() {
+        BlobCodec<List<CalculatedBusAttributes>> codec = new BlobCodec<>(CassandraConstants.CALCULATED_BUSES, objectMapper, BlobCodec.Compression.LZ4);
+        List<CalculatedBusAttributes> calculatedBuses = Collections.singletonList(CalculatedBusAttributes.builder()
+                .vertices(ImmutableSet.of(new Vertex("l1", ConnectableType.LINE, 1, null, "ONE"),
+                                          new Vertex("g1", ConnectableType.GENERATOR, 2, null, "ONE")))
+                .connectedComponentNumber(0)
+                .v(400)
+                .angle(Double.NaN)
+                .build());
+        assertEquals(calculatedBuses, codec.deserialize(codec.serialize(calculatedBuses, ProtocolVersion.NEWEST_SUPPORTED), ProtocolVersion.NEWEST_SUPPORTED));
+
+        BlobCodec<Map<Integer, Integer>> nodeCodec = new BlobCodec<>(CassandraConstants.NODE_TO_CALCULATED_BUS, objectMapper, BlobCodec.Compression.LZ4);
+        Map<Integer, Integer> nodeToCalculatedBus = ImmutableMap.of(1, 0, 2, 0);
+        assertEquals(nodeToCalculatedBus, nodeCodec.deserialize(nodeCodec.serialize(nodeToCalculatedBus, ProtocolVersion.NEWEST_SUPPORTED), ProtocolVersion.NEWEST_SUPPORTED));
+    }
+
+    @Test
+    public void testNull() {
+        BlobCodec<List<CalculatedBusAttributes>> codec = new BlobCodec<>(CassandraConstants.CALCULATED_BUSES, objectMapper, BlobCodec.Compression.LZ4);
+        assertNull(codec.serialize(null, ProtocolVersion.NEWEST_SUPPORTED));
+        assertNull(codec.deserialize(null, ProtocolVersion.NEWEST_SUPPORTED));
+        assertNull(codec.format(null));
+    }
+}
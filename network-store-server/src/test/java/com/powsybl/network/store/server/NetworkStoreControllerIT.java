@@ -6,7 +6,13 @@
  */
 package com.powsybl.network.store.server;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.jayway.jsonpath.JsonPath;
+import com.powsybl.iidm.network.ConnectableType;
 import com.powsybl.iidm.network.Country;
 import com.powsybl.iidm.network.EnergySource;
 import com.powsybl.iidm.network.SwitchKind;
@@ -17,19 +23,33 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.ContextHierarchy;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.ByteArrayOutputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 
+import static com.powsybl.network.store.model.NetworkStoreApi.APPLICATION_SMILE_VALUE;
 import static com.powsybl.network.store.model.NetworkStoreApi.VERSION;
 import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
+import static org.hamcrest.collection.IsIterableContainingInAnyOrder.containsInAnyOrder;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
@@ -42,7 +62,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @RunWith(SpringRunner.class)
 @WebMvcTest(NetworkStoreController.class)
 @ContextHierarchy({
-    @ContextConfiguration(classes = {NetworkStoreApplication.class, NetworkStoreRepository.class})
+    @ContextConfiguration(classes = {NetworkStoreApplication.class, NetworkStoreRepository.class, NetworkDeletionService.class})
     })
 public class NetworkStoreControllerIT extends AbstractEmbeddedCassandraSetup {
 
@@ -134,12 +154,37 @@ public class NetworkStoreControllerIT extends AbstractEmbeddedCassandraSetup {
                 .andExpect(jsonPath("data[1].attributes.country").value("BE"))
                 .andExpect(jsonPath("data[1].attributes.tso").value("ELIA"));
 
-        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/substations?limit=1")
+        MvcResult firstPage = mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/substations?limit=1")
                 .contentType(APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(content().contentTypeCompatibleWith(APPLICATION_JSON))
                 .andExpect(jsonPath("meta.totalCount").value("2"))
-                .andExpect(jsonPath("data", hasSize(1)));
+                .andExpect(jsonPath("meta.nextPage").exists())
+                .andExpect(jsonPath("data", hasSize(1)))
+                .andExpect(jsonPath("data[0].id").value("bar"))
+                .andReturn();
+        String nextPage = JsonPath.read(firstPage.getResponse().getContentAsString(), "meta.nextPage");
+
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/substations?limit=1&page=" + nextPage)
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(APPLICATION_JSON))
+                .andExpect(jsonPath("meta.totalCount").doesNotExist())
+                .andExpect(jsonPath("data", hasSize(1)))
+                .andExpect(jsonPath("data[0].id").value("bar2"));
+
+        // page cursors not given by a previous page are rejected
+        for (String invalidPage : new String[] {"x", "x:", "0:zz", "99:"}) {
+            mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/substations?limit=1&page=" + invalidPage)
+                    .contentType(APPLICATION_JSON))
+                    .andExpect(status().isBadRequest());
+        }
+
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/substations?limit=0")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("meta.totalCount").value("2"))
+                .andExpect(jsonPath("data", hasSize(0)));
 
         List<InternalConnectionAttributes> ics1 = new ArrayList<>();
         ics1.add(InternalConnectionAttributes.builder()
@@ -204,6 +249,105 @@ public class NetworkStoreControllerIT extends AbstractEmbeddedCassandraSetup {
                 .andExpect(content().contentTypeCompatibleWith(APPLICATION_JSON))
                 .andExpect(jsonPath("data", hasSize(1)));
 
+        // calculated bus topology is only updated in its own table
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/voltage-levels/baz/calculated-bus-topology")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+
+        baz.getAttributes().setCalculatedBuses(Collections.singletonList(CalculatedBusAttributes.builder()
+                .vertices(Collections.singleton(new Vertex("idLoad", ConnectableType.LOAD, 10, null, "ONE")))
+                .connectedComponentNumber(0)
+                .synchronousComponentNumber(0)
+                .v(390)
+                .build()));
+        baz.getAttributes().setNodeToCalculatedBus(ImmutableMap.of(10, 0));
+        baz.getAttributes().setCalculatedBusesValid(true);
+        baz.trackUpdatedAttributes();
+        baz.attributeUpdated("calculatedBuses");
+        baz.attributeUpdated("nodeToCalculatedBus");
+        baz.attributeUpdated("calculatedBusesValid");
+        mvc.perform(put("/" + VERSION + "/networks/" + networkUuid + "/voltage-levels")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Collections.singleton(baz))))
+                .andExpect(status().isOk());
+
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/voltage-levels/baz/calculated-bus-topology")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("calculatedBusesValid").value(true))
+                .andExpect(jsonPath("calculatedBuses", hasSize(1)))
+                .andExpect(jsonPath("calculatedBuses[0].v").value(390.0))
+                .andExpect(jsonPath("nodeToCalculatedBus['10']").value(0));
+
+        // calculated bus state variables update
+        StateVariables voltageLevelStateVariables = StateVariables.builder()
+                .type(ResourceType.VOLTAGE_LEVEL)
+                .ids(Collections.singletonList("baz"))
+                .values(Collections.emptyMap())
+                .calculatedBusValues(ImmutableMap.of("calculatedBusV", Collections.singletonList(new double[] {395.}),
+                                                     "calculatedBusAngle", Collections.singletonList(new double[] {2.})))
+                .build();
+        mvc.perform(put("/" + VERSION + "/networks/" + networkUuid + "/state-variables")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Collections.singletonList(voltageLevelStateVariables))))
+                .andExpect(status().isOk());
+
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/voltage-levels/baz/calculated-bus-topology")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("calculatedBuses", hasSize(1)))
+                .andExpect(jsonPath("calculatedBuses[0].v").value(395.0))
+                .andExpect(jsonPath("calculatedBuses[0].angle").value(2.0));
+
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/voltage-levels/baz")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("data[0].attributes.nominalV").value(380.0))
+                .andExpect(jsonPath("data[0].attributes.calculatedBuses").doesNotExist())
+                .andExpect(jsonPath("data[0].attributes.calculatedBusTopologyLoaded").value(false));
+
+        // calculated bus topologies of all the voltage levels with one request
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/calculated-bus-topologies")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("baz.calculatedBusesValid").value(true))
+                .andExpect(jsonPath("baz.calculatedBuses", hasSize(1)))
+                .andExpect(jsonPath("baz2").doesNotExist());
+
+        // voltage level read with its equipments also comes with its calculated bus topology
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/voltage-levels/baz/equipments?types=VOLTAGE_LEVEL")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("data", hasSize(1)))
+                .andExpect(jsonPath("data[0].id").value("baz"))
+                .andExpect(jsonPath("data[0].attributes.calculatedBusesValid").value(true))
+                .andExpect(jsonPath("data[0].attributes.calculatedBuses", hasSize(1)))
+                .andExpect(jsonPath("data[0].attributes.calculatedBusTopologyLoaded").value(true));
+
+        // full update of a voltage level read without its calculated bus topology keeps the stored topology
+        Resource<VoltageLevelAttributes> bazWithoutTopology = Resource.voltageLevelBuilder()
+                .id("baz")
+                .attributes(VoltageLevelAttributes.builder()
+                        .substationId("bar")
+                        .nominalV(380)
+                        .lowVoltageLimit(360)
+                        .highVoltageLimit(400)
+                        .topologyKind(TopologyKind.NODE_BREAKER)
+                        .internalConnections(ics1)
+                        .calculatedBusTopologyLoaded(false)
+                        .build())
+                .build();
+        mvc.perform(put("/" + VERSION + "/networks/" + networkUuid + "/voltage-levels")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Collections.singleton(bazWithoutTopology))))
+                .andExpect(status().isOk());
+
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/voltage-levels/baz/calculated-bus-topology")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("calculatedBusesValid").value(true))
+                .andExpect(jsonPath("calculatedBuses", hasSize(1)));
+
         // switch creation and update
         Resource<SwitchAttributes> resBreaker = Resource.switchBuilder()
                 .id("b1")
@@ -328,6 +472,64 @@ public class NetworkStoreControllerIT extends AbstractEmbeddedCassandraSetup {
                 .andExpect(jsonPath("data[0].attributes.regulatingTerminal.connectableId").value("idEq2"))
                 .andExpect(jsonPath("data[0].attributes.regulatingTerminal.side").value("TWO"));
 
+        // state variables update
+        StateVariables generatorStateVariables = StateVariables.builder()
+                .type(ResourceType.GENERATOR)
+                .ids(Collections.singletonList("id"))
+                .voltageLevelIds(Collections.singletonList("vl1"))
+                .values(ImmutableMap.of("p", new double[] {120.}, "q", new double[] {30.}))
+                .build();
+        StateVariables lineStateVariables = StateVariables.builder()
+                .type(ResourceType.LINE)
+                .ids(Collections.singletonList("idLine"))
+                .values(ImmutableMap.of("p1", new double[] {110.}))
+                .build();
+        mvc.perform(put("/" + VERSION + "/networks/" + networkUuid + "/state-variables")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(ImmutableList.of(generatorStateVariables, lineStateVariables))))
+                .andExpect(status().isOk());
+
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/generators/id")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("data[0].attributes.p").value(120.))
+                .andExpect(jsonPath("data[0].attributes.q").value(30.))
+                .andExpect(jsonPath("data[0].attributes.regulatingTerminal.connectableId").value("idEq2"));
+
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/lines/idLine")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("data[0].attributes.p1").value(110.));
+
+        // gzip compressed request body
+        StateVariables lineStateVariables2 = StateVariables.builder()
+                .type(ResourceType.LINE)
+                .ids(Collections.singletonList("idLine"))
+                .values(ImmutableMap.of("p1", new double[] {105.}))
+                .build();
+        ByteArrayOutputStream compressedContent = new ByteArrayOutputStream();
+        try (GZIPOutputStream os = new GZIPOutputStream(compressedContent)) {
+            os.write(objectMapper.writeValueAsBytes(Collections.singletonList(lineStateVariables2)));
+        }
+        mvc.perform(put("/" + VERSION + "/networks/" + networkUuid + "/state-variables")
+                .contentType(APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .content(compressedContent.toByteArray()))
+                .andExpect(status().isOk());
+
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/lines/idLine")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("data[0].attributes.p1").value(105.));
+
+        // lines of a voltage level are read from the branch by voltage level index, which is kept up to date
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/voltage-levels/vl2/lines")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("data[0].id").value("idLine"))
+                .andExpect(jsonPath("data[0].attributes.name").value("idLine"))
+                .andExpect(jsonPath("data[0].attributes.p1").value(105.));
+
         // shunt compensator creation and update
         Resource<ShuntCompensatorAttributes> shuntCompensator = Resource.shuntCompensatorBuilder()
                 .id("idShunt")
@@ -463,5 +665,274 @@ public class NetworkStoreControllerIT extends AbstractEmbeddedCassandraSetup {
                 .andExpect(jsonPath("data[0].attributes.generation.maxP").value(33))
                 .andExpect(jsonPath("data[0].attributes.generation.targetQ").value(54))
                 .andExpect(jsonPath("data[0].attributes.generation.voltageRegulationOn").value(true));
+
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/counts")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(APPLICATION_JSON))
+                .andExpect(jsonPath("SUBSTATION").value(2))
+                .andExpect(jsonPath("DANGLING_LINE").value(1))
+                .andExpect(jsonPath("HVDC_LINE").value(0));
+
+        // a retried creation is not counted twice
+        mvc.perform(post("/" + VERSION + "/networks/" + networkUuid + "/substations")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Collections.singleton(bar))))
+                .andExpect(status().isCreated());
+
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/counts/SUBSTATION")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().string("2"));
+
+        // a creation with the same ID twice is rejected
+        mvc.perform(post("/" + VERSION + "/networks/" + networkUuid + "/substations")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Arrays.asList(bar, bar))))
+                .andExpect(status().isBadRequest());
+
+        // resources of all the types are streamed
+        MvcResult allResult = mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/all?types=SUBSTATION,DANGLING_LINE")
+                .contentType(APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvc.perform(asyncDispatch(allResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(APPLICATION_JSON))
+                .andExpect(jsonPath("meta.totalCount").value("3"))
+                .andExpect(jsonPath("data[0].type").value("SUBSTATION"))
+                .andExpect(jsonPath("data[2].type").value("DANGLING_LINE"))
+                .andExpect(jsonPath("data[2].id").value("idDanglingLine"));
+
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/all?types=NETWORK")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/voltage-levels/vl1/equipments?types=SHUNT_COMPENSATOR,DANGLING_LINE")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(APPLICATION_JSON))
+                .andExpect(jsonPath("meta.totalCount").value("2"))
+                .andExpect(jsonPath("data[0].type").value("SHUNT_COMPENSATOR"))
+                .andExpect(jsonPath("data[0].id").value("idShunt"))
+                .andExpect(jsonPath("data[1].type").value("DANGLING_LINE"))
+                .andExpect(jsonPath("data[1].id").value("idDanglingLine"));
+
+        // a line with both sides in the voltage level is returned once
+        Resource<LineAttributes> loopLine = Resource.lineBuilder()
+                .id("idLoopLine")
+                .attributes(LineAttributes.builder()
+                        .voltageLevelId1("vl1")
+                        .voltageLevelId2("vl1")
+                        .node1(2)
+                        .node2(3)
+                        .r(1)
+                        .x(1)
+                        .build())
+                .build();
+        mvc.perform(post("/" + VERSION + "/networks/" + networkUuid + "/lines")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Collections.singleton(loopLine))))
+                .andExpect(status().isCreated());
+
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/voltage-levels/vl1/equipments?types=LINE")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("meta.totalCount").value("2"))
+                .andExpect(jsonPath("data[*].id", containsInAnyOrder("idLine", "idLoopLine")));
+
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/voltage-levels/vl1/equipments?types=SUBSTATION")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/identifiables/idDanglingLine")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(APPLICATION_JSON))
+                .andExpect(jsonPath("data[0].type").value("DANGLING_LINE"))
+                .andExpect(jsonPath("data[0].attributes.voltageLevelId").value("vl1"));
+
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/identifiables/bar")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("data[0].type").value("SUBSTATION"));
+
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/identifiables/unknown")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+
+        // rebuilding indexes of an already indexed network does not count resources twice
+        mvc.perform(post("/" + VERSION + "/networks/" + networkUuid + "/reindex"))
+                .andExpect(status().isOk());
+
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/counts")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("SUBSTATION").value(2))
+                .andExpect(jsonPath("DANGLING_LINE").value(1));
+
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/identifiables/idDanglingLine")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/voltage-levels/vl1/equipments?types=LINE")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("meta.totalCount").value("2"));
+
+        mvc.perform(post("/" + VERSION + "/networks/" + UUID.randomUUID() + "/reindex"))
+                .andExpect(status().isNotFound());
+
+        // clone only substations and dangling lines
+        MvcResult cloneResult = mvc.perform(post("/" + VERSION + "/networks/" + networkUuid + "/clone?types=SUBSTATION,DANGLING_LINE")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("data[0].id").value("foo"))
+                .andReturn();
+        String cloneUuid = JsonPath.read(cloneResult.getResponse().getContentAsString(), "data[0].attributes.uuid");
+
+        MvcResult cloneAllResult = mvc.perform(get("/" + VERSION + "/networks/" + cloneUuid + "/all")
+                .contentType(APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvc.perform(asyncDispatch(cloneAllResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("meta.totalCount").value("3"))
+                .andExpect(jsonPath("data[2].id").value("idDanglingLine"));
+
+        mvc.perform(get("/" + VERSION + "/networks/" + cloneUuid + "/counts")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("SUBSTATION").value(2))
+                .andExpect(jsonPath("DANGLING_LINE").value(1))
+                .andExpect(jsonPath("VOLTAGE_LEVEL").value(0));
+
+        mvc.perform(get("/" + VERSION + "/networks/" + cloneUuid + "/identifiables/idDanglingLine")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        mvc.perform(get("/" + VERSION + "/networks/" + cloneUuid + "/identifiables/baz")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+
+        mvc.perform(post("/" + VERSION + "/networks/" + UUID.randomUUID() + "/clone")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+
+        // same request using binary encoding
+        MvcResult smileAllResult = mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/all?types=SUBSTATION,DANGLING_LINE")
+                .accept(APPLICATION_SMILE_VALUE))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult smileResult = mvc.perform(asyncDispatch(smileAllResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(APPLICATION_SMILE_VALUE))
+                .andReturn();
+        TopLevelDocument<IdentifiableAttributes> smileDocument = new ObjectMapper(new SmileFactory())
+                .readValue(smileResult.getResponse().getContentAsByteArray(), new TypeReference<TopLevelDocument<IdentifiableAttributes>>() { });
+        assertEquals(3, smileDocument.getData().size());
+        assertEquals(ResourceType.DANGLING_LINE, smileDocument.getData().get(2).getType());
+        assertEquals("idDanglingLine", smileDocument.getData().get(2).getId());
+
+        mvc.perform(delete("/" + VERSION + "/networks/" + networkUuid + "/dangling-lines/idDanglingLine"))
+                .andExpect(status().isOk());
+
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/counts")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("DANGLING_LINE").value(0));
+
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/identifiables/idDanglingLine")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+
+        // network is not visible anymore as soon as its deletion has started
+        mvc.perform(delete("/" + VERSION + "/networks/" + networkUuid))
+                .andExpect(status().isAccepted());
+
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid)
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+
+        mvc.perform(delete("/" + VERSION + "/networks/" + networkUuid))
+                .andExpect(status().isNotFound());
+
+        String state;
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (true) {
+            MvcResult deletionResult = mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/deletion")
+                    .contentType(APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            state = JsonPath.read(deletionResult.getResponse().getContentAsString(), "state");
+            if (!"RUNNING".equals(state)) {
+                break;
+            }
+            assertTrue("Network deletion not done in time", System.currentTimeMillis() < deadline);
+            Thread.sleep(100);
+        }
+        assertEquals("DONE", state);
+
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/counts")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("SUBSTATION").value(0));
+    }
+
+    @Test
+    public void testBucketedNetwork() throws Exception {
+        UUID networkUuid = UUID.fromString("4c2e5e6a-5b4f-4f5e-9a3e-2b7c1d0e8f91");
+        Resource<NetworkAttributes> network = Resource.networkBuilder()
+                .id("bucketed")
+                .attributes(NetworkAttributes.builder()
+                                             .uuid(networkUuid)
+                                             .caseDate(DateTime.parse("2015-01-01T00:00:00.000Z"))
+                                             .build())
+                .build();
+        mvc.perform(post("/" + VERSION + "/networks?bucketCount=4")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Collections.singleton(network))))
+                .andExpect(status().isCreated());
+
+        List<Resource<SubstationAttributes>> substations = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            substations.add(Resource.substationBuilder()
+                    .id("s" + i)
+                    .attributes(SubstationAttributes.builder()
+                            .country(Country.FR)
+                            .build())
+                    .build());
+        }
+        mvc.perform(post("/" + VERSION + "/networks/" + networkUuid + "/substations")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(substations)))
+                .andExpect(status().isCreated());
+
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/substations")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("meta.totalCount").value("10"))
+                .andExpect(jsonPath("data", hasSize(10)));
+
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/substations/s7")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("data[0].id").value("s7"));
+
+        // pages go through all the buckets
+        Set<String> ids = new HashSet<>();
+        String page = null;
+        do {
+            MvcResult result = mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/substations?limit=3" + (page != null ? "&page=" + page : ""))
+                    .contentType(APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            String content = result.getResponse().getContentAsString();
+            List<String> pageIds = JsonPath.read(content, "data[*].id");
+            ids.addAll(pageIds);
+            Map<String, Object> meta = JsonPath.read(content, "meta");
+            page = (String) meta.get("nextPage");
+        } while (page != null);
+        assertEquals(10, ids.size());
     }
 }
@@ -7,8 +7,10 @@
 package com.powsybl.network.store.tools;
 
 import com.google.auto.service.AutoService;
+import com.powsybl.commons.PowsyblException;
 import com.powsybl.network.store.client.NetworkStoreConfig;
 import com.powsybl.network.store.client.NetworkStoreService;
+import com.powsybl.network.store.model.NetworkDeletionStatus;
 import com.powsybl.tools.Command;
 import com.powsybl.tools.Tool;
 import com.powsybl.tools.ToolOptions;
@@ -30,6 +32,8 @@ public class NetworkStoreDeleteTool implements Tool {
 
     private static final String NETWORK_UUID = "network-uuid";
 
+    private static final long STATUS_POLLING_PERIOD_MS = 500;
+
     private final Supplier<NetworkStoreService> networkStoreServiceSupplier;
 
     public NetworkStoreDeleteTool() {
@@ -88,6 +92,21 @@ public class NetworkStoreDeleteTool implements Tool {
             context.getOutputStream().println("Deleting " + networkUuid + "...");
 
             service.deleteNetwork(networkUuid);
+
+            // wait for the end of the background deletion
+            NetworkDeletionStatus status = service.getNetworkDeletionStatus(networkUuid).orElse(null);
+            while (status != null && status.getState() == NetworkDeletionStatus.State.RUNNING) {
+                try {
+                    Thread.sleep(STATUS_POLLING_PERIOD_MS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new PowsyblException(e);
+                }
+                status = service.getNetworkDeletionStatus(networkUuid).orElse(null);
+            }
+            if (status != null && status.getState() == NetworkDeletionStatus.State.FAILED) {
+                throw new PowsyblException("Deletion of network " + networkUuid + " has failed: " + status.getError());
+            }
         }
     }
 }